@@ -0,0 +1,107 @@
+/*
+ BitIO: A library for bit-oriented input/output.
+ Copyright (C) 2009-2011 Jean-Francois Im
+
+ This file is part of BitIO.
+
+ BitIO is free software: you can redistribute it and/or modify
+ it under the terms of the GNU Lesser General Public License as published by
+ the Free Software Foundation, either version 3 of the License, or
+ (at your option) any later version.
+
+ BitIO is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ GNU Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public License
+ along with BitIO.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package im.jeanfrancois.bitio.benchmarks;
+
+import im.jeanfrancois.bitio.BitSink;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+/**
+ * Deterministic data sets shared by the benchmarks.
+ *
+ * @author jfim
+ */
+final class BenchmarkData {
+    /**
+     * Number of values read or written by each benchmark invocation.
+     */
+    static final int VALUE_COUNT = 4096;
+
+    private BenchmarkData() {}
+
+    /**
+     * Generates values uniformly distributed over a number of bits.
+     */
+    static int[] uniformValues(int numBits) {
+        final Random random = new Random(42);
+        final int[] values = new int[VALUE_COUNT];
+
+        for (int i = 0; i < VALUE_COUNT; ++i) {
+            values[i] = numBits == 32 ? random.nextInt() : random.nextInt(1 << numBits);
+        }
+
+        return values;
+    }
+
+    /**
+     * Generates geometrically distributed values, for which Rice coding with the given parameter is close to
+     * optimal.
+     */
+    static int[] geometricValues(int numFixedBits) {
+        final Random random = new Random(42);
+        final int[] values = new int[VALUE_COUNT];
+        final double mean = Math.max(1, 1 << numFixedBits) / Math.log(2);
+
+        for (int i = 0; i < VALUE_COUNT; ++i) {
+            values[i] = (int) (-mean * Math.log(1.0 - random.nextDouble()));
+        }
+
+        return values;
+    }
+
+    /**
+     * Allocates a buffer large enough for any of the benchmarked encodings.
+     */
+    static ByteBuffer allocateBuffer() {
+        return ByteBuffer.allocate(VALUE_COUNT * 64);
+    }
+
+    /**
+     * Encodes values as fixed width binary values.
+     */
+    static byte[] encodeBinary(int[] values, int numBits) throws IOException {
+        final ByteBuffer buffer = allocateBuffer();
+        final BitSink bitSink = new BitSink(buffer);
+        bitSink.writeBinary(values, 0, values.length, numBits);
+        bitSink.flushCurrentByteAndRealignToByteBoundary();
+        return toArray(buffer);
+    }
+
+    /**
+     * Encodes values as Rice codes.
+     */
+    static byte[] encodeRice(int[] values, int numFixedBits) throws IOException {
+        final ByteBuffer buffer = allocateBuffer();
+        final BitSink bitSink = new BitSink(buffer);
+        bitSink.writeRice(values, 0, values.length, numFixedBits);
+        bitSink.flushCurrentByteAndRealignToByteBoundary();
+        return toArray(buffer);
+    }
+
+    private static byte[] toArray(ByteBuffer buffer) {
+        buffer.flip();
+        final byte[] array = new byte[buffer.remaining()];
+        buffer.get(array);
+        return array;
+    }
+}
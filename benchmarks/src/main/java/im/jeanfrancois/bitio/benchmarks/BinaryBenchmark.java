@@ -0,0 +1,100 @@
+/*
+ BitIO: A library for bit-oriented input/output.
+ Copyright (C) 2009-2011 Jean-Francois Im
+
+ This file is part of BitIO.
+
+ BitIO is free software: you can redistribute it and/or modify
+ it under the terms of the GNU Lesser General Public License as published by
+ the Free Software Foundation, either version 3 of the License, or
+ (at your option) any later version.
+
+ BitIO is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ GNU Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public License
+ along with BitIO.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package im.jeanfrancois.bitio.benchmarks;
+
+import im.jeanfrancois.bitio.BitSink;
+import im.jeanfrancois.bitio.BitSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks reading and writing fixed width binary values, reported per value.
+ *
+ * @author jfim
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(BenchmarkData.VALUE_COUNT)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BinaryBenchmark {
+    @Param({"1", "7", "13", "32"})
+    public int numBits;
+
+    private int[] values;
+    private int[] readValues;
+    private ByteBuffer encoded;
+    private ByteBuffer output;
+
+    @Setup
+    public void setUp() throws IOException {
+        values = BenchmarkData.uniformValues(numBits);
+        readValues = new int[values.length];
+        encoded = ByteBuffer.wrap(BenchmarkData.encodeBinary(values, numBits));
+        output = BenchmarkData.allocateBuffer();
+    }
+
+    @Benchmark
+    public void readBinary(Blackhole blackhole) throws IOException {
+        final BitSource bitSource = new BitSource(encoded);
+
+        for (int i = 0; i < BenchmarkData.VALUE_COUNT; ++i) {
+            blackhole.consume(bitSource.readBinary(numBits));
+        }
+    }
+
+    @Benchmark
+    public int[] readBinaryBlock() throws IOException {
+        final BitSource bitSource = new BitSource(encoded);
+        bitSource.readBinary(readValues, 0, readValues.length, numBits);
+        return readValues;
+    }
+
+    @Benchmark
+    public ByteBuffer writeBinary() throws IOException {
+        output.clear();
+        final BitSink bitSink = new BitSink(output);
+
+        for (int i = 0; i < BenchmarkData.VALUE_COUNT; ++i) {
+            bitSink.writeBinary(values[i], numBits);
+        }
+
+        bitSink.flushCurrentByteAndRealignToByteBoundary();
+        return output;
+    }
+}
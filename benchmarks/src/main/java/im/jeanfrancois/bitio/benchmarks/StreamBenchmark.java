@@ -0,0 +1,112 @@
+/*
+ BitIO: A library for bit-oriented input/output.
+ Copyright (C) 2009-2011 Jean-Francois Im
+
+ This file is part of BitIO.
+
+ BitIO is free software: you can redistribute it and/or modify
+ it under the terms of the GNU Lesser General Public License as published by
+ the Free Software Foundation, either version 3 of the License, or
+ (at your option) any later version.
+
+ BitIO is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ GNU Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public License
+ along with BitIO.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package im.jeanfrancois.bitio.benchmarks;
+
+import im.jeanfrancois.bitio.BitInputStream;
+import im.jeanfrancois.bitio.BitOutputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the stream wrappers reading and writing Rice-coded values, either in memory or from and to a file,
+ * reported per value.
+ *
+ * @author jfim
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(BenchmarkData.VALUE_COUNT)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StreamBenchmark {
+    private static final int NUM_FIXED_BITS = 5;
+
+    @Param({"memory", "file"})
+    public String storage;
+
+    private int[] values;
+    private byte[] encoded;
+    private File file;
+
+    @Setup
+    public void setUp() throws IOException {
+        values = BenchmarkData.geometricValues(NUM_FIXED_BITS);
+        encoded = BenchmarkData.encodeRice(values, NUM_FIXED_BITS);
+        file = File.createTempFile("bitio-benchmark", ".bin");
+        Files.write(file.toPath(), encoded);
+    }
+
+    @TearDown
+    public void tearDown() {
+        file.delete();
+    }
+
+    @Benchmark
+    public void readRice(Blackhole blackhole) throws IOException {
+        final InputStream inputStream = "file".equals(storage)
+                ? new FileInputStream(file)
+                : new ByteArrayInputStream(encoded);
+
+        try (BitInputStream bitInputStream = new BitInputStream(inputStream)) {
+            for (int i = 0; i < BenchmarkData.VALUE_COUNT; ++i) {
+                blackhole.consume(bitInputStream.readRice(NUM_FIXED_BITS));
+            }
+        }
+    }
+
+    @Benchmark
+    public void writeRice() throws IOException {
+        final OutputStream outputStream = "file".equals(storage)
+                ? new FileOutputStream(file)
+                : new ByteArrayOutputStream(encoded.length);
+
+        try (BitOutputStream bitOutputStream = new BitOutputStream(outputStream)) {
+            for (int i = 0; i < BenchmarkData.VALUE_COUNT; ++i) {
+                bitOutputStream.writeRice(values[i], NUM_FIXED_BITS);
+            }
+        }
+    }
+}
@@ -29,24 +29,88 @@ import java.io.InputStream;
  * @author jfim
  */
 public class BitInputStream extends InputStream {
+    /**
+     * Default size of the buffer, in bytes.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 8192;
+
     /**
      * The bit source to which all bitwise operations are delegated.
      */
     private final BitSource bitSource;
 
+    /**
+     * The byte source through which the bit source reads from the input stream, straight into the window of the bit
+     * source.
+     */
+    private final InputStreamByteSource byteSource;
+
     /**
      * The underlying input stream.
      */
-    private final InputStream inputStream;
+    private InputStream inputStream;
+
+    /**
+     * Byte read by {@link #read()}, which goes through the bulk read so that both report the end of the stream alike.
+     */
+    private final byte[] singleByte = new byte[1];
 
+    /**
+     * Constructs a bit input stream that reads from an input stream through a buffer of the default size.
+     *
+     * @param inputStream The input stream to read from
+     */
     public BitInputStream(final InputStream inputStream) {
+        this(inputStream, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Constructs a bit input stream that reads from an input stream through a buffer of a given size.
+     *
+     * @param inputStream The input stream to read from
+     * @param bufferSize  The size of the buffer, in bytes
+     */
+    public BitInputStream(final InputStream inputStream, final int bufferSize) {
+        this(inputStream, new byte[bufferSize]);
+    }
+
+    /**
+     * Constructs a bit input stream that reads from an input stream through a buffer supplied by the caller. Bytes are
+     * read from the input stream straight into the buffer, which the bit source uses as its window, so that they are
+     * only copied once.
+     *
+     * @param inputStream The input stream to read from
+     * @param buffer      The buffer into which bytes are read from the input stream
+     */
+    public BitInputStream(final InputStream inputStream, final byte[] buffer) {
         this.inputStream = inputStream;
-        this.bitSource = new BitSource(new InputStreamByteSource(inputStream));
+        this.byteSource = new InputStreamByteSource(inputStream);
+        this.bitSource = new BitSource(byteSource, buffer);
+    }
+
+    /**
+     * Points this bit input stream at a new input stream, discarding any buffered bits and bytes, so that the same
+     * bit input stream and its buffer can be reused without allocating.
+     *
+     * @param inputStream The input stream to read from
+     */
+    public void reset(final InputStream inputStream) {
+        this.inputStream = inputStream;
+        byteSource.reset(inputStream);
+        bitSource.reset(byteSource);
     }
 
     @Override
     public int read() throws IOException {
-        return bitSource.readByte();
+        if (bitSource.readBytes(singleByte, 0, 1) == -1)
+            return -1;
+
+        return singleByte[0] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        return bitSource.readBytes(buffer, offset, length);
     }
 
     @Override
@@ -75,6 +139,95 @@ public class BitInputStream extends InputStream {
         return bitSource.readRice(numFixedBits);
     }
 
+    /**
+     * Reads a Golomb-coded value from the input stream.
+     *
+     * @param code The Golomb code to use, which holds the M parameter
+     * @return The Golomb-coded value read from the input stream.
+     * @throws java.io.IOException If an underlying IOException occurs while reading from the stream
+     */
+    public int readGolomb(GolombCode code) throws IOException {
+        return bitSource.readGolomb(code);
+    }
+
+    /**
+     * Reads a Huffman-coded symbol from the input stream.
+     *
+     * @param code The canonical Huffman code to use
+     * @return The symbol read from the input stream
+     * @throws java.io.IOException If an underlying IOException occurs while reading from the stream, or if the bits
+     *                             read are not a valid code
+     */
+    public int readHuffman(HuffmanCode code) throws IOException {
+        return bitSource.readHuffman(code);
+    }
+
+    /**
+     * Reads an Elias gamma-coded value from the input stream.
+     *
+     * @return The Elias gamma-coded value read from the input stream, which is strictly positive.
+     * @throws java.io.IOException If an underlying IOException occurs while reading from the stream
+     */
+    public int readEliasGamma() throws IOException {
+        return bitSource.readEliasGamma();
+    }
+
+    /**
+     * Reads an Elias delta-coded value from the input stream.
+     *
+     * @return The Elias delta-coded value read from the input stream, which is strictly positive.
+     * @throws java.io.IOException If an underlying IOException occurs while reading from the stream
+     */
+    public int readEliasDelta() throws IOException {
+        return bitSource.readEliasDelta();
+    }
+
+    /**
+     * Reads an Exp-Golomb-coded value of order k from the input stream.
+     *
+     * @param order The order k of the code, at most 31.
+     * @return The Exp-Golomb-coded value read from the input stream.
+     * @throws java.io.IOException If an underlying IOException occurs while reading from the stream
+     */
+    public int readExpGolomb(int order) throws IOException {
+        return bitSource.readExpGolomb(order);
+    }
+
+    /**
+     * Reads an Exp-Golomb-coded value of order k that may not fit in an int from the input stream.
+     *
+     * @param order The order k of the code, at most 62.
+     * @return The Exp-Golomb-coded value read from the input stream.
+     * @throws java.io.IOException If an underlying IOException occurs while reading from the stream
+     */
+    public long readExpGolombLong(int order) throws IOException {
+        return bitSource.readExpGolombLong(order);
+    }
+
+    /**
+     * Returns the next bits of the input stream without consuming them, so that they are returned again by the next
+     * read.
+     *
+     * @param numBits The number of bits to look at, between 0 and 56
+     * @return The value of the next numBits bits
+     * @throws java.io.IOException If an underlying IOException occurs while reading from the stream, or if fewer than
+     *                             numBits bits remain
+     */
+    public long peekBits(int numBits) throws IOException {
+        return bitSource.peekBits(numBits);
+    }
+
+    /**
+     * Skips over a number of bits.
+     *
+     * @param numBits The number of bits to skip
+     * @throws java.io.IOException If an underlying IOException occurs while reading from the stream, or if fewer than
+     *                             numBits bits remain
+     */
+    public void skipBits(long numBits) throws IOException {
+        bitSource.skipBits(numBits);
+    }
+
     /**
      * Reads a unary-coded value from the input stream.
      *
@@ -112,4 +265,83 @@ public class BitInputStream extends InputStream {
     public int readBinary(int numBits) throws IOException {
         return bitSource.readBinary(numBits);
     }
+
+    /**
+     * Reads a block of unary-coded values from the input stream.
+     *
+     * @param values The array into which the values are read
+     * @param offset The offset in the array of the first value
+     * @param length The number of values to read
+     * @throws java.io.IOException If an underlying IOException occurs while reading from the stream
+     */
+    public void readUnary(int[] values, int offset, int length) throws IOException {
+        bitSource.readUnary(values, offset, length);
+    }
+
+    /**
+     * Reads a block of Rice-coded values from the input stream.
+     *
+     * @param values       The array into which the values are read
+     * @param offset       The offset in the array of the first value
+     * @param length       The number of values to read
+     * @param numFixedBits The number of bits used for the M parameter (ie. M is always a power of 2 of value 2<sup>numFixedBits</sup>)
+     * @throws java.io.IOException If an underlying IOException occurs while reading from the stream
+     */
+    public void readRice(int[] values, int offset, int length, int numFixedBits) throws IOException {
+        bitSource.readRice(values, offset, length, numFixedBits);
+    }
+
+    /**
+     * Reads a block of binary values, all of the same width, from the input stream.
+     *
+     * @param values  The array into which the values are read
+     * @param offset  The offset in the array of the first value
+     * @param length  The number of values to read
+     * @param numBits The number of bits of each value
+     * @throws java.io.IOException If an underlying IOException occurs while reading from the stream
+     */
+    public void readBinary(int[] values, int offset, int length, int numBits) throws IOException {
+        bitSource.readBinary(values, offset, length, numBits);
+    }
+
+    /**
+     * Selects the strategy used to decode blocks of Rice-coded and unary-coded values.
+     *
+     * @param riceDecodingMode The decoding mode to use for subsequent block reads
+     */
+    public void setRiceDecodingMode(RiceDecodingMode riceDecodingMode) {
+        bitSource.setRiceDecodingMode(riceDecodingMode);
+    }
+
+    /**
+     * Reads a binary value of up to 64 bits from the input stream.
+     *
+     * @param numBits The number of bits to read, at most 64
+     * @return The value for the numBits read
+     * @throws java.io.IOException If an underlying IOException occurs while reading from the stream
+     */
+    public long readLong(int numBits) throws IOException {
+        return bitSource.readLong(numBits);
+    }
+
+    /**
+     * Reads a unary-coded value that may not fit in an int from the input stream.
+     *
+     * @return A unary-coded value read from the input stream
+     * @throws java.io.IOException If an underlying IOException occurs while reading from the stream
+     */
+    public long readUnaryLong() throws IOException {
+        return bitSource.readUnaryLong();
+    }
+
+    /**
+     * Reads a Rice-coded value that may not fit in an int from the input stream.
+     *
+     * @param numFixedBits The number of bits used for the M parameter (ie. M is always a power of 2 of value 2<sup>numFixedBits</sup>), at most 63
+     * @return The Rice-coded value read from the input stream.
+     * @throws java.io.IOException If an underlying IOException occurs while reading from the stream
+     */
+    public long readRiceLong(int numFixedBits) throws IOException {
+        return bitSource.readRiceLong(numFixedBits);
+    }
 }
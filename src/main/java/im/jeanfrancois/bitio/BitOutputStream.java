@@ -29,12 +29,62 @@ import java.io.OutputStream;
  * @author jfim
  */
 public class BitOutputStream extends OutputStream {
-    private final OutputStream outputStream;
+    /**
+     * Default size of the buffer, in bytes.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    private OutputStream outputStream;
+
+    /**
+     * The byte sink to which the bit sink hands its block once full, straight to the output stream.
+     */
+    private final OutputStreamByteSink byteSink;
     private final BitSink bitSink;
 
+    /**
+     * Constructs a bit output stream that writes into an output stream through a buffer of the default size.
+     *
+     * @param outputStream The output stream to write into
+     */
     public BitOutputStream(OutputStream outputStream) {
+        this(outputStream, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Constructs a bit output stream that writes into an output stream through a buffer of a given size.
+     *
+     * @param outputStream The output stream to write into
+     * @param bufferSize   The size of the buffer, in bytes
+     */
+    public BitOutputStream(OutputStream outputStream, int bufferSize) {
+        this(outputStream, new byte[bufferSize]);
+    }
+
+    /**
+     * Constructs a bit output stream that writes into an output stream through a buffer supplied by the caller. The
+     * buffer is the block in which the bit sink gathers bytes, which is written straight to the output stream once
+     * full, so that bytes are only copied once.
+     *
+     * @param outputStream The output stream to write into
+     * @param buffer       The buffer in which bytes are accumulated before being written to the output stream
+     */
+    public BitOutputStream(OutputStream outputStream, byte[] buffer) {
+        this.outputStream = outputStream;
+        byteSink = new OutputStreamByteSink(outputStream);
+        bitSink = new BitSink(byteSink, buffer);
+    }
+
+    /**
+     * Points this bit output stream at a new output stream, discarding any bits and bytes that have not been flushed
+     * yet, so that the same bit output stream and its buffer can be reused without allocating.
+     *
+     * @param outputStream The output stream to write into
+     */
+    public void reset(OutputStream outputStream) {
         this.outputStream = outputStream;
-        bitSink = new BitSink(new OutputStreamByteSink(outputStream));
+        byteSink.reset(outputStream);
+        bitSink.reset(byteSink);
     }
 
     @Override
@@ -42,14 +92,20 @@ public class BitOutputStream extends OutputStream {
         bitSink.writeByte(value);
     }
 
+    @Override
+    public void write(byte[] buffer, int offset, int length) throws IOException {
+        bitSink.writeBytes(buffer, offset, length);
+    }
+
     @Override
     public void flush() throws IOException {
-        outputStream.flush();
+        bitSink.flush();
     }
 
     @Override
     public void close() throws IOException {
         bitSink.flushCurrentByteAndRealignToByteBoundary();
+        bitSink.flush();
         outputStream.close();
     }
 
@@ -73,6 +129,16 @@ public class BitOutputStream extends OutputStream {
         bitSink.writeZeroes(count);
     }
 
+    /**
+     * Writes a number of zeroes that may not fit in an int to the output stream
+     *
+     * @param count The number of zeroes to write
+     * @throws java.io.IOException If an underlying IOException occurs while writing to the stream
+     */
+    public void writeZeroes(long count) throws IOException {
+        bitSink.writeZeroes(count);
+    }
+
     /**
      * Flushes the current byte and realigns the stream to a byte boundary.
      *
@@ -93,6 +159,82 @@ public class BitOutputStream extends OutputStream {
         bitSink.writeRice(value, numFixedBits);
     }
 
+    /**
+     * Writes a Golomb-coded value, which must be positive, to the output stream.
+     *
+     * @param value The value to write, which must be positive.
+     * @param code  The Golomb code to use, which holds the M parameter
+     * @throws java.io.IOException If an underlying IOException occurs while writing to the stream
+     */
+    public void writeGolomb(int value, GolombCode code) throws IOException {
+        bitSink.writeGolomb(value, code);
+    }
+
+    /**
+     * Writes a Huffman-coded symbol to the output stream.
+     *
+     * @param symbol The symbol to write, which must have a code
+     * @param code   The canonical Huffman code to use
+     * @throws java.io.IOException If an underlying IOException occurs while writing to the stream
+     */
+    public void writeHuffman(int symbol, HuffmanCode code) throws IOException {
+        bitSink.writeHuffman(symbol, code);
+    }
+
+    /**
+     * Writes an Elias gamma-coded value, which must be strictly positive, to the output stream.
+     *
+     * @param value The value to write, which must be strictly positive.
+     * @throws java.io.IOException If an underlying IOException occurs while writing to the stream
+     */
+    public void writeEliasGamma(int value) throws IOException {
+        bitSink.writeEliasGamma(value);
+    }
+
+    /**
+     * Writes an Elias delta-coded value, which must be strictly positive, to the output stream.
+     *
+     * @param value The value to write, which must be strictly positive.
+     * @throws java.io.IOException If an underlying IOException occurs while writing to the stream
+     */
+    public void writeEliasDelta(int value) throws IOException {
+        bitSink.writeEliasDelta(value);
+    }
+
+    /**
+     * Writes an Exp-Golomb-coded value of order k, which must be positive, to the output stream.
+     *
+     * @param value The value to write, which must be positive.
+     * @param order The order k of the code, at most 31.
+     * @throws java.io.IOException If an underlying IOException occurs while writing to the stream
+     */
+    public void writeExpGolomb(int value, int order) throws IOException {
+        bitSink.writeExpGolomb(value, order);
+    }
+
+    /**
+     * Writes an Exp-Golomb-coded value of order k that may not fit in an int, which must be positive, to the output
+     * stream.
+     *
+     * @param value The value to write, which must be positive and smaller than 2<sup>63</sup> - 2<sup>k</sup>.
+     * @param order The order k of the code, at most 62.
+     * @throws java.io.IOException If an underlying IOException occurs while writing to the stream
+     */
+    public void writeExpGolomb(long value, int order) throws IOException {
+        bitSink.writeExpGolomb(value, order);
+    }
+
+    /**
+     * Writes a Rice-coded value that may not fit in an int to the output stream.
+     *
+     * @param value        The value to write, which must be positive.
+     * @param numFixedBits The number of bits used for the M parameter, for example 3 would mean a value of M=2<sup>3</sup>=8, at most 63.
+     * @throws java.io.IOException If an underlying IOException occurs while writing to the stream
+     */
+    public void writeRice(long value, int numFixedBits) throws IOException {
+        bitSink.writeRice(value, numFixedBits);
+    }
+
     /**
      * Writes a certain number of bits to the output stream
      *
@@ -104,6 +246,55 @@ public class BitOutputStream extends OutputStream {
         bitSink.writeBinary(value, numBits);
     }
 
+    /**
+     * Writes a certain number of bits, up to 64, to the output stream
+     *
+     * @param value   The value to write to the output stream, must be smaller than 2<sup>numBits</sup>
+     * @param numBits The number of bits to be written to the output stream, at most 64
+     * @throws java.io.IOException If an underlying IOException occurs while writing to the stream
+     */
+    public void writeLong(long value, int numBits) throws IOException {
+        bitSink.writeLong(value, numBits);
+    }
+
+    /**
+     * Writes a block of unary-coded values to the output stream
+     *
+     * @param values The array containing the values to write
+     * @param offset The offset in the array of the first value
+     * @param length The number of values to write
+     * @throws java.io.IOException If an underlying IOException occurs while writing to the stream
+     */
+    public void writeUnary(int[] values, int offset, int length) throws IOException {
+        bitSink.writeUnary(values, offset, length);
+    }
+
+    /**
+     * Writes a block of Rice-coded values, which must be positive, to the output stream.
+     *
+     * @param values       The array containing the values to write
+     * @param offset       The offset in the array of the first value
+     * @param length       The number of values to write
+     * @param numFixedBits The number of bits used for the M parameter, for example 3 would mean a value of M=2<sup>3</sup>=8.
+     * @throws java.io.IOException If an underlying IOException occurs while writing to the stream
+     */
+    public void writeRice(int[] values, int offset, int length, int numFixedBits) throws IOException {
+        bitSink.writeRice(values, offset, length, numFixedBits);
+    }
+
+    /**
+     * Writes a block of binary values, all of the same width, to the output stream.
+     *
+     * @param values  The array containing the values to write
+     * @param offset  The offset in the array of the first value
+     * @param length  The number of values to write
+     * @param numBits The number of bits of each value
+     * @throws java.io.IOException If an underlying IOException occurs while writing to the stream
+     */
+    public void writeBinary(int[] values, int offset, int length, int numBits) throws IOException {
+        bitSink.writeBinary(values, offset, length, numBits);
+    }
+
     /**
      * Writes a complete byte to the underlying output stream.
      *
@@ -123,4 +314,14 @@ public class BitOutputStream extends OutputStream {
     public void writeUnary(int value) throws IOException {
         bitSink.writeUnary(value);
     }
+
+    /**
+     * Writes an unary-coded value that may not fit in an int to the output stream
+     *
+     * @param value The value to write to the output stream
+     * @throws java.io.IOException If an underlying IOException occurs while writing to the stream
+     */
+    public void writeUnary(long value) throws IOException {
+        bitSink.writeUnary(value);
+    }
 }
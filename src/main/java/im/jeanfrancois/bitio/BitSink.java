@@ -20,18 +20,81 @@
 
 package im.jeanfrancois.bitio;
 
+import java.io.EOFException;
 import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 
 /**
  * A bit sink, where bits can be written to, which are in turn written to an
  * underlying byte sink.
+ * <p>
+ * Bits are packed into a 64-bit accumulator, whose complete words are
+ * gathered into a small block that is handed to the byte sink in a single
+ * call once full. Written bits are thus held by the bit sink until either
+ * {@link #flush()} or {@link #flushCurrentByteAndRealignToByteBoundary()} is
+ * called.
+ * <p>
+ * A bit sink can also write straight into a {@link ByteBuffer} or a range of
+ * a byte array. A bit sink can be pointed at a new destination using its
+ * reset methods, which do not allocate.
+ * <p>
+ * Runs of bytes from a file written at a byte boundary into a
+ * {@link ChannelByteSink} are copied by the operating system, see
+ * {@link #writeBytes(FileChannel, long, long)}.
  *
  * @author Jean-Francois Im
  */
 public class BitSink {
+    /**
+     * Number of bits handed to the byte sink at once.
+     */
+    private static final int WORD_SIZE = 32;
+
+    /**
+     * Default size of the block of bytes written to the byte sink at once.
+     */
+    private static final int BLOCK_SIZE = 256;
+
     private ByteSink byteSink;
-    private int currentByte = 0;
-    private int currentBitCount = 0;
+
+    /**
+     * Buffer written into when writing to a byte buffer, null otherwise.
+     */
+    private ByteBuffer buffer;
+
+    /**
+     * Array written into when writing to a byte array, along with the index of the next byte to write and the end of
+     * the writable range.
+     */
+    private byte[] array;
+    private int arrayPosition;
+    private int arrayLimit;
+
+    /**
+     * Complete bytes pending to be written to the byte sink.
+     */
+    private final byte[] block;
+    private int blockLength = 0;
+
+    /**
+     * Bits pending to be written, the first bit written being the least significant one. Bits above
+     * {@link #bitCount} are always zero.
+     */
+    private long bitBuffer = 0;
+    private int bitCount = 0;
+
+    /**
+     * Number of bytes handed to the byte sink so far.
+     */
+    private long bytesWritten = 0;
+
+    /**
+     * Buffer into which bytes from a file are read before being written, when they cannot be copied by the operating
+     * system. Allocated on first use and kept across resets.
+     */
+    private ByteBuffer fileBytes;
 
     /**
      * Constructs a BitSink with a given byte sink.
@@ -39,7 +102,91 @@ public class BitSink {
      * @param byteSink The sink for the bytes written by this bit stream.
      */
     public BitSink(ByteSink byteSink) {
+        this(byteSink, new byte[BLOCK_SIZE]);
+    }
+
+    /**
+     * Constructs a BitSink that gathers bytes into a block supplied by the caller before handing them to a byte sink,
+     * which sets how many bytes are written to the byte sink at once. Byte sinks that write into an unbuffered output
+     * stream should use a block of a few kilobytes rather than be buffered separately, so that bytes are only copied
+     * once.
+     *
+     * @param byteSink The sink for the bytes written by this bit sink
+     * @param block    The array in which bytes are gathered before being written to the byte sink, which must not be
+     *                 used by anything else while this bit sink is in use
+     */
+    public BitSink(ByteSink byteSink, byte[] block) {
+        if (block.length == 0)
+            throw new IllegalArgumentException("Block size must be greater than zero");
+
+        this.byteSink = byteSink;
+        this.block = block;
+    }
+
+    /**
+     * Constructs a BitSink that writes into a byte buffer, starting at its current position.
+     *
+     * @param buffer The buffer to write into
+     * @see ByteBufferByteSink
+     */
+    public BitSink(ByteBuffer buffer) {
+        this.buffer = buffer;
+        this.block = new byte[BLOCK_SIZE];
+    }
+
+    /**
+     * Points this bit sink at a new byte sink, discarding any bits that have not been written yet, so
+     * {@link #flushCurrentByteAndRealignToByteBoundary()} should be called before resetting. The bit position
+     * restarts at 0.
+     *
+     * @param byteSink The sink for the bytes written by this bit sink
+     */
+    public void reset(ByteSink byteSink) {
         this.byteSink = byteSink;
+        this.buffer = null;
+        this.array = null;
+        clear();
+    }
+
+    /**
+     * Points this bit sink at a byte buffer, which is written into starting at its current position, discarding any
+     * bits that have not been written yet. The bit position restarts at 0.
+     *
+     * @param buffer The buffer to write into
+     */
+    public void reset(ByteBuffer buffer) {
+        this.byteSink = null;
+        this.buffer = buffer;
+        this.array = null;
+        clear();
+    }
+
+    /**
+     * Points this bit sink at a range of a byte array, discarding any bits that have not been written yet. The bit
+     * position restarts at 0, and writing more bytes than fit in the range throws a {@link BufferOverflowException}.
+     * Once flushed, the number of bytes written into the array is given by the bit position.
+     *
+     * @param bytes  The array to write into
+     * @param offset The offset of the first byte to write in the array
+     * @param length The number of bytes that can be written
+     */
+    public void reset(byte[] bytes, int offset, int length) {
+        if (offset < 0 || length < 0 || bytes.length - offset < length)
+            throw new IndexOutOfBoundsException("Invalid range of " + length + " bytes at offset " + offset);
+
+        this.byteSink = null;
+        this.buffer = null;
+        this.array = bytes;
+        arrayPosition = offset;
+        arrayLimit = offset + length;
+        clear();
+    }
+
+    private void clear() {
+        blockLength = 0;
+        bitBuffer = 0;
+        bitCount = 0;
+        bytesWritten = 0;
     }
 
     /**
@@ -50,15 +197,13 @@ public class BitSink {
      */
     public void writeBit(final boolean value) throws IOException {
         if (value) {
-            currentByte |= 1 << currentBitCount;
+            bitBuffer |= 1L << bitCount;
         }
 
-        currentBitCount++;
+        bitCount++;
 
-        if (currentBitCount == 8) {
-            byteSink.writeByte(currentByte);
-            currentBitCount = 0;
-            currentByte = 0;
+        if (bitCount >= WORD_SIZE) {
+            writeWord();
         }
     }
 
@@ -69,28 +214,26 @@ public class BitSink {
      * @throws IOException If an underlying IOException occurs while writing to the stream
      */
     public void writeZeroes(final int count) throws IOException {
-        // Do the zeroes fit in the current byte?
-        if (count + currentBitCount < 8) {
-            // Yes, just increment the bit pointer
-            currentBitCount += count;
-        } else {
-            // Write the current byte
-            byteSink.writeByte(currentByte);
-
-            // Compute how many bits we have left to write
-            final int bitsWrittenInLastByte = 8 - currentBitCount;
-            final int bitsRemainingToWrite = count - bitsWrittenInLastByte;
-            final int zeroBytesToWrite = bitsRemainingToWrite / 8;
+        writeZeroes((long) count);
+    }
 
-            // Write complete zero bytes
-            for (int i = 0; i < zeroBytesToWrite; ++i) {
-                byteSink.writeByte(0);
-            }
+    /**
+     * Writes a number of zeroes that may not fit in an int to the byte sink
+     *
+     * @param count The number of zeroes to write
+     * @throws IOException If an underlying IOException occurs while writing to the stream
+     */
+    public void writeZeroes(final long count) throws IOException {
+        // Zeroes are implicit in the buffer, so just count them and write out the complete words
+        long bitsToWrite = bitCount + count;
 
-            // Set bits count to the number of bits remaining
-            currentBitCount = bitsRemainingToWrite % 8;
-            currentByte = 0;
+        while (bitsToWrite >= WORD_SIZE) {
+            bitCount = WORD_SIZE;
+            writeWord();
+            bitsToWrite -= WORD_SIZE;
         }
+
+        bitCount = (int) bitsToWrite;
     }
 
     /**
@@ -100,11 +243,15 @@ public class BitSink {
      * @throws IOException If an underlying IOException occurs while writing to the stream
      */
     public void writeUnary(final int value) throws IOException {
-        // Can we fit the value in the current byte?
-        if (value + currentBitCount + 1 < 8) {
+        // Can we fit the value in the buffer?
+        if (value < 63 - bitCount) {
             // Yes, just write the 1 at the proper location and increment the bit count
-            currentByte |= 1 << (value + currentBitCount);
-            currentBitCount += value + 1;
+            bitBuffer |= 1L << (value + bitCount);
+            bitCount += value + 1;
+
+            if (bitCount >= WORD_SIZE) {
+                writeWord();
+            }
         } else {
             // Nope, write it normally
             writeZeroes(value);
@@ -112,6 +259,22 @@ public class BitSink {
         }
     }
 
+    /**
+     * Writes an unary-coded value that may not fit in an int to the byte sink
+     *
+     * @param value The value to write to the byte sink
+     * @throws IOException If an underlying IOException occurs while writing to the stream
+     */
+    public void writeUnary(final long value) throws IOException {
+        // Can we fit the value in the buffer?
+        if (value < 63 - bitCount) {
+            writeUnary((int) value);
+        } else {
+            writeZeroes(value);
+            writeBit(true);
+        }
+    }
+
     /**
      * Writes a certain number of bits to the byte sink
      *
@@ -120,34 +283,40 @@ public class BitSink {
      * @throws IOException If an underlying IOException occurs while writing to the stream
      */
     public void writeBinary(final int value, final int numBits) throws IOException {
-        // Can we fit the bits in the current byte?
-        if (numBits + currentBitCount < 8) {
-            // Yes, just write the value and increment the bit count
-            final int maskedValue = value & ((1 << numBits) - 1);
-            currentByte |= maskedValue << currentBitCount;
-            currentBitCount += numBits;
+        bitBuffer |= (value & ((1L << numBits) - 1)) << bitCount;
+        bitCount += numBits;
+
+        if (bitCount >= WORD_SIZE) {
+            writeWord();
+        }
+    }
+
+    /**
+     * Writes a certain number of bits, up to 64, to the byte sink
+     *
+     * @param value   The value to write to the byte sink, must be smaller than 2<sup>numBits</sup>
+     * @param numBits The number of bits to be written to the byte sink, at most 64
+     * @throws IOException If an underlying IOException occurs while writing to the stream
+     */
+    public void writeLong(final long value, final int numBits) throws IOException {
+        // Does the value fit in the buffer?
+        if (numBits <= WORD_SIZE) {
+            // Yes, write it directly
+            bitBuffer |= (value & ((1L << numBits) - 1)) << bitCount;
+            bitCount += numBits;
         } else {
-            // Write the bits that fit in the current byte
-            final int bitsThatFit = 8 - currentBitCount;
-            final int maskedBitsThatFit = value & ((1 << bitsThatFit) - 1);
-            currentByte |= maskedBitsThatFit << currentBitCount;
-            byteSink.writeByte(currentByte);
-
-            // Compute how many bits we have left to write
-            final int bitsRemainingToWrite = numBits - bitsThatFit;
-            final int wholeBytesToWrite = bitsRemainingToWrite / 8;
-
-            // Write whole bytes
-            for (int i = 0; i < wholeBytesToWrite; ++i) {
-                final int bitOffset = (i * 8 + bitsThatFit);
-                final int valueToWrite = (value >> bitOffset) & 0xFF;
-                byteSink.writeByte(valueToWrite);
-            }
+            // No, write the low word first to make room for the high bits
+            bitBuffer |= (value & 0xFFFFFFFFL) << bitCount;
+            bitCount += WORD_SIZE;
+            writeWord();
 
-            // Write the remaining bits
-            final int bitOffset = (wholeBytesToWrite * 8 + bitsThatFit);
-            currentBitCount = bitsRemainingToWrite % 8;
-            currentByte = (value >> bitOffset) & (0xFF >> (8 - currentBitCount));
+            final int highBitCount = numBits - WORD_SIZE;
+            bitBuffer |= ((value >>> WORD_SIZE) & ((1L << highBitCount) - 1)) << bitCount;
+            bitCount += highBitCount;
+        }
+
+        if (bitCount >= WORD_SIZE) {
+            writeWord();
         }
     }
 
@@ -163,12 +332,300 @@ public class BitSink {
      * @throws IOException If an underlying IOException occurs while writing to the stream
      */
     public void writeRice(int value, int numFixedBits) throws IOException {
-        int m = 1 << numFixedBits;
-        int q = value / m;
-        int r = value % m;
+        final int q = value >>> numFixedBits;
+        final long r = value & ((1L << numFixedBits) - 1);
+
+        // Can we fit the whole code in the buffer?
+        if (q < 63 - numFixedBits - bitCount) {
+            // Yes, write the terminating 1 of the quotient and the remainder at once
+            bitBuffer |= ((r << 1 | 1L) << q) << bitCount;
+            bitCount += q + 1 + numFixedBits;
+
+            if (bitCount >= WORD_SIZE) {
+                writeWord();
+            }
+        } else {
+            writeUnary(q);
+            writeBinary((int) r, numFixedBits);
+        }
+    }
+
+    /**
+     * Writes a Golomb-coded value, which must be positive, to the byte sink.
+     *
+     * @param value The value to write, which must be positive.
+     * @param code  The Golomb code to use, which holds the M parameter
+     * @throws IOException If an underlying IOException occurs while writing to the stream
+     */
+    public void writeGolomb(int value, GolombCode code) throws IOException {
+        final int q = code.quotient(value);
+        final int r = value - q * code.getDivisor();
+        final long remainderCode = code.remainderCode(r);
+        final int remainderCodeLength = code.remainderCodeLength(r);
+
+        // Can we fit the whole code in the buffer?
+        if (q < 63 - remainderCodeLength - bitCount) {
+            // Yes, write the terminating 1 of the quotient and the remainder at once
+            bitBuffer |= ((remainderCode << 1 | 1L) << q) << bitCount;
+            bitCount += q + 1 + remainderCodeLength;
 
-        writeUnary(q);
-        writeBinary(r, numFixedBits);
+            if (bitCount >= WORD_SIZE) {
+                writeWord();
+            }
+        } else {
+            writeUnary(q);
+            writeBinary((int) remainderCode, remainderCodeLength);
+        }
+    }
+
+    /**
+     * Writes a Huffman-coded symbol to the byte sink.
+     *
+     * @param symbol The symbol to write, which must have a code
+     * @param code   The canonical Huffman code to use
+     * @throws IOException If an underlying IOException occurs while writing to the stream
+     */
+    public void writeHuffman(int symbol, HuffmanCode code) throws IOException {
+        writeBinary(code.reversedCodes[symbol], code.codeLength(symbol));
+    }
+
+    /**
+     * Writes an Elias gamma-coded value, which must be strictly positive, to the byte sink. The code is made of the
+     * unary-coded number of bits N following the most significant bit of the value, followed by these N bits.
+     *
+     * @param value The value to write, which must be strictly positive.
+     * @throws IOException If an underlying IOException occurs while writing to the stream
+     */
+    public void writeEliasGamma(int value) throws IOException {
+        if (value <= 0)
+            throw new IllegalArgumentException("Value must be strictly positive, got " + value);
+
+        final int n = 31 - Integer.numberOfLeadingZeros(value);
+        final long r = value & ((1L << n) - 1);
+
+        // Can we fit the whole code in the buffer?
+        if (n < 63 - n - bitCount) {
+            // Yes, the terminating 1 of the unary part stands in for the most significant bit of the value
+            bitBuffer |= ((r << 1 | 1L) << n) << bitCount;
+            bitCount += n + 1 + n;
+
+            if (bitCount >= WORD_SIZE) {
+                writeWord();
+            }
+        } else {
+            writeUnary(n);
+            writeBinary((int) r, n);
+        }
+    }
+
+    /**
+     * Writes an Elias delta-coded value, which must be strictly positive, to the byte sink. The code is made of the
+     * Elias gamma-coded number of significant bits of the value, followed by the bits after the most significant
+     * one.
+     *
+     * @param value The value to write, which must be strictly positive.
+     * @throws IOException If an underlying IOException occurs while writing to the stream
+     */
+    public void writeEliasDelta(int value) throws IOException {
+        if (value <= 0)
+            throw new IllegalArgumentException("Value must be strictly positive, got " + value);
+
+        final int n = 31 - Integer.numberOfLeadingZeros(value);
+        final int lengthBits = 31 - Integer.numberOfLeadingZeros(n + 1);
+        final long r = value & ((1L << n) - 1);
+        final int codeLength = lengthBits + 1 + lengthBits + n;
+
+        // Can we fit the whole code in the buffer?
+        if (codeLength <= 63 - bitCount) {
+            // Yes, write the gamma-coded length and the value at once
+            final long lengthCode = (n + 1) & ((1L << lengthBits) - 1);
+            bitBuffer |= (((r << lengthBits | lengthCode) << 1 | 1L) << lengthBits) << bitCount;
+            bitCount += codeLength;
+
+            if (bitCount >= WORD_SIZE) {
+                writeWord();
+            }
+        } else {
+            writeEliasGamma(n + 1);
+            writeBinary((int) r, n);
+        }
+    }
+
+    /**
+     * Writes an Exp-Golomb-coded value of order k, which must be positive, to the byte sink. A value is coded as
+     * the Elias gamma code of value + 2<sup>k</sup>, without its k leading zeroes; order 0 codes value + 1 as Elias
+     * gamma.
+     *
+     * @param value The value to write, which must be positive.
+     * @param order The order k of the code, at most 31.
+     * @throws IOException If an underlying IOException occurs while writing to the stream
+     */
+    public void writeExpGolomb(int value, int order) throws IOException {
+        writeExpGolomb((long) value, order);
+    }
+
+    /**
+     * Writes an Exp-Golomb-coded value of order k that may not fit in an int, which must be positive, to the byte
+     * sink. Codes longer than what fits in the bit buffer are written as their unary and binary parts.
+     *
+     * @param value The value to write, which must be positive and smaller than 2<sup>63</sup> - 2<sup>k</sup>.
+     * @param order The order k of the code, at most 62.
+     * @throws IOException If an underlying IOException occurs while writing to the stream
+     */
+    public void writeExpGolomb(long value, int order) throws IOException {
+        final long shiftedValue = value + (1L << order);
+        final int n = 63 - Long.numberOfLeadingZeros(shiftedValue);
+        final int q = n - order;
+        final long r = shiftedValue & ((1L << n) - 1);
+
+        // Can we fit the whole code in the buffer?
+        if (q < 63 - n - bitCount) {
+            // Yes, write the terminating 1 of the unary part and the low bits at once
+            bitBuffer |= ((r << 1 | 1L) << q) << bitCount;
+            bitCount += q + 1 + n;
+
+            if (bitCount >= WORD_SIZE) {
+                writeWord();
+            }
+        } else {
+            writeUnary(q);
+            writeLong(r, n);
+        }
+    }
+
+    /**
+     * Writes a Rice-coded value that may not fit in an int, which must be positive, to the byte sink. If negative
+     * values are desired, the {@link im.jeanfrancois.bitio.util.BitIOUtils#encodeAsZigZag(long) encodeAsZigZag}
+     * method allows encoding negative values as positive integers.
+     *
+     * @param value        The value to write, which must be positive.
+     * @param numFixedBits The number of bits used for the M parameter, for example 3 would mean a value of M=2<sup>3</sup>=8, at most 63.
+     * @throws IOException If an underlying IOException occurs while writing to the stream
+     */
+    public void writeRice(long value, int numFixedBits) throws IOException {
+        final long q = value >>> numFixedBits;
+        final long r = value & ((1L << numFixedBits) - 1);
+
+        // Can we fit the whole code in the buffer?
+        if (q < 63 - numFixedBits - bitCount) {
+            // Yes, write the terminating 1 of the quotient and the remainder at once
+            bitBuffer |= ((r << 1 | 1L) << q) << bitCount;
+            bitCount += (int) q + 1 + numFixedBits;
+
+            if (bitCount >= WORD_SIZE) {
+                writeWord();
+            }
+        } else {
+            writeUnary(q);
+            writeLong(r, numFixedBits);
+        }
+    }
+
+    /**
+     * Writes a block of unary-coded values to the byte sink
+     *
+     * @param values The array containing the values to write
+     * @param offset The offset in the array of the first value
+     * @param length The number of values to write
+     * @throws IOException If an underlying IOException occurs while writing to the stream
+     */
+    public void writeUnary(int[] values, int offset, int length) throws IOException {
+        // A unary-coded value is a Rice-coded value without remainder
+        writeRice(values, offset, length, 0);
+    }
+
+    /**
+     * Writes a block of Rice-coded values, which must be positive, to the byte sink. The bit buffer is kept in local
+     * variables for the whole block, so this is faster than calling {@link #writeRice(int, int)} for each value.
+     *
+     * @param values       The array containing the values to write
+     * @param offset       The offset in the array of the first value
+     * @param length       The number of values to write
+     * @param numFixedBits The number of bits used for the M parameter, for example 3 would mean a value of M=2<sup>3</sup>=8.
+     * @throws IOException If an underlying IOException occurs while writing to the stream
+     */
+    public void writeRice(int[] values, int offset, int length, int numFixedBits) throws IOException {
+        final long remainderMask = (1L << numFixedBits) - 1;
+        final int end = offset + length;
+        long buffer = bitBuffer;
+        int count = bitCount;
+
+        for (int i = offset; i < end; ++i) {
+            final int value = values[i];
+            final int q = value >>> numFixedBits;
+
+            // Can we fit the whole code in the buffer?
+            if (q < 63 - numFixedBits - count) {
+                // Yes, write the terminating 1 of the quotient and the remainder at once
+                buffer |= (((value & remainderMask) << 1 | 1L) << q) << count;
+                count += q + 1 + numFixedBits;
+
+                if (count >= WORD_SIZE) {
+                    bitBuffer = buffer;
+                    bitCount = count;
+                    writeWord();
+                    buffer = bitBuffer;
+                    count = bitCount;
+                }
+            } else {
+                bitBuffer = buffer;
+                bitCount = count;
+                writeRice(value, numFixedBits);
+                buffer = bitBuffer;
+                count = bitCount;
+            }
+        }
+
+        bitBuffer = buffer;
+        bitCount = count;
+    }
+
+    /**
+     * Writes a block of binary values, all of the same width, to the byte sink. The bit buffer is kept in local
+     * variables for the whole block, so this is faster than calling {@link #writeBinary(int, int)} for each value.
+     *
+     * @param values  The array containing the values to write
+     * @param offset  The offset in the array of the first value
+     * @param length  The number of values to write
+     * @param numBits The number of bits of each value
+     * @throws IOException If an underlying IOException occurs while writing to the stream
+     */
+    public void writeBinary(int[] values, int offset, int length, int numBits) throws IOException {
+        final long mask = (1L << numBits) - 1;
+        final int end = offset + length;
+        long buffer = bitBuffer;
+        int count = bitCount;
+
+        for (int i = offset; i < end; ++i) {
+            buffer |= (values[i] & mask) << count;
+            count += numBits;
+
+            if (count >= WORD_SIZE) {
+                bitBuffer = buffer;
+                bitCount = count;
+                writeWord();
+                buffer = bitBuffer;
+                count = bitCount;
+            }
+        }
+
+        bitBuffer = buffer;
+        bitCount = count;
+    }
+
+    /**
+     * Writes the whole bytes buffered by this bit sink to the byte sink and flushes it. Bits of a partially written
+     * byte are kept until the byte is complete.
+     *
+     * @throws IOException If an IOException occurs while writing to the byte sink
+     */
+    public void flush() throws IOException {
+        moveWholeBytesToBlock();
+        writeBlock();
+
+        if (byteSink != null) {
+            byteSink.flush();
+        }
     }
 
     /**
@@ -177,11 +634,30 @@ public class BitSink {
      * @throws IOException If an IOException occurs while writing the current byte
      */
     public void flushCurrentByteAndRealignToByteBoundary() throws IOException {
-        if (currentBitCount > 0) {
-            byteSink.writeByte(currentByte);
-            currentByte = 0;
-            currentBitCount = 0;
+        moveWholeBytesToBlock();
+
+        if (bitCount > 0) {
+            if (blockLength == block.length) {
+                writeBlock();
+            }
+
+            block[blockLength] = (byte) bitBuffer;
+            blockLength++;
+            bitBuffer = 0;
+            bitCount = 0;
         }
+
+        writeBlock();
+    }
+
+    /**
+     * Returns the position of the next bit to be written, counted from the construction or the last reset of the bit
+     * sink.
+     *
+     * @return The number of bits written so far
+     */
+    public long bitPosition() {
+        return (bytesWritten + blockLength) * 8 + bitCount;
     }
 
     /**
@@ -191,22 +667,167 @@ public class BitSink {
      * @throws IOException If an IOException occurs while writing the byte
      */
     public void writeByte(int value) throws IOException {
+        writeBinary(value, 8);
+    }
+
+    /**
+     * Writes whole bytes from an array. If the stream is aligned on a byte boundary, the bytes are written in bulk
+     * and large runs are handed straight to the underlying byte sink.
+     *
+     * @param buffer The array containing the bytes to write
+     * @param offset The offset of the first byte to write in the array
+     * @param length The number of bytes to write
+     * @throws IOException If an IOException occurs while writing the bytes
+     */
+    public void writeBytes(byte[] buffer, int offset, int length) throws IOException {
         // Are we aligned with a byte boundary?
-        if (currentBitCount == 0) {
-            // Yes, just write the value directly
-            byteSink.writeByte(value);
+        if ((bitCount & 7) == 0) {
+            // Yes, the pending bytes go first
+            moveWholeBytesToBlock();
+
+            // Do the bytes fit in the block?
+            if (length <= block.length - blockLength) {
+                // Yes, just copy them
+                System.arraycopy(buffer, offset, block, blockLength, length);
+                blockLength += length;
+            } else {
+                // No, write them directly
+                writeBlock();
+                writeToSink(buffer, offset, length);
+            }
         } else {
-            // Write the bits that fit in the current byte
-            final int bitsThatFit = 8 - currentBitCount;
-            final int maskedBitsThatFit = value & ((2 << bitsThatFit) - 1);
-            currentByte |= maskedBitsThatFit << currentBitCount;
-            byteSink.writeByte(currentByte);
-
-            // Write the rest of the bits in a new byte
-            final int remainingBits = 8 - bitsThatFit;
-            final int maskedValue = value & (((2 << remainingBits) - 1) << bitsThatFit);
-            currentByte = maskedValue >> bitsThatFit;
-            currentBitCount = remainingBits;
+            for (int i = 0; i < length; ++i) {
+                writeBinary(buffer[offset + i], 8);
+            }
+        }
+    }
+
+    /**
+     * Writes whole bytes from a file. If the stream is aligned on a byte boundary and writes into a
+     * {@link ChannelByteSink}, the bytes written so far are flushed to its channel and the run is copied using
+     * {@link ChannelByteSink#transferFrom(FileChannel, long, long)}, without going through the bit sink. Otherwise,
+     * the bytes are read from the file into a buffer kept by this bit sink, allocated on first use, and written as by
+     * {@link #writeBytes(byte[], int, int)}.
+     *
+     * @param source   The file to copy bytes from, whose position is not changed
+     * @param position The position of the first byte to copy in the file
+     * @param count    The number of bytes to copy
+     * @throws IOException If the file ends before count bytes are copied, or if an IOException occurs while reading
+     *                     from the file or writing the bytes
+     */
+    public void writeBytes(FileChannel source, long position, long count) throws IOException {
+        // Can the operating system copy the bytes?
+        if ((bitCount & 7) == 0 && byteSink instanceof ChannelByteSink) {
+            // Yes, the pending bytes go first
+            moveWholeBytesToBlock();
+            writeBlock();
+            ((ChannelByteSink) byteSink).transferFrom(source, position, count);
+            bytesWritten += count;
+            return;
         }
+
+        // No, read the bytes and write them
+        if (fileBytes == null) {
+            fileBytes = ByteBuffer.allocate(8192);
+        }
+
+        while (count > 0) {
+            fileBytes.clear().limit((int) Math.min(count, fileBytes.capacity()));
+            final int bytesRead = source.read(fileBytes, position);
+            if (bytesRead < 0)
+                throw new EOFException("Cannot copy bytes past the end of the file");
+
+            writeBytes(fileBytes.array(), 0, bytesRead);
+            position += bytesRead;
+            count -= bytesRead;
+        }
+    }
+
+    /**
+     * Writes the lowest word of the bit buffer to the block, writing the block to the byte sink if it is full.
+     *
+     * @throws IOException If an IOException occurs while writing to the byte sink
+     */
+    private void writeWord() throws IOException {
+        if (block.length - blockLength < 4) {
+            writeBlock();
+
+            // Blocks smaller than a word take its bytes one at a time
+            if (block.length < 4) {
+                for (int i = 0; i < WORD_SIZE; i += 8) {
+                    if (blockLength == block.length) {
+                        writeBlock();
+                    }
+
+                    block[blockLength] = (byte) (bitBuffer >>> i);
+                    blockLength++;
+                }
+
+                bitBuffer >>>= WORD_SIZE;
+                bitCount -= WORD_SIZE;
+                return;
+            }
+        }
+
+        final int word = (int) bitBuffer;
+        block[blockLength] = (byte) word;
+        block[blockLength + 1] = (byte) (word >>> 8);
+        block[blockLength + 2] = (byte) (word >>> 16);
+        block[blockLength + 3] = (byte) (word >>> 24);
+        blockLength += 4;
+
+        bitBuffer >>>= WORD_SIZE;
+        bitCount -= WORD_SIZE;
+    }
+
+    /**
+     * Moves the whole bytes in the bit buffer to the block, leaving only the bits of a partially written byte.
+     *
+     * @throws IOException If an IOException occurs while writing to the byte sink
+     */
+    private void moveWholeBytesToBlock() throws IOException {
+        while (bitCount >= 8) {
+            if (blockLength == block.length) {
+                writeBlock();
+            }
+
+            block[blockLength] = (byte) bitBuffer;
+            blockLength++;
+            bitBuffer >>>= 8;
+            bitCount -= 8;
+        }
+    }
+
+    /**
+     * Writes the pending block of bytes to the byte sink.
+     *
+     * @throws IOException If an IOException occurs while writing to the byte sink
+     */
+    private void writeBlock() throws IOException {
+        if (blockLength > 0) {
+            writeToSink(block, 0, blockLength);
+            blockLength = 0;
+        }
+    }
+
+    /**
+     * Hands bytes to the byte sink, or copies them into the buffer or the array being written into.
+     *
+     * @throws IOException If an IOException occurs while writing to the byte sink
+     */
+    private void writeToSink(byte[] bytes, int offset, int length) throws IOException {
+        if (byteSink != null) {
+            byteSink.write(bytes, offset, length);
+        } else if (buffer != null) {
+            buffer.put(bytes, offset, length);
+        } else {
+            if (arrayLimit - arrayPosition < length)
+                throw new BufferOverflowException();
+
+            System.arraycopy(bytes, offset, array, arrayPosition, length);
+            arrayPosition += length;
+        }
+
+        bytesWritten += length;
     }
 }
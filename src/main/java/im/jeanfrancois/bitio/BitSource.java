@@ -22,16 +22,74 @@ package im.jeanfrancois.bitio;
 
 import java.io.EOFException;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 
 /**
  * A bit-oriented input stream.
+ * <p>
+ * Bytes are read from the byte source in blocks into a small window, from
+ * which a 64-bit accumulator holding up to 63 bits of lookahead is refilled
+ * eight bytes at a time. Most operations are thus served without calling the
+ * underlying byte source, but the bit source may read ahead of the bits that
+ * have actually been consumed. The byte source is only read from when the bits
+ * requested are not already buffered.
+ * <p>
+ * A bit source can also read straight from a {@link ByteBuffer} or a byte
+ * array, in which case the buffer or the array itself is used as the window
+ * and no bytes are copied. A bit source can be pointed at a new source of
+ * bytes using its reset methods, which do not allocate.
  *
  * @author Jean-Francois Im
  */
 public class BitSource {
+    /**
+     * Default size of the window into which bytes are read from the byte source.
+     */
+    private static final int WINDOW_SIZE = 256;
+
     private ByteSource byteSource;
-    private int currentByte;
-    private int currentBitPosition = 8;
+
+    /**
+     * Array into which bytes are read from the byte source, allocated when first reading from a byte source unless
+     * supplied by the caller.
+     */
+    private byte[] sourceWindow;
+
+    /**
+     * Bytes that have not been moved into the bit buffer yet, which are either read from the byte source into the
+     * source window, or the array being read from.
+     */
+    private byte[] window;
+
+    /**
+     * Buffer used as the window instead of the window array when reading straight from a byte buffer.
+     */
+    private ByteBuffer buffer;
+    private boolean bufferIsBigEndian;
+
+    /**
+     * Whether the buffer is supplied by a subclass, which is then asked for the next buffer once it has been read.
+     */
+    private boolean suppliedBuffers;
+
+    private int windowPosition;
+    private int windowLimit;
+
+    /**
+     * Offset in the stream, in bytes, of the first byte of the window.
+     */
+    private long windowOffset;
+
+    /**
+     * Buffered bits, the next bit to be read being the least significant one.
+     * Bits above {@link #bitCount} are always zero.
+     */
+    private long bitBuffer;
+    private int bitCount;
+    private boolean endOfSourceReached;
+
+    private RiceDecodingMode riceDecodingMode = RiceDecodingMode.TRAILING_ZEROS;
 
     /**
      * Constructs a BitSource with a given source.
@@ -39,7 +97,128 @@ public class BitSource {
      * @param byteSource The underlying byte source to read from.
      */
     public BitSource(ByteSource byteSource) {
+        this(byteSource, new byte[WINDOW_SIZE]);
+    }
+
+    /**
+     * Constructs a BitSource that reads from a byte source into a window supplied by the caller, which sets how many
+     * bytes are requested from the byte source at once. Byte sources that read from an unbuffered input stream should
+     * use a window of a few kilobytes rather than be buffered separately, so that bytes are only copied once.
+     *
+     * @param byteSource The underlying byte source to read from
+     * @param window     The array into which bytes are read from the byte source, which must not be used by anything
+     *                   else while this bit source is in use
+     */
+    public BitSource(ByteSource byteSource, byte[] window) {
+        if (window.length == 0)
+            throw new IllegalArgumentException("Window size must be greater than zero");
+
         this.byteSource = byteSource;
+        this.sourceWindow = window;
+        this.window = window;
+    }
+
+    /**
+     * Constructs a BitSource that reads straight from the bytes between the position and the limit of a byte
+     * buffer, which may be a heap, direct or memory-mapped buffer. The position, limit and byte order of the buffer
+     * are left untouched and its contents must not be modified while it is being read from.
+     *
+     * @param buffer The buffer to read from
+     */
+    public BitSource(ByteBuffer buffer) {
+        useBuffer(buffer, -buffer.position());
+    }
+
+    /**
+     * Constructs a BitSource that reads straight from a byte array. Eight bytes are moved into the bit buffer at a
+     * time, and only the last few bytes of the array are read one at a time, checking for the end of the array.
+     *
+     * @param bytes The array to read from, which must not be modified while it is being read from
+     */
+    public BitSource(byte[] bytes) {
+        this(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Constructs a BitSource that reads straight from a range of a byte array, without copying it.
+     *
+     * @param bytes  The array to read from, which must not be modified while it is being read from
+     * @param offset The offset of the first byte to read in the array
+     * @param length The number of bytes to read
+     * @see #BitSource(byte[])
+     */
+    public BitSource(byte[] bytes, int offset, int length) {
+        reset(bytes, offset, length);
+    }
+
+    /**
+     * Points this bit source at a new byte source, discarding any buffered bits and keeping the same window. Reading
+     * restarts at bit position 0.
+     *
+     * @param byteSource The underlying byte source to read from
+     */
+    public void reset(ByteSource byteSource) {
+        if (sourceWindow == null) {
+            sourceWindow = new byte[WINDOW_SIZE];
+        }
+
+        this.byteSource = byteSource;
+        this.buffer = null;
+        this.suppliedBuffers = false;
+        this.window = sourceWindow;
+        windowOffset = 0;
+        windowPosition = 0;
+        windowLimit = 0;
+        bitBuffer = 0;
+        bitCount = 0;
+        endOfSourceReached = false;
+    }
+
+    /**
+     * Points this bit source at the bytes between the position and the limit of a byte buffer, discarding any
+     * buffered bits. Reading restarts at bit position 0.
+     *
+     * @param buffer The buffer to read from
+     * @see #BitSource(ByteBuffer)
+     */
+    public void reset(ByteBuffer buffer) {
+        this.byteSource = null;
+        this.window = sourceWindow;
+        useBuffer(buffer, -buffer.position());
+        bitBuffer = 0;
+        bitCount = 0;
+    }
+
+    /**
+     * Points this bit source at a range of a byte array, which is read in place, discarding any buffered bits. Reading
+     * restarts at bit position 0, which is the first bit of the range.
+     *
+     * @param bytes  The array to read from, which must not be modified while it is being read from
+     * @param offset The offset of the first byte to read in the array
+     * @param length The number of bytes to read
+     */
+    public void reset(byte[] bytes, int offset, int length) {
+        if (offset < 0 || length < 0 || bytes.length - offset < length)
+            throw new IndexOutOfBoundsException("Invalid range of " + length + " bytes at offset " + offset);
+
+        this.byteSource = null;
+        this.buffer = null;
+        this.suppliedBuffers = false;
+        this.window = bytes;
+        windowOffset = -offset;
+        windowPosition = offset;
+        windowLimit = offset + length;
+        bitBuffer = 0;
+        bitCount = 0;
+        endOfSourceReached = true;
+    }
+
+    /**
+     * Constructs a BitSource that reads from byte buffers supplied by a subclass through
+     * {@link #setBuffer(ByteBuffer, long)} and {@link #nextBuffer()}. Once reset to another source of bytes, the bit
+     * source reads from that source and stops asking the subclass for buffers.
+     */
+    protected BitSource() {
     }
 
     /**
@@ -49,17 +228,14 @@ public class BitSource {
      * @throws IOException If an underlying IOException occurs while reading from the stream
      */
     public boolean readBit() throws IOException {
-        if (currentBitPosition == 8) {
-            currentBitPosition = 0;
-            currentByte = byteSource.readByte();
-
-            if (currentByte == -1)
-                throw new EOFException();
+        if (bitCount == 0) {
+            refillAtLeast(1);
         }
 
-        final boolean returnValue = (currentByte & (1 << currentBitPosition)) != 0;
+        final boolean returnValue = (bitBuffer & 1L) != 0;
 
-        currentBitPosition++;
+        bitBuffer >>>= 1;
+        bitCount--;
 
         return returnValue;
     }
@@ -71,103 +247,610 @@ public class BitSource {
      * @throws IOException If an underlying IOException occurs while reading from the stream
      */
     public int readUnary() throws IOException {
-        // Read in a byte if necessary
-        if (currentBitPosition == 8) {
-            currentBitPosition = 0;
-            currentByte = byteSource.readByte();
+        int zeroBitCount = 0;
+
+        // Discard buffers that are all zeroes
+        while (bitBuffer == 0) {
+            zeroBitCount += bitCount;
+            bitCount = 0;
+            refillAtLeast(1);
+        }
+
+        // Count the number of remaining zeroes, the one bit being within the buffer
+        final int zeroBitsInBuffer = Long.numberOfTrailingZeros(bitBuffer);
+        bitBuffer >>>= zeroBitsInBuffer + 1;
+        bitCount -= zeroBitsInBuffer + 1;
+
+        return zeroBitCount + zeroBitsInBuffer;
+    }
+
+    /**
+     * Reads a Rice-coded value from the input stream.
+     *
+     * @param numFixedBits The number of bits used for the M parameter (ie. M is always a power of 2 of value 2<sup>numFixedBits</sup>)
+     * @return The Rice-coded value read from the input stream.
+     * @throws IOException If an underlying IOException occurs while reading from the stream
+     */
+    public int readRice(int numFixedBits) throws IOException {
+        refill();
+
+        // Is the whole code contained within the buffer?
+        if (bitBuffer != 0) {
+            final int q = Long.numberOfTrailingZeros(bitBuffer);
+            final int codeLength = q + 1 + numFixedBits;
+
+            if (codeLength <= bitCount) {
+                // Yes, decode it straight from the buffer
+                final int r = (int) ((bitBuffer >>> (q + 1)) & ((1L << numFixedBits) - 1));
+                bitBuffer >>>= codeLength;
+                bitCount -= codeLength;
+                return (q << numFixedBits) + r;
+            }
+        }
+
+        // No, decode the quotient and remainder separately
+        final int q = readUnary();
+        final int r = readBinary(numFixedBits);
+
+        return (q << numFixedBits) + r;
+    }
 
-            if (currentByte == -1)
+    /**
+     * Reads a binary value from the input stream.
+     *
+     * @param numBits The number of bits to read
+     * @return The value for the numBits read
+     * @throws IOException If an underlying IOException occurs while reading from the stream
+     */
+    public int readBinary(int numBits) throws IOException {
+        if (bitCount < numBits) {
+            refillAtLeast(numBits);
+        }
+
+        final int value = (int) (bitBuffer & ((1L << numBits) - 1));
+        bitBuffer >>>= numBits;
+        bitCount -= numBits;
+
+        return value;
+    }
+
+    /**
+     * Reads a Golomb-coded value from the input stream.
+     *
+     * @param code The Golomb code to use, which holds the M parameter
+     * @return The Golomb-coded value read from the input stream.
+     * @throws IOException If an underlying IOException occurs while reading from the stream
+     */
+    public int readGolomb(GolombCode code) throws IOException {
+        final int shortBits = code.shortBits;
+        final int cutoff = code.cutoff;
+        refill();
+
+        // Is the longest possible code contained within the buffer?
+        if (bitBuffer != 0) {
+            final int q = Long.numberOfTrailingZeros(bitBuffer);
+
+            if (q + 2 + shortBits <= bitCount) {
+                // Yes, decode it straight from the buffer
+                final long remainderBits = bitBuffer >>> (q + 1);
+                final int shortCode = (int) (remainderBits & ((1L << shortBits) - 1));
+                final int r;
+                final int codeLength;
+
+                if (shortCode < cutoff) {
+                    r = shortCode;
+                    codeLength = q + 1 + shortBits;
+                } else {
+                    final int lastBit = (int) (remainderBits >>> shortBits) & 1;
+                    r = shortCode + (-lastBit & code.longOffset);
+                    codeLength = q + 2 + shortBits;
+                }
+
+                bitBuffer >>>= codeLength;
+                bitCount -= codeLength;
+                return q * code.getDivisor() + r;
+            }
+        }
+
+        // No, decode the quotient and remainder separately
+        final int q = readUnary();
+        int r = readBinary(shortBits);
+
+        if (cutoff <= r && readBit()) {
+            r += code.longOffset;
+        }
+
+        return q * code.getDivisor() + r;
+    }
+
+    /**
+     * Reads a Huffman-coded symbol from the input stream.
+     *
+     * @param code The canonical Huffman code to use
+     * @return The symbol read from the input stream
+     * @throws IOException If an underlying IOException occurs while reading from the stream, or if the bits read
+     *                     are not a valid code
+     */
+    public int readHuffman(HuffmanCode code) throws IOException {
+        final int tableBits = code.tableBits;
+
+        // Buffer enough bits for a table lookup, unless the source ends before
+        if (bitCount < tableBits) {
+            ensureAvailable(tableBits);
+        }
+
+        final int entry = code.table[(int) (bitBuffer & ((1L << tableBits) - 1))];
+        final int codeLength = entry & 0xFF;
+
+        if (codeLength != 0) {
+            if (bitCount < codeLength)
                 throw new EOFException();
+
+            bitBuffer >>>= codeLength;
+            bitCount -= codeLength;
+            return entry >>> 8;
         }
 
-        int validBitsInCurrentByte = 8 - currentBitPosition;
-        int payloadBitsInCurrentByte = currentByte >> currentBitPosition;
-        int zeroBitsInCurrentByte = Integer.numberOfTrailingZeros(payloadBitsInCurrentByte);
+        // The code is longer than the table bits, look for its length among the longer codes using the canonical code
+        // ordering, codes of each length being consecutive
+        final int maxCodeLength = code.maxCodeLength;
+        if (bitCount < maxCodeLength) {
+            ensureAvailable(maxCodeLength);
+        }
 
-        // Are all bits in the current byte all zero?
-        if(zeroBitsInCurrentByte < validBitsInCurrentByte) {
-            // No, advance our bit pointer
-            currentBitPosition += zeroBitsInCurrentByte + 1;
-            return zeroBitsInCurrentByte;
-        } else {
-            int zeroBitCount = validBitsInCurrentByte;
+        // The next bits read as a code of the maximum length, the first bit read being the most significant one
+        final int bits = Integer.reverse((int) bitBuffer) >>> (32 - maxCodeLength);
 
-            // Read bytes that are all zeroes
-            currentByte = byteSource.readByte();
-            while(currentByte == 0) {
-                zeroBitCount += 8;
-                currentByte = byteSource.readByte();
+        for (int length = tableBits + 1; length <= maxCodeLength; ++length) {
+            final int codeOffset = (bits >>> (maxCodeLength - length)) - code.firstCodes[length];
 
-                if (currentByte == -1)
+            if (codeOffset < code.lengthCounts[length]) {
+                if (bitCount < length)
                     throw new EOFException();
+
+                bitBuffer >>>= length;
+                bitCount -= length;
+                return code.sortedSymbols[code.firstIndices[length] + codeOffset];
+            }
+        }
+
+        if (bitCount < maxCodeLength)
+            throw new EOFException();
+
+        throw new IOException("Invalid Huffman code");
+    }
+
+    /**
+     * Reads an Elias gamma-coded value from the input stream.
+     *
+     * @return The Elias gamma-coded value read from the input stream, which is strictly positive.
+     * @throws IOException If an underlying IOException occurs while reading from the stream
+     */
+    public int readEliasGamma() throws IOException {
+        refill();
+
+        // Is the whole code contained within the buffer?
+        if (bitBuffer != 0) {
+            final int n = Long.numberOfTrailingZeros(bitBuffer);
+            final int codeLength = n + 1 + n;
+
+            if (codeLength <= bitCount) {
+                // Yes, decode it straight from the buffer
+                final int r = (int) ((bitBuffer >>> (n + 1)) & ((1L << n) - 1));
+                bitBuffer >>>= codeLength;
+                bitCount -= codeLength;
+                return (1 << n) | r;
             }
+        }
 
-            // Count the number of remaining zeroes
-            zeroBitsInCurrentByte = Integer.numberOfTrailingZeros(currentByte);
-            zeroBitCount += zeroBitsInCurrentByte;
-            currentBitPosition = zeroBitsInCurrentByte + 1;
+        // No, decode the length and the low bits separately
+        final int n = readUnary();
+        return (1 << n) | readBinary(n);
+    }
 
-            return zeroBitCount;
+    /**
+     * Reads an Elias delta-coded value from the input stream.
+     *
+     * @return The Elias delta-coded value read from the input stream, which is strictly positive.
+     * @throws IOException If an underlying IOException occurs while reading from the stream
+     */
+    public int readEliasDelta() throws IOException {
+        refill();
+
+        // Is the gamma-coded length contained within the buffer?
+        if (bitBuffer != 0) {
+            final int lengthBits = Long.numberOfTrailingZeros(bitBuffer);
+            final int lengthCodeLength = lengthBits + 1 + lengthBits;
+
+            if (lengthCodeLength <= bitCount) {
+                final int n = ((1 << lengthBits) | (int) ((bitBuffer >>> (lengthBits + 1)) & ((1L << lengthBits) - 1))) - 1;
+                final int codeLength = lengthCodeLength + n;
+
+                // Is the rest of the code also contained within the buffer?
+                if (codeLength <= bitCount) {
+                    // Yes, decode it straight from the buffer
+                    final int r = (int) ((bitBuffer >>> lengthCodeLength) & ((1L << n) - 1));
+                    bitBuffer >>>= codeLength;
+                    bitCount -= codeLength;
+                    return (1 << n) | r;
+                }
+            }
         }
+
+        // No, decode the length and the low bits separately
+        final int n = readEliasGamma() - 1;
+        return (1 << n) | readBinary(n);
     }
 
     /**
-     * Reads a Rice-coded value from the input stream.
+     * Reads an Exp-Golomb-coded value of order k from the input stream.
      *
+     * @param order The order k of the code, at most 31.
+     * @return The Exp-Golomb-coded value read from the input stream.
+     * @throws IOException If an underlying IOException occurs while reading from the stream
+     */
+    public int readExpGolomb(int order) throws IOException {
+        return (int) readExpGolombLong(order);
+    }
+
+    /**
+     * Reads an Exp-Golomb-coded value of order k that may not fit in an int from the input stream.
+     *
+     * @param order The order k of the code, at most 62.
+     * @return The Exp-Golomb-coded value read from the input stream.
+     * @throws IOException If an underlying IOException occurs while reading from the stream
+     */
+    public long readExpGolombLong(int order) throws IOException {
+        refill();
+
+        // Is the whole code contained within the buffer?
+        if (bitBuffer != 0) {
+            final int q = Long.numberOfTrailingZeros(bitBuffer);
+            final int n = q + order;
+            final int codeLength = q + 1 + n;
+
+            if (codeLength <= bitCount) {
+                // Yes, decode it straight from the buffer
+                final long r = (bitBuffer >>> (q + 1)) & ((1L << n) - 1);
+                bitBuffer >>>= codeLength;
+                bitCount -= codeLength;
+                return ((1L << n) | r) - (1L << order);
+            }
+        }
+
+        // No, decode the length and the low bits separately
+        final int n = readUnary() + order;
+        return ((1L << n) | readLong(n)) - (1L << order);
+    }
+
+    /**
+     * Reads a block of unary-coded values from the input stream.
+     *
+     * @param values The array into which the values are read
+     * @param offset The offset in the array of the first value
+     * @param length The number of values to read
+     * @throws IOException If an underlying IOException occurs while reading from the stream
+     */
+    public void readUnary(int[] values, int offset, int length) throws IOException {
+        // A unary-coded value is a Rice-coded value without remainder
+        readRice(values, offset, length, 0);
+    }
+
+    /**
+     * Reads a block of Rice-coded values from the input stream. The bit buffer is kept in local variables for the
+     * whole block, so this is faster than calling {@link #readRice(int)} for each value.
+     *
+     * @param values       The array into which the values are read
+     * @param offset       The offset in the array of the first value
+     * @param length       The number of values to read
      * @param numFixedBits The number of bits used for the M parameter (ie. M is always a power of 2 of value 2<sup>numFixedBits</sup>)
+     * @throws IOException If an underlying IOException occurs while reading from the stream
+     */
+    public void readRice(int[] values, int offset, int length, int numFixedBits) throws IOException {
+        if (riceDecodingMode == RiceDecodingMode.LOOKUP_TABLE) {
+            final RiceDecodingTable table = RiceDecodingTable.forParameter(numFixedBits);
+
+            if (table != null) {
+                readRiceWithTable(values, offset, length, numFixedBits, table);
+                return;
+            }
+        }
+
+        final long remainderMask = (1L << numFixedBits) - 1;
+        final int end = offset + length;
+        long buffer = bitBuffer;
+        int count = bitCount;
+
+        for (int i = offset; i < end; ++i) {
+            if (count < 56) {
+                bitBuffer = buffer;
+                bitCount = count;
+                refill();
+                buffer = bitBuffer;
+                count = bitCount;
+            }
+
+            // Is the whole code contained within the buffer?
+            if (buffer != 0) {
+                final int q = Long.numberOfTrailingZeros(buffer);
+                final int codeLength = q + 1 + numFixedBits;
+
+                if (codeLength <= count) {
+                    // Yes, decode it straight from the buffer
+                    values[i] = (q << numFixedBits) + (int) ((buffer >>> (q + 1)) & remainderMask);
+                    buffer >>>= codeLength;
+                    count -= codeLength;
+                    continue;
+                }
+            }
+
+            // No, decode it the slow way
+            bitBuffer = buffer;
+            bitCount = count;
+            values[i] = readRice(numFixedBits);
+            buffer = bitBuffer;
+            count = bitCount;
+        }
+
+        bitBuffer = buffer;
+        bitCount = count;
+    }
+
+    /**
+     * Reads a block of Rice-coded values, decoding up to several values at a time using a lookup table.
+     */
+    private void readRiceWithTable(int[] values, int offset, int length, int numFixedBits, RiceDecodingTable table)
+            throws IOException {
+        final int[] entries = table.entries;
+        final short[] tableValues = table.values;
+        final int end = offset + length;
+        long buffer = bitBuffer;
+        int count = bitCount;
+        int i = offset;
+
+        while (i < end) {
+            if (count < 56) {
+                bitBuffer = buffer;
+                bitCount = count;
+                refill();
+                buffer = bitBuffer;
+                count = bitCount;
+            }
+
+            // Are there enough bits buffered for a table lookup?
+            if (RiceDecodingTable.TABLE_BITS <= count) {
+                final int pattern = (int) buffer & RiceDecodingTable.TABLE_MASK;
+                final int entry = entries[pattern];
+                final int valueCount = entry >>> 8;
+
+                // Yes, does the lookup yield values that all fit in the array?
+                if (valueCount != 0 && valueCount <= end - i) {
+                    // Yes, copy them and consume their codes
+                    final int tableOffset = pattern * RiceDecodingTable.MAX_VALUES_PER_ENTRY;
+                    for (int j = 0; j < valueCount; ++j) {
+                        values[i + j] = tableValues[tableOffset + j];
+                    }
+
+                    final int consumedBits = entry & 0xFF;
+                    buffer >>>= consumedBits;
+                    count -= consumedBits;
+                    i += valueCount;
+                    continue;
+                }
+            }
+
+            // No, decode a single value the slow way
+            bitBuffer = buffer;
+            bitCount = count;
+            values[i] = readRice(numFixedBits);
+            buffer = bitBuffer;
+            count = bitCount;
+            i++;
+        }
+
+        bitBuffer = buffer;
+        bitCount = count;
+    }
+
+    /**
+     * Reads a block of binary values, all of the same width, from the input stream. The bit buffer is kept in local
+     * variables for the whole block, so this is faster than calling {@link #readBinary(int)} for each value.
+     *
+     * @param values  The array into which the values are read
+     * @param offset  The offset in the array of the first value
+     * @param length  The number of values to read
+     * @param numBits The number of bits of each value
+     * @throws IOException If an underlying IOException occurs while reading from the stream
+     */
+    public void readBinary(int[] values, int offset, int length, int numBits) throws IOException {
+        final long mask = (1L << numBits) - 1;
+        final int end = offset + length;
+        long buffer = bitBuffer;
+        int count = bitCount;
+
+        for (int i = offset; i < end; ++i) {
+            if (count < numBits) {
+                bitBuffer = buffer;
+                bitCount = count;
+                refillAtLeast(numBits);
+                buffer = bitBuffer;
+                count = bitCount;
+            }
+
+            values[i] = (int) (buffer & mask);
+            buffer >>>= numBits;
+            count -= numBits;
+        }
+
+        bitBuffer = buffer;
+        bitCount = count;
+    }
+
+    /**
+     * Reads a unary-coded value that may not fit in an int from the input stream.
+     *
+     * @return A unary-coded value read from the input stream
+     * @throws IOException If an underlying IOException occurs while reading from the stream
+     */
+    public long readUnaryLong() throws IOException {
+        long zeroBitCount = 0;
+
+        // Discard buffers that are all zeroes
+        while (bitBuffer == 0) {
+            zeroBitCount += bitCount;
+            bitCount = 0;
+            refillAtLeast(1);
+        }
+
+        // Count the number of remaining zeroes, the one bit being within the buffer
+        final int zeroBitsInBuffer = Long.numberOfTrailingZeros(bitBuffer);
+        bitBuffer >>>= zeroBitsInBuffer + 1;
+        bitCount -= zeroBitsInBuffer + 1;
+
+        return zeroBitCount + zeroBitsInBuffer;
+    }
+
+    /**
+     * Reads a Rice-coded value that may not fit in an int from the input stream.
+     *
+     * @param numFixedBits The number of bits used for the M parameter (ie. M is always a power of 2 of value 2<sup>numFixedBits</sup>), at most 63
      * @return The Rice-coded value read from the input stream.
      * @throws IOException If an underlying IOException occurs while reading from the stream
      */
-    public int readRice(int numFixedBits) throws IOException {
-        int q = readUnary();
-        int r = readBinary(numFixedBits);
-        int m = 1 << numFixedBits;
+    public long readRiceLong(int numFixedBits) throws IOException {
+        refill();
+
+        // Is the whole code contained within the buffer?
+        if (bitBuffer != 0) {
+            final int q = Long.numberOfTrailingZeros(bitBuffer);
+            final int codeLength = q + 1 + numFixedBits;
+
+            if (codeLength <= bitCount) {
+                // Yes, decode it straight from the buffer
+                final long r = (bitBuffer >>> (q + 1)) & ((1L << numFixedBits) - 1);
+                bitBuffer >>>= codeLength;
+                bitCount -= codeLength;
+                return ((long) q << numFixedBits) + r;
+            }
+        }
+
+        // No, decode the quotient and remainder separately
+        final long q = readUnaryLong();
+        final long r = readLong(numFixedBits);
 
         return (q << numFixedBits) + r;
     }
 
     /**
-     * Reads a binary value from the input stream.
+     * Reads a binary value of up to 64 bits from the input stream.
      *
-     * @param numBits The number of bits to read
+     * @param numBits The number of bits to read, at most 64
      * @return The value for the numBits read
      * @throws IOException If an underlying IOException occurs while reading from the stream
      */
-    public int readBinary(int numBits) throws IOException {
-        // Is the current value completely contained within the current byte?
-        if (currentBitPosition + numBits <= 8) {
-            // Yes, just read the value
-            final int value = (currentByte >> currentBitPosition) & ((1 << numBits) - 1);
-            currentBitPosition += numBits;
-            return value;
-        } else {
-            int value = 0;
+    public long readLong(int numBits) throws IOException {
+        if (bitCount < numBits) {
+            refillAtLeast(Math.min(numBits, 56));
 
-            // Read the bits remaining in the current byte
-            final int bitsLeftInCurrentByte = 8 - currentBitPosition;
-            value |= (currentByte >> currentBitPosition) & ((1 << bitsLeftInCurrentByte) - 1);
+            // Are there still not enough bits buffered, as the value is wider than what a refill guarantees?
+            if (bitCount < numBits) {
+                // Yes, take all the buffered bits and the remaining ones after another refill
+                final long lowBits = bitBuffer;
+                final int lowBitCount = bitCount;
+                final int highBitCount = numBits - lowBitCount;
+                bitBuffer = 0;
+                bitCount = 0;
+                refillAtLeast(highBitCount);
 
-            // Compute the number of bytes to read
-            final int bitsRemainingToRead = numBits - bitsLeftInCurrentByte;
-            final int bytesToRead = bitsRemainingToRead / 8;
+                final long highBits = bitBuffer & ((1L << highBitCount) - 1);
+                bitBuffer >>>= highBitCount;
+                bitCount -= highBitCount;
 
-            // Read whole bytes in
-            for (int i = 0; i < bytesToRead; ++i) {
-                final int offset = (i * 8 + bitsLeftInCurrentByte);
-                value |= byteSource.readByte() << offset;
+                return lowBits | (highBits << lowBitCount);
             }
+        }
+
+        final long value = bitBuffer & ((1L << numBits) - 1);
+        bitBuffer >>>= numBits;
+        bitCount -= numBits;
 
-            // Read remaining bits
-            final int trailingBitCount = bitsRemainingToRead % 8;
-            if (trailingBitCount != 0) {
-                currentByte = byteSource.readByte();
-                value |= (currentByte & ((1 << trailingBitCount) - 1)) << (bytesToRead * 8 + bitsLeftInCurrentByte);
-                currentBitPosition = trailingBitCount;
-            } else {
-                currentBitPosition = 8;
+        return value;
+    }
+
+    /**
+     * Returns the next bits of the input stream without consuming them, so that they are returned again by the next
+     * read.
+     *
+     * Lookahead is limited to the bits that fit in the bit buffer along with a partially consumed byte, so at most 56
+     * bits can be looked at; table decoders index their tables with fewer bits than that.
+     *
+     * @param numBits The number of bits to look at, between 0 and 56
+     * @return The value of the next numBits bits
+     * @throws IOException If an underlying IOException occurs while reading from the stream, or if fewer than
+     *                     numBits bits remain
+     */
+    public long peekBits(int numBits) throws IOException {
+        if (numBits < 0 || 56 < numBits)
+            throw new IllegalArgumentException("Cannot look at more than 56 bits, got " + numBits);
+
+        if (bitCount < numBits) {
+            refillAtLeast(numBits);
+        }
+
+        return bitBuffer & ((1L << numBits) - 1);
+    }
+
+    /**
+     * Skips over a number of bits. When reading from byte buffers, skipping moves straight to the new position
+     * regardless of the number of bits skipped. Otherwise, the whole bytes past the buffered ones are skipped using
+     * {@link ByteSource#skip(long)}, which avoids reading them for byte sources that can change their position.
+     *
+     * @param numBits The number of bits to skip
+     * @throws IOException If an underlying IOException occurs while reading from the stream, or if fewer than
+     *                     numBits bits remain
+     */
+    public void skipBits(long numBits) throws IOException {
+        if (numBits < 0)
+            throw new IllegalArgumentException("Cannot skip a negative number of bits, got " + numBits);
+
+        // Are the bits to skip all buffered?
+        if (numBits <= bitCount) {
+            // Yes, just drop them
+            bitBuffer >>>= numBits;
+            bitCount -= (int) numBits;
+            return;
+        }
+
+        if (byteSource == null) {
+            seek(bitPosition() + numBits);
+            return;
+        }
+
+        // Drop the buffered bits, then the whole bytes to skip, then the bits that precede the new position
+        final long bitsToSkip = numBits - bitCount;
+        bitBuffer = 0;
+        bitCount = 0;
+
+        final long bytesToSkip = bitsToSkip >>> 3;
+        final int bytesInWindow = windowLimit - windowPosition;
+        if (bytesToSkip <= bytesInWindow) {
+            windowPosition += (int) bytesToSkip;
+        } else {
+            // Skip the rest of the window, then the remaining bytes in the byte source
+            windowPosition = windowLimit;
+            final long bytesToSkipInSource = bytesToSkip - bytesInWindow;
+            final long bytesSkipped = endOfSourceReached ? 0 : byteSource.skip(bytesToSkipInSource);
+            windowOffset += bytesSkipped;
+
+            if (bytesSkipped < bytesToSkipInSource) {
+                endOfSourceReached = true;
+                throw new EOFException();
             }
+        }
 
-            return value;
+        final int bitsToDiscard = (int) (bitsToSkip & 7);
+        if (bitsToDiscard != 0) {
+            readBinary(bitsToDiscard);
         }
     }
 
@@ -175,15 +858,124 @@ public class BitSource {
      * Discards the remaining bits in the current byte, if any, and starts reading from a byte boundary.
      */
     public void realignToByteBoundary() {
-        if (currentBitPosition != 0)
-            currentBitPosition = 8;
+        // Bytes are always buffered whole, so the bits of the current byte are the odd bits in the buffer
+        final int bitsLeftInCurrentByte = bitCount & 7;
+        bitBuffer >>>= bitsLeftInCurrentByte;
+        bitCount -= bitsLeftInCurrentByte;
     }
 
     /**
-     * Resets the source state, forcing it to read a byte on the next operation.
+     * Resets the source state, discarding the remaining bits of the current byte so that the next read starts at the
+     * following byte. Bytes that are already buffered are kept, whatever the source being read from.
      */
     public void resetState() {
-        currentBitPosition = 8;
+        realignToByteBoundary();
+    }
+
+    /**
+     * Returns the strategy used to decode blocks of Rice-coded and unary-coded values.
+     *
+     * @return The decoding mode
+     */
+    public RiceDecodingMode getRiceDecodingMode() {
+        return riceDecodingMode;
+    }
+
+    /**
+     * Selects the strategy used to decode blocks of Rice-coded and unary-coded values, which defaults to
+     * {@link RiceDecodingMode#TRAILING_ZEROS}.
+     *
+     * @param riceDecodingMode The decoding mode to use for subsequent block reads
+     */
+    public void setRiceDecodingMode(RiceDecodingMode riceDecodingMode) {
+        this.riceDecodingMode = riceDecodingMode;
+    }
+
+    /**
+     * Returns the position of the next bit to be read, counted from the beginning of the stream. When reading from a
+     * byte buffer, the beginning of the stream is the position of the buffer when the bit source was constructed or
+     * reset, and when reading from a byte array, it is the first byte of the range being read.
+     *
+     * @return The number of bits read so far
+     */
+    public long bitPosition() {
+        return (windowOffset + windowPosition) * 8 - bitCount;
+    }
+
+    /**
+     * Moves to an arbitrary bit position, so that the next bit read is the one at that position. Seeking is only
+     * supported when reading from byte buffers or byte arrays.
+     *
+     * @param bitPosition The position of the next bit to read, counted from the beginning of the stream
+     * @throws IOException If the position is past the end of the stream
+     * @throws UnsupportedOperationException If the bit source reads from a byte source
+     */
+    public void seek(long bitPosition) throws IOException {
+        if (byteSource != null)
+            throw new UnsupportedOperationException("Seeking is only supported when reading from byte buffers or arrays");
+
+        if (bitPosition < 0)
+            throw new IllegalArgumentException("Cannot seek to negative bit position " + bitPosition);
+
+        final long windowIndex = (bitPosition >>> 3) - windowOffset;
+        if (windowIndex < 0 || windowLimit < windowIndex)
+            throw new EOFException("Cannot seek to bit position " + bitPosition + " outside of the buffer");
+
+        bitBuffer = 0;
+        bitCount = 0;
+        windowPosition = (int) windowIndex;
+
+        // Discard the bits that precede the position within its byte
+        final int bitsToDiscard = (int) (bitPosition & 7);
+        if (bitsToDiscard != 0) {
+            readBinary(bitsToDiscard);
+        }
+    }
+
+    /**
+     * Switches reading to the bytes between the position and the limit of a byte buffer. Bits that are already
+     * buffered are kept, so that switching to the next buffer of a stream split over several buffers is seamless.
+     *
+     * @param buffer The buffer to read from
+     * @param offset The offset in the stream, in bytes, of the first byte of the buffer (index 0, regardless of the
+     *               position of the buffer)
+     */
+    protected final void setBuffer(ByteBuffer buffer, long offset) {
+        this.byteSource = null;
+        this.window = sourceWindow;
+        useBuffer(buffer, offset);
+        suppliedBuffers = true;
+    }
+
+    /**
+     * Returns whether this bit source reads from buffers supplied by a subclass through
+     * {@link #setBuffer(ByteBuffer, long)}, rather than from a source of bytes it was reset to.
+     *
+     * @return true if the subclass supplies the buffers being read from
+     */
+    protected final boolean readsSuppliedBuffers() {
+        return suppliedBuffers;
+    }
+
+    private void useBuffer(ByteBuffer buffer, long offset) {
+        suppliedBuffers = false;
+        this.buffer = buffer;
+        this.bufferIsBigEndian = buffer.order() == ByteOrder.BIG_ENDIAN;
+        this.windowOffset = offset;
+        this.windowPosition = buffer.position();
+        this.windowLimit = buffer.limit();
+    }
+
+    /**
+     * Called once the current byte buffer has been entirely read, to continue reading from the next one. The default
+     * implementation does nothing, the end of the buffer being the end of the stream.
+     *
+     * @return true if reading continues from a buffer set using {@link #setBuffer(ByteBuffer, long)}, false if the
+     *         end of the stream has been reached
+     * @throws IOException If an IOException occurs while obtaining the next buffer
+     */
+    protected boolean nextBuffer() throws IOException {
+        return false;
     }
 
     /**
@@ -193,28 +985,179 @@ public class BitSource {
      * @throws IOException If reading the byte caused an IOException
      */
     public int readByte() throws IOException {
+        return readBinary(8);
+    }
+
+    /**
+     * Reads whole bytes into an array. If the stream is aligned on a byte boundary, the bytes are copied in bulk and
+     * read straight from the underlying byte source once the buffered bytes are exhausted.
+     *
+     * @param buffer The array into which the bytes are read
+     * @param offset The offset in the array at which the bytes are written
+     * @param length The number of bytes to read
+     * @return The number of bytes read, which is only smaller than length if the end of the stream has been reached,
+     *         or -1 if the end of the stream was reached before any byte could be read
+     * @throws IOException If an underlying IOException occurs while reading from the stream
+     */
+    public int readBytes(byte[] buffer, int offset, int length) throws IOException {
+        int bytesRead = 0;
+
         // Are we byte aligned?
-        if (currentBitPosition % 8 == 0) {
-            // Do we need to read in a byte?
-            if (currentBitPosition == 8) {
-                // Yes, read one and return it
-                return byteSource.readByte();
-            } else {
-                // No, return the byte we have and set the current bit position so we read a byte the next time we read.
-                currentBitPosition = 8;
-                return currentByte;
+        if ((bitCount & 7) == 0) {
+            // Yes, copy the bytes in the bit buffer, then the ones in the window
+            while (bitCount != 0 && bytesRead < length) {
+                buffer[offset + bytesRead] = (byte) bitBuffer;
+                bitBuffer >>>= 8;
+                bitCount -= 8;
+                bytesRead++;
+            }
+
+            while (bytesRead < length) {
+                final int bytesFromWindow = Math.min(windowLimit - windowPosition, length - bytesRead);
+                if (this.buffer == null) {
+                    System.arraycopy(window, windowPosition, buffer, offset + bytesRead, bytesFromWindow);
+                } else {
+                    for (int i = 0; i < bytesFromWindow; ++i) {
+                        buffer[offset + bytesRead + i] = this.buffer.get(windowPosition + i);
+                    }
+                }
+                windowPosition += bytesFromWindow;
+                bytesRead += bytesFromWindow;
+
+                // Read the rest straight from the byte source, unless reading from byte buffers
+                if (this.buffer != null) {
+                    if (bytesRead == length || !suppliedBuffers || !nextBuffer())
+                        break;
+                } else {
+                    while (bytesRead < length && !endOfSourceReached) {
+                        final int bytesFromSource = byteSource.read(buffer, offset + bytesRead, length - bytesRead);
+
+                        if (bytesFromSource == -1) {
+                            endOfSourceReached = true;
+                        } else {
+                            windowOffset += bytesFromSource;
+                            bytesRead += bytesFromSource;
+                        }
+                    }
+                    break;
+                }
             }
         } else {
-            // Read remaining bits in current byte
-            final int bitsInCurrentByte = 8 - currentBitPosition;
-            final int bitsInNextByte = currentBitPosition;
-            int value = (currentByte >> currentBitPosition) & ((1 << bitsInCurrentByte) - 1);
+            // No, assemble each byte from the bit buffer
+            while (bytesRead < length && ensureAvailable(8)) {
+                buffer[offset + bytesRead] = (byte) bitBuffer;
+                bitBuffer >>>= 8;
+                bitCount -= 8;
+                bytesRead++;
+            }
+        }
 
-            // Read in a new byte and the remaining bits that we need to read
-            currentByte = byteSource.readByte();
-            value |= (currentByte & ((1 << bitsInNextByte) - 1)) << bitsInCurrentByte;
+        if (bytesRead == 0 && length != 0)
+            return -1;
 
-            return value;
+        return bytesRead;
+    }
+
+    /**
+     * Refills the bit buffer, throwing an EOFException if fewer than the requested number of bits could be buffered.
+     *
+     * @param numBits The minimum number of bits that need to be buffered, at most 56
+     * @throws IOException If an underlying IOException occurs while reading from the stream
+     */
+    private void refillAtLeast(int numBits) throws IOException {
+        // More bits would never fit in the bit buffer, which would read the whole source before failing
+        if (56 < numBits)
+            throw new IllegalArgumentException("Cannot buffer more than 56 bits, got " + numBits);
+
+        if (!ensureAvailable(numBits))
+            throw new EOFException();
+    }
+
+    /**
+     * Refills the bit buffer, reading from the byte source if the bytes in the window do not contain enough bits.
+     *
+     * @param numBits The minimum number of bits that need to be buffered, at most 56
+     * @return true if at least numBits are buffered, false if the end of the source was reached before
+     * @throws IOException If an underlying IOException occurs while reading from the stream
+     */
+    private boolean ensureAvailable(int numBits) throws IOException {
+        refill();
+
+        // The window is exhausted if there are still not enough bits after a refill
+        while (bitCount < numBits) {
+            if (!fillWindow())
+                return false;
+
+            refill();
         }
+
+        return true;
+    }
+
+    /**
+     * Moves as many whole bytes as fit in the bit buffer from the window into the bit buffer, without reading from
+     * the byte source.
+     */
+    private void refill() {
+        if (windowLimit - windowPosition >= 8) {
+            // Load eight bytes at once and keep the ones that fit
+            final int bytesToRead = (63 - bitCount) >>> 3;
+            final long word = buffer == null ? readLongLittleEndian(window, windowPosition) : readBufferLong();
+            bitBuffer |= (word & ((1L << (bytesToRead << 3)) - 1)) << bitCount;
+            bitCount += bytesToRead << 3;
+            windowPosition += bytesToRead;
+        } else {
+            while (bitCount <= 55 && windowPosition < windowLimit) {
+                final byte byteValue = buffer == null ? window[windowPosition] : buffer.get(windowPosition);
+                bitBuffer |= (byteValue & 0xFFL) << bitCount;
+                bitCount += 8;
+                windowPosition++;
+            }
+        }
+    }
+
+    /**
+     * Reads a block of bytes from the byte source into the window if it is empty, or moves on to the next byte buffer.
+     *
+     * @return false if the end of the source has been reached
+     * @throws IOException If an underlying IOException occurs while reading from the stream
+     */
+    private boolean fillWindow() throws IOException {
+        if (windowPosition < windowLimit)
+            return true;
+
+        if (buffer != null)
+            return suppliedBuffers && nextBuffer();
+
+        if (endOfSourceReached)
+            return false;
+
+        final int bytesRead = byteSource.read(window, 0, window.length);
+
+        if (bytesRead == -1) {
+            endOfSourceReached = true;
+            return false;
+        }
+
+        windowOffset += windowLimit;
+        windowPosition = 0;
+        windowLimit = bytesRead;
+        return true;
+    }
+
+    private long readBufferLong() {
+        final long word = buffer.getLong(windowPosition);
+        return bufferIsBigEndian ? Long.reverseBytes(word) : word;
+    }
+
+    private static long readLongLittleEndian(byte[] array, int offset) {
+        return (array[offset] & 0xFFL)
+                | (array[offset + 1] & 0xFFL) << 8
+                | (array[offset + 2] & 0xFFL) << 16
+                | (array[offset + 3] & 0xFFL) << 24
+                | (array[offset + 4] & 0xFFL) << 32
+                | (array[offset + 5] & 0xFFL) << 40
+                | (array[offset + 6] & 0xFFL) << 48
+                | (array[offset + 7] & 0xFFL) << 56;
     }
 }
@@ -0,0 +1,150 @@
+/*
+ BitIO: A library for bit-oriented input/output.
+ Copyright (C) 2009-2011 Jean-Francois Im
+
+ This file is part of BitIO.
+
+ BitIO is free software: you can redistribute it and/or modify
+ it under the terms of the GNU Lesser General Public License as published by
+ the Free Software Foundation, either version 3 of the License, or
+ (at your option) any later version.
+
+ BitIO is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ GNU Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public License
+ along with BitIO.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package im.jeanfrancois.bitio;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Byte source that reads from an input stream through an internal buffer, so
+ * that the input stream is only called once per block of bytes.
+ * <p>
+ * This byte source is meant for callers that read single bytes or small runs
+ * through the byte-level API. A {@link BitSource} already reads into its own
+ * window, so it should read from an {@link InputStreamByteSource} instead, as
+ * {@link BitInputStream} does, rather than copy every byte a second time.
+ *
+ * @author jfim
+ */
+public class BufferedInputStreamByteSource implements ByteSource {
+    /**
+     * Default size of the internal buffer, in bytes.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    private InputStream inputStream;
+    private final byte[] buffer;
+    private int position;
+    private int limit;
+
+    /**
+     * Constructs a byte source that reads from an input stream using a buffer of the default size.
+     *
+     * @param inputStream The input stream to read from
+     */
+    public BufferedInputStreamByteSource(InputStream inputStream) {
+        this(inputStream, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Constructs a byte source that reads from an input stream using a buffer of a given size.
+     *
+     * @param inputStream The input stream to read from
+     * @param bufferSize  The size of the internal buffer, in bytes
+     */
+    public BufferedInputStreamByteSource(InputStream inputStream, int bufferSize) {
+        this(inputStream, new byte[bufferSize]);
+    }
+
+    /**
+     * Constructs a byte source that reads from an input stream using a buffer supplied by the caller, which allows
+     * reusing the same buffer across multiple byte sources. The buffer must not be used by anything else while this
+     * byte source is in use.
+     *
+     * @param inputStream The input stream to read from
+     * @param buffer      The buffer into which bytes are read from the input stream
+     */
+    public BufferedInputStreamByteSource(InputStream inputStream, byte[] buffer) {
+        if (buffer.length == 0)
+            throw new IllegalArgumentException("Buffer size must be greater than zero");
+
+        this.inputStream = inputStream;
+        this.buffer = buffer;
+    }
+
+    /**
+     * Points this byte source at a new input stream, discarding any buffered bytes, and keeping the same buffer.
+     *
+     * @param inputStream The input stream to read from
+     */
+    public void reset(InputStream inputStream) {
+        this.inputStream = inputStream;
+        position = 0;
+        limit = 0;
+    }
+
+    @Override
+    public int readByte() throws IOException {
+        if (position == limit && !fillBuffer())
+            throw new EOFException();
+
+        final int readValue = buffer[position] & 0xFF;
+        position++;
+
+        return readValue;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        if (length == 0)
+            return 0;
+
+        // Are there buffered bytes left?
+        if (position == limit) {
+            // No, read large requests straight from the input stream
+            if (this.buffer.length <= length)
+                return inputStream.read(buffer, offset, length);
+
+            if (!fillBuffer())
+                return -1;
+        }
+
+        final int bytesRead = Math.min(limit - position, length);
+        System.arraycopy(this.buffer, position, buffer, offset, bytesRead);
+        position += bytesRead;
+
+        return bytesRead;
+    }
+
+    @Override
+    public long skip(long count) throws IOException {
+        // Skip the buffered bytes first, then the input stream
+        final int bytesSkipped = (int) Math.min(limit - position, count);
+        position += bytesSkipped;
+
+        if (bytesSkipped == count)
+            return count;
+
+        return bytesSkipped + InputStreamByteSource.skip(inputStream, count - bytesSkipped);
+    }
+
+    private boolean fillBuffer() throws IOException {
+        final int bytesRead = inputStream.read(buffer, 0, buffer.length);
+
+        if (bytesRead == -1)
+            return false;
+
+        position = 0;
+        limit = bytesRead;
+        return true;
+    }
+}
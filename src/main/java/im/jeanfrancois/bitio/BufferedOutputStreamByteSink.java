@@ -0,0 +1,135 @@
+/*
+ BitIO: A library for bit-oriented input/output.
+ Copyright (C) 2009-2011 Jean-Francois Im
+
+ This file is part of BitIO.
+
+ BitIO is free software: you can redistribute it and/or modify
+ it under the terms of the GNU Lesser General Public License as published by
+ the Free Software Foundation, either version 3 of the License, or
+ (at your option) any later version.
+
+ BitIO is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ GNU Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public License
+ along with BitIO.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package im.jeanfrancois.bitio;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Byte sink that writes into an output stream through an internal buffer, so
+ * that the output stream is only called once per block of bytes.
+ * <p>
+ * This byte sink is meant for callers that write single bytes or small runs
+ * through the byte-level API. A {@link BitSink} already gathers bytes into its
+ * own block, so it should write into an {@link OutputStreamByteSink} instead,
+ * as {@link BitOutputStream} does, rather than copy every byte a second time.
+ *
+ * @author jfim
+ */
+public class BufferedOutputStreamByteSink implements ByteSink {
+    /**
+     * Default size of the internal buffer, in bytes.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    private OutputStream outputStream;
+    private final byte[] buffer;
+    private int length;
+
+    /**
+     * Constructs a byte sink that writes into an output stream using a buffer of the default size.
+     *
+     * @param outputStream The output stream to write into
+     */
+    public BufferedOutputStreamByteSink(OutputStream outputStream) {
+        this(outputStream, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Constructs a byte sink that writes into an output stream using a buffer of a given size.
+     *
+     * @param outputStream The output stream to write into
+     * @param bufferSize   The size of the internal buffer, in bytes
+     */
+    public BufferedOutputStreamByteSink(OutputStream outputStream, int bufferSize) {
+        this(outputStream, new byte[bufferSize]);
+    }
+
+    /**
+     * Constructs a byte sink that writes into an output stream using a buffer supplied by the caller, which allows
+     * reusing the same buffer across multiple byte sinks. The buffer must not be used by anything else until this
+     * byte sink has been flushed.
+     *
+     * @param outputStream The output stream to write into
+     * @param buffer       The buffer in which bytes are accumulated before being written to the output stream
+     */
+    public BufferedOutputStreamByteSink(OutputStream outputStream, byte[] buffer) {
+        if (buffer.length == 0)
+            throw new IllegalArgumentException("Buffer size must be greater than zero");
+
+        this.outputStream = outputStream;
+        this.buffer = buffer;
+    }
+
+    /**
+     * Points this byte sink at a new output stream, discarding any bytes that have not been flushed yet, and keeping
+     * the same buffer.
+     *
+     * @param outputStream The output stream to write into
+     */
+    public void reset(OutputStream outputStream) {
+        this.outputStream = outputStream;
+        length = 0;
+    }
+
+    @Override
+    public void writeByte(int byteValue) throws IOException {
+        if (length == buffer.length) {
+            writeBuffer();
+        }
+
+        buffer[length] = (byte) byteValue;
+        length++;
+    }
+
+    @Override
+    public void write(byte[] buffer, int offset, int length) throws IOException {
+        // Do the bytes fit in the buffer?
+        if (length <= this.buffer.length - this.length) {
+            // Yes, just copy them
+            System.arraycopy(buffer, offset, this.buffer, this.length, length);
+            this.length += length;
+        } else {
+            // No, write the buffered bytes and either buffer the new ones or write them directly if there are many
+            writeBuffer();
+
+            if (length < this.buffer.length) {
+                System.arraycopy(buffer, offset, this.buffer, 0, length);
+                this.length = length;
+            } else {
+                outputStream.write(buffer, offset, length);
+            }
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writeBuffer();
+        outputStream.flush();
+    }
+
+    private void writeBuffer() throws IOException {
+        if (length > 0) {
+            outputStream.write(buffer, 0, length);
+            length = 0;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ BitIO: A library for bit-oriented input/output.
+ Copyright (C) 2009-2011 Jean-Francois Im
+
+ This file is part of BitIO.
+
+ BitIO is free software: you can redistribute it and/or modify
+ it under the terms of the GNU Lesser General Public License as published by
+ the Free Software Foundation, either version 3 of the License, or
+ (at your option) any later version.
+
+ BitIO is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ GNU Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public License
+ along with BitIO.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package im.jeanfrancois.bitio;
+
+import java.io.EOFException;
+import java.io.IOException;
+
+/**
+ * Byte source that reads from a range of a byte array, without copying it.
+ * <p>
+ * Bit sources reading from a byte array should rather be constructed using
+ * {@link BitSource#BitSource(byte[], int, int)}, which reads eight bytes at a
+ * time straight from the array.
+ *
+ * @author jfim
+ */
+public class ByteArrayByteSource implements ByteSource {
+    private final byte[] bytes;
+    private int position;
+    private final int limit;
+
+    /**
+     * Constructs a byte source that reads an entire byte array.
+     *
+     * @param bytes The array to read from
+     */
+    public ByteArrayByteSource(byte[] bytes) {
+        this(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Constructs a byte source that reads a range of a byte array.
+     *
+     * @param bytes  The array to read from
+     * @param offset The offset of the first byte to read in the array
+     * @param length The number of bytes to read
+     */
+    public ByteArrayByteSource(byte[] bytes, int offset, int length) {
+        if (offset < 0 || length < 0 || bytes.length - offset < length)
+            throw new IndexOutOfBoundsException("Invalid range of " + length + " bytes at offset " + offset);
+
+        this.bytes = bytes;
+        this.position = offset;
+        this.limit = offset + length;
+    }
+
+    @Override
+    public int readByte() throws IOException {
+        if (position == limit)
+            throw new EOFException();
+
+        return bytes[position++] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        if (length == 0)
+            return 0;
+
+        final int bytesRead = Math.min(limit - position, length);
+
+        if (bytesRead == 0)
+            return -1;
+
+        System.arraycopy(bytes, position, buffer, offset, bytesRead);
+        position += bytesRead;
+        return bytesRead;
+    }
+
+    @Override
+    public long skip(long count) throws IOException {
+        final int bytesSkipped = (int) Math.min(limit - position, count);
+        position += bytesSkipped;
+        return bytesSkipped;
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ BitIO: A library for bit-oriented input/output.
+ Copyright (C) 2009-2011 Jean-Francois Im
+
+ This file is part of BitIO.
+
+ BitIO is free software: you can redistribute it and/or modify
+ it under the terms of the GNU Lesser General Public License as published by
+ the Free Software Foundation, either version 3 of the License, or
+ (at your option) any later version.
+
+ BitIO is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ GNU Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public License
+ along with BitIO.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package im.jeanfrancois.bitio;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Byte sink that writes into a byte buffer, which may be a heap or a direct
+ * buffer. Writing advances the position of the buffer, and writing more bytes
+ * than remain in the buffer throws a
+ * {@link java.nio.BufferOverflowException}.
+ *
+ * @author jfim
+ */
+public class ByteBufferByteSink implements ByteSink {
+    private final ByteBuffer buffer;
+
+    public ByteBufferByteSink(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    @Override
+    public void writeByte(int byteValue) throws IOException {
+        buffer.put((byte) byteValue);
+    }
+
+    @Override
+    public void write(byte[] buffer, int offset, int length) throws IOException {
+        this.buffer.put(buffer, offset, length);
+    }
+}
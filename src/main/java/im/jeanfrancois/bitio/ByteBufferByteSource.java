@@ -0,0 +1,72 @@
+/*
+ BitIO: A library for bit-oriented input/output.
+ Copyright (C) 2009-2011 Jean-Francois Im
+
+ This file is part of BitIO.
+
+ BitIO is free software: you can redistribute it and/or modify
+ it under the terms of the GNU Lesser General Public License as published by
+ the Free Software Foundation, either version 3 of the License, or
+ (at your option) any later version.
+
+ BitIO is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ GNU Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public License
+ along with BitIO.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package im.jeanfrancois.bitio;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Byte source that reads from the remaining bytes of a byte buffer, which may
+ * be a heap or a direct buffer. Reading advances the position of the buffer.
+ * <p>
+ * Bit sources reading from a byte buffer should rather be constructed using
+ * {@link BitSource#BitSource(ByteBuffer)}, which reads eight bytes at a time
+ * straight from the buffer.
+ *
+ * @author jfim
+ */
+public class ByteBufferByteSource implements ByteSource {
+    private final ByteBuffer buffer;
+
+    public ByteBufferByteSource(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    @Override
+    public int readByte() throws IOException {
+        if (!buffer.hasRemaining())
+            throw new EOFException();
+
+        return buffer.get() & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        if (length == 0)
+            return 0;
+
+        final int bytesRead = Math.min(this.buffer.remaining(), length);
+
+        if (bytesRead == 0)
+            return -1;
+
+        this.buffer.get(buffer, offset, bytesRead);
+        return bytesRead;
+    }
+
+    @Override
+    public long skip(long count) throws IOException {
+        final int bytesSkipped = (int) Math.min(buffer.remaining(), count);
+        buffer.position(buffer.position() + bytesSkipped);
+        return bytesSkipped;
+    }
+}
@@ -36,4 +36,29 @@ public interface ByteSink {
      * @throws IOException Thrown if the underlying sink throws an IOException.
      */
     void writeByte(int byteValue) throws IOException;
+
+    /**
+     * Writes length bytes from an array to the underlying sink. The default
+     * implementation writes the bytes one at a time using
+     * {@link #writeByte(int)}.
+     *
+     * @param buffer The array containing the bytes to write
+     * @param offset The offset of the first byte to write in the array
+     * @param length The number of bytes to write
+     * @throws IOException Thrown if the underlying sink throws an IOException.
+     */
+    default void write(byte[] buffer, int offset, int length) throws IOException {
+        for (int i = 0; i < length; ++i) {
+            writeByte(buffer[offset + i] & 0xFF);
+        }
+    }
+
+    /**
+     * Writes any bytes buffered by this sink to its underlying destination. The
+     * default implementation does nothing.
+     *
+     * @throws IOException Thrown if the underlying sink throws an IOException.
+     */
+    default void flush() throws IOException {
+    }
 }
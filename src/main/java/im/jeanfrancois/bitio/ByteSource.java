@@ -20,6 +20,7 @@
 
 package im.jeanfrancois.bitio;
 
+import java.io.EOFException;
 import java.io.IOException;
 
 /**
@@ -35,4 +36,62 @@ public interface ByteSource {
      * @throws IOException Thrown if the underlying source throws an IOException.
      */
     int readByte() throws IOException;
+
+    /**
+     * Reads up to length bytes from the underlying source into an array. This
+     * method blocks until at least one byte is available, the end of the source
+     * is reached or an exception is thrown. The default implementation reads a
+     * single byte using {@link #readByte()}.
+     *
+     * @param buffer The array into which the bytes are read
+     * @param offset The offset in the array at which the bytes are written
+     * @param length The maximum number of bytes to read
+     * @return The number of bytes read, or -1 if the end of the source has been reached
+     * @throws IOException Thrown if the underlying source throws an IOException.
+     */
+    default int read(byte[] buffer, int offset, int length) throws IOException {
+        if (length == 0)
+            return 0;
+
+        final int byteValue;
+
+        try {
+            byteValue = readByte();
+        } catch (EOFException e) {
+            return -1;
+        }
+
+        if (byteValue == -1)
+            return -1;
+
+        buffer[offset] = (byte) byteValue;
+        return 1;
+    }
+
+    /**
+     * Skips over up to count bytes of the underlying source. Fewer bytes are
+     * only skipped if the end of the source is reached. The default
+     * implementation reads and discards the bytes using
+     * {@link #read(byte[], int, int)} into a shared scratch array, so it does
+     * not allocate; sources that can change their position should override it.
+     *
+     * @param count The number of bytes to skip
+     * @return The number of bytes skipped
+     * @throws IOException Thrown if the underlying source throws an IOException.
+     */
+    default long skip(long count) throws IOException {
+        final byte[] discardedBytes = SkipBuffer.DISCARDED_BYTES;
+        long bytesSkipped = 0;
+
+        while (bytesSkipped < count) {
+            final int bytesRead = read(discardedBytes, 0, (int) Math.min(count - bytesSkipped, discardedBytes.length));
+
+            if (bytesRead == -1)
+                break;
+
+            bytesSkipped += bytesRead;
+        }
+
+        return bytesSkipped;
+    }
 }
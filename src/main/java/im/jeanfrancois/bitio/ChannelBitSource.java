@@ -0,0 +1,194 @@
+/*
+ BitIO: A library for bit-oriented input/output.
+ Copyright (C) 2009-2011 Jean-Francois Im
+
+ This file is part of BitIO.
+
+ BitIO is free software: you can redistribute it and/or modify
+ it under the terms of the GNU Lesser General Public License as published by
+ the Free Software Foundation, either version 3 of the License, or
+ (at your option) any later version.
+
+ BitIO is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ GNU Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public License
+ along with BitIO.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package im.jeanfrancois.bitio;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SeekableByteChannel;
+
+/**
+ * Bit source that reads from a channel through a direct buffer, so that bytes
+ * go from the channel to the bit buffer without being copied into a heap
+ * array. The buffer can be supplied by the caller and the bit source pointed
+ * at another channel using {@link #reset(ReadableByteChannel)}, so that both
+ * can be reused; this class does not pool buffers itself, which is left to
+ * the caller. Like any bit source, it can also be reset to read from another
+ * source of bytes.
+ * <p>
+ * Seeking is supported within the bytes that are buffered, anywhere in
+ * seekable channels such as {@link java.nio.channels.FileChannel}, which are
+ * repositioned instead of read through, and forward in other channels.
+ * Channels must be in blocking mode.
+ *
+ * @author jfim
+ */
+public class ChannelBitSource extends BitSource {
+    /**
+     * Default size of the buffer, in bytes.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 65536;
+
+    private ReadableByteChannel channel;
+    private final ByteBuffer buffer;
+
+    /**
+     * Offset in the stream, in bytes, of the first byte of the buffer.
+     */
+    private long bufferOffset;
+
+    /**
+     * Position of seekable channels at which the stream starts.
+     */
+    private long channelStart;
+
+    /**
+     * Constructs a bit source that reads from a channel through a direct buffer of the default size.
+     *
+     * @param channel The channel to read from, starting at its current position
+     * @throws IOException If an IOException occurs while obtaining the position of the channel
+     */
+    public ChannelBitSource(ReadableByteChannel channel) throws IOException {
+        this(channel, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Constructs a bit source that reads from a channel through a direct buffer of a given size.
+     *
+     * @param channel    The channel to read from, starting at its current position
+     * @param bufferSize The size of the buffer, in bytes
+     * @throws IOException If an IOException occurs while obtaining the position of the channel
+     */
+    public ChannelBitSource(ReadableByteChannel channel, int bufferSize) throws IOException {
+        this(channel, ByteBuffer.allocateDirect(bufferSize));
+    }
+
+    /**
+     * Constructs a bit source that reads from a channel through a buffer supplied by the caller, which allows reusing
+     * the same buffer across multiple bit sources. The buffer must not be used by anything else while this bit source
+     * is in use, and its byte order is set to little endian.
+     *
+     * @param channel The channel to read from, starting at its current position
+     * @param buffer  The buffer into which bytes are read from the channel, preferably a direct buffer
+     * @throws IOException If an IOException occurs while obtaining the position of the channel
+     */
+    public ChannelBitSource(ReadableByteChannel channel, ByteBuffer buffer) throws IOException {
+        if (buffer.capacity() < 8)
+            throw new IllegalArgumentException("Buffer size must be at least 8 bytes");
+
+        this.buffer = buffer.order(ByteOrder.LITTLE_ENDIAN);
+        init(channel);
+    }
+
+    /**
+     * Points this bit source at a new channel, discarding any buffered bits and bytes, and keeping the same buffer.
+     * Reading restarts at bit position 0, which is the current position of the channel.
+     *
+     * @param channel The channel to read from
+     * @throws IOException If an IOException occurs while obtaining the position of the channel
+     */
+    public void reset(ReadableByteChannel channel) throws IOException {
+        init(channel);
+    }
+
+    /**
+     * Points this bit source at a channel, without calling methods that subclasses may override, as it is also called
+     * by the constructor.
+     */
+    private void init(ReadableByteChannel channel) throws IOException {
+        this.channel = channel;
+        this.channelStart = channel instanceof SeekableByteChannel ? ((SeekableByteChannel) channel).position() : 0;
+        this.bufferOffset = 0;
+        buffer.clear();
+        buffer.limit(0);
+
+        // Discard the buffered bits, then read from the channel through the empty buffer
+        super.reset(buffer);
+        setBuffer(buffer, 0);
+    }
+
+    /**
+     * Moves to an arbitrary bit position. Positions outside of the buffered bytes are reached by repositioning
+     * seekable channels, or by reading forward through other channels.
+     *
+     * @param bitPosition The position of the next bit to read, counted from the beginning of the stream
+     * @throws IOException If the position is past the end of the channel, or if an IOException occurs while reading
+     *                     from the channel
+     * @throws UnsupportedOperationException If the position precedes the buffered bytes of a channel that is not
+     *                                       seekable
+     */
+    @Override
+    public void seek(long bitPosition) throws IOException {
+        if (!readsSuppliedBuffers()) {
+            super.seek(bitPosition);
+            return;
+        }
+
+        if (bitPosition < 0)
+            throw new IllegalArgumentException("Cannot seek to negative bit position " + bitPosition);
+
+        final long byteIndex = bitPosition >>> 3;
+
+        if (byteIndex < bufferOffset || bufferOffset + buffer.limit() < byteIndex) {
+            if (channel instanceof SeekableByteChannel) {
+                final SeekableByteChannel seekableChannel = (SeekableByteChannel) channel;
+                if (seekableChannel.size() - channelStart < byteIndex)
+                    throw new EOFException("Cannot seek to bit position " + bitPosition + " past the end of the channel");
+
+                seekableChannel.position(channelStart + byteIndex);
+                bufferOffset = byteIndex;
+                buffer.clear();
+                buffer.limit(0);
+                setBuffer(buffer, bufferOffset);
+                nextBuffer();
+            } else if (bufferOffset < byteIndex) {
+                while (bufferOffset + buffer.limit() < byteIndex) {
+                    if (!nextBuffer())
+                        throw new EOFException("Cannot seek to bit position " + bitPosition + " past the end of the channel");
+                }
+            } else {
+                throw new UnsupportedOperationException("Cannot seek backwards in a channel that is not seekable");
+            }
+        }
+
+        super.seek(bitPosition);
+    }
+
+    @Override
+    protected boolean nextBuffer() throws IOException {
+        final int limit = buffer.limit();
+        buffer.clear();
+
+        final int bytesRead = channel.read(buffer);
+        if (bytesRead <= 0) {
+            // Nothing was read from a blocking channel, which is the end of the channel, so keep the current bytes
+            buffer.limit(limit);
+            return false;
+        }
+
+        buffer.flip();
+        bufferOffset += limit;
+        setBuffer(buffer, bufferOffset);
+        return true;
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ BitIO: A library for bit-oriented input/output.
+ Copyright (C) 2009-2011 Jean-Francois Im
+
+ This file is part of BitIO.
+
+ BitIO is free software: you can redistribute it and/or modify
+ it under the terms of the GNU Lesser General Public License as published by
+ the Free Software Foundation, either version 3 of the License, or
+ (at your option) any later version.
+
+ BitIO is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ GNU Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public License
+ along with BitIO.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package im.jeanfrancois.bitio;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Byte sink that writes into a channel through a direct buffer, so that the
+ * channel is only called once per buffer of bytes and the bytes are not copied
+ * again into a temporary direct buffer by the channel. Runs of bytes from a
+ * file can be written using
+ * {@link #transferFrom(FileChannel, long, long)}, which lets the operating
+ * system copy them without going through the buffer; a {@link BitSink}
+ * writing into this byte sink does so for runs written at a byte boundary
+ * using {@link BitSink#writeBytes(FileChannel, long, long)}.
+ * <p>
+ * Channels must be in blocking mode.
+ *
+ * @author jfim
+ */
+public class ChannelByteSink implements ByteSink {
+    /**
+     * Default size of the buffer, in bytes.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 65536;
+
+    private WritableByteChannel channel;
+    private final ByteBuffer buffer;
+
+    /**
+     * Constructs a byte sink that writes into a channel through a direct buffer of the default size.
+     *
+     * @param channel The channel to write into
+     */
+    public ChannelByteSink(WritableByteChannel channel) {
+        this(channel, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Constructs a byte sink that writes into a channel through a direct buffer of a given size.
+     *
+     * @param channel    The channel to write into
+     * @param bufferSize The size of the buffer, in bytes
+     */
+    public ChannelByteSink(WritableByteChannel channel, int bufferSize) {
+        this(channel, ByteBuffer.allocateDirect(bufferSize));
+    }
+
+    /**
+     * Constructs a byte sink that writes into a channel through a buffer supplied by the caller, which allows reusing
+     * the same buffer across multiple byte sinks. The buffer must not be used by anything else until this byte sink
+     * has been flushed.
+     *
+     * @param channel The channel to write into
+     * @param buffer  The buffer in which bytes are accumulated before being written to the channel, preferably a
+     *                direct buffer
+     */
+    public ChannelByteSink(WritableByteChannel channel, ByteBuffer buffer) {
+        if (buffer.capacity() == 0)
+            throw new IllegalArgumentException("Buffer size must be greater than zero");
+
+        this.channel = channel;
+        this.buffer = buffer;
+        buffer.clear();
+    }
+
+    /**
+     * Points this byte sink at a new channel, discarding any bytes that have not been flushed yet, and keeping the
+     * same buffer.
+     *
+     * @param channel The channel to write into
+     */
+    public void reset(WritableByteChannel channel) {
+        this.channel = channel;
+        buffer.clear();
+    }
+
+    @Override
+    public void writeByte(int byteValue) throws IOException {
+        if (!buffer.hasRemaining()) {
+            writeBuffer();
+        }
+
+        buffer.put((byte) byteValue);
+    }
+
+    @Override
+    public void write(byte[] buffer, int offset, int length) throws IOException {
+        while (length > 0) {
+            if (!this.buffer.hasRemaining()) {
+                writeBuffer();
+            }
+
+            final int bytesToCopy = Math.min(this.buffer.remaining(), length);
+            this.buffer.put(buffer, offset, bytesToCopy);
+            offset += bytesToCopy;
+            length -= bytesToCopy;
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writeBuffer();
+    }
+
+    /**
+     * Writes a run of bytes from a file into the channel using {@link FileChannel#transferTo(long, long,
+     * WritableByteChannel)}, after writing the bytes buffered so far. When writing through a {@link BitSink}, use
+     * {@link BitSink#writeBytes(FileChannel, long, long)} instead, which writes the bits held by the bit sink first;
+     * calling this method directly requires the bit sink to be realigned to a byte boundary and flushed first, so that
+     * the bytes end up after the bits written before.
+     *
+     * @param source   The file to copy bytes from
+     * @param position The position of the first byte to copy in the file
+     * @param count    The number of bytes to copy
+     * @throws IOException If the file ends before count bytes are copied, if the channel accepts no bytes, or if an
+     *                     IOException occurs while reading from the file or writing to the channel
+     */
+    public void transferFrom(FileChannel source, long position, long count) throws IOException {
+        writeBuffer();
+
+        while (count > 0) {
+            final long bytesTransferred = source.transferTo(position, count, channel);
+
+            // Nothing is transferred either at the end of the file or into a channel that is not blocking
+            if (bytesTransferred == 0 && source.size() <= position)
+                throw new EOFException("Cannot transfer bytes past the end of the file");
+            if (bytesTransferred == 0)
+                throw new IOException("Channel accepted no bytes, channels must be in blocking mode");
+
+            position += bytesTransferred;
+            count -= bytesTransferred;
+        }
+    }
+
+    private void writeBuffer() throws IOException {
+        buffer.flip();
+
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+
+        buffer.clear();
+    }
+}
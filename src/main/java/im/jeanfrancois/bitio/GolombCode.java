@@ -0,0 +1,145 @@
+/*
+ BitIO: A library for bit-oriented input/output.
+ Copyright (C) 2009-2011 Jean-Francois Im
+
+ This file is part of BitIO.
+
+ BitIO is free software: you can redistribute it and/or modify
+ it under the terms of the GNU Lesser General Public License as published by
+ the Free Software Foundation, either version 3 of the License, or
+ (at your option) any later version.
+
+ BitIO is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ GNU Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public License
+ along with BitIO.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package im.jeanfrancois.bitio;
+
+/**
+ * Precomputed constants for Golomb coding with an arbitrary divisor M, which
+ * unlike Rice coding does not need to be a power of two. A value n is coded
+ * as the quotient n / M in unary, followed by the remainder in truncated
+ * binary, which uses one bit less for the smallest remainders when M is not a
+ * power of two. When M is a power of two, the codes are identical to Rice
+ * codes.
+ * <p>
+ * Instances are immutable and meant to be created once per divisor, as the
+ * quotient is computed by multiplying with a precomputed reciprocal instead
+ * of dividing.
+ *
+ * @author jfim
+ */
+public class GolombCode {
+    private final int divisor;
+
+    /**
+     * Reciprocal of the divisor, scaled by 2<sup>reciprocalShift</sup> and rounded up, which gives the exact
+     * quotient for any value between 0 and 2<sup>31</sup>-1.
+     */
+    private final long reciprocal;
+    private final int reciprocalShift;
+
+    /**
+     * Number of bits of the short remainder codes, one less than the number of bits of the long ones.
+     */
+    final int shortBits;
+
+    /**
+     * Remainders smaller than the cutoff use short codes.
+     */
+    final int cutoff;
+
+    /**
+     * Difference between the remainders whose long code ends with a one bit and their short bits.
+     */
+    final int longOffset;
+
+    /**
+     * Constructs the Golomb code for a given divisor.
+     *
+     * @param divisor The M parameter, which must be at least 1
+     */
+    public GolombCode(int divisor) {
+        if (divisor < 1)
+            throw new IllegalArgumentException("Golomb divisor must be at least 1, got " + divisor);
+
+        this.divisor = divisor;
+
+        // Number of bits of the long remainder codes, ie. ceil(log2(divisor))
+        final int remainderBits = 32 - Integer.numberOfLeadingZeros(divisor - 1);
+
+        this.reciprocalShift = 31 + remainderBits;
+        this.reciprocal = ((1L << reciprocalShift) + divisor - 1) / divisor;
+
+        if (remainderBits == 0) {
+            // M=1 has no remainder bits at all
+            this.shortBits = 0;
+            this.cutoff = 1;
+            this.longOffset = 0;
+        } else {
+            final int half = 1 << (remainderBits - 1);
+            this.shortBits = remainderBits - 1;
+            this.cutoff = (1 << remainderBits) - divisor;
+            this.longOffset = half - cutoff;
+        }
+    }
+
+    /**
+     * Returns the divisor of this code.
+     *
+     * @return The M parameter
+     */
+    public int getDivisor() {
+        return divisor;
+    }
+
+    /**
+     * Computes value / M without dividing.
+     *
+     * @param value A value, which must be positive
+     * @return The quotient
+     */
+    int quotient(int value) {
+        return (int) ((value * reciprocal) >>> reciprocalShift);
+    }
+
+    /**
+     * Computes the bits of the truncated binary code of a remainder, to be written least significant bit first.
+     *
+     * @param remainder The remainder, smaller than M
+     * @return The code bits
+     */
+    int remainderCode(int remainder) {
+        if (remainder < cutoff + longOffset) {
+            return remainder;
+        } else {
+            return (remainder - longOffset) | (1 << shortBits);
+        }
+    }
+
+    /**
+     * Computes the length of the truncated binary code of a remainder.
+     *
+     * @param remainder The remainder, smaller than M
+     * @return The code length, in bits
+     */
+    int remainderCodeLength(int remainder) {
+        return remainder < cutoff ? shortBits : shortBits + 1;
+    }
+
+    /**
+     * Computes the number of bits used to code a value.
+     *
+     * @param value A value, which must be positive
+     * @return The length of the Golomb code for the value, in bits
+     */
+    public long codeLength(int value) {
+        final int q = quotient(value);
+        return q + 1L + remainderCodeLength(value - q * divisor);
+    }
+}
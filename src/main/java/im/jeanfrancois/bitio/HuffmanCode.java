@@ -0,0 +1,366 @@
+/*
+ BitIO: A library for bit-oriented input/output.
+ Copyright (C) 2009-2011 Jean-Francois Im
+
+ This file is part of BitIO.
+
+ BitIO is free software: you can redistribute it and/or modify
+ it under the terms of the GNU Lesser General Public License as published by
+ the Free Software Foundation, either version 3 of the License, or
+ (at your option) any later version.
+
+ BitIO is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ GNU Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public License
+ along with BitIO.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package im.jeanfrancois.bitio;
+
+import im.jeanfrancois.bitio.util.BitIOUtils;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Canonical Huffman code over the symbols 0 to n-1. Canonical codes are fully
+ * determined by the code length of each symbol: codes of the same length are
+ * consecutive integers assigned in symbol order, shorter codes first. Only the
+ * code lengths therefore need to be stored alongside the coded data, which
+ * {@link #writeCodeLengths(BitSink)} does in a compact header.
+ * <p>
+ * Codes are written most significant bit first, so that they are prefix codes
+ * in the order bits are read. Decoding uses a table indexed by the next bits
+ * of the input, which resolves codes of up to {@link #TABLE_BITS} bits in a
+ * single lookup.
+ *
+ * @author jfim
+ */
+public class HuffmanCode {
+    /**
+     * Longest code length supported.
+     */
+    public static final int MAX_CODE_LENGTH = 24;
+
+    /**
+     * Longest code length used by {@link #fromFrequencies(long[])}.
+     */
+    public static final int DEFAULT_MAX_CODE_LENGTH = 15;
+
+    /**
+     * Largest number of symbols supported.
+     */
+    public static final int MAX_SYMBOL_COUNT = 1 << 23;
+
+    /**
+     * Largest number of bits resolved by a single decoding table lookup.
+     */
+    public static final int TABLE_BITS = 11;
+
+    private final int[] codeLengths;
+
+    /**
+     * Code of each symbol, with its bits reversed so that it can be written LSB first.
+     */
+    final int[] reversedCodes;
+
+    /**
+     * Number of bits used to index the decoding table.
+     */
+    final int tableBits;
+
+    /**
+     * Decoding table, holding the symbol shifted left by 8 and the code length in the low byte, or 0 for codes
+     * longer than the table bits.
+     */
+    final int[] table;
+
+    /**
+     * Length of the longest code.
+     */
+    final int maxCodeLength;
+
+    /**
+     * Number of codes of each length.
+     */
+    final int[] lengthCounts;
+
+    /**
+     * Symbols sorted by code length, then by symbol.
+     */
+    final int[] sortedSymbols;
+
+    /**
+     * For each code length, the first code of that length and the index in {@link #sortedSymbols} of its symbol.
+     */
+    final int[] firstCodes;
+    final int[] firstIndices;
+
+    /**
+     * Constructs the canonical Huffman code for a set of code lengths.
+     *
+     * @param codeLengths The code length of each symbol, 0 for symbols that have no code, at most
+     *                    {@link #MAX_CODE_LENGTH}
+     */
+    public HuffmanCode(int[] codeLengths) {
+        if (codeLengths.length > MAX_SYMBOL_COUNT)
+            throw new IllegalArgumentException("Too many symbols, got " + codeLengths.length);
+
+        this.codeLengths = codeLengths.clone();
+
+        int maxLength = 0;
+        lengthCounts = new int[MAX_CODE_LENGTH + 1];
+        for (int symbol = 0; symbol < codeLengths.length; ++symbol) {
+            final int length = codeLengths[symbol];
+
+            if (length < 0 || MAX_CODE_LENGTH < length)
+                throw new IllegalArgumentException("Invalid code length " + length + " for symbol " + symbol);
+
+            lengthCounts[length]++;
+            maxLength = Math.max(maxLength, length);
+        }
+        lengthCounts[0] = 0;
+
+        if (maxLength == 0)
+            throw new IllegalArgumentException("At least one symbol must have a code");
+
+        // Check that the codes fit in the code space, ie. that the code is a prefix code
+        long codeSpace = 0;
+        for (int length = 1; length <= maxLength; ++length) {
+            codeSpace += (long) lengthCounts[length] << (maxLength - length);
+        }
+        if (codeSpace > 1L << maxLength)
+            throw new IllegalArgumentException("Code lengths do not form a prefix code");
+
+        maxCodeLength = maxLength;
+
+        // Assign consecutive codes to the symbols of each length, and sort the symbols the same way
+        final int[] nextCodes = new int[maxLength + 2];
+        final int[] nextIndices = new int[maxLength + 2];
+        for (int length = 1; length <= maxLength; ++length) {
+            nextCodes[length + 1] = (nextCodes[length] + lengthCounts[length]) << 1;
+            nextIndices[length + 1] = nextIndices[length] + lengthCounts[length];
+        }
+        firstCodes = nextCodes.clone();
+        firstIndices = nextIndices.clone();
+
+        reversedCodes = new int[codeLengths.length];
+        sortedSymbols = new int[nextIndices[maxLength + 1]];
+        for (int symbol = 0; symbol < codeLengths.length; ++symbol) {
+            final int length = codeLengths[symbol];
+
+            if (length != 0) {
+                reversedCodes[symbol] = Integer.reverse(nextCodes[length]++) >>> (32 - length);
+                sortedSymbols[nextIndices[length]++] = symbol;
+            }
+        }
+
+        // Fill the decoding table, each code occupying all the entries that start with its bits
+        tableBits = Math.min(maxLength, TABLE_BITS);
+        table = new int[1 << tableBits];
+        for (int symbol = 0; symbol < codeLengths.length; ++symbol) {
+            final int length = codeLengths[symbol];
+
+            if (length != 0 && length <= tableBits) {
+                for (int index = reversedCodes[symbol]; index < table.length; index += 1 << length) {
+                    table[index] = symbol << 8 | length;
+                }
+            }
+        }
+    }
+
+    /**
+     * Constructs the canonical Huffman code for a set of symbol frequencies, with codes of at most
+     * {@link #DEFAULT_MAX_CODE_LENGTH} bits.
+     *
+     * @param frequencies The frequency of each symbol, symbols with a frequency of 0 having no code
+     * @return The Huffman code for the symbol frequencies
+     */
+    public static HuffmanCode fromFrequencies(long[] frequencies) {
+        return fromFrequencies(frequencies, DEFAULT_MAX_CODE_LENGTH);
+    }
+
+    /**
+     * Constructs the canonical Huffman code for a set of symbol frequencies. If the optimal code has codes longer
+     * than the maximum code length, these are shortened and other codes lengthened until the code fits.
+     *
+     * @param frequencies   The frequency of each symbol, symbols with a frequency of 0 having no code
+     * @param maxCodeLength The longest code length allowed, at most {@link #MAX_CODE_LENGTH}
+     * @return The Huffman code for the symbol frequencies
+     */
+    public static HuffmanCode fromFrequencies(final long[] frequencies, int maxCodeLength) {
+        if (maxCodeLength < 1 || MAX_CODE_LENGTH < maxCodeLength)
+            throw new IllegalArgumentException("Invalid maximum code length " + maxCodeLength);
+
+        // Sort the symbols that occur by increasing frequency
+        int symbolCount = 0;
+        for (long frequency : frequencies) {
+            if (frequency < 0)
+                throw new IllegalArgumentException("Invalid frequency " + frequency);
+            if (frequency > 0)
+                symbolCount++;
+        }
+
+        if (symbolCount == 0)
+            throw new IllegalArgumentException("At least one symbol must have a non-zero frequency");
+        if (symbolCount > 1L << maxCodeLength)
+            throw new IllegalArgumentException(symbolCount + " symbols do not fit in codes of " + maxCodeLength + " bits");
+
+        final Integer[] symbols = new Integer[symbolCount];
+        for (int symbol = 0, i = 0; symbol < frequencies.length; ++symbol) {
+            if (frequencies[symbol] > 0)
+                symbols[i++] = symbol;
+        }
+        Arrays.sort(symbols, new Comparator<Integer>() {
+            @Override
+            public int compare(Integer first, Integer second) {
+                return Long.compare(frequencies[first], frequencies[second]);
+            }
+        });
+
+        final int[] codeLengths = new int[frequencies.length];
+        if (symbolCount == 1) {
+            codeLengths[symbols[0]] = 1;
+            return new HuffmanCode(codeLengths);
+        }
+
+        // Build the tree by merging the two lightest nodes, which are either the next leaves or the next internal
+        // nodes as internal nodes are created in order of increasing weight
+        final int nodeCount = 2 * symbolCount - 1;
+        final long[] weights = new long[nodeCount];
+        final int[] parents = new int[nodeCount];
+        for (int i = 0; i < symbolCount; ++i) {
+            weights[i] = frequencies[symbols[i]];
+        }
+
+        int nextLeaf = 0;
+        int nextNode = symbolCount;
+        for (int node = symbolCount; node < nodeCount; ++node) {
+            for (int child = 0; child < 2; ++child) {
+                final int lightest;
+                if (nextLeaf < symbolCount && (nextNode == node || weights[nextLeaf] <= weights[nextNode])) {
+                    lightest = nextLeaf++;
+                } else {
+                    lightest = nextNode++;
+                }
+
+                parents[lightest] = node;
+                weights[node] += weights[lightest];
+            }
+        }
+
+        // The code length of each leaf is its depth, the root being the last node
+        final int[] depths = new int[nodeCount];
+        for (int node = nodeCount - 2; node >= 0; --node) {
+            depths[node] = depths[parents[node]] + 1;
+        }
+
+        for (int i = 0; i < symbolCount; ++i) {
+            codeLengths[symbols[i]] = depths[i];
+        }
+
+        limitCodeLengths(codeLengths, symbols, maxCodeLength);
+        return new HuffmanCode(codeLengths);
+    }
+
+    /**
+     * Shortens codes that are longer than the maximum code length, then lengthens the longest codes that are still
+     * shorter than the maximum until all codes fit in the code space again.
+     */
+    private static void limitCodeLengths(int[] codeLengths, Integer[] symbolsByFrequency, int maxCodeLength) {
+        long codeSpace = 0;
+        for (Integer symbol : symbolsByFrequency) {
+            codeLengths[symbol] = Math.min(codeLengths[symbol], maxCodeLength);
+            codeSpace += 1L << (maxCodeLength - codeLengths[symbol]);
+        }
+
+        // Symbols are sorted by increasing frequency, so the least frequent codes are lengthened first
+        while (codeSpace > 1L << maxCodeLength) {
+            int lengthened = -1;
+            for (Integer symbol : symbolsByFrequency) {
+                if (codeLengths[symbol] < maxCodeLength
+                        && (lengthened == -1 || codeLengths[symbol] > codeLengths[lengthened])) {
+                    lengthened = symbol;
+                }
+            }
+
+            codeLengths[lengthened]++;
+            codeSpace -= 1L << (maxCodeLength - codeLengths[lengthened]);
+        }
+    }
+
+    /**
+     * Returns the number of symbols of this code, including those that have no code.
+     *
+     * @return The number of symbols
+     */
+    public int getSymbolCount() {
+        return codeLengths.length;
+    }
+
+    /**
+     * Returns the code length of a symbol.
+     *
+     * @param symbol The symbol
+     * @return The number of bits of the code of the symbol, or 0 if the symbol has no code
+     */
+    public int codeLength(int symbol) {
+        return codeLengths[symbol];
+    }
+
+    /**
+     * Writes the code lengths of this code, from which it can be rebuilt with {@link #readCodeLengths(BitSource)}.
+     * The number of symbols is written Elias delta-coded, followed by the ZigZag-encoded difference between the code
+     * length of each symbol and the previous one, as order 0 Exp-Golomb codes. Runs of equal code lengths therefore
+     * take one bit per symbol.
+     *
+     * @param bitSink The bit sink to write into
+     * @throws IOException If an underlying IOException occurs while writing to the stream
+     */
+    public void writeCodeLengths(BitSink bitSink) throws IOException {
+        bitSink.writeEliasDelta(codeLengths.length);
+
+        int previousLength = 0;
+        for (int length : codeLengths) {
+            bitSink.writeExpGolomb(BitIOUtils.encodeAsZigZag(length - previousLength), 0);
+            previousLength = length;
+        }
+    }
+
+    /**
+     * Reads code lengths written by {@link #writeCodeLengths(BitSink)} and builds the corresponding code.
+     *
+     * @param bitSource The bit source to read from
+     * @return The Huffman code for the code lengths read
+     * @throws IOException If an underlying IOException occurs while reading from the stream, or if the number of
+     *                     symbols or the code lengths read are invalid
+     */
+    public static HuffmanCode readCodeLengths(BitSource bitSource) throws IOException {
+        // Check the symbol count before allocating, as a corrupt stream could claim billions of symbols
+        final int symbolCount = bitSource.readEliasDelta();
+        if (symbolCount <= 0 || MAX_SYMBOL_COUNT < symbolCount)
+            throw new IOException("Invalid Huffman code symbol count " + symbolCount);
+
+        final int[] codeLengths = new int[symbolCount];
+
+        int previousLength = 0;
+        for (int symbol = 0; symbol < codeLengths.length; ++symbol) {
+            previousLength += BitIOUtils.decodeZigZag(bitSource.readExpGolomb(0));
+            if (previousLength < 0 || MAX_CODE_LENGTH < previousLength)
+                throw new IOException("Invalid code length " + previousLength + " for symbol " + symbol);
+
+            codeLengths[symbol] = previousLength;
+        }
+
+        // Lengths that do not form a prefix code, or that give no symbol a code, are corrupt as well
+        try {
+            return new HuffmanCode(codeLengths);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Invalid Huffman code lengths", e);
+        }
+    }
+}
@@ -30,12 +30,21 @@ import java.io.InputStream;
  * @author jfim
  */
 public class InputStreamByteSource implements ByteSource {
-    private final InputStream inputStream;
+    private InputStream inputStream;
 
     public InputStreamByteSource(InputStream inputStream) {
         this.inputStream = inputStream;
     }
 
+    /**
+     * Points this byte source at a new input stream.
+     *
+     * @param inputStream The input stream to read from
+     */
+    public void reset(InputStream inputStream) {
+        this.inputStream = inputStream;
+    }
+
     @Override
     public int readByte() throws IOException {
         final int readValue = inputStream.read();
@@ -45,4 +54,43 @@ public class InputStreamByteSource implements ByteSource {
 
         return readValue;
     }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        return inputStream.read(buffer, offset, length);
+    }
+
+    @Override
+    public long skip(long count) throws IOException {
+        return skip(inputStream, count);
+    }
+
+    /**
+     * Skips over bytes of an input stream using {@link InputStream#skip(long)}, which may skip fewer bytes than
+     * requested before the end of the stream.
+     *
+     * @param inputStream The input stream to skip bytes of
+     * @param count       The number of bytes to skip
+     * @return The number of bytes skipped, which is only smaller than count if the end of the stream was reached
+     * @throws IOException If the input stream throws an IOException
+     */
+    static long skip(InputStream inputStream, long count) throws IOException {
+        long bytesSkipped = 0;
+
+        while (bytesSkipped < count) {
+            final long skipped = inputStream.skip(count - bytesSkipped);
+
+            if (skipped > 0) {
+                bytesSkipped += skipped;
+            } else {
+                // Nothing was skipped, which may or may not be the end of the stream, so read a byte to find out
+                if (inputStream.read() == -1)
+                    break;
+
+                bytesSkipped++;
+            }
+        }
+
+        return bytesSkipped;
+    }
 }
@@ -0,0 +1,136 @@
+/*
+ BitIO: A library for bit-oriented input/output.
+ Copyright (C) 2009-2011 Jean-Francois Im
+
+ This file is part of BitIO.
+
+ BitIO is free software: you can redistribute it and/or modify
+ it under the terms of the GNU Lesser General Public License as published by
+ the Free Software Foundation, either version 3 of the License, or
+ (at your option) any later version.
+
+ BitIO is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ GNU Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public License
+ along with BitIO.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package im.jeanfrancois.bitio;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Bit source that reads from a memory-mapped file, allowing random access to
+ * any bit of the file using {@link #seek(long)}. Files larger than what a
+ * single {@link MappedByteBuffer} can address are mapped as several
+ * consecutive segments.
+ * <p>
+ * Like any bit source, a mapped file bit source can be reset to read from
+ * another source of bytes, after which it no longer reads from its file.
+ *
+ * @author jfim
+ */
+public class MappedFileBitSource extends BitSource {
+    /**
+     * Default size of the mapped segments, in bytes.
+     */
+    public static final int DEFAULT_SEGMENT_SIZE = 1 << 30;
+
+    private final MappedByteBuffer[] segments;
+    private final int segmentSize;
+    private int currentSegment;
+
+    /**
+     * Constructs a bit source that maps an entire file. The file is closed once mapped, as the mapping stays valid
+     * until it is garbage collected.
+     *
+     * @param path The path of the file to map
+     * @throws IOException If an IOException occurs while mapping the file
+     */
+    public MappedFileBitSource(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            this.segmentSize = DEFAULT_SEGMENT_SIZE;
+            this.segments = map(channel, DEFAULT_SEGMENT_SIZE);
+        }
+
+        setBuffer(segments[0], 0);
+    }
+
+    /**
+     * Constructs a bit source that maps the entire contents of a file channel.
+     *
+     * @param channel The file channel to map, which can be closed once this bit source is constructed
+     * @throws IOException If an IOException occurs while mapping the file
+     */
+    public MappedFileBitSource(FileChannel channel) throws IOException {
+        this(channel, DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Constructs a bit source that maps the entire contents of a file channel using segments of a given size.
+     *
+     * @param channel     The file channel to map, which can be closed once this bit source is constructed
+     * @param segmentSize The size of each mapped segment, in bytes
+     * @throws IOException If an IOException occurs while mapping the file
+     */
+    public MappedFileBitSource(FileChannel channel, int segmentSize) throws IOException {
+        if (segmentSize <= 0)
+            throw new IllegalArgumentException("Segment size must be greater than zero");
+
+        this.segmentSize = segmentSize;
+        this.segments = map(channel, segmentSize);
+
+        setBuffer(segments[0], 0);
+    }
+
+    @Override
+    public void seek(long bitPosition) throws IOException {
+        if (!readsSuppliedBuffers()) {
+            super.seek(bitPosition);
+            return;
+        }
+
+        if (bitPosition < 0)
+            throw new IllegalArgumentException("Cannot seek to negative bit position " + bitPosition);
+
+        // Positions at the end of a segment are read from the following segment, if there is one
+        final int segment = (int) Math.min((bitPosition >>> 3) / segmentSize, segments.length - 1);
+
+        if (segment != currentSegment) {
+            currentSegment = segment;
+            setBuffer(segments[segment], (long) segment * segmentSize);
+        }
+
+        super.seek(bitPosition);
+    }
+
+    @Override
+    protected boolean nextBuffer() {
+        if (currentSegment == segments.length - 1)
+            return false;
+
+        currentSegment++;
+        setBuffer(segments[currentSegment], (long) currentSegment * segmentSize);
+        return true;
+    }
+
+    private static MappedByteBuffer[] map(FileChannel channel, int segmentSize) throws IOException {
+        final long size = channel.size();
+        final int segmentCount = (int) Math.max(1, (size + segmentSize - 1) / segmentSize);
+        final MappedByteBuffer[] segments = new MappedByteBuffer[segmentCount];
+
+        for (int i = 0; i < segmentCount; ++i) {
+            final long segmentOffset = (long) i * segmentSize;
+            segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, segmentOffset, Math.min(segmentSize, size - segmentOffset));
+        }
+
+        return segments;
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ BitIO: A library for bit-oriented input/output.
+ Copyright (C) 2009-2011 Jean-Francois Im
+
+ This file is part of BitIO.
+
+ BitIO is free software: you can redistribute it and/or modify
+ it under the terms of the GNU Lesser General Public License as published by
+ the Free Software Foundation, either version 3 of the License, or
+ (at your option) any later version.
+
+ BitIO is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ GNU Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public License
+ along with BitIO.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package im.jeanfrancois.bitio;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Byte sink that accumulates bytes in memory, in a heap or a direct buffer
+ * that grows as needed. The bytes written can be accessed in place through
+ * {@link #asByteBuffer()} or written to a channel with
+ * {@link #writeTo(WritableByteChannel)}, and the sink can be cleared and
+ * reused without releasing its memory.
+ *
+ * @author jfim
+ */
+public class MemoryByteSink implements ByteSink {
+    /**
+     * Default initial capacity, in bytes.
+     */
+    public static final int DEFAULT_INITIAL_CAPACITY = 256;
+
+    private final boolean direct;
+    private ByteBuffer buffer;
+
+    /**
+     * Constructs a memory byte sink backed by a heap buffer of the default initial capacity.
+     */
+    public MemoryByteSink() {
+        this(DEFAULT_INITIAL_CAPACITY, false);
+    }
+
+    /**
+     * Constructs a memory byte sink backed by a heap buffer of a given initial capacity.
+     *
+     * @param initialCapacity The initial capacity, in bytes
+     */
+    public MemoryByteSink(int initialCapacity) {
+        this(initialCapacity, false);
+    }
+
+    /**
+     * Constructs a memory byte sink of a given initial capacity, backed by either a heap or a direct buffer.
+     *
+     * @param initialCapacity The initial capacity, in bytes
+     * @param direct          Whether the bytes are kept in a direct buffer, outside of the heap
+     */
+    public MemoryByteSink(int initialCapacity, boolean direct) {
+        if (initialCapacity <= 0)
+            throw new IllegalArgumentException("Initial capacity must be greater than zero");
+
+        this.direct = direct;
+        this.buffer = allocate(initialCapacity);
+    }
+
+    @Override
+    public void writeByte(int byteValue) throws IOException {
+        if (!buffer.hasRemaining()) {
+            grow(1);
+        }
+
+        buffer.put((byte) byteValue);
+    }
+
+    @Override
+    public void write(byte[] buffer, int offset, int length) throws IOException {
+        if (this.buffer.remaining() < length) {
+            grow(length);
+        }
+
+        this.buffer.put(buffer, offset, length);
+    }
+
+    /**
+     * Returns the number of bytes written since this sink was constructed or last cleared.
+     *
+     * @return The number of bytes written
+     */
+    public int size() {
+        return buffer.position();
+    }
+
+    /**
+     * Returns the current capacity of this sink, in bytes.
+     *
+     * @return The number of bytes that can be written before the sink has to grow
+     */
+    public int capacity() {
+        return buffer.capacity();
+    }
+
+    /**
+     * Discards the bytes written, keeping the memory allocated so far for reuse.
+     */
+    public void clear() {
+        buffer.clear();
+    }
+
+    /**
+     * Returns a view of the bytes written, between position 0 and the size of this sink. The view shares its contents
+     * with this sink, so it is only valid until the sink is cleared or written to. For heap sinks, the backing array
+     * is accessible through {@link ByteBuffer#array()}.
+     *
+     * @return A buffer whose remaining bytes are the bytes written
+     */
+    public ByteBuffer asByteBuffer() {
+        final ByteBuffer view = buffer.duplicate();
+        view.flip();
+        return view;
+    }
+
+    /**
+     * Returns a copy of the bytes written.
+     *
+     * @return A new array containing the bytes written
+     */
+    public byte[] toByteArray() {
+        final byte[] bytes = new byte[buffer.position()];
+        asByteBuffer().get(bytes);
+        return bytes;
+    }
+
+    /**
+     * Writes the bytes written to this sink to a channel, straight from the backing buffer.
+     *
+     * @param channel The channel to write to
+     * @throws IOException If an IOException occurs while writing to the channel
+     */
+    public void writeTo(WritableByteChannel channel) throws IOException {
+        final ByteBuffer view = asByteBuffer();
+
+        while (view.hasRemaining()) {
+            channel.write(view);
+        }
+    }
+
+    /**
+     * Replaces the backing buffer with one large enough for a number of additional bytes, at least doubling the
+     * capacity so that growing is amortized.
+     */
+    private void grow(int additionalBytes) {
+        final long requiredCapacity = (long) buffer.position() + additionalBytes;
+        if (Integer.MAX_VALUE < requiredCapacity)
+            throw new OutOfMemoryError("Memory byte sink cannot hold more than " + Integer.MAX_VALUE + " bytes");
+
+        final int newCapacity = (int) Math.min(Integer.MAX_VALUE, Math.max(requiredCapacity, 2L * buffer.capacity()));
+        final ByteBuffer newBuffer = allocate(newCapacity);
+
+        buffer.flip();
+        newBuffer.put(buffer);
+        buffer = newBuffer;
+    }
+
+    private ByteBuffer allocate(int capacity) {
+        return direct ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity);
+    }
+}
@@ -29,14 +29,33 @@ import java.io.OutputStream;
  * @author jfim
  */
 public class OutputStreamByteSink implements ByteSink {
-    private final OutputStream outputStream;
+    private OutputStream outputStream;
 
     public OutputStreamByteSink(OutputStream outputStream) {
         this.outputStream = outputStream;
     }
 
+    /**
+     * Points this byte sink at a new output stream.
+     *
+     * @param outputStream The output stream to write into
+     */
+    public void reset(OutputStream outputStream) {
+        this.outputStream = outputStream;
+    }
+
     @Override
     public void writeByte(int byteValue) throws IOException {
         outputStream.write(byteValue);
     }
+
+    @Override
+    public void write(byte[] buffer, int offset, int length) throws IOException {
+        outputStream.write(buffer, offset, length);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        outputStream.flush();
+    }
 }
@@ -0,0 +1,42 @@
+/*
+ BitIO: A library for bit-oriented input/output.
+ Copyright (C) 2009-2011 Jean-Francois Im
+
+ This file is part of BitIO.
+
+ BitIO is free software: you can redistribute it and/or modify
+ it under the terms of the GNU Lesser General Public License as published by
+ the Free Software Foundation, either version 3 of the License, or
+ (at your option) any later version.
+
+ BitIO is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ GNU Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public License
+ along with BitIO.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package im.jeanfrancois.bitio;
+
+/**
+ * Strategies used by a {@link BitSource} to decode blocks of Rice-coded
+ * values.
+ *
+ * @author jfim
+ */
+public enum RiceDecodingMode {
+    /**
+     * Decodes each value by counting the trailing zeroes of the bit buffer.
+     */
+    TRAILING_ZEROS,
+
+    /**
+     * Decodes up to several short codes at once by looking up the next bits of
+     * the bit buffer in a precomputed table, falling back to counting trailing
+     * zeroes for codes that are too long for the table. This is faster when
+     * most codes are short, that is when the quotients are small.
+     */
+    LOOKUP_TABLE
+}
@@ -0,0 +1,107 @@
+/*
+ BitIO: A library for bit-oriented input/output.
+ Copyright (C) 2009-2011 Jean-Francois Im
+
+ This file is part of BitIO.
+
+ BitIO is free software: you can redistribute it and/or modify
+ it under the terms of the GNU Lesser General Public License as published by
+ the Free Software Foundation, either version 3 of the License, or
+ (at your option) any later version.
+
+ BitIO is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ GNU Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public License
+ along with BitIO.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package im.jeanfrancois.bitio;
+
+/**
+ * Lookup table decoding all the complete Rice codes, up to a maximum count,
+ * contained in the next {@link #TABLE_BITS} bits of a bit stream.
+ *
+ * @author jfim
+ */
+final class RiceDecodingTable {
+    /**
+     * Number of bits looked up at once.
+     */
+    static final int TABLE_BITS = 12;
+
+    static final int TABLE_MASK = (1 << TABLE_BITS) - 1;
+
+    /**
+     * Maximum number of values decoded per lookup.
+     */
+    static final int MAX_VALUES_PER_ENTRY = 4;
+
+    /**
+     * Tables for every Rice parameter whose codes fit in a lookup, built when this class is first used so that
+     * lookups need no synchronization.
+     */
+    private static final RiceDecodingTable[] TABLES = new RiceDecodingTable[TABLE_BITS];
+
+    static {
+        for (int numFixedBits = 0; numFixedBits < TABLE_BITS; ++numFixedBits) {
+            TABLES[numFixedBits] = new RiceDecodingTable(numFixedBits);
+        }
+    }
+
+    /**
+     * For each bit pattern, the number of bits consumed in the low byte and the number of values decoded above it.
+     */
+    final int[] entries = new int[1 << TABLE_BITS];
+
+    /**
+     * For each bit pattern, the decoded values, starting at index pattern * {@link #MAX_VALUES_PER_ENTRY}.
+     */
+    final short[] values = new short[MAX_VALUES_PER_ENTRY << TABLE_BITS];
+
+    private RiceDecodingTable(int numFixedBits) {
+        final int remainderMask = (1 << numFixedBits) - 1;
+
+        for (int pattern = 0; pattern <= TABLE_MASK; ++pattern) {
+            int consumedBits = 0;
+            int valueCount = 0;
+
+            while (valueCount < MAX_VALUES_PER_ENTRY) {
+                final int remainingBits = pattern >>> consumedBits;
+
+                // Is the terminating one of the quotient within the pattern?
+                if (remainingBits == 0)
+                    break;
+
+                final int q = Integer.numberOfTrailingZeros(remainingBits);
+                final int codeLength = q + 1 + numFixedBits;
+
+                // Is the whole code within the pattern?
+                if (TABLE_BITS < consumedBits + codeLength)
+                    break;
+
+                final int r = (remainingBits >>> (q + 1)) & remainderMask;
+                values[pattern * MAX_VALUES_PER_ENTRY + valueCount] = (short) ((q << numFixedBits) + r);
+                consumedBits += codeLength;
+                valueCount++;
+            }
+
+            entries[pattern] = consumedBits | (valueCount << 8);
+        }
+    }
+
+    /**
+     * Returns the table for a Rice parameter.
+     *
+     * @param numFixedBits The number of bits used for the M parameter
+     * @return The table, or null if codes with such a parameter never fit in a table lookup
+     */
+    static RiceDecodingTable forParameter(int numFixedBits) {
+        if (TABLE_BITS <= numFixedBits)
+            return null;
+
+        return TABLES[numFixedBits];
+    }
+}
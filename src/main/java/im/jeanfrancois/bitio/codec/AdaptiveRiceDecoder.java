@@ -0,0 +1,58 @@
+/*
+ BitIO: A library for bit-oriented input/output.
+ Copyright (C) 2009-2011 Jean-Francois Im
+
+ This file is part of BitIO.
+
+ BitIO is free software: you can redistribute it and/or modify
+ it under the terms of the GNU Lesser General Public License as published by
+ the Free Software Foundation, either version 3 of the License, or
+ (at your option) any later version.
+
+ BitIO is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ GNU Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public License
+ along with BitIO.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package im.jeanfrancois.bitio.codec;
+
+import im.jeanfrancois.bitio.BitSource;
+
+import java.io.IOException;
+
+/**
+ * Decoder for blocks of values written by an {@link AdaptiveRiceEncoder}.
+ *
+ * @author jfim
+ */
+public class AdaptiveRiceDecoder {
+    private final BitSource bitSource;
+
+    /**
+     * Constructs a decoder that reads from a bit source.
+     *
+     * @param bitSource The bit source to read from
+     */
+    public AdaptiveRiceDecoder(BitSource bitSource) {
+        this.bitSource = bitSource;
+    }
+
+    /**
+     * Reads a block of values. The number of values must be the same as when the block was written.
+     *
+     * @param values The array into which the values are read
+     * @param offset The offset in the array of the first value
+     * @param length The number of values to read
+     * @return The Rice parameter of the block
+     * @throws IOException If an underlying IOException occurs while reading from the stream
+     */
+    public int readBlock(int[] values, int offset, int length) throws IOException {
+        final int numFixedBits = bitSource.readBinary(AdaptiveRiceEncoder.PARAMETER_BITS);
+        bitSource.readRice(values, offset, length, numFixedBits);
+        return numFixedBits;
+    }
+}
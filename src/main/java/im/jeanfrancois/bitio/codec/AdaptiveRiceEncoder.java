@@ -0,0 +1,191 @@
+/*
+ BitIO: A library for bit-oriented input/output.
+ Copyright (C) 2009-2011 Jean-Francois Im
+
+ This file is part of BitIO.
+
+ BitIO is free software: you can redistribute it and/or modify
+ it under the terms of the GNU Lesser General Public License as published by
+ the Free Software Foundation, either version 3 of the License, or
+ (at your option) any later version.
+
+ BitIO is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ GNU Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public License
+ along with BitIO.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package im.jeanfrancois.bitio.codec;
+
+import im.jeanfrancois.bitio.BitSink;
+
+import java.io.IOException;
+
+/**
+ * Encoder that writes blocks of values using Rice coding, choosing the Rice
+ * parameter for each block from the values it contains. Each block starts with
+ * a header of {@link #PARAMETER_BITS} bits holding the parameter, followed by
+ * the Rice-coded values. Blocks are read back using an
+ * {@link AdaptiveRiceDecoder}.
+ *
+ * @author jfim
+ */
+public class AdaptiveRiceEncoder {
+    /**
+     * Number of bits of the block header holding the Rice parameter.
+     */
+    public static final int PARAMETER_BITS = 5;
+
+    /**
+     * Largest Rice parameter that can be selected.
+     */
+    public static final int MAX_PARAMETER = 31;
+
+    /**
+     * Strategies used to select the Rice parameter of a block.
+     */
+    public enum ParameterSelection {
+        /**
+         * Derives the parameter from the mean of the block, which is optimal for geometrically distributed values.
+         */
+        MEAN,
+
+        /**
+         * Selects the parameter that yields the smallest encoded block, starting from the parameter derived from the
+         * mean and adjusting it while the encoded size decreases.
+         */
+        EXACT
+    }
+
+    private final BitSink bitSink;
+    private final ParameterSelection parameterSelection;
+
+    /**
+     * Constructs an encoder that selects the parameter yielding the smallest encoded blocks.
+     *
+     * @param bitSink The bit sink to write into
+     */
+    public AdaptiveRiceEncoder(BitSink bitSink) {
+        this(bitSink, ParameterSelection.EXACT);
+    }
+
+    /**
+     * Constructs an encoder using a given parameter selection strategy.
+     *
+     * @param bitSink            The bit sink to write into
+     * @param parameterSelection The strategy used to select the Rice parameter of each block
+     */
+    public AdaptiveRiceEncoder(BitSink bitSink, ParameterSelection parameterSelection) {
+        this.bitSink = bitSink;
+        this.parameterSelection = parameterSelection;
+    }
+
+    /**
+     * Writes a block of values, which must be positive.
+     *
+     * @param values The array containing the values to write
+     * @param offset The offset in the array of the first value
+     * @param length The number of values to write
+     * @return The Rice parameter used for the block
+     * @throws IOException If an underlying IOException occurs while writing to the stream
+     */
+    public int writeBlock(int[] values, int offset, int length) throws IOException {
+        final int numFixedBits = parameterSelection == ParameterSelection.MEAN
+                ? meanParameter(values, offset, length)
+                : exactParameter(values, offset, length);
+
+        bitSink.writeBinary(numFixedBits, PARAMETER_BITS);
+        bitSink.writeRice(values, offset, length, numFixedBits);
+
+        return numFixedBits;
+    }
+
+    /**
+     * Derives the Rice parameter from the mean of a block of values, as log<sub>2</sub>(mean &times; ln 2).
+     *
+     * @param values The array containing the values, which must be positive
+     * @param offset The offset in the array of the first value
+     * @param length The number of values
+     * @return The Rice parameter
+     */
+    public static int meanParameter(int[] values, int offset, int length) {
+        if (length == 0)
+            return 0;
+
+        long sum = 0;
+        for (int i = offset; i < offset + length; ++i) {
+            if (values[i] < 0)
+                throw new IllegalArgumentException("Values must be positive, got " + values[i]);
+
+            sum += values[i];
+        }
+
+        // ln 2 is approximately 709/1024, and the sum is divided before scaling so that it cannot overflow
+        final long scaledMean = ((sum / length) * 709 + (sum % length) * 709 / length) >>> 10;
+
+        if (scaledMean == 0)
+            return 0;
+
+        return Math.min(MAX_PARAMETER, 63 - Long.numberOfLeadingZeros(scaledMean));
+    }
+
+    /**
+     * Finds the Rice parameter that yields the smallest encoding of a block of values. As the encoded size is a
+     * convex function of the parameter, the search starts from the parameter derived from the mean and moves in the
+     * direction in which the size decreases.
+     *
+     * @param values The array containing the values
+     * @param offset The offset in the array of the first value
+     * @param length The number of values
+     * @return The Rice parameter
+     */
+    public static int exactParameter(int[] values, int offset, int length) {
+        int numFixedBits = meanParameter(values, offset, length);
+        long cost = encodedLength(values, offset, length, numFixedBits);
+
+        // Try smaller parameters first, then larger ones if the size did not decrease
+        while (0 < numFixedBits) {
+            final long smallerCost = encodedLength(values, offset, length, numFixedBits - 1);
+
+            if (cost <= smallerCost)
+                break;
+
+            numFixedBits--;
+            cost = smallerCost;
+        }
+
+        while (numFixedBits < MAX_PARAMETER) {
+            final long largerCost = encodedLength(values, offset, length, numFixedBits + 1);
+
+            if (cost <= largerCost)
+                break;
+
+            numFixedBits++;
+            cost = largerCost;
+        }
+
+        return numFixedBits;
+    }
+
+    /**
+     * Computes the number of bits used to Rice-code a block of values, excluding the header.
+     *
+     * @param values       The array containing the values
+     * @param offset       The offset in the array of the first value
+     * @param length       The number of values
+     * @param numFixedBits The Rice parameter
+     * @return The encoded size, in bits
+     */
+    public static long encodedLength(int[] values, int offset, int length, int numFixedBits) {
+        long bitCount = (long) length * (numFixedBits + 1);
+
+        for (int i = offset; i < offset + length; ++i) {
+            bitCount += values[i] >>> numFixedBits;
+        }
+
+        return bitCount;
+    }
+}
@@ -0,0 +1,2928 @@
+/*
+ BitIO: A library for bit-oriented input/output.
+ Copyright (C) 2009-2011 Jean-Francois Im
+
+ This file is part of BitIO.
+
+ BitIO is free software: you can redistribute it and/or modify
+ it under the terms of the GNU Lesser General Public License as published by
+ the Free Software Foundation, either version 3 of the License, or
+ (at your option) any later version.
+
+ BitIO is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ GNU Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public License
+ along with BitIO.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package im.jeanfrancois.bitio.codec;
+
+/**
+ * Width-specialized routines that pack groups of 32 integers into as many 32-bit words as their bit width, and unpack
+ * them. Bits are packed LSB first, so that the words written in little endian order have the same layout as values
+ * written one at a time with {@link im.jeanfrancois.bitio.BitSink#writeBinary(int, int) writeBinary}. Each width has
+ * its own fully unrolled routine, in which all shifts and masks are constants.
+ * <p>
+ * This file is generated by {@code BitPackingGenerator} in the test sources and must not be edited by hand.
+ *
+ * @author jfim
+ */
+final class BitPacking {
+    /**
+     * The number of values packed or unpacked by a single call.
+     */
+    static final int GROUP_SIZE = 32;
+
+    private BitPacking() {
+    }
+
+    /**
+     * Packs the low bits of 32 values into numBits words.
+     *
+     * @param values     The array containing the values to pack
+     * @param offset     The offset in the array of the first value
+     * @param words      The array into which the packed words are written
+     * @param wordOffset The offset in the array of the first word
+     * @param numBits    The number of bits kept for each value, between 0 and 32
+     */
+    static void pack(int[] values, int offset, int[] words, int wordOffset, int numBits) {
+        switch (numBits) {
+            case 0:
+                break;
+            case 1:
+                pack1(values, offset, words, wordOffset);
+                break;
+            case 2:
+                pack2(values, offset, words, wordOffset);
+                break;
+            case 3:
+                pack3(values, offset, words, wordOffset);
+                break;
+            case 4:
+                pack4(values, offset, words, wordOffset);
+                break;
+            case 5:
+                pack5(values, offset, words, wordOffset);
+                break;
+            case 6:
+                pack6(values, offset, words, wordOffset);
+                break;
+            case 7:
+                pack7(values, offset, words, wordOffset);
+                break;
+            case 8:
+                pack8(values, offset, words, wordOffset);
+                break;
+            case 9:
+                pack9(values, offset, words, wordOffset);
+                break;
+            case 10:
+                pack10(values, offset, words, wordOffset);
+                break;
+            case 11:
+                pack11(values, offset, words, wordOffset);
+                break;
+            case 12:
+                pack12(values, offset, words, wordOffset);
+                break;
+            case 13:
+                pack13(values, offset, words, wordOffset);
+                break;
+            case 14:
+                pack14(values, offset, words, wordOffset);
+                break;
+            case 15:
+                pack15(values, offset, words, wordOffset);
+                break;
+            case 16:
+                pack16(values, offset, words, wordOffset);
+                break;
+            case 17:
+                pack17(values, offset, words, wordOffset);
+                break;
+            case 18:
+                pack18(values, offset, words, wordOffset);
+                break;
+            case 19:
+                pack19(values, offset, words, wordOffset);
+                break;
+            case 20:
+                pack20(values, offset, words, wordOffset);
+                break;
+            case 21:
+                pack21(values, offset, words, wordOffset);
+                break;
+            case 22:
+                pack22(values, offset, words, wordOffset);
+                break;
+            case 23:
+                pack23(values, offset, words, wordOffset);
+                break;
+            case 24:
+                pack24(values, offset, words, wordOffset);
+                break;
+            case 25:
+                pack25(values, offset, words, wordOffset);
+                break;
+            case 26:
+                pack26(values, offset, words, wordOffset);
+                break;
+            case 27:
+                pack27(values, offset, words, wordOffset);
+                break;
+            case 28:
+                pack28(values, offset, words, wordOffset);
+                break;
+            case 29:
+                pack29(values, offset, words, wordOffset);
+                break;
+            case 30:
+                pack30(values, offset, words, wordOffset);
+                break;
+            case 31:
+                pack31(values, offset, words, wordOffset);
+                break;
+            case 32:
+                pack32(values, offset, words, wordOffset);
+                break;
+            default:
+                throw new IllegalArgumentException("Invalid bit width " + numBits);
+        }
+    }
+
+    /**
+     * Unpacks 32 values from numBits words.
+     *
+     * @param words      The array containing the packed words
+     * @param wordOffset The offset in the array of the first word
+     * @param values     The array into which the values are unpacked
+     * @param offset     The offset in the array of the first value
+     * @param numBits    The number of bits of each value, between 0 and 32
+     */
+    static void unpack(int[] words, int wordOffset, int[] values, int offset, int numBits) {
+        switch (numBits) {
+            case 0:
+                for (int i = offset; i < offset + GROUP_SIZE; ++i) {
+                    values[i] = 0;
+                }
+                break;
+            case 1:
+                unpack1(words, wordOffset, values, offset);
+                break;
+            case 2:
+                unpack2(words, wordOffset, values, offset);
+                break;
+            case 3:
+                unpack3(words, wordOffset, values, offset);
+                break;
+            case 4:
+                unpack4(words, wordOffset, values, offset);
+                break;
+            case 5:
+                unpack5(words, wordOffset, values, offset);
+                break;
+            case 6:
+                unpack6(words, wordOffset, values, offset);
+                break;
+            case 7:
+                unpack7(words, wordOffset, values, offset);
+                break;
+            case 8:
+                unpack8(words, wordOffset, values, offset);
+                break;
+            case 9:
+                unpack9(words, wordOffset, values, offset);
+                break;
+            case 10:
+                unpack10(words, wordOffset, values, offset);
+                break;
+            case 11:
+                unpack11(words, wordOffset, values, offset);
+                break;
+            case 12:
+                unpack12(words, wordOffset, values, offset);
+                break;
+            case 13:
+                unpack13(words, wordOffset, values, offset);
+                break;
+            case 14:
+                unpack14(words, wordOffset, values, offset);
+                break;
+            case 15:
+                unpack15(words, wordOffset, values, offset);
+                break;
+            case 16:
+                unpack16(words, wordOffset, values, offset);
+                break;
+            case 17:
+                unpack17(words, wordOffset, values, offset);
+                break;
+            case 18:
+                unpack18(words, wordOffset, values, offset);
+                break;
+            case 19:
+                unpack19(words, wordOffset, values, offset);
+                break;
+            case 20:
+                unpack20(words, wordOffset, values, offset);
+                break;
+            case 21:
+                unpack21(words, wordOffset, values, offset);
+                break;
+            case 22:
+                unpack22(words, wordOffset, values, offset);
+                break;
+            case 23:
+                unpack23(words, wordOffset, values, offset);
+                break;
+            case 24:
+                unpack24(words, wordOffset, values, offset);
+                break;
+            case 25:
+                unpack25(words, wordOffset, values, offset);
+                break;
+            case 26:
+                unpack26(words, wordOffset, values, offset);
+                break;
+            case 27:
+                unpack27(words, wordOffset, values, offset);
+                break;
+            case 28:
+                unpack28(words, wordOffset, values, offset);
+                break;
+            case 29:
+                unpack29(words, wordOffset, values, offset);
+                break;
+            case 30:
+                unpack30(words, wordOffset, values, offset);
+                break;
+            case 31:
+                unpack31(words, wordOffset, values, offset);
+                break;
+            case 32:
+                unpack32(words, wordOffset, values, offset);
+                break;
+            default:
+                throw new IllegalArgumentException("Invalid bit width " + numBits);
+        }
+    }
+
+    private static void pack1(int[] values, int offset, int[] words, int wordOffset) {
+        words[wordOffset] = (values[offset] & 0x1)
+                | (values[offset + 1] & 0x1) << 1
+                | (values[offset + 2] & 0x1) << 2
+                | (values[offset + 3] & 0x1) << 3
+                | (values[offset + 4] & 0x1) << 4
+                | (values[offset + 5] & 0x1) << 5
+                | (values[offset + 6] & 0x1) << 6
+                | (values[offset + 7] & 0x1) << 7
+                | (values[offset + 8] & 0x1) << 8
+                | (values[offset + 9] & 0x1) << 9
+                | (values[offset + 10] & 0x1) << 10
+                | (values[offset + 11] & 0x1) << 11
+                | (values[offset + 12] & 0x1) << 12
+                | (values[offset + 13] & 0x1) << 13
+                | (values[offset + 14] & 0x1) << 14
+                | (values[offset + 15] & 0x1) << 15
+                | (values[offset + 16] & 0x1) << 16
+                | (values[offset + 17] & 0x1) << 17
+                | (values[offset + 18] & 0x1) << 18
+                | (values[offset + 19] & 0x1) << 19
+                | (values[offset + 20] & 0x1) << 20
+                | (values[offset + 21] & 0x1) << 21
+                | (values[offset + 22] & 0x1) << 22
+                | (values[offset + 23] & 0x1) << 23
+                | (values[offset + 24] & 0x1) << 24
+                | (values[offset + 25] & 0x1) << 25
+                | (values[offset + 26] & 0x1) << 26
+                | (values[offset + 27] & 0x1) << 27
+                | (values[offset + 28] & 0x1) << 28
+                | (values[offset + 29] & 0x1) << 29
+                | (values[offset + 30] & 0x1) << 30
+                | (values[offset + 31] & 0x1) << 31;
+    }
+
+    private static void pack2(int[] values, int offset, int[] words, int wordOffset) {
+        words[wordOffset] = (values[offset] & 0x3)
+                | (values[offset + 1] & 0x3) << 2
+                | (values[offset + 2] & 0x3) << 4
+                | (values[offset + 3] & 0x3) << 6
+                | (values[offset + 4] & 0x3) << 8
+                | (values[offset + 5] & 0x3) << 10
+                | (values[offset + 6] & 0x3) << 12
+                | (values[offset + 7] & 0x3) << 14
+                | (values[offset + 8] & 0x3) << 16
+                | (values[offset + 9] & 0x3) << 18
+                | (values[offset + 10] & 0x3) << 20
+                | (values[offset + 11] & 0x3) << 22
+                | (values[offset + 12] & 0x3) << 24
+                | (values[offset + 13] & 0x3) << 26
+                | (values[offset + 14] & 0x3) << 28
+                | (values[offset + 15] & 0x3) << 30;
+        words[wordOffset + 1] = (values[offset + 16] & 0x3)
+                | (values[offset + 17] & 0x3) << 2
+                | (values[offset + 18] & 0x3) << 4
+                | (values[offset + 19] & 0x3) << 6
+                | (values[offset + 20] & 0x3) << 8
+                | (values[offset + 21] & 0x3) << 10
+                | (values[offset + 22] & 0x3) << 12
+                | (values[offset + 23] & 0x3) << 14
+                | (values[offset + 24] & 0x3) << 16
+                | (values[offset + 25] & 0x3) << 18
+                | (values[offset + 26] & 0x3) << 20
+                | (values[offset + 27] & 0x3) << 22
+                | (values[offset + 28] & 0x3) << 24
+                | (values[offset + 29] & 0x3) << 26
+                | (values[offset + 30] & 0x3) << 28
+                | (values[offset + 31] & 0x3) << 30;
+    }
+
+    private static void pack3(int[] values, int offset, int[] words, int wordOffset) {
+        words[wordOffset] = (values[offset] & 0x7)
+                | (values[offset + 1] & 0x7) << 3
+                | (values[offset + 2] & 0x7) << 6
+                | (values[offset + 3] & 0x7) << 9
+                | (values[offset + 4] & 0x7) << 12
+                | (values[offset + 5] & 0x7) << 15
+                | (values[offset + 6] & 0x7) << 18
+                | (values[offset + 7] & 0x7) << 21
+                | (values[offset + 8] & 0x7) << 24
+                | (values[offset + 9] & 0x7) << 27
+                | (values[offset + 10] & 0x7) << 30;
+        words[wordOffset + 1] = (values[offset + 10] & 0x7) >>> 2
+                | (values[offset + 11] & 0x7) << 1
+                | (values[offset + 12] & 0x7) << 4
+                | (values[offset + 13] & 0x7) << 7
+                | (values[offset + 14] & 0x7) << 10
+                | (values[offset + 15] & 0x7) << 13
+                | (values[offset + 16] & 0x7) << 16
+                | (values[offset + 17] & 0x7) << 19
+                | (values[offset + 18] & 0x7) << 22
+                | (values[offset + 19] & 0x7) << 25
+                | (values[offset + 20] & 0x7) << 28
+                | (values[offset + 21] & 0x7) << 31;
+        words[wordOffset + 2] = (values[offset + 21] & 0x7) >>> 1
+                | (values[offset + 22] & 0x7) << 2
+                | (values[offset + 23] & 0x7) << 5
+                | (values[offset + 24] & 0x7) << 8
+                | (values[offset + 25] & 0x7) << 11
+                | (values[offset + 26] & 0x7) << 14
+                | (values[offset + 27] & 0x7) << 17
+                | (values[offset + 28] & 0x7) << 20
+                | (values[offset + 29] & 0x7) << 23
+                | (values[offset + 30] & 0x7) << 26
+                | (values[offset + 31] & 0x7) << 29;
+    }
+
+    private static void pack4(int[] values, int offset, int[] words, int wordOffset) {
+        words[wordOffset] = (values[offset] & 0xF)
+                | (values[offset + 1] & 0xF) << 4
+                | (values[offset + 2] & 0xF) << 8
+                | (values[offset + 3] & 0xF) << 12
+                | (values[offset + 4] & 0xF) << 16
+                | (values[offset + 5] & 0xF) << 20
+                | (values[offset + 6] & 0xF) << 24
+                | (values[offset + 7] & 0xF) << 28;
+        words[wordOffset + 1] = (values[offset + 8] & 0xF)
+                | (values[offset + 9] & 0xF) << 4
+                | (values[offset + 10] & 0xF) << 8
+                | (values[offset + 11] & 0xF) << 12
+                | (values[offset + 12] & 0xF) << 16
+                | (values[offset + 13] & 0xF) << 20
+                | (values[offset + 14] & 0xF) << 24
+                | (values[offset + 15] & 0xF) << 28;
+        words[wordOffset + 2] = (values[offset + 16] & 0xF)
+                | (values[offset + 17] & 0xF) << 4
+                | (values[offset + 18] & 0xF) << 8
+                | (values[offset + 19] & 0xF) << 12
+                | (values[offset + 20] & 0xF) << 16
+                | (values[offset + 21] & 0xF) << 20
+                | (values[offset + 22] & 0xF) << 24
+                | (values[offset + 23] & 0xF) << 28;
+        words[wordOffset + 3] = (values[offset + 24] & 0xF)
+                | (values[offset + 25] & 0xF) << 4
+                | (values[offset + 26] & 0xF) << 8
+                | (values[offset + 27] & 0xF) << 12
+                | (values[offset + 28] & 0xF) << 16
+                | (values[offset + 29] & 0xF) << 20
+                | (values[offset + 30] & 0xF) << 24
+                | (values[offset + 31] & 0xF) << 28;
+    }
+
+    private static void pack5(int[] values, int offset, int[] words, int wordOffset) {
+        words[wordOffset] = (values[offset] & 0x1F)
+                | (values[offset + 1] & 0x1F) << 5
+                | (values[offset + 2] & 0x1F) << 10
+                | (values[offset + 3] & 0x1F) << 15
+                | (values[offset + 4] & 0x1F) << 20
+                | (values[offset + 5] & 0x1F) << 25
+                | (values[offset + 6] & 0x1F) << 30;
+        words[wordOffset + 1] = (values[offset + 6] & 0x1F) >>> 2
+                | (values[offset + 7] & 0x1F) << 3
+                | (values[offset + 8] & 0x1F) << 8
+                | (values[offset + 9] & 0x1F) << 13
+                | (values[offset + 10] & 0x1F) << 18
+                | (values[offset + 11] & 0x1F) << 23
+                | (values[offset + 12] & 0x1F) << 28;
+        words[wordOffset + 2] = (values[offset + 12] & 0x1F) >>> 4
+                | (values[offset + 13] & 0x1F) << 1
+                | (values[offset + 14] & 0x1F) << 6
+                | (values[offset + 15] & 0x1F) << 11
+                | (values[offset + 16] & 0x1F) << 16
+                | (values[offset + 17] & 0x1F) << 21
+                | (values[offset + 18] & 0x1F) << 26
+                | (values[offset + 19] & 0x1F) << 31;
+        words[wordOffset + 3] = (values[offset + 19] & 0x1F) >>> 1
+                | (values[offset + 20] & 0x1F) << 4
+                | (values[offset + 21] & 0x1F) << 9
+                | (values[offset + 22] & 0x1F) << 14
+                | (values[offset + 23] & 0x1F) << 19
+                | (values[offset + 24] & 0x1F) << 24
+                | (values[offset + 25] & 0x1F) << 29;
+        words[wordOffset + 4] = (values[offset + 25] & 0x1F) >>> 3
+                | (values[offset + 26] & 0x1F) << 2
+                | (values[offset + 27] & 0x1F) << 7
+                | (values[offset + 28] & 0x1F) << 12
+                | (values[offset + 29] & 0x1F) << 17
+                | (values[offset + 30] & 0x1F) << 22
+                | (values[offset + 31] & 0x1F) << 27;
+    }
+
+    private static void pack6(int[] values, int offset, int[] words, int wordOffset) {
+        words[wordOffset] = (values[offset] & 0x3F)
+                | (values[offset + 1] & 0x3F) << 6
+                | (values[offset + 2] & 0x3F) << 12
+                | (values[offset + 3] & 0x3F) << 18
+                | (values[offset + 4] & 0x3F) << 24
+                | (values[offset + 5] & 0x3F) << 30;
+        words[wordOffset + 1] = (values[offset + 5] & 0x3F) >>> 2
+                | (values[offset + 6] & 0x3F) << 4
+                | (values[offset + 7] & 0x3F) << 10
+                | (values[offset + 8] & 0x3F) << 16
+                | (values[offset + 9] & 0x3F) << 22
+                | (values[offset + 10] & 0x3F) << 28;
+        words[wordOffset + 2] = (values[offset + 10] & 0x3F) >>> 4
+                | (values[offset + 11] & 0x3F) << 2
+                | (values[offset + 12] & 0x3F) << 8
+                | (values[offset + 13] & 0x3F) << 14
+                | (values[offset + 14] & 0x3F) << 20
+                | (values[offset + 15] & 0x3F) << 26;
+        words[wordOffset + 3] = (values[offset + 16] & 0x3F)
+                | (values[offset + 17] & 0x3F) << 6
+                | (values[offset + 18] & 0x3F) << 12
+                | (values[offset + 19] & 0x3F) << 18
+                | (values[offset + 20] & 0x3F) << 24
+                | (values[offset + 21] & 0x3F) << 30;
+        words[wordOffset + 4] = (values[offset + 21] & 0x3F) >>> 2
+                | (values[offset + 22] & 0x3F) << 4
+                | (values[offset + 23] & 0x3F) << 10
+                | (values[offset + 24] & 0x3F) << 16
+                | (values[offset + 25] & 0x3F) << 22
+                | (values[offset + 26] & 0x3F) << 28;
+        words[wordOffset + 5] = (values[offset + 26] & 0x3F) >>> 4
+                | (values[offset + 27] & 0x3F) << 2
+                | (values[offset + 28] & 0x3F) << 8
+                | (values[offset + 29] & 0x3F) << 14
+                | (values[offset + 30] & 0x3F) << 20
+                | (values[offset + 31] & 0x3F) << 26;
+    }
+
+    private static void pack7(int[] values, int offset, int[] words, int wordOffset) {
+        words[wordOffset] = (values[offset] & 0x7F)
+                | (values[offset + 1] & 0x7F) << 7
+                | (values[offset + 2] & 0x7F) << 14
+                | (values[offset + 3] & 0x7F) << 21
+                | (values[offset + 4] & 0x7F) << 28;
+        words[wordOffset + 1] = (values[offset + 4] & 0x7F) >>> 4
+                | (values[offset + 5] & 0x7F) << 3
+                | (values[offset + 6] & 0x7F) << 10
+                | (values[offset + 7] & 0x7F) << 17
+                | (values[offset + 8] & 0x7F) << 24
+                | (values[offset + 9] & 0x7F) << 31;
+        words[wordOffset + 2] = (values[offset + 9] & 0x7F) >>> 1
+                | (values[offset + 10] & 0x7F) << 6
+                | (values[offset + 11] & 0x7F) << 13
+                | (values[offset + 12] & 0x7F) << 20
+                | (values[offset + 13] & 0x7F) << 27;
+        words[wordOffset + 3] = (values[offset + 13] & 0x7F) >>> 5
+                | (values[offset + 14] & 0x7F) << 2
+                | (values[offset + 15] & 0x7F) << 9
+                | (values[offset + 16] & 0x7F) << 16
+                | (values[offset + 17] & 0x7F) << 23
+                | (values[offset + 18] & 0x7F) << 30;
+        words[wordOffset + 4] = (values[offset + 18] & 0x7F) >>> 2
+                | (values[offset + 19] & 0x7F) << 5
+                | (values[offset + 20] & 0x7F) << 12
+                | (values[offset + 21] & 0x7F) << 19
+                | (values[offset + 22] & 0x7F) << 26;
+        words[wordOffset + 5] = (values[offset + 22] & 0x7F) >>> 6
+                | (values[offset + 23] & 0x7F) << 1
+                | (values[offset + 24] & 0x7F) << 8
+                | (values[offset + 25] & 0x7F) << 15
+                | (values[offset + 26] & 0x7F) << 22
+                | (values[offset + 27] & 0x7F) << 29;
+        words[wordOffset + 6] = (values[offset + 27] & 0x7F) >>> 3
+                | (values[offset + 28] & 0x7F) << 4
+                | (values[offset + 29] & 0x7F) << 11
+                | (values[offset + 30] & 0x7F) << 18
+                | (values[offset + 31] & 0x7F) << 25;
+    }
+
+    private static void pack8(int[] values, int offset, int[] words, int wordOffset) {
+        words[wordOffset] = (values[offset] & 0xFF)
+                | (values[offset + 1] & 0xFF) << 8
+                | (values[offset + 2] & 0xFF) << 16
+                | (values[offset + 3] & 0xFF) << 24;
+        words[wordOffset + 1] = (values[offset + 4] & 0xFF)
+                | (values[offset + 5] & 0xFF) << 8
+                | (values[offset + 6] & 0xFF) << 16
+                | (values[offset + 7] & 0xFF) << 24;
+        words[wordOffset + 2] = (values[offset + 8] & 0xFF)
+                | (values[offset + 9] & 0xFF) << 8
+                | (values[offset + 10] & 0xFF) << 16
+                | (values[offset + 11] & 0xFF) << 24;
+        words[wordOffset + 3] = (values[offset + 12] & 0xFF)
+                | (values[offset + 13] & 0xFF) << 8
+                | (values[offset + 14] & 0xFF) << 16
+                | (values[offset + 15] & 0xFF) << 24;
+        words[wordOffset + 4] = (values[offset + 16] & 0xFF)
+                | (values[offset + 17] & 0xFF) << 8
+                | (values[offset + 18] & 0xFF) << 16
+                | (values[offset + 19] & 0xFF) << 24;
+        words[wordOffset + 5] = (values[offset + 20] & 0xFF)
+                | (values[offset + 21] & 0xFF) << 8
+                | (values[offset + 22] & 0xFF) << 16
+                | (values[offset + 23] & 0xFF) << 24;
+        words[wordOffset + 6] = (values[offset + 24] & 0xFF)
+                | (values[offset + 25] & 0xFF) << 8
+                | (values[offset + 26] & 0xFF) << 16
+                | (values[offset + 27] & 0xFF) << 24;
+        words[wordOffset + 7] = (values[offset + 28] & 0xFF)
+                | (values[offset + 29] & 0xFF) << 8
+                | (values[offset + 30] & 0xFF) << 16
+                | (values[offset + 31] & 0xFF) << 24;
+    }
+
+    private static void pack9(int[] values, int offset, int[] words, int wordOffset) {
+        words[wordOffset] = (values[offset] & 0x1FF)
+                | (values[offset + 1] & 0x1FF) << 9
+                | (values[offset + 2] & 0x1FF) << 18
+                | (values[offset + 3] & 0x1FF) << 27;
+        words[wordOffset + 1] = (values[offset + 3] & 0x1FF) >>> 5
+                | (values[offset + 4] & 0x1FF) << 4
+                | (values[offset + 5] & 0x1FF) << 13
+                | (values[offset + 6] & 0x1FF) << 22
+                | (values[offset + 7] & 0x1FF) << 31;
+        words[wordOffset + 2] = (values[offset + 7] & 0x1FF) >>> 1
+                | (values[offset + 8] & 0x1FF) << 8
+                | (values[offset + 9] & 0x1FF) << 17
+                | (values[offset + 10] & 0x1FF) << 26;
+        words[wordOffset + 3] = (values[offset + 10] & 0x1FF) >>> 6
+                | (values[offset + 11] & 0x1FF) << 3
+                | (values[offset + 12] & 0x1FF) << 12
+                | (values[offset + 13] & 0x1FF) << 21
+                | (values[offset + 14] & 0x1FF) << 30;
+        words[wordOffset + 4] = (values[offset + 14] & 0x1FF) >>> 2
+                | (values[offset + 15] & 0x1FF) << 7
+                | (values[offset + 16] & 0x1FF) << 16
+                | (values[offset + 17] & 0x1FF) << 25;
+        words[wordOffset + 5] = (values[offset + 17] & 0x1FF) >>> 7
+                | (values[offset + 18] & 0x1FF) << 2
+                | (values[offset + 19] & 0x1FF) << 11
+                | (values[offset + 20] & 0x1FF) << 20
+                | (values[offset + 21] & 0x1FF) << 29;
+        words[wordOffset + 6] = (values[offset + 21] & 0x1FF) >>> 3
+                | (values[offset + 22] & 0x1FF) << 6
+                | (values[offset + 23] & 0x1FF) << 15
+                | (values[offset + 24] & 0x1FF) << 24;
+        words[wordOffset + 7] = (values[offset + 24] & 0x1FF) >>> 8
+                | (values[offset + 25] & 0x1FF) << 1
+                | (values[offset + 26] & 0x1FF) << 10
+                | (values[offset + 27] & 0x1FF) << 19
+                | (values[offset + 28] & 0x1FF) << 28;
+        words[wordOffset + 8] = (values[offset + 28] & 0x1FF) >>> 4
+                | (values[offset + 29] & 0x1FF) << 5
+                | (values[offset + 30] & 0x1FF) << 14
+                | (values[offset + 31] & 0x1FF) << 23;
+    }
+
+    private static void pack10(int[] values, int offset, int[] words, int wordOffset) {
+        words[wordOffset] = (values[offset] & 0x3FF)
+                | (values[offset + 1] & 0x3FF) << 10
+                | (values[offset + 2] & 0x3FF) << 20
+                | (values[offset + 3] & 0x3FF) << 30;
+        words[wordOffset + 1] = (values[offset + 3] & 0x3FF) >>> 2
+                | (values[offset + 4] & 0x3FF) << 8
+                | (values[offset + 5] & 0x3FF) << 18
+                | (values[offset + 6] & 0x3FF) << 28;
+        words[wordOffset + 2] = (values[offset + 6] & 0x3FF) >>> 4
+                | (values[offset + 7] & 0x3FF) << 6
+                | (values[offset + 8] & 0x3FF) << 16
+                | (values[offset + 9] & 0x3FF) << 26;
+        words[wordOffset + 3] = (values[offset + 9] & 0x3FF) >>> 6
+                | (values[offset + 10] & 0x3FF) << 4
+                | (values[offset + 11] & 0x3FF) << 14
+                | (values[offset + 12] & 0x3FF) << 24;
+        words[wordOffset + 4] = (values[offset + 12] & 0x3FF) >>> 8
+                | (values[offset + 13] & 0x3FF) << 2
+                | (values[offset + 14] & 0x3FF) << 12
+                | (values[offset + 15] & 0x3FF) << 22;
+        words[wordOffset + 5] = (values[offset + 16] & 0x3FF)
+                | (values[offset + 17] & 0x3FF) << 10
+                | (values[offset + 18] & 0x3FF) << 20
+                | (values[offset + 19] & 0x3FF) << 30;
+        words[wordOffset + 6] = (values[offset + 19] & 0x3FF) >>> 2
+                | (values[offset + 20] & 0x3FF) << 8
+                | (values[offset + 21] & 0x3FF) << 18
+                | (values[offset + 22] & 0x3FF) << 28;
+        words[wordOffset + 7] = (values[offset + 22] & 0x3FF) >>> 4
+                | (values[offset + 23] & 0x3FF) << 6
+                | (values[offset + 24] & 0x3FF) << 16
+                | (values[offset + 25] & 0x3FF) << 26;
+        words[wordOffset + 8] = (values[offset + 25] & 0x3FF) >>> 6
+                | (values[offset + 26] & 0x3FF) << 4
+                | (values[offset + 27] & 0x3FF) << 14
+                | (values[offset + 28] & 0x3FF) << 24;
+        words[wordOffset + 9] = (values[offset + 28] & 0x3FF) >>> 8
+                | (values[offset + 29] & 0x3FF) << 2
+                | (values[offset + 30] & 0x3FF) << 12
+                | (values[offset + 31] & 0x3FF) << 22;
+    }
+
+    private static void pack11(int[] values, int offset, int[] words, int wordOffset) {
+        words[wordOffset] = (values[offset] & 0x7FF)
+                | (values[offset + 1] & 0x7FF) << 11
+                | (values[offset + 2] & 0x7FF) << 22;
+        words[wordOffset + 1] = (values[offset + 2] & 0x7FF) >>> 10
+                | (values[offset + 3] & 0x7FF) << 1
+                | (values[offset + 4] & 0x7FF) << 12
+                | (values[offset + 5] & 0x7FF) << 23;
+        words[wordOffset + 2] = (values[offset + 5] & 0x7FF) >>> 9
+                | (values[offset + 6] & 0x7FF) << 2
+                | (values[offset + 7] & 0x7FF) << 13
+                | (values[offset + 8] & 0x7FF) << 24;
+        words[wordOffset + 3] = (values[offset + 8] & 0x7FF) >>> 8
+                | (values[offset + 9] & 0x7FF) << 3
+                | (values[offset + 10] & 0x7FF) << 14
+                | (values[offset + 11] & 0x7FF) << 25;
+        words[wordOffset + 4] = (values[offset + 11] & 0x7FF) >>> 7
+                | (values[offset + 12] & 0x7FF) << 4
+                | (values[offset + 13] & 0x7FF) << 15
+                | (values[offset + 14] & 0x7FF) << 26;
+        words[wordOffset + 5] = (values[offset + 14] & 0x7FF) >>> 6
+                | (values[offset + 15] & 0x7FF) << 5
+                | (values[offset + 16] & 0x7FF) << 16
+                | (values[offset + 17] & 0x7FF) << 27;
+        words[wordOffset + 6] = (values[offset + 17] & 0x7FF) >>> 5
+                | (values[offset + 18] & 0x7FF) << 6
+                | (values[offset + 19] & 0x7FF) << 17
+                | (values[offset + 20] & 0x7FF) << 28;
+        words[wordOffset + 7] = (values[offset + 20] & 0x7FF) >>> 4
+                | (values[offset + 21] & 0x7FF) << 7
+                | (values[offset + 22] & 0x7FF) << 18
+                | (values[offset + 23] & 0x7FF) << 29;
+        words[wordOffset + 8] = (values[offset + 23] & 0x7FF) >>> 3
+                | (values[offset + 24] & 0x7FF) << 8
+                | (values[offset + 25] & 0x7FF) << 19
+                | (values[offset + 26] & 0x7FF) << 30;
+        words[wordOffset + 9] = (values[offset + 26] & 0x7FF) >>> 2
+                | (values[offset + 27] & 0x7FF) << 9
+                | (values[offset + 28] & 0x7FF) << 20
+                | (values[offset + 29] & 0x7FF) << 31;
+        words[wordOffset + 10] = (values[offset + 29] & 0x7FF) >>> 1
+                | (values[offset + 30] & 0x7FF) << 10
+                | (values[offset + 31] & 0x7FF) << 21;
+    }
+
+    private static void pack12(int[] values, int offset, int[] words, int wordOffset) {
+        words[wordOffset] = (values[offset] & 0xFFF)
+                | (values[offset + 1] & 0xFFF) << 12
+                | (values[offset + 2] & 0xFFF) << 24;
+        words[wordOffset + 1] = (values[offset + 2] & 0xFFF) >>> 8
+                | (values[offset + 3] & 0xFFF) << 4
+                | (values[offset + 4] & 0xFFF) << 16
+                | (values[offset + 5] & 0xFFF) << 28;
+        words[wordOffset + 2] = (values[offset + 5] & 0xFFF) >>> 4
+                | (values[offset + 6] & 0xFFF) << 8
+                | (values[offset + 7] & 0xFFF) << 20;
+        words[wordOffset + 3] = (values[offset + 8] & 0xFFF)
+                | (values[offset + 9] & 0xFFF) << 12
+                | (values[offset + 10] & 0xFFF) << 24;
+        words[wordOffset + 4] = (values[offset + 10] & 0xFFF) >>> 8
+                | (values[offset + 11] & 0xFFF) << 4
+                | (values[offset + 12] & 0xFFF) << 16
+                | (values[offset + 13] & 0xFFF) << 28;
+        words[wordOffset + 5] = (values[offset + 13] & 0xFFF) >>> 4
+                | (values[offset + 14] & 0xFFF) << 8
+                | (values[offset + 15] & 0xFFF) << 20;
+        words[wordOffset + 6] = (values[offset + 16] & 0xFFF)
+                | (values[offset + 17] & 0xFFF) << 12
+                | (values[offset + 18] & 0xFFF) << 24;
+        words[wordOffset + 7] = (values[offset + 18] & 0xFFF) >>> 8
+                | (values[offset + 19] & 0xFFF) << 4
+                | (values[offset + 20] & 0xFFF) << 16
+                | (values[offset + 21] & 0xFFF) << 28;
+        words[wordOffset + 8] = (values[offset + 21] & 0xFFF) >>> 4
+                | (values[offset + 22] & 0xFFF) << 8
+                | (values[offset + 23] & 0xFFF) << 20;
+        words[wordOffset + 9] = (values[offset + 24] & 0xFFF)
+                | (values[offset + 25] & 0xFFF) << 12
+                | (values[offset + 26] & 0xFFF) << 24;
+        words[wordOffset + 10] = (values[offset + 26] & 0xFFF) >>> 8
+                | (values[offset + 27] & 0xFFF) << 4
+                | (values[offset + 28] & 0xFFF) << 16
+                | (values[offset + 29] & 0xFFF) << 28;
+        words[wordOffset + 11] = (values[offset + 29] & 0xFFF) >>> 4
+                | (values[offset + 30] & 0xFFF) << 8
+                | (values[offset + 31] & 0xFFF) << 20;
+    }
+
+    private static void pack13(int[] values, int offset, int[] words, int wordOffset) {
+        words[wordOffset] = (values[offset] & 0x1FFF)
+                | (values[offset + 1] & 0x1FFF) << 13
+                | (values[offset + 2] & 0x1FFF) << 26;
+        words[wordOffset + 1] = (values[offset + 2] & 0x1FFF) >>> 6
+                | (values[offset + 3] & 0x1FFF) << 7
+                | (values[offset + 4] & 0x1FFF) << 20;
+        words[wordOffset + 2] = (values[offset + 4] & 0x1FFF) >>> 12
+                | (values[offset + 5] & 0x1FFF) << 1
+                | (values[offset + 6] & 0x1FFF) << 14
+                | (values[offset + 7] & 0x1FFF) << 27;
+        words[wordOffset + 3] = (values[offset + 7] & 0x1FFF) >>> 5
+                | (values[offset + 8] & 0x1FFF) << 8
+                | (values[offset + 9] & 0x1FFF) << 21;
+        words[wordOffset + 4] = (values[offset + 9] & 0x1FFF) >>> 11
+                | (values[offset + 10] & 0x1FFF) << 2
+                | (values[offset + 11] & 0x1FFF) << 15
+                | (values[offset + 12] & 0x1FFF) << 28;
+        words[wordOffset + 5] = (values[offset + 12] & 0x1FFF) >>> 4
+                | (values[offset + 13] & 0x1FFF) << 9
+                | (values[offset + 14] & 0x1FFF) << 22;
+        words[wordOffset + 6] = (values[offset + 14] & 0x1FFF) >>> 10
+                | (values[offset + 15] & 0x1FFF) << 3
+                | (values[offset + 16] & 0x1FFF) << 16
+                | (values[offset + 17] & 0x1FFF) << 29;
+        words[wordOffset + 7] = (values[offset + 17] & 0x1FFF) >>> 3
+                | (values[offset + 18] & 0x1FFF) << 10
+                | (values[offset + 19] & 0x1FFF) << 23;
+        words[wordOffset + 8] = (values[offset + 19] & 0x1FFF) >>> 9
+                | (values[offset + 20] & 0x1FFF) << 4
+                | (values[offset + 21] & 0x1FFF) << 17
+                | (values[offset + 22] & 0x1FFF) << 30;
+        words[wordOffset + 9] = (values[offset + 22] & 0x1FFF) >>> 2
+                | (values[offset + 23] & 0x1FFF) << 11
+                | (values[offset + 24] & 0x1FFF) << 24;
+        words[wordOffset + 10] = (values[offset + 24] & 0x1FFF) >>> 8
+                | (values[offset + 25] & 0x1FFF) << 5
+                | (values[offset + 26] & 0x1FFF) << 18
+                | (values[offset + 27] & 0x1FFF) << 31;
+        words[wordOffset + 11] = (values[offset + 27] & 0x1FFF) >>> 1
+                | (values[offset + 28] & 0x1FFF) << 12
+                | (values[offset + 29] & 0x1FFF) << 25;
+        words[wordOffset + 12] = (values[offset + 29] & 0x1FFF) >>> 7
+                | (values[offset + 30] & 0x1FFF) << 6
+                | (values[offset + 31] & 0x1FFF) << 19;
+    }
+
+    private static void pack14(int[] values, int offset, int[] words, int wordOffset) {
+        words[wordOffset] = (values[offset] & 0x3FFF)
+                | (values[offset + 1] & 0x3FFF) << 14
+                | (values[offset + 2] & 0x3FFF) << 28;
+        words[wordOffset + 1] = (values[offset + 2] & 0x3FFF) >>> 4
+                | (values[offset + 3] & 0x3FFF) << 10
+                | (values[offset + 4] & 0x3FFF) << 24;
+        words[wordOffset + 2] = (values[offset + 4] & 0x3FFF) >>> 8
+                | (values[offset + 5] & 0x3FFF) << 6
+                | (values[offset + 6] & 0x3FFF) << 20;
+        words[wordOffset + 3] = (values[offset + 6] & 0x3FFF) >>> 12
+                | (values[offset + 7] & 0x3FFF) << 2
+                | (values[offset + 8] & 0x3FFF) << 16
+                | (values[offset + 9] & 0x3FFF) << 30;
+        words[wordOffset + 4] = (values[offset + 9] & 0x3FFF) >>> 2
+                | (values[offset + 10] & 0x3FFF) << 12
+                | (values[offset + 11] & 0x3FFF) << 26;
+        words[wordOffset + 5] = (values[offset + 11] & 0x3FFF) >>> 6
+                | (values[offset + 12] & 0x3FFF) << 8
+                | (values[offset + 13] & 0x3FFF) << 22;
+        words[wordOffset + 6] = (values[offset + 13] & 0x3FFF) >>> 10
+                | (values[offset + 14] & 0x3FFF) << 4
+                | (values[offset + 15] & 0x3FFF) << 18;
+        words[wordOffset + 7] = (values[offset + 16] & 0x3FFF)
+                | (values[offset + 17] & 0x3FFF) << 14
+                | (values[offset + 18] & 0x3FFF) << 28;
+        words[wordOffset + 8] = (values[offset + 18] & 0x3FFF) >>> 4
+                | (values[offset + 19] & 0x3FFF) << 10
+                | (values[offset + 20] & 0x3FFF) << 24;
+        words[wordOffset + 9] = (values[offset + 20] & 0x3FFF) >>> 8
+                | (values[offset + 21] & 0x3FFF) << 6
+                | (values[offset + 22] & 0x3FFF) << 20;
+        words[wordOffset + 10] = (values[offset + 22] & 0x3FFF) >>> 12
+                | (values[offset + 23] & 0x3FFF) << 2
+                | (values[offset + 24] & 0x3FFF) << 16
+                | (values[offset + 25] & 0x3FFF) << 30;
+        words[wordOffset + 11] = (values[offset + 25] & 0x3FFF) >>> 2
+                | (values[offset + 26] & 0x3FFF) << 12
+                | (values[offset + 27] & 0x3FFF) << 26;
+        words[wordOffset + 12] = (values[offset + 27] & 0x3FFF) >>> 6
+                | (values[offset + 28] & 0x3FFF) << 8
+                | (values[offset + 29] & 0x3FFF) << 22;
+        words[wordOffset + 13] = (values[offset + 29] & 0x3FFF) >>> 10
+                | (values[offset + 30] & 0x3FFF) << 4
+                | (values[offset + 31] & 0x3FFF) << 18;
+    }
+
+    private static void pack15(int[] values, int offset, int[] words, int wordOffset) {
+        words[wordOffset] = (values[offset] & 0x7FFF)
+                | (values[offset + 1] & 0x7FFF) << 15
+                | (values[offset + 2] & 0x7FFF) << 30;
+        words[wordOffset + 1] = (values[offset + 2] & 0x7FFF) >>> 2
+                | (values[offset + 3] & 0x7FFF) << 13
+                | (values[offset + 4] & 0x7FFF) << 28;
+        words[wordOffset + 2] = (values[offset + 4] & 0x7FFF) >>> 4
+                | (values[offset + 5] & 0x7FFF) << 11
+                | (values[offset + 6] & 0x7FFF) << 26;
+        words[wordOffset + 3] = (values[offset + 6] & 0x7FFF) >>> 6
+                | (values[offset + 7] & 0x7FFF) << 9
+                | (values[offset + 8] & 0x7FFF) << 24;
+        words[wordOffset + 4] = (values[offset + 8] & 0x7FFF) >>> 8
+                | (values[offset + 9] & 0x7FFF) << 7
+                | (values[offset + 10] & 0x7FFF) << 22;
+        words[wordOffset + 5] = (values[offset + 10] & 0x7FFF) >>> 10
+                | (values[offset + 11] & 0x7FFF) << 5
+                | (values[offset + 12] & 0x7FFF) << 20;
+        words[wordOffset + 6] = (values[offset + 12] & 0x7FFF) >>> 12
+                | (values[offset + 13] & 0x7FFF) << 3
+                | (values[offset + 14] & 0x7FFF) << 18;
+        words[wordOffset + 7] = (values[offset + 14] & 0x7FFF) >>> 14
+                | (values[offset + 15] & 0x7FFF) << 1
+                | (values[offset + 16] & 0x7FFF) << 16
+                | (values[offset + 17] & 0x7FFF) << 31;
+        words[wordOffset + 8] = (values[offset + 17] & 0x7FFF) >>> 1
+                | (values[offset + 18] & 0x7FFF) << 14
+                | (values[offset + 19] & 0x7FFF) << 29;
+        words[wordOffset + 9] = (values[offset + 19] & 0x7FFF) >>> 3
+                | (values[offset + 20] & 0x7FFF) << 12
+                | (values[offset + 21] & 0x7FFF) << 27;
+        words[wordOffset + 10] = (values[offset + 21] & 0x7FFF) >>> 5
+                | (values[offset + 22] & 0x7FFF) << 10
+                | (values[offset + 23] & 0x7FFF) << 25;
+        words[wordOffset + 11] = (values[offset + 23] & 0x7FFF) >>> 7
+                | (values[offset + 24] & 0x7FFF) << 8
+                | (values[offset + 25] & 0x7FFF) << 23;
+        words[wordOffset + 12] = (values[offset + 25] & 0x7FFF) >>> 9
+                | (values[offset + 26] & 0x7FFF) << 6
+                | (values[offset + 27] & 0x7FFF) << 21;
+        words[wordOffset + 13] = (values[offset + 27] & 0x7FFF) >>> 11
+                | (values[offset + 28] & 0x7FFF) << 4
+                | (values[offset + 29] & 0x7FFF) << 19;
+        words[wordOffset + 14] = (values[offset + 29] & 0x7FFF) >>> 13
+                | (values[offset + 30] & 0x7FFF) << 2
+                | (values[offset + 31] & 0x7FFF) << 17;
+    }
+
+    private static void pack16(int[] values, int offset, int[] words, int wordOffset) {
+        words[wordOffset] = (values[offset] & 0xFFFF)
+                | (values[offset + 1] & 0xFFFF) << 16;
+        words[wordOffset + 1] = (values[offset + 2] & 0xFFFF)
+                | (values[offset + 3] & 0xFFFF) << 16;
+        words[wordOffset + 2] = (values[offset + 4] & 0xFFFF)
+                | (values[offset + 5] & 0xFFFF) << 16;
+        words[wordOffset + 3] = (values[offset + 6] & 0xFFFF)
+                | (values[offset + 7] & 0xFFFF) << 16;
+        words[wordOffset + 4] = (values[offset + 8] & 0xFFFF)
+                | (values[offset + 9] & 0xFFFF) << 16;
+        words[wordOffset + 5] = (values[offset + 10] & 0xFFFF)
+                | (values[offset + 11] & 0xFFFF) << 16;
+        words[wordOffset + 6] = (values[offset + 12] & 0xFFFF)
+                | (values[offset + 13] & 0xFFFF) << 16;
+        words[wordOffset + 7] = (values[offset + 14] & 0xFFFF)
+                | (values[offset + 15] & 0xFFFF) << 16;
+        words[wordOffset + 8] = (values[offset + 16] & 0xFFFF)
+                | (values[offset + 17] & 0xFFFF) << 16;
+        words[wordOffset + 9] = (values[offset + 18] & 0xFFFF)
+                | (values[offset + 19] & 0xFFFF) << 16;
+        words[wordOffset + 10] = (values[offset + 20] & 0xFFFF)
+                | (values[offset + 21] & 0xFFFF) << 16;
+        words[wordOffset + 11] = (values[offset + 22] & 0xFFFF)
+                | (values[offset + 23] & 0xFFFF) << 16;
+        words[wordOffset + 12] = (values[offset + 24] & 0xFFFF)
+                | (values[offset + 25] & 0xFFFF) << 16;
+        words[wordOffset + 13] = (values[offset + 26] & 0xFFFF)
+                | (values[offset + 27] & 0xFFFF) << 16;
+        words[wordOffset + 14] = (values[offset + 28] & 0xFFFF)
+                | (values[offset + 29] & 0xFFFF) << 16;
+        words[wordOffset + 15] = (values[offset + 30] & 0xFFFF)
+                | (values[offset + 31] & 0xFFFF) << 16;
+    }
+
+    private static void pack17(int[] values, int offset, int[] words, int wordOffset) {
+        words[wordOffset] = (values[offset] & 0x1FFFF)
+                | (values[offset + 1] & 0x1FFFF) << 17;
+        words[wordOffset + 1] = (values[offset + 1] & 0x1FFFF) >>> 15
+                | (values[offset + 2] & 0x1FFFF) << 2
+                | (values[offset + 3] & 0x1FFFF) << 19;
+        words[wordOffset + 2] = (values[offset + 3] & 0x1FFFF) >>> 13
+                | (values[offset + 4] & 0x1FFFF) << 4
+                | (values[offset + 5] & 0x1FFFF) << 21;
+        words[wordOffset + 3] = (values[offset + 5] & 0x1FFFF) >>> 11
+                | (values[offset + 6] & 0x1FFFF) << 6
+                | (values[offset + 7] & 0x1FFFF) << 23;
+        words[wordOffset + 4] = (values[offset + 7] & 0x1FFFF) >>> 9
+                | (values[offset + 8] & 0x1FFFF) << 8
+                | (values[offset + 9] & 0x1FFFF) << 25;
+        words[wordOffset + 5] = (values[offset + 9] & 0x1FFFF) >>> 7
+                | (values[offset + 10] & 0x1FFFF) << 10
+                | (values[offset + 11] & 0x1FFFF) << 27;
+        words[wordOffset + 6] = (values[offset + 11] & 0x1FFFF) >>> 5
+                | (values[offset + 12] & 0x1FFFF) << 12
+                | (values[offset + 13] & 0x1FFFF) << 29;
+        words[wordOffset + 7] = (values[offset + 13] & 0x1FFFF) >>> 3
+                | (values[offset + 14] & 0x1FFFF) << 14
+                | (values[offset + 15] & 0x1FFFF) << 31;
+        words[wordOffset + 8] = (values[offset + 15] & 0x1FFFF) >>> 1
+                | (values[offset + 16] & 0x1FFFF) << 16;
+        words[wordOffset + 9] = (values[offset + 16] & 0x1FFFF) >>> 16
+                | (values[offset + 17] & 0x1FFFF) << 1
+                | (values[offset + 18] & 0x1FFFF) << 18;
+        words[wordOffset + 10] = (values[offset + 18] & 0x1FFFF) >>> 14
+                | (values[offset + 19] & 0x1FFFF) << 3
+                | (values[offset + 20] & 0x1FFFF) << 20;
+        words[wordOffset + 11] = (values[offset + 20] & 0x1FFFF) >>> 12
+                | (values[offset + 21] & 0x1FFFF) << 5
+                | (values[offset + 22] & 0x1FFFF) << 22;
+        words[wordOffset + 12] = (values[offset + 22] & 0x1FFFF) >>> 10
+                | (values[offset + 23] & 0x1FFFF) << 7
+                | (values[offset + 24] & 0x1FFFF) << 24;
+        words[wordOffset + 13] = (values[offset + 24] & 0x1FFFF) >>> 8
+                | (values[offset + 25] & 0x1FFFF) << 9
+                | (values[offset + 26] & 0x1FFFF) << 26;
+        words[wordOffset + 14] = (values[offset + 26] & 0x1FFFF) >>> 6
+                | (values[offset + 27] & 0x1FFFF) << 11
+                | (values[offset + 28] & 0x1FFFF) << 28;
+        words[wordOffset + 15] = (values[offset + 28] & 0x1FFFF) >>> 4
+                | (values[offset + 29] & 0x1FFFF) << 13
+                | (values[offset + 30] & 0x1FFFF) << 30;
+        words[wordOffset + 16] = (values[offset + 30] & 0x1FFFF) >>> 2
+                | (values[offset + 31] & 0x1FFFF) << 15;
+    }
+
+    private static void pack18(int[] values, int offset, int[] words, int wordOffset) {
+        words[wordOffset] = (values[offset] & 0x3FFFF)
+                | (values[offset + 1] & 0x3FFFF) << 18;
+        words[wordOffset + 1] = (values[offset + 1] & 0x3FFFF) >>> 14
+                | (values[offset + 2] & 0x3FFFF) << 4
+                | (values[offset + 3] & 0x3FFFF) << 22;
+        words[wordOffset + 2] = (values[offset + 3] & 0x3FFFF) >>> 10
+                | (values[offset + 4] & 0x3FFFF) << 8
+                | (values[offset + 5] & 0x3FFFF) << 26;
+        words[wordOffset + 3] = (values[offset + 5] & 0x3FFFF) >>> 6
+                | (values[offset + 6] & 0x3FFFF) << 12
+                | (values[offset + 7] & 0x3FFFF) << 30;
+        words[wordOffset + 4] = (values[offset + 7] & 0x3FFFF) >>> 2
+                | (values[offset + 8] & 0x3FFFF) << 16;
+        words[wordOffset + 5] = (values[offset + 8] & 0x3FFFF) >>> 16
+                | (values[offset + 9] & 0x3FFFF) << 2
+                | (values[offset + 10] & 0x3FFFF) << 20;
+        words[wordOffset + 6] = (values[offset + 10] & 0x3FFFF) >>> 12
+                | (values[offset + 11] & 0x3FFFF) << 6
+                | (values[offset + 12] & 0x3FFFF) << 24;
+        words[wordOffset + 7] = (values[offset + 12] & 0x3FFFF) >>> 8
+                | (values[offset + 13] & 0x3FFFF) << 10
+                | (values[offset + 14] & 0x3FFFF) << 28;
+        words[wordOffset + 8] = (values[offset + 14] & 0x3FFFF) >>> 4
+                | (values[offset + 15] & 0x3FFFF) << 14;
+        words[wordOffset + 9] = (values[offset + 16] & 0x3FFFF)
+                | (values[offset + 17] & 0x3FFFF) << 18;
+        words[wordOffset + 10] = (values[offset + 17] & 0x3FFFF) >>> 14
+                | (values[offset + 18] & 0x3FFFF) << 4
+                | (values[offset + 19] & 0x3FFFF) << 22;
+        words[wordOffset + 11] = (values[offset + 19] & 0x3FFFF) >>> 10
+                | (values[offset + 20] & 0x3FFFF) << 8
+                | (values[offset + 21] & 0x3FFFF) << 26;
+        words[wordOffset + 12] = (values[offset + 21] & 0x3FFFF) >>> 6
+                | (values[offset + 22] & 0x3FFFF) << 12
+                | (values[offset + 23] & 0x3FFFF) << 30;
+        words[wordOffset + 13] = (values[offset + 23] & 0x3FFFF) >>> 2
+                | (values[offset + 24] & 0x3FFFF) << 16;
+        words[wordOffset + 14] = (values[offset + 24] & 0x3FFFF) >>> 16
+                | (values[offset + 25] & 0x3FFFF) << 2
+                | (values[offset + 26] & 0x3FFFF) << 20;
+        words[wordOffset + 15] = (values[offset + 26] & 0x3FFFF) >>> 12
+                | (values[offset + 27] & 0x3FFFF) << 6
+                | (values[offset + 28] & 0x3FFFF) << 24;
+        words[wordOffset + 16] = (values[offset + 28] & 0x3FFFF) >>> 8
+                | (values[offset + 29] & 0x3FFFF) << 10
+                | (values[offset + 30] & 0x3FFFF) << 28;
+        words[wordOffset + 17] = (values[offset + 30] & 0x3FFFF) >>> 4
+                | (values[offset + 31] & 0x3FFFF) << 14;
+    }
+
+    private static void pack19(int[] values, int offset, int[] words, int wordOffset) {
+        words[wordOffset] = (values[offset] & 0x7FFFF)
+                | (values[offset + 1] & 0x7FFFF) << 19;
+        words[wordOffset + 1] = (values[offset + 1] & 0x7FFFF) >>> 13
+                | (values[offset + 2] & 0x7FFFF) << 6
+                | (values[offset + 3] & 0x7FFFF) << 25;
+        words[wordOffset + 2] = (values[offset + 3] & 0x7FFFF) >>> 7
+                | (values[offset + 4] & 0x7FFFF) << 12
+                | (values[offset + 5] & 0x7FFFF) << 31;
+        words[wordOffset + 3] = (values[offset + 5] & 0x7FFFF) >>> 1
+                | (values[offset + 6] & 0x7FFFF) << 18;
+        words[wordOffset + 4] = (values[offset + 6] & 0x7FFFF) >>> 14
+                | (values[offset + 7] & 0x7FFFF) << 5
+                | (values[offset + 8] & 0x7FFFF) << 24;
+        words[wordOffset + 5] = (values[offset + 8] & 0x7FFFF) >>> 8
+                | (values[offset + 9] & 0x7FFFF) << 11
+                | (values[offset + 10] & 0x7FFFF) << 30;
+        words[wordOffset + 6] = (values[offset + 10] & 0x7FFFF) >>> 2
+                | (values[offset + 11] & 0x7FFFF) << 17;
+        words[wordOffset + 7] = (values[offset + 11] & 0x7FFFF) >>> 15
+                | (values[offset + 12] & 0x7FFFF) << 4
+                | (values[offset + 13] & 0x7FFFF) << 23;
+        words[wordOffset + 8] = (values[offset + 13] & 0x7FFFF) >>> 9
+                | (values[offset + 14] & 0x7FFFF) << 10
+                | (values[offset + 15] & 0x7FFFF) << 29;
+        words[wordOffset + 9] = (values[offset + 15] & 0x7FFFF) >>> 3
+                | (values[offset + 16] & 0x7FFFF) << 16;
+        words[wordOffset + 10] = (values[offset + 16] & 0x7FFFF) >>> 16
+                | (values[offset + 17] & 0x7FFFF) << 3
+                | (values[offset + 18] & 0x7FFFF) << 22;
+        words[wordOffset + 11] = (values[offset + 18] & 0x7FFFF) >>> 10
+                | (values[offset + 19] & 0x7FFFF) << 9
+                | (values[offset + 20] & 0x7FFFF) << 28;
+        words[wordOffset + 12] = (values[offset + 20] & 0x7FFFF) >>> 4
+                | (values[offset + 21] & 0x7FFFF) << 15;
+        words[wordOffset + 13] = (values[offset + 21] & 0x7FFFF) >>> 17
+                | (values[offset + 22] & 0x7FFFF) << 2
+                | (values[offset + 23] & 0x7FFFF) << 21;
+        words[wordOffset + 14] = (values[offset + 23] & 0x7FFFF) >>> 11
+                | (values[offset + 24] & 0x7FFFF) << 8
+                | (values[offset + 25] & 0x7FFFF) << 27;
+        words[wordOffset + 15] = (values[offset + 25] & 0x7FFFF) >>> 5
+                | (values[offset + 26] & 0x7FFFF) << 14;
+        words[wordOffset + 16] = (values[offset + 26] & 0x7FFFF) >>> 18
+                | (values[offset + 27] & 0x7FFFF) << 1
+                | (values[offset + 28] & 0x7FFFF) << 20;
+        words[wordOffset + 17] = (values[offset + 28] & 0x7FFFF) >>> 12
+                | (values[offset + 29] & 0x7FFFF) << 7
+                | (values[offset + 30] & 0x7FFFF) << 26;
+        words[wordOffset + 18] = (values[offset + 30] & 0x7FFFF) >>> 6
+                | (values[offset + 31] & 0x7FFFF) << 13;
+    }
+
+    private static void pack20(int[] values, int offset, int[] words, int wordOffset) {
+        words[wordOffset] = (values[offset] & 0xFFFFF)
+                | (values[offset + 1] & 0xFFFFF) << 20;
+        words[wordOffset + 1] = (values[offset + 1] & 0xFFFFF) >>> 12
+                | (values[offset + 2] & 0xFFFFF) << 8
+                | (values[offset + 3] & 0xFFFFF) << 28;
+        words[wordOffset + 2] = (values[offset + 3] & 0xFFFFF) >>> 4
+                | (values[offset + 4] & 0xFFFFF) << 16;
+        words[wordOffset + 3] = (values[offset + 4] & 0xFFFFF) >>> 16
+                | (values[offset + 5] & 0xFFFFF) << 4
+                | (values[offset + 6] & 0xFFFFF) << 24;
+        words[wordOffset + 4] = (values[offset + 6] & 0xFFFFF) >>> 8
+                | (values[offset + 7] & 0xFFFFF) << 12;
+        words[wordOffset + 5] = (values[offset + 8] & 0xFFFFF)
+                | (values[offset + 9] & 0xFFFFF) << 20;
+        words[wordOffset + 6] = (values[offset + 9] & 0xFFFFF) >>> 12
+                | (values[offset + 10] & 0xFFFFF) << 8
+                | (values[offset + 11] & 0xFFFFF) << 28;
+        words[wordOffset + 7] = (values[offset + 11] & 0xFFFFF) >>> 4
+                | (values[offset + 12] & 0xFFFFF) << 16;
+        words[wordOffset + 8] = (values[offset + 12] & 0xFFFFF) >>> 16
+                | (values[offset + 13] & 0xFFFFF) << 4
+                | (values[offset + 14] & 0xFFFFF) << 24;
+        words[wordOffset + 9] = (values[offset + 14] & 0xFFFFF) >>> 8
+                | (values[offset + 15] & 0xFFFFF) << 12;
+        words[wordOffset + 10] = (values[offset + 16] & 0xFFFFF)
+                | (values[offset + 17] & 0xFFFFF) << 20;
+        words[wordOffset + 11] = (values[offset + 17] & 0xFFFFF) >>> 12
+                | (values[offset + 18] & 0xFFFFF) << 8
+                | (values[offset + 19] & 0xFFFFF) << 28;
+        words[wordOffset + 12] = (values[offset + 19] & 0xFFFFF) >>> 4
+                | (values[offset + 20] & 0xFFFFF) << 16;
+        words[wordOffset + 13] = (values[offset + 20] & 0xFFFFF) >>> 16
+                | (values[offset + 21] & 0xFFFFF) << 4
+                | (values[offset + 22] & 0xFFFFF) << 24;
+        words[wordOffset + 14] = (values[offset + 22] & 0xFFFFF) >>> 8
+                | (values[offset + 23] & 0xFFFFF) << 12;
+        words[wordOffset + 15] = (values[offset + 24] & 0xFFFFF)
+                | (values[offset + 25] & 0xFFFFF) << 20;
+        words[wordOffset + 16] = (values[offset + 25] & 0xFFFFF) >>> 12
+                | (values[offset + 26] & 0xFFFFF) << 8
+                | (values[offset + 27] & 0xFFFFF) << 28;
+        words[wordOffset + 17] = (values[offset + 27] & 0xFFFFF) >>> 4
+                | (values[offset + 28] & 0xFFFFF) << 16;
+        words[wordOffset + 18] = (values[offset + 28] & 0xFFFFF) >>> 16
+                | (values[offset + 29] & 0xFFFFF) << 4
+                | (values[offset + 30] & 0xFFFFF) << 24;
+        words[wordOffset + 19] = (values[offset + 30] & 0xFFFFF) >>> 8
+                | (values[offset + 31] & 0xFFFFF) << 12;
+    }
+
+    private static void pack21(int[] values, int offset, int[] words, int wordOffset) {
+        words[wordOffset] = (values[offset] & 0x1FFFFF)
+                | (values[offset + 1] & 0x1FFFFF) << 21;
+        words[wordOffset + 1] = (values[offset + 1] & 0x1FFFFF) >>> 11
+                | (values[offset + 2] & 0x1FFFFF) << 10
+                | (values[offset + 3] & 0x1FFFFF) << 31;
+        words[wordOffset + 2] = (values[offset + 3] & 0x1FFFFF) >>> 1
+                | (values[offset + 4] & 0x1FFFFF) << 20;
+        words[wordOffset + 3] = (values[offset + 4] & 0x1FFFFF) >>> 12
+                | (values[offset + 5] & 0x1FFFFF) << 9
+                | (values[offset + 6] & 0x1FFFFF) << 30;
+        words[wordOffset + 4] = (values[offset + 6] & 0x1FFFFF) >>> 2
+                | (values[offset + 7] & 0x1FFFFF) << 19;
+        words[wordOffset + 5] = (values[offset + 7] & 0x1FFFFF) >>> 13
+                | (values[offset + 8] & 0x1FFFFF) << 8
+                | (values[offset + 9] & 0x1FFFFF) << 29;
+        words[wordOffset + 6] = (values[offset + 9] & 0x1FFFFF) >>> 3
+                | (values[offset + 10] & 0x1FFFFF) << 18;
+        words[wordOffset + 7] = (values[offset + 10] & 0x1FFFFF) >>> 14
+                | (values[offset + 11] & 0x1FFFFF) << 7
+                | (values[offset + 12] & 0x1FFFFF) << 28;
+        words[wordOffset + 8] = (values[offset + 12] & 0x1FFFFF) >>> 4
+                | (values[offset + 13] & 0x1FFFFF) << 17;
+        words[wordOffset + 9] = (values[offset + 13] & 0x1FFFFF) >>> 15
+                | (values[offset + 14] & 0x1FFFFF) << 6
+                | (values[offset + 15] & 0x1FFFFF) << 27;
+        words[wordOffset + 10] = (values[offset + 15] & 0x1FFFFF) >>> 5
+                | (values[offset + 16] & 0x1FFFFF) << 16;
+        words[wordOffset + 11] = (values[offset + 16] & 0x1FFFFF) >>> 16
+                | (values[offset + 17] & 0x1FFFFF) << 5
+                | (values[offset + 18] & 0x1FFFFF) << 26;
+        words[wordOffset + 12] = (values[offset + 18] & 0x1FFFFF) >>> 6
+                | (values[offset + 19] & 0x1FFFFF) << 15;
+        words[wordOffset + 13] = (values[offset + 19] & 0x1FFFFF) >>> 17
+                | (values[offset + 20] & 0x1FFFFF) << 4
+                | (values[offset + 21] & 0x1FFFFF) << 25;
+        words[wordOffset + 14] = (values[offset + 21] & 0x1FFFFF) >>> 7
+                | (values[offset + 22] & 0x1FFFFF) << 14;
+        words[wordOffset + 15] = (values[offset + 22] & 0x1FFFFF) >>> 18
+                | (values[offset + 23] & 0x1FFFFF) << 3
+                | (values[offset + 24] & 0x1FFFFF) << 24;
+        words[wordOffset + 16] = (values[offset + 24] & 0x1FFFFF) >>> 8
+                | (values[offset + 25] & 0x1FFFFF) << 13;
+        words[wordOffset + 17] = (values[offset + 25] & 0x1FFFFF) >>> 19
+                | (values[offset + 26] & 0x1FFFFF) << 2
+                | (values[offset + 27] & 0x1FFFFF) << 23;
+        words[wordOffset + 18] = (values[offset + 27] & 0x1FFFFF) >>> 9
+                | (values[offset + 28] & 0x1FFFFF) << 12;
+        words[wordOffset + 19] = (values[offset + 28] & 0x1FFFFF) >>> 20
+                | (values[offset + 29] & 0x1FFFFF) << 1
+                | (values[offset + 30] & 0x1FFFFF) << 22;
+        words[wordOffset + 20] = (values[offset + 30] & 0x1FFFFF) >>> 10
+                | (values[offset + 31] & 0x1FFFFF) << 11;
+    }
+
+    private static void pack22(int[] values, int offset, int[] words, int wordOffset) {
+        words[wordOffset] = (values[offset] & 0x3FFFFF)
+                | (values[offset + 1] & 0x3FFFFF) << 22;
+        words[wordOffset + 1] = (values[offset + 1] & 0x3FFFFF) >>> 10
+                | (values[offset + 2] & 0x3FFFFF) << 12;
+        words[wordOffset + 2] = (values[offset + 2] & 0x3FFFFF) >>> 20
+                | (values[offset + 3] & 0x3FFFFF) << 2
+                | (values[offset + 4] & 0x3FFFFF) << 24;
+        words[wordOffset + 3] = (values[offset + 4] & 0x3FFFFF) >>> 8
+                | (values[offset + 5] & 0x3FFFFF) << 14;
+        words[wordOffset + 4] = (values[offset + 5] & 0x3FFFFF) >>> 18
+                | (values[offset + 6] & 0x3FFFFF) << 4
+                | (values[offset + 7] & 0x3FFFFF) << 26;
+        words[wordOffset + 5] = (values[offset + 7] & 0x3FFFFF) >>> 6
+                | (values[offset + 8] & 0x3FFFFF) << 16;
+        words[wordOffset + 6] = (values[offset + 8] & 0x3FFFFF) >>> 16
+                | (values[offset + 9] & 0x3FFFFF) << 6
+                | (values[offset + 10] & 0x3FFFFF) << 28;
+        words[wordOffset + 7] = (values[offset + 10] & 0x3FFFFF) >>> 4
+                | (values[offset + 11] & 0x3FFFFF) << 18;
+        words[wordOffset + 8] = (values[offset + 11] & 0x3FFFFF) >>> 14
+                | (values[offset + 12] & 0x3FFFFF) << 8
+                | (values[offset + 13] & 0x3FFFFF) << 30;
+        words[wordOffset + 9] = (values[offset + 13] & 0x3FFFFF) >>> 2
+                | (values[offset + 14] & 0x3FFFFF) << 20;
+        words[wordOffset + 10] = (values[offset + 14] & 0x3FFFFF) >>> 12
+                | (values[offset + 15] & 0x3FFFFF) << 10;
+        words[wordOffset + 11] = (values[offset + 16] & 0x3FFFFF)
+                | (values[offset + 17] & 0x3FFFFF) << 22;
+        words[wordOffset + 12] = (values[offset + 17] & 0x3FFFFF) >>> 10
+                | (values[offset + 18] & 0x3FFFFF) << 12;
+        words[wordOffset + 13] = (values[offset + 18] & 0x3FFFFF) >>> 20
+                | (values[offset + 19] & 0x3FFFFF) << 2
+                | (values[offset + 20] & 0x3FFFFF) << 24;
+        words[wordOffset + 14] = (values[offset + 20] & 0x3FFFFF) >>> 8
+                | (values[offset + 21] & 0x3FFFFF) << 14;
+        words[wordOffset + 15] = (values[offset + 21] & 0x3FFFFF) >>> 18
+                | (values[offset + 22] & 0x3FFFFF) << 4
+                | (values[offset + 23] & 0x3FFFFF) << 26;
+        words[wordOffset + 16] = (values[offset + 23] & 0x3FFFFF) >>> 6
+                | (values[offset + 24] & 0x3FFFFF) << 16;
+        words[wordOffset + 17] = (values[offset + 24] & 0x3FFFFF) >>> 16
+                | (values[offset + 25] & 0x3FFFFF) << 6
+                | (values[offset + 26] & 0x3FFFFF) << 28;
+        words[wordOffset + 18] = (values[offset + 26] & 0x3FFFFF) >>> 4
+                | (values[offset + 27] & 0x3FFFFF) << 18;
+        words[wordOffset + 19] = (values[offset + 27] & 0x3FFFFF) >>> 14
+                | (values[offset + 28] & 0x3FFFFF) << 8
+                | (values[offset + 29] & 0x3FFFFF) << 30;
+        words[wordOffset + 20] = (values[offset + 29] & 0x3FFFFF) >>> 2
+                | (values[offset + 30] & 0x3FFFFF) << 20;
+        words[wordOffset + 21] = (values[offset + 30] & 0x3FFFFF) >>> 12
+                | (values[offset + 31] & 0x3FFFFF) << 10;
+    }
+
+    private static void pack23(int[] values, int offset, int[] words, int wordOffset) {
+        words[wordOffset] = (values[offset] & 0x7FFFFF)
+                | (values[offset + 1] & 0x7FFFFF) << 23;
+        words[wordOffset + 1] = (values[offset + 1] & 0x7FFFFF) >>> 9
+                | (values[offset + 2] & 0x7FFFFF) << 14;
+        words[wordOffset + 2] = (values[offset + 2] & 0x7FFFFF) >>> 18
+                | (values[offset + 3] & 0x7FFFFF) << 5
+                | (values[offset + 4] & 0x7FFFFF) << 28;
+        words[wordOffset + 3] = (values[offset + 4] & 0x7FFFFF) >>> 4
+                | (values[offset + 5] & 0x7FFFFF) << 19;
+        words[wordOffset + 4] = (values[offset + 5] & 0x7FFFFF) >>> 13
+                | (values[offset + 6] & 0x7FFFFF) << 10;
+        words[wordOffset + 5] = (values[offset + 6] & 0x7FFFFF) >>> 22
+                | (values[offset + 7] & 0x7FFFFF) << 1
+                | (values[offset + 8] & 0x7FFFFF) << 24;
+        words[wordOffset + 6] = (values[offset + 8] & 0x7FFFFF) >>> 8
+                | (values[offset + 9] & 0x7FFFFF) << 15;
+        words[wordOffset + 7] = (values[offset + 9] & 0x7FFFFF) >>> 17
+                | (values[offset + 10] & 0x7FFFFF) << 6
+                | (values[offset + 11] & 0x7FFFFF) << 29;
+        words[wordOffset + 8] = (values[offset + 11] & 0x7FFFFF) >>> 3
+                | (values[offset + 12] & 0x7FFFFF) << 20;
+        words[wordOffset + 9] = (values[offset + 12] & 0x7FFFFF) >>> 12
+                | (values[offset + 13] & 0x7FFFFF) << 11;
+        words[wordOffset + 10] = (values[offset + 13] & 0x7FFFFF) >>> 21
+                | (values[offset + 14] & 0x7FFFFF) << 2
+                | (values[offset + 15] & 0x7FFFFF) << 25;
+        words[wordOffset + 11] = (values[offset + 15] & 0x7FFFFF) >>> 7
+                | (values[offset + 16] & 0x7FFFFF) << 16;
+        words[wordOffset + 12] = (values[offset + 16] & 0x7FFFFF) >>> 16
+                | (values[offset + 17] & 0x7FFFFF) << 7
+                | (values[offset + 18] & 0x7FFFFF) << 30;
+        words[wordOffset + 13] = (values[offset + 18] & 0x7FFFFF) >>> 2
+                | (values[offset + 19] & 0x7FFFFF) << 21;
+        words[wordOffset + 14] = (values[offset + 19] & 0x7FFFFF) >>> 11
+                | (values[offset + 20] & 0x7FFFFF) << 12;
+        words[wordOffset + 15] = (values[offset + 20] & 0x7FFFFF) >>> 20
+                | (values[offset + 21] & 0x7FFFFF) << 3
+                | (values[offset + 22] & 0x7FFFFF) << 26;
+        words[wordOffset + 16] = (values[offset + 22] & 0x7FFFFF) >>> 6
+                | (values[offset + 23] & 0x7FFFFF) << 17;
+        words[wordOffset + 17] = (values[offset + 23] & 0x7FFFFF) >>> 15
+                | (values[offset + 24] & 0x7FFFFF) << 8
+                | (values[offset + 25] & 0x7FFFFF) << 31;
+        words[wordOffset + 18] = (values[offset + 25] & 0x7FFFFF) >>> 1
+                | (values[offset + 26] & 0x7FFFFF) << 22;
+        words[wordOffset + 19] = (values[offset + 26] & 0x7FFFFF) >>> 10
+                | (values[offset + 27] & 0x7FFFFF) << 13;
+        words[wordOffset + 20] = (values[offset + 27] & 0x7FFFFF) >>> 19
+                | (values[offset + 28] & 0x7FFFFF) << 4
+                | (values[offset + 29] & 0x7FFFFF) << 27;
+        words[wordOffset + 21] = (values[offset + 29] & 0x7FFFFF) >>> 5
+                | (values[offset + 30] & 0x7FFFFF) << 18;
+        words[wordOffset + 22] = (values[offset + 30] & 0x7FFFFF) >>> 14
+                | (values[offset + 31] & 0x7FFFFF) << 9;
+    }
+
+    private static void pack24(int[] values, int offset, int[] words, int wordOffset) {
+        words[wordOffset] = (values[offset] & 0xFFFFFF)
+                | (values[offset + 1] & 0xFFFFFF) << 24;
+        words[wordOffset + 1] = (values[offset + 1] & 0xFFFFFF) >>> 8
+                | (values[offset + 2] & 0xFFFFFF) << 16;
+        words[wordOffset + 2] = (values[offset + 2] & 0xFFFFFF) >>> 16
+                | (values[offset + 3] & 0xFFFFFF) << 8;
+        words[wordOffset + 3] = (values[offset + 4] & 0xFFFFFF)
+                | (values[offset + 5] & 0xFFFFFF) << 24;
+        words[wordOffset + 4] = (values[offset + 5] & 0xFFFFFF) >>> 8
+                | (values[offset + 6] & 0xFFFFFF) << 16;
+        words[wordOffset + 5] = (values[offset + 6] & 0xFFFFFF) >>> 16
+                | (values[offset + 7] & 0xFFFFFF) << 8;
+        words[wordOffset + 6] = (values[offset + 8] & 0xFFFFFF)
+                | (values[offset + 9] & 0xFFFFFF) << 24;
+        words[wordOffset + 7] = (values[offset + 9] & 0xFFFFFF) >>> 8
+                | (values[offset + 10] & 0xFFFFFF) << 16;
+        words[wordOffset + 8] = (values[offset + 10] & 0xFFFFFF) >>> 16
+                | (values[offset + 11] & 0xFFFFFF) << 8;
+        words[wordOffset + 9] = (values[offset + 12] & 0xFFFFFF)
+                | (values[offset + 13] & 0xFFFFFF) << 24;
+        words[wordOffset + 10] = (values[offset + 13] & 0xFFFFFF) >>> 8
+                | (values[offset + 14] & 0xFFFFFF) << 16;
+        words[wordOffset + 11] = (values[offset + 14] & 0xFFFFFF) >>> 16
+                | (values[offset + 15] & 0xFFFFFF) << 8;
+        words[wordOffset + 12] = (values[offset + 16] & 0xFFFFFF)
+                | (values[offset + 17] & 0xFFFFFF) << 24;
+        words[wordOffset + 13] = (values[offset + 17] & 0xFFFFFF) >>> 8
+                | (values[offset + 18] & 0xFFFFFF) << 16;
+        words[wordOffset + 14] = (values[offset + 18] & 0xFFFFFF) >>> 16
+                | (values[offset + 19] & 0xFFFFFF) << 8;
+        words[wordOffset + 15] = (values[offset + 20] & 0xFFFFFF)
+                | (values[offset + 21] & 0xFFFFFF) << 24;
+        words[wordOffset + 16] = (values[offset + 21] & 0xFFFFFF) >>> 8
+                | (values[offset + 22] & 0xFFFFFF) << 16;
+        words[wordOffset + 17] = (values[offset + 22] & 0xFFFFFF) >>> 16
+                | (values[offset + 23] & 0xFFFFFF) << 8;
+        words[wordOffset + 18] = (values[offset + 24] & 0xFFFFFF)
+                | (values[offset + 25] & 0xFFFFFF) << 24;
+        words[wordOffset + 19] = (values[offset + 25] & 0xFFFFFF) >>> 8
+                | (values[offset + 26] & 0xFFFFFF) << 16;
+        words[wordOffset + 20] = (values[offset + 26] & 0xFFFFFF) >>> 16
+                | (values[offset + 27] & 0xFFFFFF) << 8;
+        words[wordOffset + 21] = (values[offset + 28] & 0xFFFFFF)
+                | (values[offset + 29] & 0xFFFFFF) << 24;
+        words[wordOffset + 22] = (values[offset + 29] & 0xFFFFFF) >>> 8
+                | (values[offset + 30] & 0xFFFFFF) << 16;
+        words[wordOffset + 23] = (values[offset + 30] & 0xFFFFFF) >>> 16
+                | (values[offset + 31] & 0xFFFFFF) << 8;
+    }
+
+    private static void pack25(int[] values, int offset, int[] words, int wordOffset) {
+        words[wordOffset] = (values[offset] & 0x1FFFFFF)
+                | (values[offset + 1] & 0x1FFFFFF) << 25;
+        words[wordOffset + 1] = (values[offset + 1] & 0x1FFFFFF) >>> 7
+                | (values[offset + 2] & 0x1FFFFFF) << 18;
+        words[wordOffset + 2] = (values[offset + 2] & 0x1FFFFFF) >>> 14
+                | (values[offset + 3] & 0x1FFFFFF) << 11;
+        words[wordOffset + 3] = (values[offset + 3] & 0x1FFFFFF) >>> 21
+                | (values[offset + 4] & 0x1FFFFFF) << 4
+                | (values[offset + 5] & 0x1FFFFFF) << 29;
+        words[wordOffset + 4] = (values[offset + 5] & 0x1FFFFFF) >>> 3
+                | (values[offset + 6] & 0x1FFFFFF) << 22;
+        words[wordOffset + 5] = (values[offset + 6] & 0x1FFFFFF) >>> 10
+                | (values[offset + 7] & 0x1FFFFFF) << 15;
+        words[wordOffset + 6] = (values[offset + 7] & 0x1FFFFFF) >>> 17
+                | (values[offset + 8] & 0x1FFFFFF) << 8;
+        words[wordOffset + 7] = (values[offset + 8] & 0x1FFFFFF) >>> 24
+                | (values[offset + 9] & 0x1FFFFFF) << 1
+                | (values[offset + 10] & 0x1FFFFFF) << 26;
+        words[wordOffset + 8] = (values[offset + 10] & 0x1FFFFFF) >>> 6
+                | (values[offset + 11] & 0x1FFFFFF) << 19;
+        words[wordOffset + 9] = (values[offset + 11] & 0x1FFFFFF) >>> 13
+                | (values[offset + 12] & 0x1FFFFFF) << 12;
+        words[wordOffset + 10] = (values[offset + 12] & 0x1FFFFFF) >>> 20
+                | (values[offset + 13] & 0x1FFFFFF) << 5
+                | (values[offset + 14] & 0x1FFFFFF) << 30;
+        words[wordOffset + 11] = (values[offset + 14] & 0x1FFFFFF) >>> 2
+                | (values[offset + 15] & 0x1FFFFFF) << 23;
+        words[wordOffset + 12] = (values[offset + 15] & 0x1FFFFFF) >>> 9
+                | (values[offset + 16] & 0x1FFFFFF) << 16;
+        words[wordOffset + 13] = (values[offset + 16] & 0x1FFFFFF) >>> 16
+                | (values[offset + 17] & 0x1FFFFFF) << 9;
+        words[wordOffset + 14] = (values[offset + 17] & 0x1FFFFFF) >>> 23
+                | (values[offset + 18] & 0x1FFFFFF) << 2
+                | (values[offset + 19] & 0x1FFFFFF) << 27;
+        words[wordOffset + 15] = (values[offset + 19] & 0x1FFFFFF) >>> 5
+                | (values[offset + 20] & 0x1FFFFFF) << 20;
+        words[wordOffset + 16] = (values[offset + 20] & 0x1FFFFFF) >>> 12
+                | (values[offset + 21] & 0x1FFFFFF) << 13;
+        words[wordOffset + 17] = (values[offset + 21] & 0x1FFFFFF) >>> 19
+                | (values[offset + 22] & 0x1FFFFFF) << 6
+                | (values[offset + 23] & 0x1FFFFFF) << 31;
+        words[wordOffset + 18] = (values[offset + 23] & 0x1FFFFFF) >>> 1
+                | (values[offset + 24] & 0x1FFFFFF) << 24;
+        words[wordOffset + 19] = (values[offset + 24] & 0x1FFFFFF) >>> 8
+                | (values[offset + 25] & 0x1FFFFFF) << 17;
+        words[wordOffset + 20] = (values[offset + 25] & 0x1FFFFFF) >>> 15
+                | (values[offset + 26] & 0x1FFFFFF) << 10;
+        words[wordOffset + 21] = (values[offset + 26] & 0x1FFFFFF) >>> 22
+                | (values[offset + 27] & 0x1FFFFFF) << 3
+                | (values[offset + 28] & 0x1FFFFFF) << 28;
+        words[wordOffset + 22] = (values[offset + 28] & 0x1FFFFFF) >>> 4
+                | (values[offset + 29] & 0x1FFFFFF) << 21;
+        words[wordOffset + 23] = (values[offset + 29] & 0x1FFFFFF) >>> 11
+                | (values[offset + 30] & 0x1FFFFFF) << 14;
+        words[wordOffset + 24] = (values[offset + 30] & 0x1FFFFFF) >>> 18
+                | (values[offset + 31] & 0x1FFFFFF) << 7;
+    }
+
+    private static void pack26(int[] values, int offset, int[] words, int wordOffset) {
+        words[wordOffset] = (values[offset] & 0x3FFFFFF)
+                | (values[offset + 1] & 0x3FFFFFF) << 26;
+        words[wordOffset + 1] = (values[offset + 1] & 0x3FFFFFF) >>> 6
+                | (values[offset + 2] & 0x3FFFFFF) << 20;
+        words[wordOffset + 2] = (values[offset + 2] & 0x3FFFFFF) >>> 12
+                | (values[offset + 3] & 0x3FFFFFF) << 14;
+        words[wordOffset + 3] = (values[offset + 3] & 0x3FFFFFF) >>> 18
+                | (values[offset + 4] & 0x3FFFFFF) << 8;
+        words[wordOffset + 4] = (values[offset + 4] & 0x3FFFFFF) >>> 24
+                | (values[offset + 5] & 0x3FFFFFF) << 2
+                | (values[offset + 6] & 0x3FFFFFF) << 28;
+        words[wordOffset + 5] = (values[offset + 6] & 0x3FFFFFF) >>> 4
+                | (values[offset + 7] & 0x3FFFFFF) << 22;
+        words[wordOffset + 6] = (values[offset + 7] & 0x3FFFFFF) >>> 10
+                | (values[offset + 8] & 0x3FFFFFF) << 16;
+        words[wordOffset + 7] = (values[offset + 8] & 0x3FFFFFF) >>> 16
+                | (values[offset + 9] & 0x3FFFFFF) << 10;
+        words[wordOffset + 8] = (values[offset + 9] & 0x3FFFFFF) >>> 22
+                | (values[offset + 10] & 0x3FFFFFF) << 4
+                | (values[offset + 11] & 0x3FFFFFF) << 30;
+        words[wordOffset + 9] = (values[offset + 11] & 0x3FFFFFF) >>> 2
+                | (values[offset + 12] & 0x3FFFFFF) << 24;
+        words[wordOffset + 10] = (values[offset + 12] & 0x3FFFFFF) >>> 8
+                | (values[offset + 13] & 0x3FFFFFF) << 18;
+        words[wordOffset + 11] = (values[offset + 13] & 0x3FFFFFF) >>> 14
+                | (values[offset + 14] & 0x3FFFFFF) << 12;
+        words[wordOffset + 12] = (values[offset + 14] & 0x3FFFFFF) >>> 20
+                | (values[offset + 15] & 0x3FFFFFF) << 6;
+        words[wordOffset + 13] = (values[offset + 16] & 0x3FFFFFF)
+                | (values[offset + 17] & 0x3FFFFFF) << 26;
+        words[wordOffset + 14] = (values[offset + 17] & 0x3FFFFFF) >>> 6
+                | (values[offset + 18] & 0x3FFFFFF) << 20;
+        words[wordOffset + 15] = (values[offset + 18] & 0x3FFFFFF) >>> 12
+                | (values[offset + 19] & 0x3FFFFFF) << 14;
+        words[wordOffset + 16] = (values[offset + 19] & 0x3FFFFFF) >>> 18
+                | (values[offset + 20] & 0x3FFFFFF) << 8;
+        words[wordOffset + 17] = (values[offset + 20] & 0x3FFFFFF) >>> 24
+                | (values[offset + 21] & 0x3FFFFFF) << 2
+                | (values[offset + 22] & 0x3FFFFFF) << 28;
+        words[wordOffset + 18] = (values[offset + 22] & 0x3FFFFFF) >>> 4
+                | (values[offset + 23] & 0x3FFFFFF) << 22;
+        words[wordOffset + 19] = (values[offset + 23] & 0x3FFFFFF) >>> 10
+                | (values[offset + 24] & 0x3FFFFFF) << 16;
+        words[wordOffset + 20] = (values[offset + 24] & 0x3FFFFFF) >>> 16
+                | (values[offset + 25] & 0x3FFFFFF) << 10;
+        words[wordOffset + 21] = (values[offset + 25] & 0x3FFFFFF) >>> 22
+                | (values[offset + 26] & 0x3FFFFFF) << 4
+                | (values[offset + 27] & 0x3FFFFFF) << 30;
+        words[wordOffset + 22] = (values[offset + 27] & 0x3FFFFFF) >>> 2
+                | (values[offset + 28] & 0x3FFFFFF) << 24;
+        words[wordOffset + 23] = (values[offset + 28] & 0x3FFFFFF) >>> 8
+                | (values[offset + 29] & 0x3FFFFFF) << 18;
+        words[wordOffset + 24] = (values[offset + 29] & 0x3FFFFFF) >>> 14
+                | (values[offset + 30] & 0x3FFFFFF) << 12;
+        words[wordOffset + 25] = (values[offset + 30] & 0x3FFFFFF) >>> 20
+                | (values[offset + 31] & 0x3FFFFFF) << 6;
+    }
+
+    private static void pack27(int[] values, int offset, int[] words, int wordOffset) {
+        words[wordOffset] = (values[offset] & 0x7FFFFFF)
+                | (values[offset + 1] & 0x7FFFFFF) << 27;
+        words[wordOffset + 1] = (values[offset + 1] & 0x7FFFFFF) >>> 5
+                | (values[offset + 2] & 0x7FFFFFF) << 22;
+        words[wordOffset + 2] = (values[offset + 2] & 0x7FFFFFF) >>> 10
+                | (values[offset + 3] & 0x7FFFFFF) << 17;
+        words[wordOffset + 3] = (values[offset + 3] & 0x7FFFFFF) >>> 15
+                | (values[offset + 4] & 0x7FFFFFF) << 12;
+        words[wordOffset + 4] = (values[offset + 4] & 0x7FFFFFF) >>> 20
+                | (values[offset + 5] & 0x7FFFFFF) << 7;
+        words[wordOffset + 5] = (values[offset + 5] & 0x7FFFFFF) >>> 25
+                | (values[offset + 6] & 0x7FFFFFF) << 2
+                | (values[offset + 7] & 0x7FFFFFF) << 29;
+        words[wordOffset + 6] = (values[offset + 7] & 0x7FFFFFF) >>> 3
+                | (values[offset + 8] & 0x7FFFFFF) << 24;
+        words[wordOffset + 7] = (values[offset + 8] & 0x7FFFFFF) >>> 8
+                | (values[offset + 9] & 0x7FFFFFF) << 19;
+        words[wordOffset + 8] = (values[offset + 9] & 0x7FFFFFF) >>> 13
+                | (values[offset + 10] & 0x7FFFFFF) << 14;
+        words[wordOffset + 9] = (values[offset + 10] & 0x7FFFFFF) >>> 18
+                | (values[offset + 11] & 0x7FFFFFF) << 9;
+        words[wordOffset + 10] = (values[offset + 11] & 0x7FFFFFF) >>> 23
+                | (values[offset + 12] & 0x7FFFFFF) << 4
+                | (values[offset + 13] & 0x7FFFFFF) << 31;
+        words[wordOffset + 11] = (values[offset + 13] & 0x7FFFFFF) >>> 1
+                | (values[offset + 14] & 0x7FFFFFF) << 26;
+        words[wordOffset + 12] = (values[offset + 14] & 0x7FFFFFF) >>> 6
+                | (values[offset + 15] & 0x7FFFFFF) << 21;
+        words[wordOffset + 13] = (values[offset + 15] & 0x7FFFFFF) >>> 11
+                | (values[offset + 16] & 0x7FFFFFF) << 16;
+        words[wordOffset + 14] = (values[offset + 16] & 0x7FFFFFF) >>> 16
+                | (values[offset + 17] & 0x7FFFFFF) << 11;
+        words[wordOffset + 15] = (values[offset + 17] & 0x7FFFFFF) >>> 21
+                | (values[offset + 18] & 0x7FFFFFF) << 6;
+        words[wordOffset + 16] = (values[offset + 18] & 0x7FFFFFF) >>> 26
+                | (values[offset + 19] & 0x7FFFFFF) << 1
+                | (values[offset + 20] & 0x7FFFFFF) << 28;
+        words[wordOffset + 17] = (values[offset + 20] & 0x7FFFFFF) >>> 4
+                | (values[offset + 21] & 0x7FFFFFF) << 23;
+        words[wordOffset + 18] = (values[offset + 21] & 0x7FFFFFF) >>> 9
+                | (values[offset + 22] & 0x7FFFFFF) << 18;
+        words[wordOffset + 19] = (values[offset + 22] & 0x7FFFFFF) >>> 14
+                | (values[offset + 23] & 0x7FFFFFF) << 13;
+        words[wordOffset + 20] = (values[offset + 23] & 0x7FFFFFF) >>> 19
+                | (values[offset + 24] & 0x7FFFFFF) << 8;
+        words[wordOffset + 21] = (values[offset + 24] & 0x7FFFFFF) >>> 24
+                | (values[offset + 25] & 0x7FFFFFF) << 3
+                | (values[offset + 26] & 0x7FFFFFF) << 30;
+        words[wordOffset + 22] = (values[offset + 26] & 0x7FFFFFF) >>> 2
+                | (values[offset + 27] & 0x7FFFFFF) << 25;
+        words[wordOffset + 23] = (values[offset + 27] & 0x7FFFFFF) >>> 7
+                | (values[offset + 28] & 0x7FFFFFF) << 20;
+        words[wordOffset + 24] = (values[offset + 28] & 0x7FFFFFF) >>> 12
+                | (values[offset + 29] & 0x7FFFFFF) << 15;
+        words[wordOffset + 25] = (values[offset + 29] & 0x7FFFFFF) >>> 17
+                | (values[offset + 30] & 0x7FFFFFF) << 10;
+        words[wordOffset + 26] = (values[offset + 30] & 0x7FFFFFF) >>> 22
+                | (values[offset + 31] & 0x7FFFFFF) << 5;
+    }
+
+    private static void pack28(int[] values, int offset, int[] words, int wordOffset) {
+        words[wordOffset] = (values[offset] & 0xFFFFFFF)
+                | (values[offset + 1] & 0xFFFFFFF) << 28;
+        words[wordOffset + 1] = (values[offset + 1] & 0xFFFFFFF) >>> 4
+                | (values[offset + 2] & 0xFFFFFFF) << 24;
+        words[wordOffset + 2] = (values[offset + 2] & 0xFFFFFFF) >>> 8
+                | (values[offset + 3] & 0xFFFFFFF) << 20;
+        words[wordOffset + 3] = (values[offset + 3] & 0xFFFFFFF) >>> 12
+                | (values[offset + 4] & 0xFFFFFFF) << 16;
+        words[wordOffset + 4] = (values[offset + 4] & 0xFFFFFFF) >>> 16
+                | (values[offset + 5] & 0xFFFFFFF) << 12;
+        words[wordOffset + 5] = (values[offset + 5] & 0xFFFFFFF) >>> 20
+                | (values[offset + 6] & 0xFFFFFFF) << 8;
+        words[wordOffset + 6] = (values[offset + 6] & 0xFFFFFFF) >>> 24
+                | (values[offset + 7] & 0xFFFFFFF) << 4;
+        words[wordOffset + 7] = (values[offset + 8] & 0xFFFFFFF)
+                | (values[offset + 9] & 0xFFFFFFF) << 28;
+        words[wordOffset + 8] = (values[offset + 9] & 0xFFFFFFF) >>> 4
+                | (values[offset + 10] & 0xFFFFFFF) << 24;
+        words[wordOffset + 9] = (values[offset + 10] & 0xFFFFFFF) >>> 8
+                | (values[offset + 11] & 0xFFFFFFF) << 20;
+        words[wordOffset + 10] = (values[offset + 11] & 0xFFFFFFF) >>> 12
+                | (values[offset + 12] & 0xFFFFFFF) << 16;
+        words[wordOffset + 11] = (values[offset + 12] & 0xFFFFFFF) >>> 16
+                | (values[offset + 13] & 0xFFFFFFF) << 12;
+        words[wordOffset + 12] = (values[offset + 13] & 0xFFFFFFF) >>> 20
+                | (values[offset + 14] & 0xFFFFFFF) << 8;
+        words[wordOffset + 13] = (values[offset + 14] & 0xFFFFFFF) >>> 24
+                | (values[offset + 15] & 0xFFFFFFF) << 4;
+        words[wordOffset + 14] = (values[offset + 16] & 0xFFFFFFF)
+                | (values[offset + 17] & 0xFFFFFFF) << 28;
+        words[wordOffset + 15] = (values[offset + 17] & 0xFFFFFFF) >>> 4
+                | (values[offset + 18] & 0xFFFFFFF) << 24;
+        words[wordOffset + 16] = (values[offset + 18] & 0xFFFFFFF) >>> 8
+                | (values[offset + 19] & 0xFFFFFFF) << 20;
+        words[wordOffset + 17] = (values[offset + 19] & 0xFFFFFFF) >>> 12
+                | (values[offset + 20] & 0xFFFFFFF) << 16;
+        words[wordOffset + 18] = (values[offset + 20] & 0xFFFFFFF) >>> 16
+                | (values[offset + 21] & 0xFFFFFFF) << 12;
+        words[wordOffset + 19] = (values[offset + 21] & 0xFFFFFFF) >>> 20
+                | (values[offset + 22] & 0xFFFFFFF) << 8;
+        words[wordOffset + 20] = (values[offset + 22] & 0xFFFFFFF) >>> 24
+                | (values[offset + 23] & 0xFFFFFFF) << 4;
+        words[wordOffset + 21] = (values[offset + 24] & 0xFFFFFFF)
+                | (values[offset + 25] & 0xFFFFFFF) << 28;
+        words[wordOffset + 22] = (values[offset + 25] & 0xFFFFFFF) >>> 4
+                | (values[offset + 26] & 0xFFFFFFF) << 24;
+        words[wordOffset + 23] = (values[offset + 26] & 0xFFFFFFF) >>> 8
+                | (values[offset + 27] & 0xFFFFFFF) << 20;
+        words[wordOffset + 24] = (values[offset + 27] & 0xFFFFFFF) >>> 12
+                | (values[offset + 28] & 0xFFFFFFF) << 16;
+        words[wordOffset + 25] = (values[offset + 28] & 0xFFFFFFF) >>> 16
+                | (values[offset + 29] & 0xFFFFFFF) << 12;
+        words[wordOffset + 26] = (values[offset + 29] & 0xFFFFFFF) >>> 20
+                | (values[offset + 30] & 0xFFFFFFF) << 8;
+        words[wordOffset + 27] = (values[offset + 30] & 0xFFFFFFF) >>> 24
+                | (values[offset + 31] & 0xFFFFFFF) << 4;
+    }
+
+    private static void pack29(int[] values, int offset, int[] words, int wordOffset) {
+        words[wordOffset] = (values[offset] & 0x1FFFFFFF)
+                | (values[offset + 1] & 0x1FFFFFFF) << 29;
+        words[wordOffset + 1] = (values[offset + 1] & 0x1FFFFFFF) >>> 3
+                | (values[offset + 2] & 0x1FFFFFFF) << 26;
+        words[wordOffset + 2] = (values[offset + 2] & 0x1FFFFFFF) >>> 6
+                | (values[offset + 3] & 0x1FFFFFFF) << 23;
+        words[wordOffset + 3] = (values[offset + 3] & 0x1FFFFFFF) >>> 9
+                | (values[offset + 4] & 0x1FFFFFFF) << 20;
+        words[wordOffset + 4] = (values[offset + 4] & 0x1FFFFFFF) >>> 12
+                | (values[offset + 5] & 0x1FFFFFFF) << 17;
+        words[wordOffset + 5] = (values[offset + 5] & 0x1FFFFFFF) >>> 15
+                | (values[offset + 6] & 0x1FFFFFFF) << 14;
+        words[wordOffset + 6] = (values[offset + 6] & 0x1FFFFFFF) >>> 18
+                | (values[offset + 7] & 0x1FFFFFFF) << 11;
+        words[wordOffset + 7] = (values[offset + 7] & 0x1FFFFFFF) >>> 21
+                | (values[offset + 8] & 0x1FFFFFFF) << 8;
+        words[wordOffset + 8] = (values[offset + 8] & 0x1FFFFFFF) >>> 24
+                | (values[offset + 9] & 0x1FFFFFFF) << 5;
+        words[wordOffset + 9] = (values[offset + 9] & 0x1FFFFFFF) >>> 27
+                | (values[offset + 10] & 0x1FFFFFFF) << 2
+                | (values[offset + 11] & 0x1FFFFFFF) << 31;
+        words[wordOffset + 10] = (values[offset + 11] & 0x1FFFFFFF) >>> 1
+                | (values[offset + 12] & 0x1FFFFFFF) << 28;
+        words[wordOffset + 11] = (values[offset + 12] & 0x1FFFFFFF) >>> 4
+                | (values[offset + 13] & 0x1FFFFFFF) << 25;
+        words[wordOffset + 12] = (values[offset + 13] & 0x1FFFFFFF) >>> 7
+                | (values[offset + 14] & 0x1FFFFFFF) << 22;
+        words[wordOffset + 13] = (values[offset + 14] & 0x1FFFFFFF) >>> 10
+                | (values[offset + 15] & 0x1FFFFFFF) << 19;
+        words[wordOffset + 14] = (values[offset + 15] & 0x1FFFFFFF) >>> 13
+                | (values[offset + 16] & 0x1FFFFFFF) << 16;
+        words[wordOffset + 15] = (values[offset + 16] & 0x1FFFFFFF) >>> 16
+                | (values[offset + 17] & 0x1FFFFFFF) << 13;
+        words[wordOffset + 16] = (values[offset + 17] & 0x1FFFFFFF) >>> 19
+                | (values[offset + 18] & 0x1FFFFFFF) << 10;
+        words[wordOffset + 17] = (values[offset + 18] & 0x1FFFFFFF) >>> 22
+                | (values[offset + 19] & 0x1FFFFFFF) << 7;
+        words[wordOffset + 18] = (values[offset + 19] & 0x1FFFFFFF) >>> 25
+                | (values[offset + 20] & 0x1FFFFFFF) << 4;
+        words[wordOffset + 19] = (values[offset + 20] & 0x1FFFFFFF) >>> 28
+                | (values[offset + 21] & 0x1FFFFFFF) << 1
+                | (values[offset + 22] & 0x1FFFFFFF) << 30;
+        words[wordOffset + 20] = (values[offset + 22] & 0x1FFFFFFF) >>> 2
+                | (values[offset + 23] & 0x1FFFFFFF) << 27;
+        words[wordOffset + 21] = (values[offset + 23] & 0x1FFFFFFF) >>> 5
+                | (values[offset + 24] & 0x1FFFFFFF) << 24;
+        words[wordOffset + 22] = (values[offset + 24] & 0x1FFFFFFF) >>> 8
+                | (values[offset + 25] & 0x1FFFFFFF) << 21;
+        words[wordOffset + 23] = (values[offset + 25] & 0x1FFFFFFF) >>> 11
+                | (values[offset + 26] & 0x1FFFFFFF) << 18;
+        words[wordOffset + 24] = (values[offset + 26] & 0x1FFFFFFF) >>> 14
+                | (values[offset + 27] & 0x1FFFFFFF) << 15;
+        words[wordOffset + 25] = (values[offset + 27] & 0x1FFFFFFF) >>> 17
+                | (values[offset + 28] & 0x1FFFFFFF) << 12;
+        words[wordOffset + 26] = (values[offset + 28] & 0x1FFFFFFF) >>> 20
+                | (values[offset + 29] & 0x1FFFFFFF) << 9;
+        words[wordOffset + 27] = (values[offset + 29] & 0x1FFFFFFF) >>> 23
+                | (values[offset + 30] & 0x1FFFFFFF) << 6;
+        words[wordOffset + 28] = (values[offset + 30] & 0x1FFFFFFF) >>> 26
+                | (values[offset + 31] & 0x1FFFFFFF) << 3;
+    }
+
+    private static void pack30(int[] values, int offset, int[] words, int wordOffset) {
+        words[wordOffset] = (values[offset] & 0x3FFFFFFF)
+                | (values[offset + 1] & 0x3FFFFFFF) << 30;
+        words[wordOffset + 1] = (values[offset + 1] & 0x3FFFFFFF) >>> 2
+                | (values[offset + 2] & 0x3FFFFFFF) << 28;
+        words[wordOffset + 2] = (values[offset + 2] & 0x3FFFFFFF) >>> 4
+                | (values[offset + 3] & 0x3FFFFFFF) << 26;
+        words[wordOffset + 3] = (values[offset + 3] & 0x3FFFFFFF) >>> 6
+                | (values[offset + 4] & 0x3FFFFFFF) << 24;
+        words[wordOffset + 4] = (values[offset + 4] & 0x3FFFFFFF) >>> 8
+                | (values[offset + 5] & 0x3FFFFFFF) << 22;
+        words[wordOffset + 5] = (values[offset + 5] & 0x3FFFFFFF) >>> 10
+                | (values[offset + 6] & 0x3FFFFFFF) << 20;
+        words[wordOffset + 6] = (values[offset + 6] & 0x3FFFFFFF) >>> 12
+                | (values[offset + 7] & 0x3FFFFFFF) << 18;
+        words[wordOffset + 7] = (values[offset + 7] & 0x3FFFFFFF) >>> 14
+                | (values[offset + 8] & 0x3FFFFFFF) << 16;
+        words[wordOffset + 8] = (values[offset + 8] & 0x3FFFFFFF) >>> 16
+                | (values[offset + 9] & 0x3FFFFFFF) << 14;
+        words[wordOffset + 9] = (values[offset + 9] & 0x3FFFFFFF) >>> 18
+                | (values[offset + 10] & 0x3FFFFFFF) << 12;
+        words[wordOffset + 10] = (values[offset + 10] & 0x3FFFFFFF) >>> 20
+                | (values[offset + 11] & 0x3FFFFFFF) << 10;
+        words[wordOffset + 11] = (values[offset + 11] & 0x3FFFFFFF) >>> 22
+                | (values[offset + 12] & 0x3FFFFFFF) << 8;
+        words[wordOffset + 12] = (values[offset + 12] & 0x3FFFFFFF) >>> 24
+                | (values[offset + 13] & 0x3FFFFFFF) << 6;
+        words[wordOffset + 13] = (values[offset + 13] & 0x3FFFFFFF) >>> 26
+                | (values[offset + 14] & 0x3FFFFFFF) << 4;
+        words[wordOffset + 14] = (values[offset + 14] & 0x3FFFFFFF) >>> 28
+                | (values[offset + 15] & 0x3FFFFFFF) << 2;
+        words[wordOffset + 15] = (values[offset + 16] & 0x3FFFFFFF)
+                | (values[offset + 17] & 0x3FFFFFFF) << 30;
+        words[wordOffset + 16] = (values[offset + 17] & 0x3FFFFFFF) >>> 2
+                | (values[offset + 18] & 0x3FFFFFFF) << 28;
+        words[wordOffset + 17] = (values[offset + 18] & 0x3FFFFFFF) >>> 4
+                | (values[offset + 19] & 0x3FFFFFFF) << 26;
+        words[wordOffset + 18] = (values[offset + 19] & 0x3FFFFFFF) >>> 6
+                | (values[offset + 20] & 0x3FFFFFFF) << 24;
+        words[wordOffset + 19] = (values[offset + 20] & 0x3FFFFFFF) >>> 8
+                | (values[offset + 21] & 0x3FFFFFFF) << 22;
+        words[wordOffset + 20] = (values[offset + 21] & 0x3FFFFFFF) >>> 10
+                | (values[offset + 22] & 0x3FFFFFFF) << 20;
+        words[wordOffset + 21] = (values[offset + 22] & 0x3FFFFFFF) >>> 12
+                | (values[offset + 23] & 0x3FFFFFFF) << 18;
+        words[wordOffset + 22] = (values[offset + 23] & 0x3FFFFFFF) >>> 14
+                | (values[offset + 24] & 0x3FFFFFFF) << 16;
+        words[wordOffset + 23] = (values[offset + 24] & 0x3FFFFFFF) >>> 16
+                | (values[offset + 25] & 0x3FFFFFFF) << 14;
+        words[wordOffset + 24] = (values[offset + 25] & 0x3FFFFFFF) >>> 18
+                | (values[offset + 26] & 0x3FFFFFFF) << 12;
+        words[wordOffset + 25] = (values[offset + 26] & 0x3FFFFFFF) >>> 20
+                | (values[offset + 27] & 0x3FFFFFFF) << 10;
+        words[wordOffset + 26] = (values[offset + 27] & 0x3FFFFFFF) >>> 22
+                | (values[offset + 28] & 0x3FFFFFFF) << 8;
+        words[wordOffset + 27] = (values[offset + 28] & 0x3FFFFFFF) >>> 24
+                | (values[offset + 29] & 0x3FFFFFFF) << 6;
+        words[wordOffset + 28] = (values[offset + 29] & 0x3FFFFFFF) >>> 26
+                | (values[offset + 30] & 0x3FFFFFFF) << 4;
+        words[wordOffset + 29] = (values[offset + 30] & 0x3FFFFFFF) >>> 28
+                | (values[offset + 31] & 0x3FFFFFFF) << 2;
+    }
+
+    private static void pack31(int[] values, int offset, int[] words, int wordOffset) {
+        words[wordOffset] = (values[offset] & 0x7FFFFFFF)
+                | (values[offset + 1] & 0x7FFFFFFF) << 31;
+        words[wordOffset + 1] = (values[offset + 1] & 0x7FFFFFFF) >>> 1
+                | (values[offset + 2] & 0x7FFFFFFF) << 30;
+        words[wordOffset + 2] = (values[offset + 2] & 0x7FFFFFFF) >>> 2
+                | (values[offset + 3] & 0x7FFFFFFF) << 29;
+        words[wordOffset + 3] = (values[offset + 3] & 0x7FFFFFFF) >>> 3
+                | (values[offset + 4] & 0x7FFFFFFF) << 28;
+        words[wordOffset + 4] = (values[offset + 4] & 0x7FFFFFFF) >>> 4
+                | (values[offset + 5] & 0x7FFFFFFF) << 27;
+        words[wordOffset + 5] = (values[offset + 5] & 0x7FFFFFFF) >>> 5
+                | (values[offset + 6] & 0x7FFFFFFF) << 26;
+        words[wordOffset + 6] = (values[offset + 6] & 0x7FFFFFFF) >>> 6
+                | (values[offset + 7] & 0x7FFFFFFF) << 25;
+        words[wordOffset + 7] = (values[offset + 7] & 0x7FFFFFFF) >>> 7
+                | (values[offset + 8] & 0x7FFFFFFF) << 24;
+        words[wordOffset + 8] = (values[offset + 8] & 0x7FFFFFFF) >>> 8
+                | (values[offset + 9] & 0x7FFFFFFF) << 23;
+        words[wordOffset + 9] = (values[offset + 9] & 0x7FFFFFFF) >>> 9
+                | (values[offset + 10] & 0x7FFFFFFF) << 22;
+        words[wordOffset + 10] = (values[offset + 10] & 0x7FFFFFFF) >>> 10
+                | (values[offset + 11] & 0x7FFFFFFF) << 21;
+        words[wordOffset + 11] = (values[offset + 11] & 0x7FFFFFFF) >>> 11
+                | (values[offset + 12] & 0x7FFFFFFF) << 20;
+        words[wordOffset + 12] = (values[offset + 12] & 0x7FFFFFFF) >>> 12
+                | (values[offset + 13] & 0x7FFFFFFF) << 19;
+        words[wordOffset + 13] = (values[offset + 13] & 0x7FFFFFFF) >>> 13
+                | (values[offset + 14] & 0x7FFFFFFF) << 18;
+        words[wordOffset + 14] = (values[offset + 14] & 0x7FFFFFFF) >>> 14
+                | (values[offset + 15] & 0x7FFFFFFF) << 17;
+        words[wordOffset + 15] = (values[offset + 15] & 0x7FFFFFFF) >>> 15
+                | (values[offset + 16] & 0x7FFFFFFF) << 16;
+        words[wordOffset + 16] = (values[offset + 16] & 0x7FFFFFFF) >>> 16
+                | (values[offset + 17] & 0x7FFFFFFF) << 15;
+        words[wordOffset + 17] = (values[offset + 17] & 0x7FFFFFFF) >>> 17
+                | (values[offset + 18] & 0x7FFFFFFF) << 14;
+        words[wordOffset + 18] = (values[offset + 18] & 0x7FFFFFFF) >>> 18
+                | (values[offset + 19] & 0x7FFFFFFF) << 13;
+        words[wordOffset + 19] = (values[offset + 19] & 0x7FFFFFFF) >>> 19
+                | (values[offset + 20] & 0x7FFFFFFF) << 12;
+        words[wordOffset + 20] = (values[offset + 20] & 0x7FFFFFFF) >>> 20
+                | (values[offset + 21] & 0x7FFFFFFF) << 11;
+        words[wordOffset + 21] = (values[offset + 21] & 0x7FFFFFFF) >>> 21
+                | (values[offset + 22] & 0x7FFFFFFF) << 10;
+        words[wordOffset + 22] = (values[offset + 22] & 0x7FFFFFFF) >>> 22
+                | (values[offset + 23] & 0x7FFFFFFF) << 9;
+        words[wordOffset + 23] = (values[offset + 23] & 0x7FFFFFFF) >>> 23
+                | (values[offset + 24] & 0x7FFFFFFF) << 8;
+        words[wordOffset + 24] = (values[offset + 24] & 0x7FFFFFFF) >>> 24
+                | (values[offset + 25] & 0x7FFFFFFF) << 7;
+        words[wordOffset + 25] = (values[offset + 25] & 0x7FFFFFFF) >>> 25
+                | (values[offset + 26] & 0x7FFFFFFF) << 6;
+        words[wordOffset + 26] = (values[offset + 26] & 0x7FFFFFFF) >>> 26
+                | (values[offset + 27] & 0x7FFFFFFF) << 5;
+        words[wordOffset + 27] = (values[offset + 27] & 0x7FFFFFFF) >>> 27
+                | (values[offset + 28] & 0x7FFFFFFF) << 4;
+        words[wordOffset + 28] = (values[offset + 28] & 0x7FFFFFFF) >>> 28
+                | (values[offset + 29] & 0x7FFFFFFF) << 3;
+        words[wordOffset + 29] = (values[offset + 29] & 0x7FFFFFFF) >>> 29
+                | (values[offset + 30] & 0x7FFFFFFF) << 2;
+        words[wordOffset + 30] = (values[offset + 30] & 0x7FFFFFFF) >>> 30
+                | (values[offset + 31] & 0x7FFFFFFF) << 1;
+    }
+
+    private static void pack32(int[] values, int offset, int[] words, int wordOffset) {
+        words[wordOffset] = values[offset];
+        words[wordOffset + 1] = values[offset + 1];
+        words[wordOffset + 2] = values[offset + 2];
+        words[wordOffset + 3] = values[offset + 3];
+        words[wordOffset + 4] = values[offset + 4];
+        words[wordOffset + 5] = values[offset + 5];
+        words[wordOffset + 6] = values[offset + 6];
+        words[wordOffset + 7] = values[offset + 7];
+        words[wordOffset + 8] = values[offset + 8];
+        words[wordOffset + 9] = values[offset + 9];
+        words[wordOffset + 10] = values[offset + 10];
+        words[wordOffset + 11] = values[offset + 11];
+        words[wordOffset + 12] = values[offset + 12];
+        words[wordOffset + 13] = values[offset + 13];
+        words[wordOffset + 14] = values[offset + 14];
+        words[wordOffset + 15] = values[offset + 15];
+        words[wordOffset + 16] = values[offset + 16];
+        words[wordOffset + 17] = values[offset + 17];
+        words[wordOffset + 18] = values[offset + 18];
+        words[wordOffset + 19] = values[offset + 19];
+        words[wordOffset + 20] = values[offset + 20];
+        words[wordOffset + 21] = values[offset + 21];
+        words[wordOffset + 22] = values[offset + 22];
+        words[wordOffset + 23] = values[offset + 23];
+        words[wordOffset + 24] = values[offset + 24];
+        words[wordOffset + 25] = values[offset + 25];
+        words[wordOffset + 26] = values[offset + 26];
+        words[wordOffset + 27] = values[offset + 27];
+        words[wordOffset + 28] = values[offset + 28];
+        words[wordOffset + 29] = values[offset + 29];
+        words[wordOffset + 30] = values[offset + 30];
+        words[wordOffset + 31] = values[offset + 31];
+    }
+
+    private static void unpack1(int[] words, int wordOffset, int[] values, int offset) {
+        values[offset] = words[wordOffset] & 0x1;
+        values[offset + 1] = (words[wordOffset] >>> 1) & 0x1;
+        values[offset + 2] = (words[wordOffset] >>> 2) & 0x1;
+        values[offset + 3] = (words[wordOffset] >>> 3) & 0x1;
+        values[offset + 4] = (words[wordOffset] >>> 4) & 0x1;
+        values[offset + 5] = (words[wordOffset] >>> 5) & 0x1;
+        values[offset + 6] = (words[wordOffset] >>> 6) & 0x1;
+        values[offset + 7] = (words[wordOffset] >>> 7) & 0x1;
+        values[offset + 8] = (words[wordOffset] >>> 8) & 0x1;
+        values[offset + 9] = (words[wordOffset] >>> 9) & 0x1;
+        values[offset + 10] = (words[wordOffset] >>> 10) & 0x1;
+        values[offset + 11] = (words[wordOffset] >>> 11) & 0x1;
+        values[offset + 12] = (words[wordOffset] >>> 12) & 0x1;
+        values[offset + 13] = (words[wordOffset] >>> 13) & 0x1;
+        values[offset + 14] = (words[wordOffset] >>> 14) & 0x1;
+        values[offset + 15] = (words[wordOffset] >>> 15) & 0x1;
+        values[offset + 16] = (words[wordOffset] >>> 16) & 0x1;
+        values[offset + 17] = (words[wordOffset] >>> 17) & 0x1;
+        values[offset + 18] = (words[wordOffset] >>> 18) & 0x1;
+        values[offset + 19] = (words[wordOffset] >>> 19) & 0x1;
+        values[offset + 20] = (words[wordOffset] >>> 20) & 0x1;
+        values[offset + 21] = (words[wordOffset] >>> 21) & 0x1;
+        values[offset + 22] = (words[wordOffset] >>> 22) & 0x1;
+        values[offset + 23] = (words[wordOffset] >>> 23) & 0x1;
+        values[offset + 24] = (words[wordOffset] >>> 24) & 0x1;
+        values[offset + 25] = (words[wordOffset] >>> 25) & 0x1;
+        values[offset + 26] = (words[wordOffset] >>> 26) & 0x1;
+        values[offset + 27] = (words[wordOffset] >>> 27) & 0x1;
+        values[offset + 28] = (words[wordOffset] >>> 28) & 0x1;
+        values[offset + 29] = (words[wordOffset] >>> 29) & 0x1;
+        values[offset + 30] = (words[wordOffset] >>> 30) & 0x1;
+        values[offset + 31] = words[wordOffset] >>> 31;
+    }
+
+    private static void unpack2(int[] words, int wordOffset, int[] values, int offset) {
+        values[offset] = words[wordOffset] & 0x3;
+        values[offset + 1] = (words[wordOffset] >>> 2) & 0x3;
+        values[offset + 2] = (words[wordOffset] >>> 4) & 0x3;
+        values[offset + 3] = (words[wordOffset] >>> 6) & 0x3;
+        values[offset + 4] = (words[wordOffset] >>> 8) & 0x3;
+        values[offset + 5] = (words[wordOffset] >>> 10) & 0x3;
+        values[offset + 6] = (words[wordOffset] >>> 12) & 0x3;
+        values[offset + 7] = (words[wordOffset] >>> 14) & 0x3;
+        values[offset + 8] = (words[wordOffset] >>> 16) & 0x3;
+        values[offset + 9] = (words[wordOffset] >>> 18) & 0x3;
+        values[offset + 10] = (words[wordOffset] >>> 20) & 0x3;
+        values[offset + 11] = (words[wordOffset] >>> 22) & 0x3;
+        values[offset + 12] = (words[wordOffset] >>> 24) & 0x3;
+        values[offset + 13] = (words[wordOffset] >>> 26) & 0x3;
+        values[offset + 14] = (words[wordOffset] >>> 28) & 0x3;
+        values[offset + 15] = words[wordOffset] >>> 30;
+        values[offset + 16] = words[wordOffset + 1] & 0x3;
+        values[offset + 17] = (words[wordOffset + 1] >>> 2) & 0x3;
+        values[offset + 18] = (words[wordOffset + 1] >>> 4) & 0x3;
+        values[offset + 19] = (words[wordOffset + 1] >>> 6) & 0x3;
+        values[offset + 20] = (words[wordOffset + 1] >>> 8) & 0x3;
+        values[offset + 21] = (words[wordOffset + 1] >>> 10) & 0x3;
+        values[offset + 22] = (words[wordOffset + 1] >>> 12) & 0x3;
+        values[offset + 23] = (words[wordOffset + 1] >>> 14) & 0x3;
+        values[offset + 24] = (words[wordOffset + 1] >>> 16) & 0x3;
+        values[offset + 25] = (words[wordOffset + 1] >>> 18) & 0x3;
+        values[offset + 26] = (words[wordOffset + 1] >>> 20) & 0x3;
+        values[offset + 27] = (words[wordOffset + 1] >>> 22) & 0x3;
+        values[offset + 28] = (words[wordOffset + 1] >>> 24) & 0x3;
+        values[offset + 29] = (words[wordOffset + 1] >>> 26) & 0x3;
+        values[offset + 30] = (words[wordOffset + 1] >>> 28) & 0x3;
+        values[offset + 31] = words[wordOffset + 1] >>> 30;
+    }
+
+    private static void unpack3(int[] words, int wordOffset, int[] values, int offset) {
+        values[offset] = words[wordOffset] & 0x7;
+        values[offset + 1] = (words[wordOffset] >>> 3) & 0x7;
+        values[offset + 2] = (words[wordOffset] >>> 6) & 0x7;
+        values[offset + 3] = (words[wordOffset] >>> 9) & 0x7;
+        values[offset + 4] = (words[wordOffset] >>> 12) & 0x7;
+        values[offset + 5] = (words[wordOffset] >>> 15) & 0x7;
+        values[offset + 6] = (words[wordOffset] >>> 18) & 0x7;
+        values[offset + 7] = (words[wordOffset] >>> 21) & 0x7;
+        values[offset + 8] = (words[wordOffset] >>> 24) & 0x7;
+        values[offset + 9] = (words[wordOffset] >>> 27) & 0x7;
+        values[offset + 10] = (words[wordOffset] >>> 30 | words[wordOffset + 1] << 2) & 0x7;
+        values[offset + 11] = (words[wordOffset + 1] >>> 1) & 0x7;
+        values[offset + 12] = (words[wordOffset + 1] >>> 4) & 0x7;
+        values[offset + 13] = (words[wordOffset + 1] >>> 7) & 0x7;
+        values[offset + 14] = (words[wordOffset + 1] >>> 10) & 0x7;
+        values[offset + 15] = (words[wordOffset + 1] >>> 13) & 0x7;
+        values[offset + 16] = (words[wordOffset + 1] >>> 16) & 0x7;
+        values[offset + 17] = (words[wordOffset + 1] >>> 19) & 0x7;
+        values[offset + 18] = (words[wordOffset + 1] >>> 22) & 0x7;
+        values[offset + 19] = (words[wordOffset + 1] >>> 25) & 0x7;
+        values[offset + 20] = (words[wordOffset + 1] >>> 28) & 0x7;
+        values[offset + 21] = (words[wordOffset + 1] >>> 31 | words[wordOffset + 2] << 1) & 0x7;
+        values[offset + 22] = (words[wordOffset + 2] >>> 2) & 0x7;
+        values[offset + 23] = (words[wordOffset + 2] >>> 5) & 0x7;
+        values[offset + 24] = (words[wordOffset + 2] >>> 8) & 0x7;
+        values[offset + 25] = (words[wordOffset + 2] >>> 11) & 0x7;
+        values[offset + 26] = (words[wordOffset + 2] >>> 14) & 0x7;
+        values[offset + 27] = (words[wordOffset + 2] >>> 17) & 0x7;
+        values[offset + 28] = (words[wordOffset + 2] >>> 20) & 0x7;
+        values[offset + 29] = (words[wordOffset + 2] >>> 23) & 0x7;
+        values[offset + 30] = (words[wordOffset + 2] >>> 26) & 0x7;
+        values[offset + 31] = words[wordOffset + 2] >>> 29;
+    }
+
+    private static void unpack4(int[] words, int wordOffset, int[] values, int offset) {
+        values[offset] = words[wordOffset] & 0xF;
+        values[offset + 1] = (words[wordOffset] >>> 4) & 0xF;
+        values[offset + 2] = (words[wordOffset] >>> 8) & 0xF;
+        values[offset + 3] = (words[wordOffset] >>> 12) & 0xF;
+        values[offset + 4] = (words[wordOffset] >>> 16) & 0xF;
+        values[offset + 5] = (words[wordOffset] >>> 20) & 0xF;
+        values[offset + 6] = (words[wordOffset] >>> 24) & 0xF;
+        values[offset + 7] = words[wordOffset] >>> 28;
+        values[offset + 8] = words[wordOffset + 1] & 0xF;
+        values[offset + 9] = (words[wordOffset + 1] >>> 4) & 0xF;
+        values[offset + 10] = (words[wordOffset + 1] >>> 8) & 0xF;
+        values[offset + 11] = (words[wordOffset + 1] >>> 12) & 0xF;
+        values[offset + 12] = (words[wordOffset + 1] >>> 16) & 0xF;
+        values[offset + 13] = (words[wordOffset + 1] >>> 20) & 0xF;
+        values[offset + 14] = (words[wordOffset + 1] >>> 24) & 0xF;
+        values[offset + 15] = words[wordOffset + 1] >>> 28;
+        values[offset + 16] = words[wordOffset + 2] & 0xF;
+        values[offset + 17] = (words[wordOffset + 2] >>> 4) & 0xF;
+        values[offset + 18] = (words[wordOffset + 2] >>> 8) & 0xF;
+        values[offset + 19] = (words[wordOffset + 2] >>> 12) & 0xF;
+        values[offset + 20] = (words[wordOffset + 2] >>> 16) & 0xF;
+        values[offset + 21] = (words[wordOffset + 2] >>> 20) & 0xF;
+        values[offset + 22] = (words[wordOffset + 2] >>> 24) & 0xF;
+        values[offset + 23] = words[wordOffset + 2] >>> 28;
+        values[offset + 24] = words[wordOffset + 3] & 0xF;
+        values[offset + 25] = (words[wordOffset + 3] >>> 4) & 0xF;
+        values[offset + 26] = (words[wordOffset + 3] >>> 8) & 0xF;
+        values[offset + 27] = (words[wordOffset + 3] >>> 12) & 0xF;
+        values[offset + 28] = (words[wordOffset + 3] >>> 16) & 0xF;
+        values[offset + 29] = (words[wordOffset + 3] >>> 20) & 0xF;
+        values[offset + 30] = (words[wordOffset + 3] >>> 24) & 0xF;
+        values[offset + 31] = words[wordOffset + 3] >>> 28;
+    }
+
+    private static void unpack5(int[] words, int wordOffset, int[] values, int offset) {
+        values[offset] = words[wordOffset] & 0x1F;
+        values[offset + 1] = (words[wordOffset] >>> 5) & 0x1F;
+        values[offset + 2] = (words[wordOffset] >>> 10) & 0x1F;
+        values[offset + 3] = (words[wordOffset] >>> 15) & 0x1F;
+        values[offset + 4] = (words[wordOffset] >>> 20) & 0x1F;
+        values[offset + 5] = (words[wordOffset] >>> 25) & 0x1F;
+        values[offset + 6] = (words[wordOffset] >>> 30 | words[wordOffset + 1] << 2) & 0x1F;
+        values[offset + 7] = (words[wordOffset + 1] >>> 3) & 0x1F;
+        values[offset + 8] = (words[wordOffset + 1] >>> 8) & 0x1F;
+        values[offset + 9] = (words[wordOffset + 1] >>> 13) & 0x1F;
+        values[offset + 10] = (words[wordOffset + 1] >>> 18) & 0x1F;
+        values[offset + 11] = (words[wordOffset + 1] >>> 23) & 0x1F;
+        values[offset + 12] = (words[wordOffset + 1] >>> 28 | words[wordOffset + 2] << 4) & 0x1F;
+        values[offset + 13] = (words[wordOffset + 2] >>> 1) & 0x1F;
+        values[offset + 14] = (words[wordOffset + 2] >>> 6) & 0x1F;
+        values[offset + 15] = (words[wordOffset + 2] >>> 11) & 0x1F;
+        values[offset + 16] = (words[wordOffset + 2] >>> 16) & 0x1F;
+        values[offset + 17] = (words[wordOffset + 2] >>> 21) & 0x1F;
+        values[offset + 18] = (words[wordOffset + 2] >>> 26) & 0x1F;
+        values[offset + 19] = (words[wordOffset + 2] >>> 31 | words[wordOffset + 3] << 1) & 0x1F;
+        values[offset + 20] = (words[wordOffset + 3] >>> 4) & 0x1F;
+        values[offset + 21] = (words[wordOffset + 3] >>> 9) & 0x1F;
+        values[offset + 22] = (words[wordOffset + 3] >>> 14) & 0x1F;
+        values[offset + 23] = (words[wordOffset + 3] >>> 19) & 0x1F;
+        values[offset + 24] = (words[wordOffset + 3] >>> 24) & 0x1F;
+        values[offset + 25] = (words[wordOffset + 3] >>> 29 | words[wordOffset + 4] << 3) & 0x1F;
+        values[offset + 26] = (words[wordOffset + 4] >>> 2) & 0x1F;
+        values[offset + 27] = (words[wordOffset + 4] >>> 7) & 0x1F;
+        values[offset + 28] = (words[wordOffset + 4] >>> 12) & 0x1F;
+        values[offset + 29] = (words[wordOffset + 4] >>> 17) & 0x1F;
+        values[offset + 30] = (words[wordOffset + 4] >>> 22) & 0x1F;
+        values[offset + 31] = words[wordOffset + 4] >>> 27;
+    }
+
+    private static void unpack6(int[] words, int wordOffset, int[] values, int offset) {
+        values[offset] = words[wordOffset] & 0x3F;
+        values[offset + 1] = (words[wordOffset] >>> 6) & 0x3F;
+        values[offset + 2] = (words[wordOffset] >>> 12) & 0x3F;
+        values[offset + 3] = (words[wordOffset] >>> 18) & 0x3F;
+        values[offset + 4] = (words[wordOffset] >>> 24) & 0x3F;
+        values[offset + 5] = (words[wordOffset] >>> 30 | words[wordOffset + 1] << 2) & 0x3F;
+        values[offset + 6] = (words[wordOffset + 1] >>> 4) & 0x3F;
+        values[offset + 7] = (words[wordOffset + 1] >>> 10) & 0x3F;
+        values[offset + 8] = (words[wordOffset + 1] >>> 16) & 0x3F;
+        values[offset + 9] = (words[wordOffset + 1] >>> 22) & 0x3F;
+        values[offset + 10] = (words[wordOffset + 1] >>> 28 | words[wordOffset + 2] << 4) & 0x3F;
+        values[offset + 11] = (words[wordOffset + 2] >>> 2) & 0x3F;
+        values[offset + 12] = (words[wordOffset + 2] >>> 8) & 0x3F;
+        values[offset + 13] = (words[wordOffset + 2] >>> 14) & 0x3F;
+        values[offset + 14] = (words[wordOffset + 2] >>> 20) & 0x3F;
+        values[offset + 15] = words[wordOffset + 2] >>> 26;
+        values[offset + 16] = words[wordOffset + 3] & 0x3F;
+        values[offset + 17] = (words[wordOffset + 3] >>> 6) & 0x3F;
+        values[offset + 18] = (words[wordOffset + 3] >>> 12) & 0x3F;
+        values[offset + 19] = (words[wordOffset + 3] >>> 18) & 0x3F;
+        values[offset + 20] = (words[wordOffset + 3] >>> 24) & 0x3F;
+        values[offset + 21] = (words[wordOffset + 3] >>> 30 | words[wordOffset + 4] << 2) & 0x3F;
+        values[offset + 22] = (words[wordOffset + 4] >>> 4) & 0x3F;
+        values[offset + 23] = (words[wordOffset + 4] >>> 10) & 0x3F;
+        values[offset + 24] = (words[wordOffset + 4] >>> 16) & 0x3F;
+        values[offset + 25] = (words[wordOffset + 4] >>> 22) & 0x3F;
+        values[offset + 26] = (words[wordOffset + 4] >>> 28 | words[wordOffset + 5] << 4) & 0x3F;
+        values[offset + 27] = (words[wordOffset + 5] >>> 2) & 0x3F;
+        values[offset + 28] = (words[wordOffset + 5] >>> 8) & 0x3F;
+        values[offset + 29] = (words[wordOffset + 5] >>> 14) & 0x3F;
+        values[offset + 30] = (words[wordOffset + 5] >>> 20) & 0x3F;
+        values[offset + 31] = words[wordOffset + 5] >>> 26;
+    }
+
+    private static void unpack7(int[] words, int wordOffset, int[] values, int offset) {
+        values[offset] = words[wordOffset] & 0x7F;
+        values[offset + 1] = (words[wordOffset] >>> 7) & 0x7F;
+        values[offset + 2] = (words[wordOffset] >>> 14) & 0x7F;
+        values[offset + 3] = (words[wordOffset] >>> 21) & 0x7F;
+        values[offset + 4] = (words[wordOffset] >>> 28 | words[wordOffset + 1] << 4) & 0x7F;
+        values[offset + 5] = (words[wordOffset + 1] >>> 3) & 0x7F;
+        values[offset + 6] = (words[wordOffset + 1] >>> 10) & 0x7F;
+        values[offset + 7] = (words[wordOffset + 1] >>> 17) & 0x7F;
+        values[offset + 8] = (words[wordOffset + 1] >>> 24) & 0x7F;
+        values[offset + 9] = (words[wordOffset + 1] >>> 31 | words[wordOffset + 2] << 1) & 0x7F;
+        values[offset + 10] = (words[wordOffset + 2] >>> 6) & 0x7F;
+        values[offset + 11] = (words[wordOffset + 2] >>> 13) & 0x7F;
+        values[offset + 12] = (words[wordOffset + 2] >>> 20) & 0x7F;
+        values[offset + 13] = (words[wordOffset + 2] >>> 27 | words[wordOffset + 3] << 5) & 0x7F;
+        values[offset + 14] = (words[wordOffset + 3] >>> 2) & 0x7F;
+        values[offset + 15] = (words[wordOffset + 3] >>> 9) & 0x7F;
+        values[offset + 16] = (words[wordOffset + 3] >>> 16) & 0x7F;
+        values[offset + 17] = (words[wordOffset + 3] >>> 23) & 0x7F;
+        values[offset + 18] = (words[wordOffset + 3] >>> 30 | words[wordOffset + 4] << 2) & 0x7F;
+        values[offset + 19] = (words[wordOffset + 4] >>> 5) & 0x7F;
+        values[offset + 20] = (words[wordOffset + 4] >>> 12) & 0x7F;
+        values[offset + 21] = (words[wordOffset + 4] >>> 19) & 0x7F;
+        values[offset + 22] = (words[wordOffset + 4] >>> 26 | words[wordOffset + 5] << 6) & 0x7F;
+        values[offset + 23] = (words[wordOffset + 5] >>> 1) & 0x7F;
+        values[offset + 24] = (words[wordOffset + 5] >>> 8) & 0x7F;
+        values[offset + 25] = (words[wordOffset + 5] >>> 15) & 0x7F;
+        values[offset + 26] = (words[wordOffset + 5] >>> 22) & 0x7F;
+        values[offset + 27] = (words[wordOffset + 5] >>> 29 | words[wordOffset + 6] << 3) & 0x7F;
+        values[offset + 28] = (words[wordOffset + 6] >>> 4) & 0x7F;
+        values[offset + 29] = (words[wordOffset + 6] >>> 11) & 0x7F;
+        values[offset + 30] = (words[wordOffset + 6] >>> 18) & 0x7F;
+        values[offset + 31] = words[wordOffset + 6] >>> 25;
+    }
+
+    private static void unpack8(int[] words, int wordOffset, int[] values, int offset) {
+        values[offset] = words[wordOffset] & 0xFF;
+        values[offset + 1] = (words[wordOffset] >>> 8) & 0xFF;
+        values[offset + 2] = (words[wordOffset] >>> 16) & 0xFF;
+        values[offset + 3] = words[wordOffset] >>> 24;
+        values[offset + 4] = words[wordOffset + 1] & 0xFF;
+        values[offset + 5] = (words[wordOffset + 1] >>> 8) & 0xFF;
+        values[offset + 6] = (words[wordOffset + 1] >>> 16) & 0xFF;
+        values[offset + 7] = words[wordOffset + 1] >>> 24;
+        values[offset + 8] = words[wordOffset + 2] & 0xFF;
+        values[offset + 9] = (words[wordOffset + 2] >>> 8) & 0xFF;
+        values[offset + 10] = (words[wordOffset + 2] >>> 16) & 0xFF;
+        values[offset + 11] = words[wordOffset + 2] >>> 24;
+        values[offset + 12] = words[wordOffset + 3] & 0xFF;
+        values[offset + 13] = (words[wordOffset + 3] >>> 8) & 0xFF;
+        values[offset + 14] = (words[wordOffset + 3] >>> 16) & 0xFF;
+        values[offset + 15] = words[wordOffset + 3] >>> 24;
+        values[offset + 16] = words[wordOffset + 4] & 0xFF;
+        values[offset + 17] = (words[wordOffset + 4] >>> 8) & 0xFF;
+        values[offset + 18] = (words[wordOffset + 4] >>> 16) & 0xFF;
+        values[offset + 19] = words[wordOffset + 4] >>> 24;
+        values[offset + 20] = words[wordOffset + 5] & 0xFF;
+        values[offset + 21] = (words[wordOffset + 5] >>> 8) & 0xFF;
+        values[offset + 22] = (words[wordOffset + 5] >>> 16) & 0xFF;
+        values[offset + 23] = words[wordOffset + 5] >>> 24;
+        values[offset + 24] = words[wordOffset + 6] & 0xFF;
+        values[offset + 25] = (words[wordOffset + 6] >>> 8) & 0xFF;
+        values[offset + 26] = (words[wordOffset + 6] >>> 16) & 0xFF;
+        values[offset + 27] = words[wordOffset + 6] >>> 24;
+        values[offset + 28] = words[wordOffset + 7] & 0xFF;
+        values[offset + 29] = (words[wordOffset + 7] >>> 8) & 0xFF;
+        values[offset + 30] = (words[wordOffset + 7] >>> 16) & 0xFF;
+        values[offset + 31] = words[wordOffset + 7] >>> 24;
+    }
+
+    private static void unpack9(int[] words, int wordOffset, int[] values, int offset) {
+        values[offset] = words[wordOffset] & 0x1FF;
+        values[offset + 1] = (words[wordOffset] >>> 9) & 0x1FF;
+        values[offset + 2] = (words[wordOffset] >>> 18) & 0x1FF;
+        values[offset + 3] = (words[wordOffset] >>> 27 | words[wordOffset + 1] << 5) & 0x1FF;
+        values[offset + 4] = (words[wordOffset + 1] >>> 4) & 0x1FF;
+        values[offset + 5] = (words[wordOffset + 1] >>> 13) & 0x1FF;
+        values[offset + 6] = (words[wordOffset + 1] >>> 22) & 0x1FF;
+        values[offset + 7] = (words[wordOffset + 1] >>> 31 | words[wordOffset + 2] << 1) & 0x1FF;
+        values[offset + 8] = (words[wordOffset + 2] >>> 8) & 0x1FF;
+        values[offset + 9] = (words[wordOffset + 2] >>> 17) & 0x1FF;
+        values[offset + 10] = (words[wordOffset + 2] >>> 26 | words[wordOffset + 3] << 6) & 0x1FF;
+        values[offset + 11] = (words[wordOffset + 3] >>> 3) & 0x1FF;
+        values[offset + 12] = (words[wordOffset + 3] >>> 12) & 0x1FF;
+        values[offset + 13] = (words[wordOffset + 3] >>> 21) & 0x1FF;
+        values[offset + 14] = (words[wordOffset + 3] >>> 30 | words[wordOffset + 4] << 2) & 0x1FF;
+        values[offset + 15] = (words[wordOffset + 4] >>> 7) & 0x1FF;
+        values[offset + 16] = (words[wordOffset + 4] >>> 16) & 0x1FF;
+        values[offset + 17] = (words[wordOffset + 4] >>> 25 | words[wordOffset + 5] << 7) & 0x1FF;
+        values[offset + 18] = (words[wordOffset + 5] >>> 2) & 0x1FF;
+        values[offset + 19] = (words[wordOffset + 5] >>> 11) & 0x1FF;
+        values[offset + 20] = (words[wordOffset + 5] >>> 20) & 0x1FF;
+        values[offset + 21] = (words[wordOffset + 5] >>> 29 | words[wordOffset + 6] << 3) & 0x1FF;
+        values[offset + 22] = (words[wordOffset + 6] >>> 6) & 0x1FF;
+        values[offset + 23] = (words[wordOffset + 6] >>> 15) & 0x1FF;
+        values[offset + 24] = (words[wordOffset + 6] >>> 24 | words[wordOffset + 7] << 8) & 0x1FF;
+        values[offset + 25] = (words[wordOffset + 7] >>> 1) & 0x1FF;
+        values[offset + 26] = (words[wordOffset + 7] >>> 10) & 0x1FF;
+        values[offset + 27] = (words[wordOffset + 7] >>> 19) & 0x1FF;
+        values[offset + 28] = (words[wordOffset + 7] >>> 28 | words[wordOffset + 8] << 4) & 0x1FF;
+        values[offset + 29] = (words[wordOffset + 8] >>> 5) & 0x1FF;
+        values[offset + 30] = (words[wordOffset + 8] >>> 14) & 0x1FF;
+        values[offset + 31] = words[wordOffset + 8] >>> 23;
+    }
+
+    private static void unpack10(int[] words, int wordOffset, int[] values, int offset) {
+        values[offset] = words[wordOffset] & 0x3FF;
+        values[offset + 1] = (words[wordOffset] >>> 10) & 0x3FF;
+        values[offset + 2] = (words[wordOffset] >>> 20) & 0x3FF;
+        values[offset + 3] = (words[wordOffset] >>> 30 | words[wordOffset + 1] << 2) & 0x3FF;
+        values[offset + 4] = (words[wordOffset + 1] >>> 8) & 0x3FF;
+        values[offset + 5] = (words[wordOffset + 1] >>> 18) & 0x3FF;
+        values[offset + 6] = (words[wordOffset + 1] >>> 28 | words[wordOffset + 2] << 4) & 0x3FF;
+        values[offset + 7] = (words[wordOffset + 2] >>> 6) & 0x3FF;
+        values[offset + 8] = (words[wordOffset + 2] >>> 16) & 0x3FF;
+        values[offset + 9] = (words[wordOffset + 2] >>> 26 | words[wordOffset + 3] << 6) & 0x3FF;
+        values[offset + 10] = (words[wordOffset + 3] >>> 4) & 0x3FF;
+        values[offset + 11] = (words[wordOffset + 3] >>> 14) & 0x3FF;
+        values[offset + 12] = (words[wordOffset + 3] >>> 24 | words[wordOffset + 4] << 8) & 0x3FF;
+        values[offset + 13] = (words[wordOffset + 4] >>> 2) & 0x3FF;
+        values[offset + 14] = (words[wordOffset + 4] >>> 12) & 0x3FF;
+        values[offset + 15] = words[wordOffset + 4] >>> 22;
+        values[offset + 16] = words[wordOffset + 5] & 0x3FF;
+        values[offset + 17] = (words[wordOffset + 5] >>> 10) & 0x3FF;
+        values[offset + 18] = (words[wordOffset + 5] >>> 20) & 0x3FF;
+        values[offset + 19] = (words[wordOffset + 5] >>> 30 | words[wordOffset + 6] << 2) & 0x3FF;
+        values[offset + 20] = (words[wordOffset + 6] >>> 8) & 0x3FF;
+        values[offset + 21] = (words[wordOffset + 6] >>> 18) & 0x3FF;
+        values[offset + 22] = (words[wordOffset + 6] >>> 28 | words[wordOffset + 7] << 4) & 0x3FF;
+        values[offset + 23] = (words[wordOffset + 7] >>> 6) & 0x3FF;
+        values[offset + 24] = (words[wordOffset + 7] >>> 16) & 0x3FF;
+        values[offset + 25] = (words[wordOffset + 7] >>> 26 | words[wordOffset + 8] << 6) & 0x3FF;
+        values[offset + 26] = (words[wordOffset + 8] >>> 4) & 0x3FF;
+        values[offset + 27] = (words[wordOffset + 8] >>> 14) & 0x3FF;
+        values[offset + 28] = (words[wordOffset + 8] >>> 24 | words[wordOffset + 9] << 8) & 0x3FF;
+        values[offset + 29] = (words[wordOffset + 9] >>> 2) & 0x3FF;
+        values[offset + 30] = (words[wordOffset + 9] >>> 12) & 0x3FF;
+        values[offset + 31] = words[wordOffset + 9] >>> 22;
+    }
+
+    private static void unpack11(int[] words, int wordOffset, int[] values, int offset) {
+        values[offset] = words[wordOffset] & 0x7FF;
+        values[offset + 1] = (words[wordOffset] >>> 11) & 0x7FF;
+        values[offset + 2] = (words[wordOffset] >>> 22 | words[wordOffset + 1] << 10) & 0x7FF;
+        values[offset + 3] = (words[wordOffset + 1] >>> 1) & 0x7FF;
+        values[offset + 4] = (words[wordOffset + 1] >>> 12) & 0x7FF;
+        values[offset + 5] = (words[wordOffset + 1] >>> 23 | words[wordOffset + 2] << 9) & 0x7FF;
+        values[offset + 6] = (words[wordOffset + 2] >>> 2) & 0x7FF;
+        values[offset + 7] = (words[wordOffset + 2] >>> 13) & 0x7FF;
+        values[offset + 8] = (words[wordOffset + 2] >>> 24 | words[wordOffset + 3] << 8) & 0x7FF;
+        values[offset + 9] = (words[wordOffset + 3] >>> 3) & 0x7FF;
+        values[offset + 10] = (words[wordOffset + 3] >>> 14) & 0x7FF;
+        values[offset + 11] = (words[wordOffset + 3] >>> 25 | words[wordOffset + 4] << 7) & 0x7FF;
+        values[offset + 12] = (words[wordOffset + 4] >>> 4) & 0x7FF;
+        values[offset + 13] = (words[wordOffset + 4] >>> 15) & 0x7FF;
+        values[offset + 14] = (words[wordOffset + 4] >>> 26 | words[wordOffset + 5] << 6) & 0x7FF;
+        values[offset + 15] = (words[wordOffset + 5] >>> 5) & 0x7FF;
+        values[offset + 16] = (words[wordOffset + 5] >>> 16) & 0x7FF;
+        values[offset + 17] = (words[wordOffset + 5] >>> 27 | words[wordOffset + 6] << 5) & 0x7FF;
+        values[offset + 18] = (words[wordOffset + 6] >>> 6) & 0x7FF;
+        values[offset + 19] = (words[wordOffset + 6] >>> 17) & 0x7FF;
+        values[offset + 20] = (words[wordOffset + 6] >>> 28 | words[wordOffset + 7] << 4) & 0x7FF;
+        values[offset + 21] = (words[wordOffset + 7] >>> 7) & 0x7FF;
+        values[offset + 22] = (words[wordOffset + 7] >>> 18) & 0x7FF;
+        values[offset + 23] = (words[wordOffset + 7] >>> 29 | words[wordOffset + 8] << 3) & 0x7FF;
+        values[offset + 24] = (words[wordOffset + 8] >>> 8) & 0x7FF;
+        values[offset + 25] = (words[wordOffset + 8] >>> 19) & 0x7FF;
+        values[offset + 26] = (words[wordOffset + 8] >>> 30 | words[wordOffset + 9] << 2) & 0x7FF;
+        values[offset + 27] = (words[wordOffset + 9] >>> 9) & 0x7FF;
+        values[offset + 28] = (words[wordOffset + 9] >>> 20) & 0x7FF;
+        values[offset + 29] = (words[wordOffset + 9] >>> 31 | words[wordOffset + 10] << 1) & 0x7FF;
+        values[offset + 30] = (words[wordOffset + 10] >>> 10) & 0x7FF;
+        values[offset + 31] = words[wordOffset + 10] >>> 21;
+    }
+
+    private static void unpack12(int[] words, int wordOffset, int[] values, int offset) {
+        values[offset] = words[wordOffset] & 0xFFF;
+        values[offset + 1] = (words[wordOffset] >>> 12) & 0xFFF;
+        values[offset + 2] = (words[wordOffset] >>> 24 | words[wordOffset + 1] << 8) & 0xFFF;
+        values[offset + 3] = (words[wordOffset + 1] >>> 4) & 0xFFF;
+        values[offset + 4] = (words[wordOffset + 1] >>> 16) & 0xFFF;
+        values[offset + 5] = (words[wordOffset + 1] >>> 28 | words[wordOffset + 2] << 4) & 0xFFF;
+        values[offset + 6] = (words[wordOffset + 2] >>> 8) & 0xFFF;
+        values[offset + 7] = words[wordOffset + 2] >>> 20;
+        values[offset + 8] = words[wordOffset + 3] & 0xFFF;
+        values[offset + 9] = (words[wordOffset + 3] >>> 12) & 0xFFF;
+        values[offset + 10] = (words[wordOffset + 3] >>> 24 | words[wordOffset + 4] << 8) & 0xFFF;
+        values[offset + 11] = (words[wordOffset + 4] >>> 4) & 0xFFF;
+        values[offset + 12] = (words[wordOffset + 4] >>> 16) & 0xFFF;
+        values[offset + 13] = (words[wordOffset + 4] >>> 28 | words[wordOffset + 5] << 4) & 0xFFF;
+        values[offset + 14] = (words[wordOffset + 5] >>> 8) & 0xFFF;
+        values[offset + 15] = words[wordOffset + 5] >>> 20;
+        values[offset + 16] = words[wordOffset + 6] & 0xFFF;
+        values[offset + 17] = (words[wordOffset + 6] >>> 12) & 0xFFF;
+        values[offset + 18] = (words[wordOffset + 6] >>> 24 | words[wordOffset + 7] << 8) & 0xFFF;
+        values[offset + 19] = (words[wordOffset + 7] >>> 4) & 0xFFF;
+        values[offset + 20] = (words[wordOffset + 7] >>> 16) & 0xFFF;
+        values[offset + 21] = (words[wordOffset + 7] >>> 28 | words[wordOffset + 8] << 4) & 0xFFF;
+        values[offset + 22] = (words[wordOffset + 8] >>> 8) & 0xFFF;
+        values[offset + 23] = words[wordOffset + 8] >>> 20;
+        values[offset + 24] = words[wordOffset + 9] & 0xFFF;
+        values[offset + 25] = (words[wordOffset + 9] >>> 12) & 0xFFF;
+        values[offset + 26] = (words[wordOffset + 9] >>> 24 | words[wordOffset + 10] << 8) & 0xFFF;
+        values[offset + 27] = (words[wordOffset + 10] >>> 4) & 0xFFF;
+        values[offset + 28] = (words[wordOffset + 10] >>> 16) & 0xFFF;
+        values[offset + 29] = (words[wordOffset + 10] >>> 28 | words[wordOffset + 11] << 4) & 0xFFF;
+        values[offset + 30] = (words[wordOffset + 11] >>> 8) & 0xFFF;
+        values[offset + 31] = words[wordOffset + 11] >>> 20;
+    }
+
+    private static void unpack13(int[] words, int wordOffset, int[] values, int offset) {
+        values[offset] = words[wordOffset] & 0x1FFF;
+        values[offset + 1] = (words[wordOffset] >>> 13) & 0x1FFF;
+        values[offset + 2] = (words[wordOffset] >>> 26 | words[wordOffset + 1] << 6) & 0x1FFF;
+        values[offset + 3] = (words[wordOffset + 1] >>> 7) & 0x1FFF;
+        values[offset + 4] = (words[wordOffset + 1] >>> 20 | words[wordOffset + 2] << 12) & 0x1FFF;
+        values[offset + 5] = (words[wordOffset + 2] >>> 1) & 0x1FFF;
+        values[offset + 6] = (words[wordOffset + 2] >>> 14) & 0x1FFF;
+        values[offset + 7] = (words[wordOffset + 2] >>> 27 | words[wordOffset + 3] << 5) & 0x1FFF;
+        values[offset + 8] = (words[wordOffset + 3] >>> 8) & 0x1FFF;
+        values[offset + 9] = (words[wordOffset + 3] >>> 21 | words[wordOffset + 4] << 11) & 0x1FFF;
+        values[offset + 10] = (words[wordOffset + 4] >>> 2) & 0x1FFF;
+        values[offset + 11] = (words[wordOffset + 4] >>> 15) & 0x1FFF;
+        values[offset + 12] = (words[wordOffset + 4] >>> 28 | words[wordOffset + 5] << 4) & 0x1FFF;
+        values[offset + 13] = (words[wordOffset + 5] >>> 9) & 0x1FFF;
+        values[offset + 14] = (words[wordOffset + 5] >>> 22 | words[wordOffset + 6] << 10) & 0x1FFF;
+        values[offset + 15] = (words[wordOffset + 6] >>> 3) & 0x1FFF;
+        values[offset + 16] = (words[wordOffset + 6] >>> 16) & 0x1FFF;
+        values[offset + 17] = (words[wordOffset + 6] >>> 29 | words[wordOffset + 7] << 3) & 0x1FFF;
+        values[offset + 18] = (words[wordOffset + 7] >>> 10) & 0x1FFF;
+        values[offset + 19] = (words[wordOffset + 7] >>> 23 | words[wordOffset + 8] << 9) & 0x1FFF;
+        values[offset + 20] = (words[wordOffset + 8] >>> 4) & 0x1FFF;
+        values[offset + 21] = (words[wordOffset + 8] >>> 17) & 0x1FFF;
+        values[offset + 22] = (words[wordOffset + 8] >>> 30 | words[wordOffset + 9] << 2) & 0x1FFF;
+        values[offset + 23] = (words[wordOffset + 9] >>> 11) & 0x1FFF;
+        values[offset + 24] = (words[wordOffset + 9] >>> 24 | words[wordOffset + 10] << 8) & 0x1FFF;
+        values[offset + 25] = (words[wordOffset + 10] >>> 5) & 0x1FFF;
+        values[offset + 26] = (words[wordOffset + 10] >>> 18) & 0x1FFF;
+        values[offset + 27] = (words[wordOffset + 10] >>> 31 | words[wordOffset + 11] << 1) & 0x1FFF;
+        values[offset + 28] = (words[wordOffset + 11] >>> 12) & 0x1FFF;
+        values[offset + 29] = (words[wordOffset + 11] >>> 25 | words[wordOffset + 12] << 7) & 0x1FFF;
+        values[offset + 30] = (words[wordOffset + 12] >>> 6) & 0x1FFF;
+        values[offset + 31] = words[wordOffset + 12] >>> 19;
+    }
+
+    private static void unpack14(int[] words, int wordOffset, int[] values, int offset) {
+        values[offset] = words[wordOffset] & 0x3FFF;
+        values[offset + 1] = (words[wordOffset] >>> 14) & 0x3FFF;
+        values[offset + 2] = (words[wordOffset] >>> 28 | words[wordOffset + 1] << 4) & 0x3FFF;
+        values[offset + 3] = (words[wordOffset + 1] >>> 10) & 0x3FFF;
+        values[offset + 4] = (words[wordOffset + 1] >>> 24 | words[wordOffset + 2] << 8) & 0x3FFF;
+        values[offset + 5] = (words[wordOffset + 2] >>> 6) & 0x3FFF;
+        values[offset + 6] = (words[wordOffset + 2] >>> 20 | words[wordOffset + 3] << 12) & 0x3FFF;
+        values[offset + 7] = (words[wordOffset + 3] >>> 2) & 0x3FFF;
+        values[offset + 8] = (words[wordOffset + 3] >>> 16) & 0x3FFF;
+        values[offset + 9] = (words[wordOffset + 3] >>> 30 | words[wordOffset + 4] << 2) & 0x3FFF;
+        values[offset + 10] = (words[wordOffset + 4] >>> 12) & 0x3FFF;
+        values[offset + 11] = (words[wordOffset + 4] >>> 26 | words[wordOffset + 5] << 6) & 0x3FFF;
+        values[offset + 12] = (words[wordOffset + 5] >>> 8) & 0x3FFF;
+        values[offset + 13] = (words[wordOffset + 5] >>> 22 | words[wordOffset + 6] << 10) & 0x3FFF;
+        values[offset + 14] = (words[wordOffset + 6] >>> 4) & 0x3FFF;
+        values[offset + 15] = words[wordOffset + 6] >>> 18;
+        values[offset + 16] = words[wordOffset + 7] & 0x3FFF;
+        values[offset + 17] = (words[wordOffset + 7] >>> 14) & 0x3FFF;
+        values[offset + 18] = (words[wordOffset + 7] >>> 28 | words[wordOffset + 8] << 4) & 0x3FFF;
+        values[offset + 19] = (words[wordOffset + 8] >>> 10) & 0x3FFF;
+        values[offset + 20] = (words[wordOffset + 8] >>> 24 | words[wordOffset + 9] << 8) & 0x3FFF;
+        values[offset + 21] = (words[wordOffset + 9] >>> 6) & 0x3FFF;
+        values[offset + 22] = (words[wordOffset + 9] >>> 20 | words[wordOffset + 10] << 12) & 0x3FFF;
+        values[offset + 23] = (words[wordOffset + 10] >>> 2) & 0x3FFF;
+        values[offset + 24] = (words[wordOffset + 10] >>> 16) & 0x3FFF;
+        values[offset + 25] = (words[wordOffset + 10] >>> 30 | words[wordOffset + 11] << 2) & 0x3FFF;
+        values[offset + 26] = (words[wordOffset + 11] >>> 12) & 0x3FFF;
+        values[offset + 27] = (words[wordOffset + 11] >>> 26 | words[wordOffset + 12] << 6) & 0x3FFF;
+        values[offset + 28] = (words[wordOffset + 12] >>> 8) & 0x3FFF;
+        values[offset + 29] = (words[wordOffset + 12] >>> 22 | words[wordOffset + 13] << 10) & 0x3FFF;
+        values[offset + 30] = (words[wordOffset + 13] >>> 4) & 0x3FFF;
+        values[offset + 31] = words[wordOffset + 13] >>> 18;
+    }
+
+    private static void unpack15(int[] words, int wordOffset, int[] values, int offset) {
+        values[offset] = words[wordOffset] & 0x7FFF;
+        values[offset + 1] = (words[wordOffset] >>> 15) & 0x7FFF;
+        values[offset + 2] = (words[wordOffset] >>> 30 | words[wordOffset + 1] << 2) & 0x7FFF;
+        values[offset + 3] = (words[wordOffset + 1] >>> 13) & 0x7FFF;
+        values[offset + 4] = (words[wordOffset + 1] >>> 28 | words[wordOffset + 2] << 4) & 0x7FFF;
+        values[offset + 5] = (words[wordOffset + 2] >>> 11) & 0x7FFF;
+        values[offset + 6] = (words[wordOffset + 2] >>> 26 | words[wordOffset + 3] << 6) & 0x7FFF;
+        values[offset + 7] = (words[wordOffset + 3] >>> 9) & 0x7FFF;
+        values[offset + 8] = (words[wordOffset + 3] >>> 24 | words[wordOffset + 4] << 8) & 0x7FFF;
+        values[offset + 9] = (words[wordOffset + 4] >>> 7) & 0x7FFF;
+        values[offset + 10] = (words[wordOffset + 4] >>> 22 | words[wordOffset + 5] << 10) & 0x7FFF;
+        values[offset + 11] = (words[wordOffset + 5] >>> 5) & 0x7FFF;
+        values[offset + 12] = (words[wordOffset + 5] >>> 20 | words[wordOffset + 6] << 12) & 0x7FFF;
+        values[offset + 13] = (words[wordOffset + 6] >>> 3) & 0x7FFF;
+        values[offset + 14] = (words[wordOffset + 6] >>> 18 | words[wordOffset + 7] << 14) & 0x7FFF;
+        values[offset + 15] = (words[wordOffset + 7] >>> 1) & 0x7FFF;
+        values[offset + 16] = (words[wordOffset + 7] >>> 16) & 0x7FFF;
+        values[offset + 17] = (words[wordOffset + 7] >>> 31 | words[wordOffset + 8] << 1) & 0x7FFF;
+        values[offset + 18] = (words[wordOffset + 8] >>> 14) & 0x7FFF;
+        values[offset + 19] = (words[wordOffset + 8] >>> 29 | words[wordOffset + 9] << 3) & 0x7FFF;
+        values[offset + 20] = (words[wordOffset + 9] >>> 12) & 0x7FFF;
+        values[offset + 21] = (words[wordOffset + 9] >>> 27 | words[wordOffset + 10] << 5) & 0x7FFF;
+        values[offset + 22] = (words[wordOffset + 10] >>> 10) & 0x7FFF;
+        values[offset + 23] = (words[wordOffset + 10] >>> 25 | words[wordOffset + 11] << 7) & 0x7FFF;
+        values[offset + 24] = (words[wordOffset + 11] >>> 8) & 0x7FFF;
+        values[offset + 25] = (words[wordOffset + 11] >>> 23 | words[wordOffset + 12] << 9) & 0x7FFF;
+        values[offset + 26] = (words[wordOffset + 12] >>> 6) & 0x7FFF;
+        values[offset + 27] = (words[wordOffset + 12] >>> 21 | words[wordOffset + 13] << 11) & 0x7FFF;
+        values[offset + 28] = (words[wordOffset + 13] >>> 4) & 0x7FFF;
+        values[offset + 29] = (words[wordOffset + 13] >>> 19 | words[wordOffset + 14] << 13) & 0x7FFF;
+        values[offset + 30] = (words[wordOffset + 14] >>> 2) & 0x7FFF;
+        values[offset + 31] = words[wordOffset + 14] >>> 17;
+    }
+
+    private static void unpack16(int[] words, int wordOffset, int[] values, int offset) {
+        values[offset] = words[wordOffset] & 0xFFFF;
+        values[offset + 1] = words[wordOffset] >>> 16;
+        values[offset + 2] = words[wordOffset + 1] & 0xFFFF;
+        values[offset + 3] = words[wordOffset + 1] >>> 16;
+        values[offset + 4] = words[wordOffset + 2] & 0xFFFF;
+        values[offset + 5] = words[wordOffset + 2] >>> 16;
+        values[offset + 6] = words[wordOffset + 3] & 0xFFFF;
+        values[offset + 7] = words[wordOffset + 3] >>> 16;
+        values[offset + 8] = words[wordOffset + 4] & 0xFFFF;
+        values[offset + 9] = words[wordOffset + 4] >>> 16;
+        values[offset + 10] = words[wordOffset + 5] & 0xFFFF;
+        values[offset + 11] = words[wordOffset + 5] >>> 16;
+        values[offset + 12] = words[wordOffset + 6] & 0xFFFF;
+        values[offset + 13] = words[wordOffset + 6] >>> 16;
+        values[offset + 14] = words[wordOffset + 7] & 0xFFFF;
+        values[offset + 15] = words[wordOffset + 7] >>> 16;
+        values[offset + 16] = words[wordOffset + 8] & 0xFFFF;
+        values[offset + 17] = words[wordOffset + 8] >>> 16;
+        values[offset + 18] = words[wordOffset + 9] & 0xFFFF;
+        values[offset + 19] = words[wordOffset + 9] >>> 16;
+        values[offset + 20] = words[wordOffset + 10] & 0xFFFF;
+        values[offset + 21] = words[wordOffset + 10] >>> 16;
+        values[offset + 22] = words[wordOffset + 11] & 0xFFFF;
+        values[offset + 23] = words[wordOffset + 11] >>> 16;
+        values[offset + 24] = words[wordOffset + 12] & 0xFFFF;
+        values[offset + 25] = words[wordOffset + 12] >>> 16;
+        values[offset + 26] = words[wordOffset + 13] & 0xFFFF;
+        values[offset + 27] = words[wordOffset + 13] >>> 16;
+        values[offset + 28] = words[wordOffset + 14] & 0xFFFF;
+        values[offset + 29] = words[wordOffset + 14] >>> 16;
+        values[offset + 30] = words[wordOffset + 15] & 0xFFFF;
+        values[offset + 31] = words[wordOffset + 15] >>> 16;
+    }
+
+    private static void unpack17(int[] words, int wordOffset, int[] values, int offset) {
+        values[offset] = words[wordOffset] & 0x1FFFF;
+        values[offset + 1] = (words[wordOffset] >>> 17 | words[wordOffset + 1] << 15) & 0x1FFFF;
+        values[offset + 2] = (words[wordOffset + 1] >>> 2) & 0x1FFFF;
+        values[offset + 3] = (words[wordOffset + 1] >>> 19 | words[wordOffset + 2] << 13) & 0x1FFFF;
+        values[offset + 4] = (words[wordOffset + 2] >>> 4) & 0x1FFFF;
+        values[offset + 5] = (words[wordOffset + 2] >>> 21 | words[wordOffset + 3] << 11) & 0x1FFFF;
+        values[offset + 6] = (words[wordOffset + 3] >>> 6) & 0x1FFFF;
+        values[offset + 7] = (words[wordOffset + 3] >>> 23 | words[wordOffset + 4] << 9) & 0x1FFFF;
+        values[offset + 8] = (words[wordOffset + 4] >>> 8) & 0x1FFFF;
+        values[offset + 9] = (words[wordOffset + 4] >>> 25 | words[wordOffset + 5] << 7) & 0x1FFFF;
+        values[offset + 10] = (words[wordOffset + 5] >>> 10) & 0x1FFFF;
+        values[offset + 11] = (words[wordOffset + 5] >>> 27 | words[wordOffset + 6] << 5) & 0x1FFFF;
+        values[offset + 12] = (words[wordOffset + 6] >>> 12) & 0x1FFFF;
+        values[offset + 13] = (words[wordOffset + 6] >>> 29 | words[wordOffset + 7] << 3) & 0x1FFFF;
+        values[offset + 14] = (words[wordOffset + 7] >>> 14) & 0x1FFFF;
+        values[offset + 15] = (words[wordOffset + 7] >>> 31 | words[wordOffset + 8] << 1) & 0x1FFFF;
+        values[offset + 16] = (words[wordOffset + 8] >>> 16 | words[wordOffset + 9] << 16) & 0x1FFFF;
+        values[offset + 17] = (words[wordOffset + 9] >>> 1) & 0x1FFFF;
+        values[offset + 18] = (words[wordOffset + 9] >>> 18 | words[wordOffset + 10] << 14) & 0x1FFFF;
+        values[offset + 19] = (words[wordOffset + 10] >>> 3) & 0x1FFFF;
+        values[offset + 20] = (words[wordOffset + 10] >>> 20 | words[wordOffset + 11] << 12) & 0x1FFFF;
+        values[offset + 21] = (words[wordOffset + 11] >>> 5) & 0x1FFFF;
+        values[offset + 22] = (words[wordOffset + 11] >>> 22 | words[wordOffset + 12] << 10) & 0x1FFFF;
+        values[offset + 23] = (words[wordOffset + 12] >>> 7) & 0x1FFFF;
+        values[offset + 24] = (words[wordOffset + 12] >>> 24 | words[wordOffset + 13] << 8) & 0x1FFFF;
+        values[offset + 25] = (words[wordOffset + 13] >>> 9) & 0x1FFFF;
+        values[offset + 26] = (words[wordOffset + 13] >>> 26 | words[wordOffset + 14] << 6) & 0x1FFFF;
+        values[offset + 27] = (words[wordOffset + 14] >>> 11) & 0x1FFFF;
+        values[offset + 28] = (words[wordOffset + 14] >>> 28 | words[wordOffset + 15] << 4) & 0x1FFFF;
+        values[offset + 29] = (words[wordOffset + 15] >>> 13) & 0x1FFFF;
+        values[offset + 30] = (words[wordOffset + 15] >>> 30 | words[wordOffset + 16] << 2) & 0x1FFFF;
+        values[offset + 31] = words[wordOffset + 16] >>> 15;
+    }
+
+    private static void unpack18(int[] words, int wordOffset, int[] values, int offset) {
+        values[offset] = words[wordOffset] & 0x3FFFF;
+        values[offset + 1] = (words[wordOffset] >>> 18 | words[wordOffset + 1] << 14) & 0x3FFFF;
+        values[offset + 2] = (words[wordOffset + 1] >>> 4) & 0x3FFFF;
+        values[offset + 3] = (words[wordOffset + 1] >>> 22 | words[wordOffset + 2] << 10) & 0x3FFFF;
+        values[offset + 4] = (words[wordOffset + 2] >>> 8) & 0x3FFFF;
+        values[offset + 5] = (words[wordOffset + 2] >>> 26 | words[wordOffset + 3] << 6) & 0x3FFFF;
+        values[offset + 6] = (words[wordOffset + 3] >>> 12) & 0x3FFFF;
+        values[offset + 7] = (words[wordOffset + 3] >>> 30 | words[wordOffset + 4] << 2) & 0x3FFFF;
+        values[offset + 8] = (words[wordOffset + 4] >>> 16 | words[wordOffset + 5] << 16) & 0x3FFFF;
+        values[offset + 9] = (words[wordOffset + 5] >>> 2) & 0x3FFFF;
+        values[offset + 10] = (words[wordOffset + 5] >>> 20 | words[wordOffset + 6] << 12) & 0x3FFFF;
+        values[offset + 11] = (words[wordOffset + 6] >>> 6) & 0x3FFFF;
+        values[offset + 12] = (words[wordOffset + 6] >>> 24 | words[wordOffset + 7] << 8) & 0x3FFFF;
+        values[offset + 13] = (words[wordOffset + 7] >>> 10) & 0x3FFFF;
+        values[offset + 14] = (words[wordOffset + 7] >>> 28 | words[wordOffset + 8] << 4) & 0x3FFFF;
+        values[offset + 15] = words[wordOffset + 8] >>> 14;
+        values[offset + 16] = words[wordOffset + 9] & 0x3FFFF;
+        values[offset + 17] = (words[wordOffset + 9] >>> 18 | words[wordOffset + 10] << 14) & 0x3FFFF;
+        values[offset + 18] = (words[wordOffset + 10] >>> 4) & 0x3FFFF;
+        values[offset + 19] = (words[wordOffset + 10] >>> 22 | words[wordOffset + 11] << 10) & 0x3FFFF;
+        values[offset + 20] = (words[wordOffset + 11] >>> 8) & 0x3FFFF;
+        values[offset + 21] = (words[wordOffset + 11] >>> 26 | words[wordOffset + 12] << 6) & 0x3FFFF;
+        values[offset + 22] = (words[wordOffset + 12] >>> 12) & 0x3FFFF;
+        values[offset + 23] = (words[wordOffset + 12] >>> 30 | words[wordOffset + 13] << 2) & 0x3FFFF;
+        values[offset + 24] = (words[wordOffset + 13] >>> 16 | words[wordOffset + 14] << 16) & 0x3FFFF;
+        values[offset + 25] = (words[wordOffset + 14] >>> 2) & 0x3FFFF;
+        values[offset + 26] = (words[wordOffset + 14] >>> 20 | words[wordOffset + 15] << 12) & 0x3FFFF;
+        values[offset + 27] = (words[wordOffset + 15] >>> 6) & 0x3FFFF;
+        values[offset + 28] = (words[wordOffset + 15] >>> 24 | words[wordOffset + 16] << 8) & 0x3FFFF;
+        values[offset + 29] = (words[wordOffset + 16] >>> 10) & 0x3FFFF;
+        values[offset + 30] = (words[wordOffset + 16] >>> 28 | words[wordOffset + 17] << 4) & 0x3FFFF;
+        values[offset + 31] = words[wordOffset + 17] >>> 14;
+    }
+
+    private static void unpack19(int[] words, int wordOffset, int[] values, int offset) {
+        values[offset] = words[wordOffset] & 0x7FFFF;
+        values[offset + 1] = (words[wordOffset] >>> 19 | words[wordOffset + 1] << 13) & 0x7FFFF;
+        values[offset + 2] = (words[wordOffset + 1] >>> 6) & 0x7FFFF;
+        values[offset + 3] = (words[wordOffset + 1] >>> 25 | words[wordOffset + 2] << 7) & 0x7FFFF;
+        values[offset + 4] = (words[wordOffset + 2] >>> 12) & 0x7FFFF;
+        values[offset + 5] = (words[wordOffset + 2] >>> 31 | words[wordOffset + 3] << 1) & 0x7FFFF;
+        values[offset + 6] = (words[wordOffset + 3] >>> 18 | words[wordOffset + 4] << 14) & 0x7FFFF;
+        values[offset + 7] = (words[wordOffset + 4] >>> 5) & 0x7FFFF;
+        values[offset + 8] = (words[wordOffset + 4] >>> 24 | words[wordOffset + 5] << 8) & 0x7FFFF;
+        values[offset + 9] = (words[wordOffset + 5] >>> 11) & 0x7FFFF;
+        values[offset + 10] = (words[wordOffset + 5] >>> 30 | words[wordOffset + 6] << 2) & 0x7FFFF;
+        values[offset + 11] = (words[wordOffset + 6] >>> 17 | words[wordOffset + 7] << 15) & 0x7FFFF;
+        values[offset + 12] = (words[wordOffset + 7] >>> 4) & 0x7FFFF;
+        values[offset + 13] = (words[wordOffset + 7] >>> 23 | words[wordOffset + 8] << 9) & 0x7FFFF;
+        values[offset + 14] = (words[wordOffset + 8] >>> 10) & 0x7FFFF;
+        values[offset + 15] = (words[wordOffset + 8] >>> 29 | words[wordOffset + 9] << 3) & 0x7FFFF;
+        values[offset + 16] = (words[wordOffset + 9] >>> 16 | words[wordOffset + 10] << 16) & 0x7FFFF;
+        values[offset + 17] = (words[wordOffset + 10] >>> 3) & 0x7FFFF;
+        values[offset + 18] = (words[wordOffset + 10] >>> 22 | words[wordOffset + 11] << 10) & 0x7FFFF;
+        values[offset + 19] = (words[wordOffset + 11] >>> 9) & 0x7FFFF;
+        values[offset + 20] = (words[wordOffset + 11] >>> 28 | words[wordOffset + 12] << 4) & 0x7FFFF;
+        values[offset + 21] = (words[wordOffset + 12] >>> 15 | words[wordOffset + 13] << 17) & 0x7FFFF;
+        values[offset + 22] = (words[wordOffset + 13] >>> 2) & 0x7FFFF;
+        values[offset + 23] = (words[wordOffset + 13] >>> 21 | words[wordOffset + 14] << 11) & 0x7FFFF;
+        values[offset + 24] = (words[wordOffset + 14] >>> 8) & 0x7FFFF;
+        values[offset + 25] = (words[wordOffset + 14] >>> 27 | words[wordOffset + 15] << 5) & 0x7FFFF;
+        values[offset + 26] = (words[wordOffset + 15] >>> 14 | words[wordOffset + 16] << 18) & 0x7FFFF;
+        values[offset + 27] = (words[wordOffset + 16] >>> 1) & 0x7FFFF;
+        values[offset + 28] = (words[wordOffset + 16] >>> 20 | words[wordOffset + 17] << 12) & 0x7FFFF;
+        values[offset + 29] = (words[wordOffset + 17] >>> 7) & 0x7FFFF;
+        values[offset + 30] = (words[wordOffset + 17] >>> 26 | words[wordOffset + 18] << 6) & 0x7FFFF;
+        values[offset + 31] = words[wordOffset + 18] >>> 13;
+    }
+
+    private static void unpack20(int[] words, int wordOffset, int[] values, int offset) {
+        values[offset] = words[wordOffset] & 0xFFFFF;
+        values[offset + 1] = (words[wordOffset] >>> 20 | words[wordOffset + 1] << 12) & 0xFFFFF;
+        values[offset + 2] = (words[wordOffset + 1] >>> 8) & 0xFFFFF;
+        values[offset + 3] = (words[wordOffset + 1] >>> 28 | words[wordOffset + 2] << 4) & 0xFFFFF;
+        values[offset + 4] = (words[wordOffset + 2] >>> 16 | words[wordOffset + 3] << 16) & 0xFFFFF;
+        values[offset + 5] = (words[wordOffset + 3] >>> 4) & 0xFFFFF;
+        values[offset + 6] = (words[wordOffset + 3] >>> 24 | words[wordOffset + 4] << 8) & 0xFFFFF;
+        values[offset + 7] = words[wordOffset + 4] >>> 12;
+        values[offset + 8] = words[wordOffset + 5] & 0xFFFFF;
+        values[offset + 9] = (words[wordOffset + 5] >>> 20 | words[wordOffset + 6] << 12) & 0xFFFFF;
+        values[offset + 10] = (words[wordOffset + 6] >>> 8) & 0xFFFFF;
+        values[offset + 11] = (words[wordOffset + 6] >>> 28 | words[wordOffset + 7] << 4) & 0xFFFFF;
+        values[offset + 12] = (words[wordOffset + 7] >>> 16 | words[wordOffset + 8] << 16) & 0xFFFFF;
+        values[offset + 13] = (words[wordOffset + 8] >>> 4) & 0xFFFFF;
+        values[offset + 14] = (words[wordOffset + 8] >>> 24 | words[wordOffset + 9] << 8) & 0xFFFFF;
+        values[offset + 15] = words[wordOffset + 9] >>> 12;
+        values[offset + 16] = words[wordOffset + 10] & 0xFFFFF;
+        values[offset + 17] = (words[wordOffset + 10] >>> 20 | words[wordOffset + 11] << 12) & 0xFFFFF;
+        values[offset + 18] = (words[wordOffset + 11] >>> 8) & 0xFFFFF;
+        values[offset + 19] = (words[wordOffset + 11] >>> 28 | words[wordOffset + 12] << 4) & 0xFFFFF;
+        values[offset + 20] = (words[wordOffset + 12] >>> 16 | words[wordOffset + 13] << 16) & 0xFFFFF;
+        values[offset + 21] = (words[wordOffset + 13] >>> 4) & 0xFFFFF;
+        values[offset + 22] = (words[wordOffset + 13] >>> 24 | words[wordOffset + 14] << 8) & 0xFFFFF;
+        values[offset + 23] = words[wordOffset + 14] >>> 12;
+        values[offset + 24] = words[wordOffset + 15] & 0xFFFFF;
+        values[offset + 25] = (words[wordOffset + 15] >>> 20 | words[wordOffset + 16] << 12) & 0xFFFFF;
+        values[offset + 26] = (words[wordOffset + 16] >>> 8) & 0xFFFFF;
+        values[offset + 27] = (words[wordOffset + 16] >>> 28 | words[wordOffset + 17] << 4) & 0xFFFFF;
+        values[offset + 28] = (words[wordOffset + 17] >>> 16 | words[wordOffset + 18] << 16) & 0xFFFFF;
+        values[offset + 29] = (words[wordOffset + 18] >>> 4) & 0xFFFFF;
+        values[offset + 30] = (words[wordOffset + 18] >>> 24 | words[wordOffset + 19] << 8) & 0xFFFFF;
+        values[offset + 31] = words[wordOffset + 19] >>> 12;
+    }
+
+    private static void unpack21(int[] words, int wordOffset, int[] values, int offset) {
+        values[offset] = words[wordOffset] & 0x1FFFFF;
+        values[offset + 1] = (words[wordOffset] >>> 21 | words[wordOffset + 1] << 11) & 0x1FFFFF;
+        values[offset + 2] = (words[wordOffset + 1] >>> 10) & 0x1FFFFF;
+        values[offset + 3] = (words[wordOffset + 1] >>> 31 | words[wordOffset + 2] << 1) & 0x1FFFFF;
+        values[offset + 4] = (words[wordOffset + 2] >>> 20 | words[wordOffset + 3] << 12) & 0x1FFFFF;
+        values[offset + 5] = (words[wordOffset + 3] >>> 9) & 0x1FFFFF;
+        values[offset + 6] = (words[wordOffset + 3] >>> 30 | words[wordOffset + 4] << 2) & 0x1FFFFF;
+        values[offset + 7] = (words[wordOffset + 4] >>> 19 | words[wordOffset + 5] << 13) & 0x1FFFFF;
+        values[offset + 8] = (words[wordOffset + 5] >>> 8) & 0x1FFFFF;
+        values[offset + 9] = (words[wordOffset + 5] >>> 29 | words[wordOffset + 6] << 3) & 0x1FFFFF;
+        values[offset + 10] = (words[wordOffset + 6] >>> 18 | words[wordOffset + 7] << 14) & 0x1FFFFF;
+        values[offset + 11] = (words[wordOffset + 7] >>> 7) & 0x1FFFFF;
+        values[offset + 12] = (words[wordOffset + 7] >>> 28 | words[wordOffset + 8] << 4) & 0x1FFFFF;
+        values[offset + 13] = (words[wordOffset + 8] >>> 17 | words[wordOffset + 9] << 15) & 0x1FFFFF;
+        values[offset + 14] = (words[wordOffset + 9] >>> 6) & 0x1FFFFF;
+        values[offset + 15] = (words[wordOffset + 9] >>> 27 | words[wordOffset + 10] << 5) & 0x1FFFFF;
+        values[offset + 16] = (words[wordOffset + 10] >>> 16 | words[wordOffset + 11] << 16) & 0x1FFFFF;
+        values[offset + 17] = (words[wordOffset + 11] >>> 5) & 0x1FFFFF;
+        values[offset + 18] = (words[wordOffset + 11] >>> 26 | words[wordOffset + 12] << 6) & 0x1FFFFF;
+        values[offset + 19] = (words[wordOffset + 12] >>> 15 | words[wordOffset + 13] << 17) & 0x1FFFFF;
+        values[offset + 20] = (words[wordOffset + 13] >>> 4) & 0x1FFFFF;
+        values[offset + 21] = (words[wordOffset + 13] >>> 25 | words[wordOffset + 14] << 7) & 0x1FFFFF;
+        values[offset + 22] = (words[wordOffset + 14] >>> 14 | words[wordOffset + 15] << 18) & 0x1FFFFF;
+        values[offset + 23] = (words[wordOffset + 15] >>> 3) & 0x1FFFFF;
+        values[offset + 24] = (words[wordOffset + 15] >>> 24 | words[wordOffset + 16] << 8) & 0x1FFFFF;
+        values[offset + 25] = (words[wordOffset + 16] >>> 13 | words[wordOffset + 17] << 19) & 0x1FFFFF;
+        values[offset + 26] = (words[wordOffset + 17] >>> 2) & 0x1FFFFF;
+        values[offset + 27] = (words[wordOffset + 17] >>> 23 | words[wordOffset + 18] << 9) & 0x1FFFFF;
+        values[offset + 28] = (words[wordOffset + 18] >>> 12 | words[wordOffset + 19] << 20) & 0x1FFFFF;
+        values[offset + 29] = (words[wordOffset + 19] >>> 1) & 0x1FFFFF;
+        values[offset + 30] = (words[wordOffset + 19] >>> 22 | words[wordOffset + 20] << 10) & 0x1FFFFF;
+        values[offset + 31] = words[wordOffset + 20] >>> 11;
+    }
+
+    private static void unpack22(int[] words, int wordOffset, int[] values, int offset) {
+        values[offset] = words[wordOffset] & 0x3FFFFF;
+        values[offset + 1] = (words[wordOffset] >>> 22 | words[wordOffset + 1] << 10) & 0x3FFFFF;
+        values[offset + 2] = (words[wordOffset + 1] >>> 12 | words[wordOffset + 2] << 20) & 0x3FFFFF;
+        values[offset + 3] = (words[wordOffset + 2] >>> 2) & 0x3FFFFF;
+        values[offset + 4] = (words[wordOffset + 2] >>> 24 | words[wordOffset + 3] << 8) & 0x3FFFFF;
+        values[offset + 5] = (words[wordOffset + 3] >>> 14 | words[wordOffset + 4] << 18) & 0x3FFFFF;
+        values[offset + 6] = (words[wordOffset + 4] >>> 4) & 0x3FFFFF;
+        values[offset + 7] = (words[wordOffset + 4] >>> 26 | words[wordOffset + 5] << 6) & 0x3FFFFF;
+        values[offset + 8] = (words[wordOffset + 5] >>> 16 | words[wordOffset + 6] << 16) & 0x3FFFFF;
+        values[offset + 9] = (words[wordOffset + 6] >>> 6) & 0x3FFFFF;
+        values[offset + 10] = (words[wordOffset + 6] >>> 28 | words[wordOffset + 7] << 4) & 0x3FFFFF;
+        values[offset + 11] = (words[wordOffset + 7] >>> 18 | words[wordOffset + 8] << 14) & 0x3FFFFF;
+        values[offset + 12] = (words[wordOffset + 8] >>> 8) & 0x3FFFFF;
+        values[offset + 13] = (words[wordOffset + 8] >>> 30 | words[wordOffset + 9] << 2) & 0x3FFFFF;
+        values[offset + 14] = (words[wordOffset + 9] >>> 20 | words[wordOffset + 10] << 12) & 0x3FFFFF;
+        values[offset + 15] = words[wordOffset + 10] >>> 10;
+        values[offset + 16] = words[wordOffset + 11] & 0x3FFFFF;
+        values[offset + 17] = (words[wordOffset + 11] >>> 22 | words[wordOffset + 12] << 10) & 0x3FFFFF;
+        values[offset + 18] = (words[wordOffset + 12] >>> 12 | words[wordOffset + 13] << 20) & 0x3FFFFF;
+        values[offset + 19] = (words[wordOffset + 13] >>> 2) & 0x3FFFFF;
+        values[offset + 20] = (words[wordOffset + 13] >>> 24 | words[wordOffset + 14] << 8) & 0x3FFFFF;
+        values[offset + 21] = (words[wordOffset + 14] >>> 14 | words[wordOffset + 15] << 18) & 0x3FFFFF;
+        values[offset + 22] = (words[wordOffset + 15] >>> 4) & 0x3FFFFF;
+        values[offset + 23] = (words[wordOffset + 15] >>> 26 | words[wordOffset + 16] << 6) & 0x3FFFFF;
+        values[offset + 24] = (words[wordOffset + 16] >>> 16 | words[wordOffset + 17] << 16) & 0x3FFFFF;
+        values[offset + 25] = (words[wordOffset + 17] >>> 6) & 0x3FFFFF;
+        values[offset + 26] = (words[wordOffset + 17] >>> 28 | words[wordOffset + 18] << 4) & 0x3FFFFF;
+        values[offset + 27] = (words[wordOffset + 18] >>> 18 | words[wordOffset + 19] << 14) & 0x3FFFFF;
+        values[offset + 28] = (words[wordOffset + 19] >>> 8) & 0x3FFFFF;
+        values[offset + 29] = (words[wordOffset + 19] >>> 30 | words[wordOffset + 20] << 2) & 0x3FFFFF;
+        values[offset + 30] = (words[wordOffset + 20] >>> 20 | words[wordOffset + 21] << 12) & 0x3FFFFF;
+        values[offset + 31] = words[wordOffset + 21] >>> 10;
+    }
+
+    private static void unpack23(int[] words, int wordOffset, int[] values, int offset) {
+        values[offset] = words[wordOffset] & 0x7FFFFF;
+        values[offset + 1] = (words[wordOffset] >>> 23 | words[wordOffset + 1] << 9) & 0x7FFFFF;
+        values[offset + 2] = (words[wordOffset + 1] >>> 14 | words[wordOffset + 2] << 18) & 0x7FFFFF;
+        values[offset + 3] = (words[wordOffset + 2] >>> 5) & 0x7FFFFF;
+        values[offset + 4] = (words[wordOffset + 2] >>> 28 | words[wordOffset + 3] << 4) & 0x7FFFFF;
+        values[offset + 5] = (words[wordOffset + 3] >>> 19 | words[wordOffset + 4] << 13) & 0x7FFFFF;
+        values[offset + 6] = (words[wordOffset + 4] >>> 10 | words[wordOffset + 5] << 22) & 0x7FFFFF;
+        values[offset + 7] = (words[wordOffset + 5] >>> 1) & 0x7FFFFF;
+        values[offset + 8] = (words[wordOffset + 5] >>> 24 | words[wordOffset + 6] << 8) & 0x7FFFFF;
+        values[offset + 9] = (words[wordOffset + 6] >>> 15 | words[wordOffset + 7] << 17) & 0x7FFFFF;
+        values[offset + 10] = (words[wordOffset + 7] >>> 6) & 0x7FFFFF;
+        values[offset + 11] = (words[wordOffset + 7] >>> 29 | words[wordOffset + 8] << 3) & 0x7FFFFF;
+        values[offset + 12] = (words[wordOffset + 8] >>> 20 | words[wordOffset + 9] << 12) & 0x7FFFFF;
+        values[offset + 13] = (words[wordOffset + 9] >>> 11 | words[wordOffset + 10] << 21) & 0x7FFFFF;
+        values[offset + 14] = (words[wordOffset + 10] >>> 2) & 0x7FFFFF;
+        values[offset + 15] = (words[wordOffset + 10] >>> 25 | words[wordOffset + 11] << 7) & 0x7FFFFF;
+        values[offset + 16] = (words[wordOffset + 11] >>> 16 | words[wordOffset + 12] << 16) & 0x7FFFFF;
+        values[offset + 17] = (words[wordOffset + 12] >>> 7) & 0x7FFFFF;
+        values[offset + 18] = (words[wordOffset + 12] >>> 30 | words[wordOffset + 13] << 2) & 0x7FFFFF;
+        values[offset + 19] = (words[wordOffset + 13] >>> 21 | words[wordOffset + 14] << 11) & 0x7FFFFF;
+        values[offset + 20] = (words[wordOffset + 14] >>> 12 | words[wordOffset + 15] << 20) & 0x7FFFFF;
+        values[offset + 21] = (words[wordOffset + 15] >>> 3) & 0x7FFFFF;
+        values[offset + 22] = (words[wordOffset + 15] >>> 26 | words[wordOffset + 16] << 6) & 0x7FFFFF;
+        values[offset + 23] = (words[wordOffset + 16] >>> 17 | words[wordOffset + 17] << 15) & 0x7FFFFF;
+        values[offset + 24] = (words[wordOffset + 17] >>> 8) & 0x7FFFFF;
+        values[offset + 25] = (words[wordOffset + 17] >>> 31 | words[wordOffset + 18] << 1) & 0x7FFFFF;
+        values[offset + 26] = (words[wordOffset + 18] >>> 22 | words[wordOffset + 19] << 10) & 0x7FFFFF;
+        values[offset + 27] = (words[wordOffset + 19] >>> 13 | words[wordOffset + 20] << 19) & 0x7FFFFF;
+        values[offset + 28] = (words[wordOffset + 20] >>> 4) & 0x7FFFFF;
+        values[offset + 29] = (words[wordOffset + 20] >>> 27 | words[wordOffset + 21] << 5) & 0x7FFFFF;
+        values[offset + 30] = (words[wordOffset + 21] >>> 18 | words[wordOffset + 22] << 14) & 0x7FFFFF;
+        values[offset + 31] = words[wordOffset + 22] >>> 9;
+    }
+
+    private static void unpack24(int[] words, int wordOffset, int[] values, int offset) {
+        values[offset] = words[wordOffset] & 0xFFFFFF;
+        values[offset + 1] = (words[wordOffset] >>> 24 | words[wordOffset + 1] << 8) & 0xFFFFFF;
+        values[offset + 2] = (words[wordOffset + 1] >>> 16 | words[wordOffset + 2] << 16) & 0xFFFFFF;
+        values[offset + 3] = words[wordOffset + 2] >>> 8;
+        values[offset + 4] = words[wordOffset + 3] & 0xFFFFFF;
+        values[offset + 5] = (words[wordOffset + 3] >>> 24 | words[wordOffset + 4] << 8) & 0xFFFFFF;
+        values[offset + 6] = (words[wordOffset + 4] >>> 16 | words[wordOffset + 5] << 16) & 0xFFFFFF;
+        values[offset + 7] = words[wordOffset + 5] >>> 8;
+        values[offset + 8] = words[wordOffset + 6] & 0xFFFFFF;
+        values[offset + 9] = (words[wordOffset + 6] >>> 24 | words[wordOffset + 7] << 8) & 0xFFFFFF;
+        values[offset + 10] = (words[wordOffset + 7] >>> 16 | words[wordOffset + 8] << 16) & 0xFFFFFF;
+        values[offset + 11] = words[wordOffset + 8] >>> 8;
+        values[offset + 12] = words[wordOffset + 9] & 0xFFFFFF;
+        values[offset + 13] = (words[wordOffset + 9] >>> 24 | words[wordOffset + 10] << 8) & 0xFFFFFF;
+        values[offset + 14] = (words[wordOffset + 10] >>> 16 | words[wordOffset + 11] << 16) & 0xFFFFFF;
+        values[offset + 15] = words[wordOffset + 11] >>> 8;
+        values[offset + 16] = words[wordOffset + 12] & 0xFFFFFF;
+        values[offset + 17] = (words[wordOffset + 12] >>> 24 | words[wordOffset + 13] << 8) & 0xFFFFFF;
+        values[offset + 18] = (words[wordOffset + 13] >>> 16 | words[wordOffset + 14] << 16) & 0xFFFFFF;
+        values[offset + 19] = words[wordOffset + 14] >>> 8;
+        values[offset + 20] = words[wordOffset + 15] & 0xFFFFFF;
+        values[offset + 21] = (words[wordOffset + 15] >>> 24 | words[wordOffset + 16] << 8) & 0xFFFFFF;
+        values[offset + 22] = (words[wordOffset + 16] >>> 16 | words[wordOffset + 17] << 16) & 0xFFFFFF;
+        values[offset + 23] = words[wordOffset + 17] >>> 8;
+        values[offset + 24] = words[wordOffset + 18] & 0xFFFFFF;
+        values[offset + 25] = (words[wordOffset + 18] >>> 24 | words[wordOffset + 19] << 8) & 0xFFFFFF;
+        values[offset + 26] = (words[wordOffset + 19] >>> 16 | words[wordOffset + 20] << 16) & 0xFFFFFF;
+        values[offset + 27] = words[wordOffset + 20] >>> 8;
+        values[offset + 28] = words[wordOffset + 21] & 0xFFFFFF;
+        values[offset + 29] = (words[wordOffset + 21] >>> 24 | words[wordOffset + 22] << 8) & 0xFFFFFF;
+        values[offset + 30] = (words[wordOffset + 22] >>> 16 | words[wordOffset + 23] << 16) & 0xFFFFFF;
+        values[offset + 31] = words[wordOffset + 23] >>> 8;
+    }
+
+    private static void unpack25(int[] words, int wordOffset, int[] values, int offset) {
+        values[offset] = words[wordOffset] & 0x1FFFFFF;
+        values[offset + 1] = (words[wordOffset] >>> 25 | words[wordOffset + 1] << 7) & 0x1FFFFFF;
+        values[offset + 2] = (words[wordOffset + 1] >>> 18 | words[wordOffset + 2] << 14) & 0x1FFFFFF;
+        values[offset + 3] = (words[wordOffset + 2] >>> 11 | words[wordOffset + 3] << 21) & 0x1FFFFFF;
+        values[offset + 4] = (words[wordOffset + 3] >>> 4) & 0x1FFFFFF;
+        values[offset + 5] = (words[wordOffset + 3] >>> 29 | words[wordOffset + 4] << 3) & 0x1FFFFFF;
+        values[offset + 6] = (words[wordOffset + 4] >>> 22 | words[wordOffset + 5] << 10) & 0x1FFFFFF;
+        values[offset + 7] = (words[wordOffset + 5] >>> 15 | words[wordOffset + 6] << 17) & 0x1FFFFFF;
+        values[offset + 8] = (words[wordOffset + 6] >>> 8 | words[wordOffset + 7] << 24) & 0x1FFFFFF;
+        values[offset + 9] = (words[wordOffset + 7] >>> 1) & 0x1FFFFFF;
+        values[offset + 10] = (words[wordOffset + 7] >>> 26 | words[wordOffset + 8] << 6) & 0x1FFFFFF;
+        values[offset + 11] = (words[wordOffset + 8] >>> 19 | words[wordOffset + 9] << 13) & 0x1FFFFFF;
+        values[offset + 12] = (words[wordOffset + 9] >>> 12 | words[wordOffset + 10] << 20) & 0x1FFFFFF;
+        values[offset + 13] = (words[wordOffset + 10] >>> 5) & 0x1FFFFFF;
+        values[offset + 14] = (words[wordOffset + 10] >>> 30 | words[wordOffset + 11] << 2) & 0x1FFFFFF;
+        values[offset + 15] = (words[wordOffset + 11] >>> 23 | words[wordOffset + 12] << 9) & 0x1FFFFFF;
+        values[offset + 16] = (words[wordOffset + 12] >>> 16 | words[wordOffset + 13] << 16) & 0x1FFFFFF;
+        values[offset + 17] = (words[wordOffset + 13] >>> 9 | words[wordOffset + 14] << 23) & 0x1FFFFFF;
+        values[offset + 18] = (words[wordOffset + 14] >>> 2) & 0x1FFFFFF;
+        values[offset + 19] = (words[wordOffset + 14] >>> 27 | words[wordOffset + 15] << 5) & 0x1FFFFFF;
+        values[offset + 20] = (words[wordOffset + 15] >>> 20 | words[wordOffset + 16] << 12) & 0x1FFFFFF;
+        values[offset + 21] = (words[wordOffset + 16] >>> 13 | words[wordOffset + 17] << 19) & 0x1FFFFFF;
+        values[offset + 22] = (words[wordOffset + 17] >>> 6) & 0x1FFFFFF;
+        values[offset + 23] = (words[wordOffset + 17] >>> 31 | words[wordOffset + 18] << 1) & 0x1FFFFFF;
+        values[offset + 24] = (words[wordOffset + 18] >>> 24 | words[wordOffset + 19] << 8) & 0x1FFFFFF;
+        values[offset + 25] = (words[wordOffset + 19] >>> 17 | words[wordOffset + 20] << 15) & 0x1FFFFFF;
+        values[offset + 26] = (words[wordOffset + 20] >>> 10 | words[wordOffset + 21] << 22) & 0x1FFFFFF;
+        values[offset + 27] = (words[wordOffset + 21] >>> 3) & 0x1FFFFFF;
+        values[offset + 28] = (words[wordOffset + 21] >>> 28 | words[wordOffset + 22] << 4) & 0x1FFFFFF;
+        values[offset + 29] = (words[wordOffset + 22] >>> 21 | words[wordOffset + 23] << 11) & 0x1FFFFFF;
+        values[offset + 30] = (words[wordOffset + 23] >>> 14 | words[wordOffset + 24] << 18) & 0x1FFFFFF;
+        values[offset + 31] = words[wordOffset + 24] >>> 7;
+    }
+
+    private static void unpack26(int[] words, int wordOffset, int[] values, int offset) {
+        values[offset] = words[wordOffset] & 0x3FFFFFF;
+        values[offset + 1] = (words[wordOffset] >>> 26 | words[wordOffset + 1] << 6) & 0x3FFFFFF;
+        values[offset + 2] = (words[wordOffset + 1] >>> 20 | words[wordOffset + 2] << 12) & 0x3FFFFFF;
+        values[offset + 3] = (words[wordOffset + 2] >>> 14 | words[wordOffset + 3] << 18) & 0x3FFFFFF;
+        values[offset + 4] = (words[wordOffset + 3] >>> 8 | words[wordOffset + 4] << 24) & 0x3FFFFFF;
+        values[offset + 5] = (words[wordOffset + 4] >>> 2) & 0x3FFFFFF;
+        values[offset + 6] = (words[wordOffset + 4] >>> 28 | words[wordOffset + 5] << 4) & 0x3FFFFFF;
+        values[offset + 7] = (words[wordOffset + 5] >>> 22 | words[wordOffset + 6] << 10) & 0x3FFFFFF;
+        values[offset + 8] = (words[wordOffset + 6] >>> 16 | words[wordOffset + 7] << 16) & 0x3FFFFFF;
+        values[offset + 9] = (words[wordOffset + 7] >>> 10 | words[wordOffset + 8] << 22) & 0x3FFFFFF;
+        values[offset + 10] = (words[wordOffset + 8] >>> 4) & 0x3FFFFFF;
+        values[offset + 11] = (words[wordOffset + 8] >>> 30 | words[wordOffset + 9] << 2) & 0x3FFFFFF;
+        values[offset + 12] = (words[wordOffset + 9] >>> 24 | words[wordOffset + 10] << 8) & 0x3FFFFFF;
+        values[offset + 13] = (words[wordOffset + 10] >>> 18 | words[wordOffset + 11] << 14) & 0x3FFFFFF;
+        values[offset + 14] = (words[wordOffset + 11] >>> 12 | words[wordOffset + 12] << 20) & 0x3FFFFFF;
+        values[offset + 15] = words[wordOffset + 12] >>> 6;
+        values[offset + 16] = words[wordOffset + 13] & 0x3FFFFFF;
+        values[offset + 17] = (words[wordOffset + 13] >>> 26 | words[wordOffset + 14] << 6) & 0x3FFFFFF;
+        values[offset + 18] = (words[wordOffset + 14] >>> 20 | words[wordOffset + 15] << 12) & 0x3FFFFFF;
+        values[offset + 19] = (words[wordOffset + 15] >>> 14 | words[wordOffset + 16] << 18) & 0x3FFFFFF;
+        values[offset + 20] = (words[wordOffset + 16] >>> 8 | words[wordOffset + 17] << 24) & 0x3FFFFFF;
+        values[offset + 21] = (words[wordOffset + 17] >>> 2) & 0x3FFFFFF;
+        values[offset + 22] = (words[wordOffset + 17] >>> 28 | words[wordOffset + 18] << 4) & 0x3FFFFFF;
+        values[offset + 23] = (words[wordOffset + 18] >>> 22 | words[wordOffset + 19] << 10) & 0x3FFFFFF;
+        values[offset + 24] = (words[wordOffset + 19] >>> 16 | words[wordOffset + 20] << 16) & 0x3FFFFFF;
+        values[offset + 25] = (words[wordOffset + 20] >>> 10 | words[wordOffset + 21] << 22) & 0x3FFFFFF;
+        values[offset + 26] = (words[wordOffset + 21] >>> 4) & 0x3FFFFFF;
+        values[offset + 27] = (words[wordOffset + 21] >>> 30 | words[wordOffset + 22] << 2) & 0x3FFFFFF;
+        values[offset + 28] = (words[wordOffset + 22] >>> 24 | words[wordOffset + 23] << 8) & 0x3FFFFFF;
+        values[offset + 29] = (words[wordOffset + 23] >>> 18 | words[wordOffset + 24] << 14) & 0x3FFFFFF;
+        values[offset + 30] = (words[wordOffset + 24] >>> 12 | words[wordOffset + 25] << 20) & 0x3FFFFFF;
+        values[offset + 31] = words[wordOffset + 25] >>> 6;
+    }
+
+    private static void unpack27(int[] words, int wordOffset, int[] values, int offset) {
+        values[offset] = words[wordOffset] & 0x7FFFFFF;
+        values[offset + 1] = (words[wordOffset] >>> 27 | words[wordOffset + 1] << 5) & 0x7FFFFFF;
+        values[offset + 2] = (words[wordOffset + 1] >>> 22 | words[wordOffset + 2] << 10) & 0x7FFFFFF;
+        values[offset + 3] = (words[wordOffset + 2] >>> 17 | words[wordOffset + 3] << 15) & 0x7FFFFFF;
+        values[offset + 4] = (words[wordOffset + 3] >>> 12 | words[wordOffset + 4] << 20) & 0x7FFFFFF;
+        values[offset + 5] = (words[wordOffset + 4] >>> 7 | words[wordOffset + 5] << 25) & 0x7FFFFFF;
+        values[offset + 6] = (words[wordOffset + 5] >>> 2) & 0x7FFFFFF;
+        values[offset + 7] = (words[wordOffset + 5] >>> 29 | words[wordOffset + 6] << 3) & 0x7FFFFFF;
+        values[offset + 8] = (words[wordOffset + 6] >>> 24 | words[wordOffset + 7] << 8) & 0x7FFFFFF;
+        values[offset + 9] = (words[wordOffset + 7] >>> 19 | words[wordOffset + 8] << 13) & 0x7FFFFFF;
+        values[offset + 10] = (words[wordOffset + 8] >>> 14 | words[wordOffset + 9] << 18) & 0x7FFFFFF;
+        values[offset + 11] = (words[wordOffset + 9] >>> 9 | words[wordOffset + 10] << 23) & 0x7FFFFFF;
+        values[offset + 12] = (words[wordOffset + 10] >>> 4) & 0x7FFFFFF;
+        values[offset + 13] = (words[wordOffset + 10] >>> 31 | words[wordOffset + 11] << 1) & 0x7FFFFFF;
+        values[offset + 14] = (words[wordOffset + 11] >>> 26 | words[wordOffset + 12] << 6) & 0x7FFFFFF;
+        values[offset + 15] = (words[wordOffset + 12] >>> 21 | words[wordOffset + 13] << 11) & 0x7FFFFFF;
+        values[offset + 16] = (words[wordOffset + 13] >>> 16 | words[wordOffset + 14] << 16) & 0x7FFFFFF;
+        values[offset + 17] = (words[wordOffset + 14] >>> 11 | words[wordOffset + 15] << 21) & 0x7FFFFFF;
+        values[offset + 18] = (words[wordOffset + 15] >>> 6 | words[wordOffset + 16] << 26) & 0x7FFFFFF;
+        values[offset + 19] = (words[wordOffset + 16] >>> 1) & 0x7FFFFFF;
+        values[offset + 20] = (words[wordOffset + 16] >>> 28 | words[wordOffset + 17] << 4) & 0x7FFFFFF;
+        values[offset + 21] = (words[wordOffset + 17] >>> 23 | words[wordOffset + 18] << 9) & 0x7FFFFFF;
+        values[offset + 22] = (words[wordOffset + 18] >>> 18 | words[wordOffset + 19] << 14) & 0x7FFFFFF;
+        values[offset + 23] = (words[wordOffset + 19] >>> 13 | words[wordOffset + 20] << 19) & 0x7FFFFFF;
+        values[offset + 24] = (words[wordOffset + 20] >>> 8 | words[wordOffset + 21] << 24) & 0x7FFFFFF;
+        values[offset + 25] = (words[wordOffset + 21] >>> 3) & 0x7FFFFFF;
+        values[offset + 26] = (words[wordOffset + 21] >>> 30 | words[wordOffset + 22] << 2) & 0x7FFFFFF;
+        values[offset + 27] = (words[wordOffset + 22] >>> 25 | words[wordOffset + 23] << 7) & 0x7FFFFFF;
+        values[offset + 28] = (words[wordOffset + 23] >>> 20 | words[wordOffset + 24] << 12) & 0x7FFFFFF;
+        values[offset + 29] = (words[wordOffset + 24] >>> 15 | words[wordOffset + 25] << 17) & 0x7FFFFFF;
+        values[offset + 30] = (words[wordOffset + 25] >>> 10 | words[wordOffset + 26] << 22) & 0x7FFFFFF;
+        values[offset + 31] = words[wordOffset + 26] >>> 5;
+    }
+
+    private static void unpack28(int[] words, int wordOffset, int[] values, int offset) {
+        values[offset] = words[wordOffset] & 0xFFFFFFF;
+        values[offset + 1] = (words[wordOffset] >>> 28 | words[wordOffset + 1] << 4) & 0xFFFFFFF;
+        values[offset + 2] = (words[wordOffset + 1] >>> 24 | words[wordOffset + 2] << 8) & 0xFFFFFFF;
+        values[offset + 3] = (words[wordOffset + 2] >>> 20 | words[wordOffset + 3] << 12) & 0xFFFFFFF;
+        values[offset + 4] = (words[wordOffset + 3] >>> 16 | words[wordOffset + 4] << 16) & 0xFFFFFFF;
+        values[offset + 5] = (words[wordOffset + 4] >>> 12 | words[wordOffset + 5] << 20) & 0xFFFFFFF;
+        values[offset + 6] = (words[wordOffset + 5] >>> 8 | words[wordOffset + 6] << 24) & 0xFFFFFFF;
+        values[offset + 7] = words[wordOffset + 6] >>> 4;
+        values[offset + 8] = words[wordOffset + 7] & 0xFFFFFFF;
+        values[offset + 9] = (words[wordOffset + 7] >>> 28 | words[wordOffset + 8] << 4) & 0xFFFFFFF;
+        values[offset + 10] = (words[wordOffset + 8] >>> 24 | words[wordOffset + 9] << 8) & 0xFFFFFFF;
+        values[offset + 11] = (words[wordOffset + 9] >>> 20 | words[wordOffset + 10] << 12) & 0xFFFFFFF;
+        values[offset + 12] = (words[wordOffset + 10] >>> 16 | words[wordOffset + 11] << 16) & 0xFFFFFFF;
+        values[offset + 13] = (words[wordOffset + 11] >>> 12 | words[wordOffset + 12] << 20) & 0xFFFFFFF;
+        values[offset + 14] = (words[wordOffset + 12] >>> 8 | words[wordOffset + 13] << 24) & 0xFFFFFFF;
+        values[offset + 15] = words[wordOffset + 13] >>> 4;
+        values[offset + 16] = words[wordOffset + 14] & 0xFFFFFFF;
+        values[offset + 17] = (words[wordOffset + 14] >>> 28 | words[wordOffset + 15] << 4) & 0xFFFFFFF;
+        values[offset + 18] = (words[wordOffset + 15] >>> 24 | words[wordOffset + 16] << 8) & 0xFFFFFFF;
+        values[offset + 19] = (words[wordOffset + 16] >>> 20 | words[wordOffset + 17] << 12) & 0xFFFFFFF;
+        values[offset + 20] = (words[wordOffset + 17] >>> 16 | words[wordOffset + 18] << 16) & 0xFFFFFFF;
+        values[offset + 21] = (words[wordOffset + 18] >>> 12 | words[wordOffset + 19] << 20) & 0xFFFFFFF;
+        values[offset + 22] = (words[wordOffset + 19] >>> 8 | words[wordOffset + 20] << 24) & 0xFFFFFFF;
+        values[offset + 23] = words[wordOffset + 20] >>> 4;
+        values[offset + 24] = words[wordOffset + 21] & 0xFFFFFFF;
+        values[offset + 25] = (words[wordOffset + 21] >>> 28 | words[wordOffset + 22] << 4) & 0xFFFFFFF;
+        values[offset + 26] = (words[wordOffset + 22] >>> 24 | words[wordOffset + 23] << 8) & 0xFFFFFFF;
+        values[offset + 27] = (words[wordOffset + 23] >>> 20 | words[wordOffset + 24] << 12) & 0xFFFFFFF;
+        values[offset + 28] = (words[wordOffset + 24] >>> 16 | words[wordOffset + 25] << 16) & 0xFFFFFFF;
+        values[offset + 29] = (words[wordOffset + 25] >>> 12 | words[wordOffset + 26] << 20) & 0xFFFFFFF;
+        values[offset + 30] = (words[wordOffset + 26] >>> 8 | words[wordOffset + 27] << 24) & 0xFFFFFFF;
+        values[offset + 31] = words[wordOffset + 27] >>> 4;
+    }
+
+    private static void unpack29(int[] words, int wordOffset, int[] values, int offset) {
+        values[offset] = words[wordOffset] & 0x1FFFFFFF;
+        values[offset + 1] = (words[wordOffset] >>> 29 | words[wordOffset + 1] << 3) & 0x1FFFFFFF;
+        values[offset + 2] = (words[wordOffset + 1] >>> 26 | words[wordOffset + 2] << 6) & 0x1FFFFFFF;
+        values[offset + 3] = (words[wordOffset + 2] >>> 23 | words[wordOffset + 3] << 9) & 0x1FFFFFFF;
+        values[offset + 4] = (words[wordOffset + 3] >>> 20 | words[wordOffset + 4] << 12) & 0x1FFFFFFF;
+        values[offset + 5] = (words[wordOffset + 4] >>> 17 | words[wordOffset + 5] << 15) & 0x1FFFFFFF;
+        values[offset + 6] = (words[wordOffset + 5] >>> 14 | words[wordOffset + 6] << 18) & 0x1FFFFFFF;
+        values[offset + 7] = (words[wordOffset + 6] >>> 11 | words[wordOffset + 7] << 21) & 0x1FFFFFFF;
+        values[offset + 8] = (words[wordOffset + 7] >>> 8 | words[wordOffset + 8] << 24) & 0x1FFFFFFF;
+        values[offset + 9] = (words[wordOffset + 8] >>> 5 | words[wordOffset + 9] << 27) & 0x1FFFFFFF;
+        values[offset + 10] = (words[wordOffset + 9] >>> 2) & 0x1FFFFFFF;
+        values[offset + 11] = (words[wordOffset + 9] >>> 31 | words[wordOffset + 10] << 1) & 0x1FFFFFFF;
+        values[offset + 12] = (words[wordOffset + 10] >>> 28 | words[wordOffset + 11] << 4) & 0x1FFFFFFF;
+        values[offset + 13] = (words[wordOffset + 11] >>> 25 | words[wordOffset + 12] << 7) & 0x1FFFFFFF;
+        values[offset + 14] = (words[wordOffset + 12] >>> 22 | words[wordOffset + 13] << 10) & 0x1FFFFFFF;
+        values[offset + 15] = (words[wordOffset + 13] >>> 19 | words[wordOffset + 14] << 13) & 0x1FFFFFFF;
+        values[offset + 16] = (words[wordOffset + 14] >>> 16 | words[wordOffset + 15] << 16) & 0x1FFFFFFF;
+        values[offset + 17] = (words[wordOffset + 15] >>> 13 | words[wordOffset + 16] << 19) & 0x1FFFFFFF;
+        values[offset + 18] = (words[wordOffset + 16] >>> 10 | words[wordOffset + 17] << 22) & 0x1FFFFFFF;
+        values[offset + 19] = (words[wordOffset + 17] >>> 7 | words[wordOffset + 18] << 25) & 0x1FFFFFFF;
+        values[offset + 20] = (words[wordOffset + 18] >>> 4 | words[wordOffset + 19] << 28) & 0x1FFFFFFF;
+        values[offset + 21] = (words[wordOffset + 19] >>> 1) & 0x1FFFFFFF;
+        values[offset + 22] = (words[wordOffset + 19] >>> 30 | words[wordOffset + 20] << 2) & 0x1FFFFFFF;
+        values[offset + 23] = (words[wordOffset + 20] >>> 27 | words[wordOffset + 21] << 5) & 0x1FFFFFFF;
+        values[offset + 24] = (words[wordOffset + 21] >>> 24 | words[wordOffset + 22] << 8) & 0x1FFFFFFF;
+        values[offset + 25] = (words[wordOffset + 22] >>> 21 | words[wordOffset + 23] << 11) & 0x1FFFFFFF;
+        values[offset + 26] = (words[wordOffset + 23] >>> 18 | words[wordOffset + 24] << 14) & 0x1FFFFFFF;
+        values[offset + 27] = (words[wordOffset + 24] >>> 15 | words[wordOffset + 25] << 17) & 0x1FFFFFFF;
+        values[offset + 28] = (words[wordOffset + 25] >>> 12 | words[wordOffset + 26] << 20) & 0x1FFFFFFF;
+        values[offset + 29] = (words[wordOffset + 26] >>> 9 | words[wordOffset + 27] << 23) & 0x1FFFFFFF;
+        values[offset + 30] = (words[wordOffset + 27] >>> 6 | words[wordOffset + 28] << 26) & 0x1FFFFFFF;
+        values[offset + 31] = words[wordOffset + 28] >>> 3;
+    }
+
+    private static void unpack30(int[] words, int wordOffset, int[] values, int offset) {
+        values[offset] = words[wordOffset] & 0x3FFFFFFF;
+        values[offset + 1] = (words[wordOffset] >>> 30 | words[wordOffset + 1] << 2) & 0x3FFFFFFF;
+        values[offset + 2] = (words[wordOffset + 1] >>> 28 | words[wordOffset + 2] << 4) & 0x3FFFFFFF;
+        values[offset + 3] = (words[wordOffset + 2] >>> 26 | words[wordOffset + 3] << 6) & 0x3FFFFFFF;
+        values[offset + 4] = (words[wordOffset + 3] >>> 24 | words[wordOffset + 4] << 8) & 0x3FFFFFFF;
+        values[offset + 5] = (words[wordOffset + 4] >>> 22 | words[wordOffset + 5] << 10) & 0x3FFFFFFF;
+        values[offset + 6] = (words[wordOffset + 5] >>> 20 | words[wordOffset + 6] << 12) & 0x3FFFFFFF;
+        values[offset + 7] = (words[wordOffset + 6] >>> 18 | words[wordOffset + 7] << 14) & 0x3FFFFFFF;
+        values[offset + 8] = (words[wordOffset + 7] >>> 16 | words[wordOffset + 8] << 16) & 0x3FFFFFFF;
+        values[offset + 9] = (words[wordOffset + 8] >>> 14 | words[wordOffset + 9] << 18) & 0x3FFFFFFF;
+        values[offset + 10] = (words[wordOffset + 9] >>> 12 | words[wordOffset + 10] << 20) & 0x3FFFFFFF;
+        values[offset + 11] = (words[wordOffset + 10] >>> 10 | words[wordOffset + 11] << 22) & 0x3FFFFFFF;
+        values[offset + 12] = (words[wordOffset + 11] >>> 8 | words[wordOffset + 12] << 24) & 0x3FFFFFFF;
+        values[offset + 13] = (words[wordOffset + 12] >>> 6 | words[wordOffset + 13] << 26) & 0x3FFFFFFF;
+        values[offset + 14] = (words[wordOffset + 13] >>> 4 | words[wordOffset + 14] << 28) & 0x3FFFFFFF;
+        values[offset + 15] = words[wordOffset + 14] >>> 2;
+        values[offset + 16] = words[wordOffset + 15] & 0x3FFFFFFF;
+        values[offset + 17] = (words[wordOffset + 15] >>> 30 | words[wordOffset + 16] << 2) & 0x3FFFFFFF;
+        values[offset + 18] = (words[wordOffset + 16] >>> 28 | words[wordOffset + 17] << 4) & 0x3FFFFFFF;
+        values[offset + 19] = (words[wordOffset + 17] >>> 26 | words[wordOffset + 18] << 6) & 0x3FFFFFFF;
+        values[offset + 20] = (words[wordOffset + 18] >>> 24 | words[wordOffset + 19] << 8) & 0x3FFFFFFF;
+        values[offset + 21] = (words[wordOffset + 19] >>> 22 | words[wordOffset + 20] << 10) & 0x3FFFFFFF;
+        values[offset + 22] = (words[wordOffset + 20] >>> 20 | words[wordOffset + 21] << 12) & 0x3FFFFFFF;
+        values[offset + 23] = (words[wordOffset + 21] >>> 18 | words[wordOffset + 22] << 14) & 0x3FFFFFFF;
+        values[offset + 24] = (words[wordOffset + 22] >>> 16 | words[wordOffset + 23] << 16) & 0x3FFFFFFF;
+        values[offset + 25] = (words[wordOffset + 23] >>> 14 | words[wordOffset + 24] << 18) & 0x3FFFFFFF;
+        values[offset + 26] = (words[wordOffset + 24] >>> 12 | words[wordOffset + 25] << 20) & 0x3FFFFFFF;
+        values[offset + 27] = (words[wordOffset + 25] >>> 10 | words[wordOffset + 26] << 22) & 0x3FFFFFFF;
+        values[offset + 28] = (words[wordOffset + 26] >>> 8 | words[wordOffset + 27] << 24) & 0x3FFFFFFF;
+        values[offset + 29] = (words[wordOffset + 27] >>> 6 | words[wordOffset + 28] << 26) & 0x3FFFFFFF;
+        values[offset + 30] = (words[wordOffset + 28] >>> 4 | words[wordOffset + 29] << 28) & 0x3FFFFFFF;
+        values[offset + 31] = words[wordOffset + 29] >>> 2;
+    }
+
+    private static void unpack31(int[] words, int wordOffset, int[] values, int offset) {
+        values[offset] = words[wordOffset] & 0x7FFFFFFF;
+        values[offset + 1] = (words[wordOffset] >>> 31 | words[wordOffset + 1] << 1) & 0x7FFFFFFF;
+        values[offset + 2] = (words[wordOffset + 1] >>> 30 | words[wordOffset + 2] << 2) & 0x7FFFFFFF;
+        values[offset + 3] = (words[wordOffset + 2] >>> 29 | words[wordOffset + 3] << 3) & 0x7FFFFFFF;
+        values[offset + 4] = (words[wordOffset + 3] >>> 28 | words[wordOffset + 4] << 4) & 0x7FFFFFFF;
+        values[offset + 5] = (words[wordOffset + 4] >>> 27 | words[wordOffset + 5] << 5) & 0x7FFFFFFF;
+        values[offset + 6] = (words[wordOffset + 5] >>> 26 | words[wordOffset + 6] << 6) & 0x7FFFFFFF;
+        values[offset + 7] = (words[wordOffset + 6] >>> 25 | words[wordOffset + 7] << 7) & 0x7FFFFFFF;
+        values[offset + 8] = (words[wordOffset + 7] >>> 24 | words[wordOffset + 8] << 8) & 0x7FFFFFFF;
+        values[offset + 9] = (words[wordOffset + 8] >>> 23 | words[wordOffset + 9] << 9) & 0x7FFFFFFF;
+        values[offset + 10] = (words[wordOffset + 9] >>> 22 | words[wordOffset + 10] << 10) & 0x7FFFFFFF;
+        values[offset + 11] = (words[wordOffset + 10] >>> 21 | words[wordOffset + 11] << 11) & 0x7FFFFFFF;
+        values[offset + 12] = (words[wordOffset + 11] >>> 20 | words[wordOffset + 12] << 12) & 0x7FFFFFFF;
+        values[offset + 13] = (words[wordOffset + 12] >>> 19 | words[wordOffset + 13] << 13) & 0x7FFFFFFF;
+        values[offset + 14] = (words[wordOffset + 13] >>> 18 | words[wordOffset + 14] << 14) & 0x7FFFFFFF;
+        values[offset + 15] = (words[wordOffset + 14] >>> 17 | words[wordOffset + 15] << 15) & 0x7FFFFFFF;
+        values[offset + 16] = (words[wordOffset + 15] >>> 16 | words[wordOffset + 16] << 16) & 0x7FFFFFFF;
+        values[offset + 17] = (words[wordOffset + 16] >>> 15 | words[wordOffset + 17] << 17) & 0x7FFFFFFF;
+        values[offset + 18] = (words[wordOffset + 17] >>> 14 | words[wordOffset + 18] << 18) & 0x7FFFFFFF;
+        values[offset + 19] = (words[wordOffset + 18] >>> 13 | words[wordOffset + 19] << 19) & 0x7FFFFFFF;
+        values[offset + 20] = (words[wordOffset + 19] >>> 12 | words[wordOffset + 20] << 20) & 0x7FFFFFFF;
+        values[offset + 21] = (words[wordOffset + 20] >>> 11 | words[wordOffset + 21] << 21) & 0x7FFFFFFF;
+        values[offset + 22] = (words[wordOffset + 21] >>> 10 | words[wordOffset + 22] << 22) & 0x7FFFFFFF;
+        values[offset + 23] = (words[wordOffset + 22] >>> 9 | words[wordOffset + 23] << 23) & 0x7FFFFFFF;
+        values[offset + 24] = (words[wordOffset + 23] >>> 8 | words[wordOffset + 24] << 24) & 0x7FFFFFFF;
+        values[offset + 25] = (words[wordOffset + 24] >>> 7 | words[wordOffset + 25] << 25) & 0x7FFFFFFF;
+        values[offset + 26] = (words[wordOffset + 25] >>> 6 | words[wordOffset + 26] << 26) & 0x7FFFFFFF;
+        values[offset + 27] = (words[wordOffset + 26] >>> 5 | words[wordOffset + 27] << 27) & 0x7FFFFFFF;
+        values[offset + 28] = (words[wordOffset + 27] >>> 4 | words[wordOffset + 28] << 28) & 0x7FFFFFFF;
+        values[offset + 29] = (words[wordOffset + 28] >>> 3 | words[wordOffset + 29] << 29) & 0x7FFFFFFF;
+        values[offset + 30] = (words[wordOffset + 29] >>> 2 | words[wordOffset + 30] << 30) & 0x7FFFFFFF;
+        values[offset + 31] = words[wordOffset + 30] >>> 1;
+    }
+
+    private static void unpack32(int[] words, int wordOffset, int[] values, int offset) {
+        values[offset] = words[wordOffset];
+        values[offset + 1] = words[wordOffset + 1];
+        values[offset + 2] = words[wordOffset + 2];
+        values[offset + 3] = words[wordOffset + 3];
+        values[offset + 4] = words[wordOffset + 4];
+        values[offset + 5] = words[wordOffset + 5];
+        values[offset + 6] = words[wordOffset + 6];
+        values[offset + 7] = words[wordOffset + 7];
+        values[offset + 8] = words[wordOffset + 8];
+        values[offset + 9] = words[wordOffset + 9];
+        values[offset + 10] = words[wordOffset + 10];
+        values[offset + 11] = words[wordOffset + 11];
+        values[offset + 12] = words[wordOffset + 12];
+        values[offset + 13] = words[wordOffset + 13];
+        values[offset + 14] = words[wordOffset + 14];
+        values[offset + 15] = words[wordOffset + 15];
+        values[offset + 16] = words[wordOffset + 16];
+        values[offset + 17] = words[wordOffset + 17];
+        values[offset + 18] = words[wordOffset + 18];
+        values[offset + 19] = words[wordOffset + 19];
+        values[offset + 20] = words[wordOffset + 20];
+        values[offset + 21] = words[wordOffset + 21];
+        values[offset + 22] = words[wordOffset + 22];
+        values[offset + 23] = words[wordOffset + 23];
+        values[offset + 24] = words[wordOffset + 24];
+        values[offset + 25] = words[wordOffset + 25];
+        values[offset + 26] = words[wordOffset + 26];
+        values[offset + 27] = words[wordOffset + 27];
+        values[offset + 28] = words[wordOffset + 28];
+        values[offset + 29] = words[wordOffset + 29];
+        values[offset + 30] = words[wordOffset + 30];
+        values[offset + 31] = words[wordOffset + 31];
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ BitIO: A library for bit-oriented input/output.
+ Copyright (C) 2009-2011 Jean-Francois Im
+
+ This file is part of BitIO.
+
+ BitIO is free software: you can redistribute it and/or modify
+ it under the terms of the GNU Lesser General Public License as published by
+ the Free Software Foundation, either version 3 of the License, or
+ (at your option) any later version.
+
+ BitIO is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ GNU Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public License
+ along with BitIO.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package im.jeanfrancois.bitio.codec;
+
+import im.jeanfrancois.bitio.BitSink;
+import im.jeanfrancois.bitio.BitSource;
+import im.jeanfrancois.bitio.util.BitIOUtils;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Index of the blocks of a sequence of values, recording for every block of {@link #getInterval()} values the bit
+ * offset at which the block starts and the value preceding it. The index is kept apart from the values, and written
+ * separately using {@link #write(BitSink)}.
+ *
+ * @author jfim
+ * @see IndexedRiceWriter
+ * @see IndexedRiceReader
+ */
+public class BlockIndex {
+    private final int interval;
+    private long valueCount;
+    private int blockCount;
+    private long[] bitOffsets = new long[16];
+    private int[] baseValues = new int[16];
+
+    /**
+     * Constructs an empty index.
+     *
+     * @param interval The number of values in each block
+     */
+    public BlockIndex(int interval) {
+        if (interval < 1)
+            throw new IllegalArgumentException("Block interval must be at least 1, got " + interval);
+
+        this.interval = interval;
+    }
+
+    /**
+     * Returns the number of values in each block.
+     *
+     * @return The number of values in each block
+     */
+    public int getInterval() {
+        return interval;
+    }
+
+    /**
+     * Returns the number of values in the indexed sequence.
+     *
+     * @return The number of values
+     */
+    public long getValueCount() {
+        return valueCount;
+    }
+
+    /**
+     * Returns the number of blocks in the index.
+     *
+     * @return The number of blocks
+     */
+    public int getBlockCount() {
+        return blockCount;
+    }
+
+    /**
+     * Returns the bit offset of a block, relative to the beginning of the sequence.
+     *
+     * @param block The index of the block
+     * @return The bit offset of the first value of the block
+     */
+    public long getBitOffset(int block) {
+        return bitOffsets[block];
+    }
+
+    /**
+     * Returns the value preceding a block, which is 0 for the first block.
+     *
+     * @param block The index of the block
+     * @return The last value of the previous block
+     */
+    public int getBaseValue(int block) {
+        return baseValues[block];
+    }
+
+    /**
+     * Finds the last block whose values are all preceded by values smaller than a given value, which is the block
+     * where the first value greater or equal to it starts being searched in a non-decreasing sequence.
+     *
+     * @param value The value searched
+     * @return The index of the last block whose base value is smaller than the value, or 0 if there is none
+     */
+    public int findBlock(int value) {
+        int low = 0;
+        int high = blockCount - 1;
+
+        while (low < high) {
+            final int middle = (low + high + 1) >>> 1;
+
+            if (baseValues[middle] < value) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+
+        return low;
+    }
+
+    void addBlock(long bitOffset, int baseValue) {
+        if (blockCount == bitOffsets.length) {
+            bitOffsets = Arrays.copyOf(bitOffsets, blockCount * 2);
+            baseValues = Arrays.copyOf(baseValues, blockCount * 2);
+        }
+
+        bitOffsets[blockCount] = bitOffset;
+        baseValues[blockCount] = baseValue;
+        blockCount++;
+    }
+
+    void setValueCount(long valueCount) {
+        this.valueCount = valueCount;
+    }
+
+    /**
+     * Writes the index. The interval, value count and block count are written in binary, followed for each block by
+     * the difference between its bit offset and the one of the previous block, and the ZigZag-encoded difference
+     * between their base values, as order 0 Exp-Golomb codes of 64-bit values, so that neither blocks spanning more
+     * than 2<sup>31</sup> bits nor base values far apart overflow.
+     *
+     * @param bitSink The bit sink to write into
+     * @throws IOException If an underlying IOException occurs while writing to the stream
+     */
+    public void write(BitSink bitSink) throws IOException {
+        bitSink.writeBinary(interval, 32);
+        bitSink.writeLong(valueCount, 64);
+        bitSink.writeBinary(blockCount, 32);
+
+        long previousOffset = 0;
+        long previousBase = 0;
+        for (int block = 0; block < blockCount; ++block) {
+            bitSink.writeExpGolomb(bitOffsets[block] - previousOffset, 0);
+            bitSink.writeExpGolomb(BitIOUtils.encodeAsZigZag(baseValues[block] - previousBase), 0);
+            previousOffset = bitOffsets[block];
+            previousBase = baseValues[block];
+        }
+    }
+
+    /**
+     * Reads an index written by {@link #write(BitSink)}.
+     *
+     * @param bitSource The bit source to read from
+     * @return The index read
+     * @throws IOException If an underlying IOException occurs while reading from the stream, or if the index read is
+     *                     not a valid index
+     */
+    public static BlockIndex read(BitSource bitSource) throws IOException {
+        final int interval = bitSource.readBinary(32);
+        final long valueCount = bitSource.readLong(64);
+        final int blockCount = bitSource.readBinary(32);
+
+        // Every block but the last holds interval values, so the block count follows from the value count
+        if (interval < 1 || valueCount < 0 || blockCount < 0
+                || blockCount != valueCount / interval + (valueCount % interval == 0 ? 0 : 1))
+            throw new IOException("Invalid block index header, with an interval of " + interval + ", " + valueCount
+                    + " values and " + blockCount + " blocks");
+
+        final BlockIndex index = new BlockIndex(interval);
+        index.setValueCount(valueCount);
+
+        long offset = 0;
+        long base = 0;
+        for (int block = 0; block < blockCount; ++block) {
+            final long previousOffset = offset;
+            offset += bitSource.readExpGolombLong(0);
+            base += BitIOUtils.decodeZigZag(bitSource.readExpGolombLong(0));
+
+            // Offsets never decrease, so a smaller one is an offset delta that overflowed
+            if (offset < previousOffset || base < Integer.MIN_VALUE || Integer.MAX_VALUE < base)
+                throw new IOException("Invalid block index entry for block " + block + ", with a bit offset of "
+                        + offset + " and a base value of " + base);
+
+            index.addBlock(offset, (int) base);
+        }
+
+        return index;
+    }
+}
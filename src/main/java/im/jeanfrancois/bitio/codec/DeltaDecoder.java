@@ -0,0 +1,125 @@
+/*
+ BitIO: A library for bit-oriented input/output.
+ Copyright (C) 2009-2011 Jean-Francois Im
+
+ This file is part of BitIO.
+
+ BitIO is free software: you can redistribute it and/or modify
+ it under the terms of the GNU Lesser General Public License as published by
+ the Free Software Foundation, either version 3 of the License, or
+ (at your option) any later version.
+
+ BitIO is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ GNU Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public License
+ along with BitIO.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package im.jeanfrancois.bitio.codec;
+
+import im.jeanfrancois.bitio.BitSource;
+import im.jeanfrancois.bitio.util.BitIOUtils;
+
+import java.io.IOException;
+
+/**
+ * Decoder for sequences of values written by a {@link DeltaEncoder}. The running sum that restores the values from
+ * their differences is computed as the differences are decoded, without going through a temporary array.
+ *
+ * @author jfim
+ */
+public class DeltaDecoder {
+    private final BitSource bitSource;
+    private final DeltaEncoder.Coding coding;
+    private final int parameter;
+    private long previousValue;
+
+    /**
+     * Constructs a decoder that reads from a bit source.
+     *
+     * @param bitSource The bit source to read from
+     * @param coding    The coding used for the differences, which must be the same as when they were written
+     * @param parameter The number of fixed bits for Rice coding, or the number of bits of each difference for binary
+     *                  coding, which must be the same as when the differences were written
+     */
+    public DeltaDecoder(BitSource bitSource, DeltaEncoder.Coding coding, int parameter) {
+        this.bitSource = bitSource;
+        this.coding = coding;
+        this.parameter = parameter;
+    }
+
+    /**
+     * Reads a block of values.
+     *
+     * @param values The array into which the values are read
+     * @param offset The offset in the array of the first value
+     * @param length The number of values to read
+     * @throws IOException If an underlying IOException occurs while reading from the stream
+     */
+    public void read(int[] values, int offset, int length) throws IOException {
+        int previous = (int) previousValue;
+
+        // Decode the differences in place a chunk at a time, summing them while they are still in the cache
+        for (int chunkOffset = offset; chunkOffset < offset + length; chunkOffset += DeltaEncoder.CHUNK_SIZE) {
+            final int chunkEnd = Math.min(chunkOffset + DeltaEncoder.CHUNK_SIZE, offset + length);
+
+            if (coding == DeltaEncoder.Coding.RICE) {
+                bitSource.readRice(values, chunkOffset, chunkEnd - chunkOffset, parameter);
+            } else {
+                bitSource.readBinary(values, chunkOffset, chunkEnd - chunkOffset, parameter);
+            }
+
+            for (int i = chunkOffset; i < chunkEnd; ++i) {
+                previous += BitIOUtils.decodeZigZag(values[i]);
+                values[i] = previous;
+            }
+        }
+
+        previousValue = previous;
+    }
+
+    /**
+     * Reads a single value.
+     *
+     * @return The value read
+     * @throws IOException If an underlying IOException occurs while reading from the stream
+     */
+    public int read() throws IOException {
+        final int difference = coding == DeltaEncoder.Coding.RICE ? bitSource.readRice(parameter)
+                : bitSource.readBinary(parameter);
+        final int value = (int) previousValue + BitIOUtils.decodeZigZag(difference);
+        previousValue = value;
+        return value;
+    }
+
+    /**
+     * Reads a block of long values.
+     *
+     * @param values The array into which the values are read
+     * @param offset The offset in the array of the first value
+     * @param length The number of values to read
+     * @throws IOException If an underlying IOException occurs while reading from the stream
+     */
+    public void read(long[] values, int offset, int length) throws IOException {
+        long previous = previousValue;
+
+        for (int i = offset; i < offset + length; ++i) {
+            final long difference = coding == DeltaEncoder.Coding.RICE ? bitSource.readRiceLong(parameter)
+                    : bitSource.readLong(parameter);
+            previous += BitIOUtils.decodeZigZag(difference);
+            values[i] = previous;
+        }
+
+        previousValue = previous;
+    }
+
+    /**
+     * Restarts the sequence, so that the next value read is decoded as its difference from zero.
+     */
+    public void reset() {
+        previousValue = 0;
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ BitIO: A library for bit-oriented input/output.
+ Copyright (C) 2009-2011 Jean-Francois Im
+
+ This file is part of BitIO.
+
+ BitIO is free software: you can redistribute it and/or modify
+ it under the terms of the GNU Lesser General Public License as published by
+ the Free Software Foundation, either version 3 of the License, or
+ (at your option) any later version.
+
+ BitIO is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ GNU Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public License
+ along with BitIO.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package im.jeanfrancois.bitio.codec;
+
+import im.jeanfrancois.bitio.BitSink;
+import im.jeanfrancois.bitio.util.BitIOUtils;
+
+import java.io.IOException;
+import java.util.PrimitiveIterator;
+
+/**
+ * Encoder that writes sequences of values as the ZigZag-encoded differences between consecutive values, which keeps
+ * sorted sequences, time series and other slowly varying signed sequences small. Differences are written either
+ * Rice-coded or at a fixed bit width. The encoder keeps the last value written, so a sequence can be written over
+ * several calls; it is read back using a {@link DeltaDecoder} configured with the same coding and parameter.
+ *
+ * @author jfim
+ */
+public class DeltaEncoder {
+    /**
+     * Codings used to write the ZigZag-encoded differences.
+     */
+    public enum Coding {
+        /**
+         * Writes each difference Rice-coded, the parameter being the number of fixed bits.
+         */
+        RICE,
+
+        /**
+         * Writes each difference in binary, the parameter being the number of bits of each difference.
+         */
+        BINARY
+    }
+
+    /**
+     * Number of differences computed ahead of each batch write.
+     */
+    static final int CHUNK_SIZE = 128;
+
+    private final BitSink bitSink;
+    private final Coding coding;
+    private final int parameter;
+    private final int[] chunk = new int[CHUNK_SIZE];
+    private long previousValue;
+
+    /**
+     * Constructs an encoder that writes into a bit sink.
+     *
+     * @param bitSink   The bit sink to write into
+     * @param coding    The coding used for the differences
+     * @param parameter The number of fixed bits for Rice coding, or the number of bits of each difference for binary
+     *                  coding
+     */
+    public DeltaEncoder(BitSink bitSink, Coding coding, int parameter) {
+        this.bitSink = bitSink;
+        this.coding = coding;
+        this.parameter = parameter;
+    }
+
+    /**
+     * Writes a block of values.
+     *
+     * @param values The array containing the values to write
+     * @param offset The offset in the array of the first value
+     * @param length The number of values to write
+     * @throws IOException If an underlying IOException occurs while writing to the stream
+     */
+    public void write(int[] values, int offset, int length) throws IOException {
+        int previous = (int) previousValue;
+
+        for (int chunkOffset = offset; chunkOffset < offset + length; chunkOffset += CHUNK_SIZE) {
+            final int chunkLength = Math.min(CHUNK_SIZE, offset + length - chunkOffset);
+
+            for (int i = 0; i < chunkLength; ++i) {
+                final int value = values[chunkOffset + i];
+                chunk[i] = BitIOUtils.encodeAsZigZag(value - previous);
+                previous = value;
+            }
+
+            writeChunk(chunkLength);
+        }
+
+        previousValue = previous;
+    }
+
+    /**
+     * Writes all the values returned by an iterator.
+     *
+     * @param values The iterator returning the values to write
+     * @return The number of values written
+     * @throws IOException If an underlying IOException occurs while writing to the stream
+     */
+    public int write(PrimitiveIterator.OfInt values) throws IOException {
+        int previous = (int) previousValue;
+        int count = 0;
+
+        while (values.hasNext()) {
+            int chunkLength = 0;
+
+            while (chunkLength < CHUNK_SIZE && values.hasNext()) {
+                final int value = values.nextInt();
+                chunk[chunkLength++] = BitIOUtils.encodeAsZigZag(value - previous);
+                previous = value;
+            }
+
+            writeChunk(chunkLength);
+            count += chunkLength;
+        }
+
+        previousValue = previous;
+        return count;
+    }
+
+    /**
+     * Writes a block of long values.
+     *
+     * @param values The array containing the values to write
+     * @param offset The offset in the array of the first value
+     * @param length The number of values to write
+     * @throws IOException If an underlying IOException occurs while writing to the stream
+     */
+    public void write(long[] values, int offset, int length) throws IOException {
+        for (int i = offset; i < offset + length; ++i) {
+            writeLong(values[i]);
+        }
+    }
+
+    /**
+     * Writes all the long values returned by an iterator.
+     *
+     * @param values The iterator returning the values to write
+     * @return The number of values written
+     * @throws IOException If an underlying IOException occurs while writing to the stream
+     */
+    public int write(PrimitiveIterator.OfLong values) throws IOException {
+        int count = 0;
+
+        while (values.hasNext()) {
+            writeLong(values.nextLong());
+            count++;
+        }
+
+        return count;
+    }
+
+    /**
+     * Restarts the sequence, so that the next value written is encoded as its difference from zero.
+     */
+    public void reset() {
+        previousValue = 0;
+    }
+
+    private void writeChunk(int chunkLength) throws IOException {
+        if (coding == Coding.RICE) {
+            bitSink.writeRice(chunk, 0, chunkLength, parameter);
+        } else {
+            bitSink.writeBinary(chunk, 0, chunkLength, parameter);
+        }
+    }
+
+    private void writeLong(long value) throws IOException {
+        final long difference = BitIOUtils.encodeAsZigZag(value - previousValue);
+        previousValue = value;
+
+        if (coding == Coding.RICE) {
+            bitSink.writeRice(difference, parameter);
+        } else {
+            bitSink.writeLong(difference, parameter);
+        }
+    }
+}
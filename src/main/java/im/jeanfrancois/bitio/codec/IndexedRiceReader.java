@@ -0,0 +1,161 @@
+/*
+ BitIO: A library for bit-oriented input/output.
+ Copyright (C) 2009-2011 Jean-Francois Im
+
+ This file is part of BitIO.
+
+ BitIO is free software: you can redistribute it and/or modify
+ it under the terms of the GNU Lesser General Public License as published by
+ the Free Software Foundation, either version 3 of the License, or
+ (at your option) any later version.
+
+ BitIO is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ GNU Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public License
+ along with BitIO.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package im.jeanfrancois.bitio.codec;
+
+import im.jeanfrancois.bitio.BitSource;
+
+import java.io.IOException;
+import java.util.NoSuchElementException;
+
+/**
+ * Reader for sequences written by an {@link IndexedRiceWriter}, which uses their {@link BlockIndex} to move to an
+ * arbitrary value without decoding the blocks that precede it. Moving forward skips bits, which is immediate when
+ * reading from byte buffers and avoids reading the skipped bytes for byte sources that support it, while moving
+ * backward requires a bit source that can seek.
+ *
+ * @author jfim
+ */
+public class IndexedRiceReader {
+    private final BitSource bitSource;
+    private final BlockIndex index;
+    private final int numFixedBits;
+    private final boolean sorted;
+    private final long startBitPosition;
+    private long position;
+    private int previousValue;
+
+    /**
+     * Constructs a reader for a sequence starting at the current position of a bit source.
+     *
+     * @param bitSource    The bit source to read from
+     * @param index        The index of the sequence
+     * @param numFixedBits The Rice parameter used for the values, which must be the same as when they were written
+     * @param sorted       true if the values were written as differences between consecutive values
+     */
+    public IndexedRiceReader(BitSource bitSource, BlockIndex index, int numFixedBits, boolean sorted) {
+        this.bitSource = bitSource;
+        this.index = index;
+        this.numFixedBits = numFixedBits;
+        this.sorted = sorted;
+        this.startBitPosition = bitSource.bitPosition();
+    }
+
+    /**
+     * Returns the position of the next value to be read within the sequence.
+     *
+     * @return The number of values preceding the next value
+     */
+    public long position() {
+        return position;
+    }
+
+    /**
+     * Returns whether there are values left to read.
+     *
+     * @return true if the end of the sequence has not been reached
+     */
+    public boolean hasNext() {
+        return position < index.getValueCount();
+    }
+
+    /**
+     * Reads the next value of the sequence.
+     *
+     * @return The value read
+     * @throws IOException If an underlying IOException occurs while reading from the stream
+     */
+    public int next() throws IOException {
+        if (!hasNext())
+            throw new NoSuchElementException();
+
+        final int code = bitSource.readRice(numFixedBits);
+        final int value = sorted ? previousValue + code : code;
+        previousValue = value;
+        position++;
+
+        return value;
+    }
+
+    /**
+     * Moves to a position within the sequence, so that the next value read is the one at that position.
+     *
+     * @param position The position of the next value to read, which may be the length of the sequence
+     * @throws IOException If an underlying IOException occurs while reading from the stream
+     */
+    public void seek(long position) throws IOException {
+        if (position < 0 || index.getValueCount() < position)
+            throw new IndexOutOfBoundsException("Position " + position + " is outside of the sequence");
+
+        // Jump to the block of the position, unless it is ahead in the current block
+        final long interval = index.getInterval();
+        final int block = (int) Math.min(position / interval, index.getBlockCount() - 1);
+        if (position < this.position || this.position < block * interval) {
+            moveToBlock(block);
+        }
+
+        while (this.position < position) {
+            next();
+        }
+    }
+
+    /**
+     * Moves forward to the first value greater or equal to a given value, which requires a non-decreasing sequence.
+     * The blocks that only contain smaller values are skipped without being decoded.
+     *
+     * @param value The value searched
+     * @return The first value greater or equal to the value searched, starting from the current position, or -1 if
+     *         there is none, in which case the end of the sequence is reached
+     * @throws IOException If an underlying IOException occurs while reading from the stream
+     */
+    public int nextGreaterOrEqual(int value) throws IOException {
+        if (!sorted)
+            throw new IllegalStateException("Searching for values requires a sorted sequence");
+
+        if (index.getBlockCount() != 0) {
+            final int block = index.findBlock(value);
+            if (position < (long) block * index.getInterval()) {
+                moveToBlock(block);
+            }
+        }
+
+        while (hasNext()) {
+            final int nextValue = next();
+            if (value <= nextValue)
+                return nextValue;
+        }
+
+        return -1;
+    }
+
+    private void moveToBlock(int block) throws IOException {
+        final long blockBitPosition = startBitPosition + index.getBitOffset(block);
+        final long currentBitPosition = bitSource.bitPosition();
+
+        if (currentBitPosition <= blockBitPosition) {
+            bitSource.skipBits(blockBitPosition - currentBitPosition);
+        } else {
+            bitSource.seek(blockBitPosition);
+        }
+
+        position = (long) block * index.getInterval();
+        previousValue = index.getBaseValue(block);
+    }
+}
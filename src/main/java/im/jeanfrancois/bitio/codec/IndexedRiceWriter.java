@@ -0,0 +1,111 @@
+/*
+ BitIO: A library for bit-oriented input/output.
+ Copyright (C) 2009-2011 Jean-Francois Im
+
+ This file is part of BitIO.
+
+ BitIO is free software: you can redistribute it and/or modify
+ it under the terms of the GNU Lesser General Public License as published by
+ the Free Software Foundation, either version 3 of the License, or
+ (at your option) any later version.
+
+ BitIO is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ GNU Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public License
+ along with BitIO.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package im.jeanfrancois.bitio.codec;
+
+import im.jeanfrancois.bitio.BitSink;
+
+import java.io.IOException;
+
+/**
+ * Writer for sequences of Rice-coded values that builds a {@link BlockIndex} as it goes, so that the sequence can be
+ * read from an arbitrary position with an {@link IndexedRiceReader}. Non-decreasing sequences can be written as the
+ * Rice-coded differences between consecutive values, which also allows searching for the first value greater or equal
+ * to a given value.
+ *
+ * @author jfim
+ */
+public class IndexedRiceWriter {
+    private final BitSink bitSink;
+    private final int numFixedBits;
+    private final boolean sorted;
+    private final BlockIndex index;
+    private final long startBitPosition;
+    private long valueCount;
+    private int valuesLeftInBlock;
+    private int previousValue;
+
+    /**
+     * Constructs a writer that writes a sequence into a bit sink, starting at its current position.
+     *
+     * @param bitSink      The bit sink to write into
+     * @param numFixedBits The Rice parameter used for the values
+     * @param interval     The number of values between index entries
+     * @param sorted       true if the values are non-decreasing and written as differences between consecutive values
+     */
+    public IndexedRiceWriter(BitSink bitSink, int numFixedBits, int interval, boolean sorted) {
+        this.bitSink = bitSink;
+        this.numFixedBits = numFixedBits;
+        this.sorted = sorted;
+        this.index = new BlockIndex(interval);
+        this.startBitPosition = bitSink.bitPosition();
+    }
+
+    /**
+     * Writes a value, recording an index entry if it starts a new block.
+     *
+     * @param value The value to write, which must be positive, and no smaller than the previous value for sorted
+     *              sequences
+     * @throws IOException If an underlying IOException occurs while writing to the stream
+     */
+    public void write(int value) throws IOException {
+        if (valuesLeftInBlock == 0) {
+            index.addBlock(bitSink.bitPosition() - startBitPosition, previousValue);
+            valuesLeftInBlock = index.getInterval();
+        }
+
+        if (sorted) {
+            if (value < previousValue)
+                throw new IllegalArgumentException("Value " + value + " is smaller than the previous value " + previousValue);
+
+            bitSink.writeRice(value - previousValue, numFixedBits);
+        } else {
+            bitSink.writeRice(value, numFixedBits);
+        }
+
+        previousValue = value;
+        valuesLeftInBlock--;
+        valueCount++;
+        index.setValueCount(valueCount);
+    }
+
+    /**
+     * Writes a block of values.
+     *
+     * @param values The array containing the values to write
+     * @param offset The offset in the array of the first value
+     * @param length The number of values to write
+     * @throws IOException If an underlying IOException occurs while writing to the stream
+     */
+    public void write(int[] values, int offset, int length) throws IOException {
+        for (int i = offset; i < offset + length; ++i) {
+            write(values[i]);
+        }
+    }
+
+    /**
+     * Returns the index of the values written so far.
+     *
+     * @return The block index
+     */
+    public BlockIndex getIndex() {
+        return index;
+    }
+}
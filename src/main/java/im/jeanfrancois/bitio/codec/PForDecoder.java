@@ -0,0 +1,183 @@
+/*
+ BitIO: A library for bit-oriented input/output.
+ Copyright (C) 2009-2011 Jean-Francois Im
+
+ This file is part of BitIO.
+
+ BitIO is free software: you can redistribute it and/or modify
+ it under the terms of the GNU Lesser General Public License as published by
+ the Free Software Foundation, either version 3 of the License, or
+ (at your option) any later version.
+
+ BitIO is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ GNU Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public License
+ along with BitIO.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package im.jeanfrancois.bitio.codec;
+
+import im.jeanfrancois.bitio.BitSource;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Decoder for blocks of values written by a {@link PForEncoder}. Blocks are read from a bit source, or decoded
+ * directly from a byte array or a byte buffer when they start at a byte boundary. Every block decodes to
+ * {@link PForEncoder#BLOCK_SIZE} values, including a padded last block, whose padding the caller drops using the
+ * number of values it recorded.
+ *
+ * @author jfim
+ */
+public class PForDecoder {
+    private final BitSource bitSource;
+    private final int[] words = new int[PForEncoder.BLOCK_SIZE];
+    private final int[] exceptionPositions = new int[PForEncoder.BLOCK_SIZE];
+    private final int[] exceptionWords = new int[PForEncoder.BLOCK_SIZE];
+    private final int[] exceptionValues = new int[PForEncoder.BLOCK_SIZE];
+
+    /**
+     * Constructs a decoder for blocks held in byte arrays or byte buffers.
+     */
+    public PForDecoder() {
+        this(null);
+    }
+
+    /**
+     * Constructs a decoder that reads from a bit source.
+     *
+     * @param bitSource The bit source to read from
+     */
+    public PForDecoder(BitSource bitSource) {
+        this.bitSource = bitSource;
+    }
+
+    /**
+     * Reads a block of {@link PForEncoder#BLOCK_SIZE} values from the bit source.
+     *
+     * @param values The array into which the values are read
+     * @param offset The offset in the array of the first value
+     * @throws IOException If an underlying IOException occurs while reading from the stream
+     */
+    public void readBlock(int[] values, int offset) throws IOException {
+        final int numBits = bitSource.readBinary(8);
+        final int exceptionCount = bitSource.readBinary(8);
+        final int exceptionBits = exceptionCount > 0 ? bitSource.readBinary(8) : 0;
+
+        bitSource.readBinary(words, 0, wordCount(numBits), 32);
+
+        if (exceptionCount > 0) {
+            bitSource.readBinary(exceptionPositions, 0, exceptionCount, 8);
+            bitSource.readBinary(exceptionWords, 0, exceptionWordCount(exceptionCount, exceptionBits), 32);
+        }
+
+        unpackBlock(values, offset, numBits, exceptionCount, exceptionBits);
+    }
+
+    /**
+     * Decodes a block of {@link PForEncoder#BLOCK_SIZE} values from a byte array.
+     *
+     * @param bytes    The byte array containing the block
+     * @param position The position of the block in the byte array
+     * @param values   The array into which the values are decoded
+     * @param offset   The offset in the array of the first value
+     * @return The position following the block in the byte array
+     */
+    public int decodeBlock(byte[] bytes, int position, int[] values, int offset) {
+        final int numBits = bytes[position] & 0xFF;
+        final int exceptionCount = bytes[position + 1] & 0xFF;
+        position += 2;
+        final int exceptionBits = exceptionCount > 0 ? bytes[position++] & 0xFF : 0;
+
+        position = readWords(bytes, position, words, wordCount(numBits));
+
+        if (exceptionCount > 0) {
+            for (int i = 0; i < exceptionCount; ++i) {
+                exceptionPositions[i] = bytes[position + i] & 0xFF;
+            }
+            position = readWords(bytes, position + exceptionCount, exceptionWords,
+                    exceptionWordCount(exceptionCount, exceptionBits));
+        }
+
+        unpackBlock(values, offset, numBits, exceptionCount, exceptionBits);
+        return position;
+    }
+
+    /**
+     * Decodes a block of {@link PForEncoder#BLOCK_SIZE} values from a byte buffer, starting at its position and
+     * advancing it past the block.
+     *
+     * @param buffer The byte buffer containing the block
+     * @param values The array into which the values are decoded
+     * @param offset The offset in the array of the first value
+     */
+    public void decodeBlock(ByteBuffer buffer, int[] values, int offset) {
+        final int numBits = buffer.get() & 0xFF;
+        final int exceptionCount = buffer.get() & 0xFF;
+        final int exceptionBits = exceptionCount > 0 ? buffer.get() & 0xFF : 0;
+
+        readWords(buffer, words, wordCount(numBits));
+
+        if (exceptionCount > 0) {
+            for (int i = 0; i < exceptionCount; ++i) {
+                exceptionPositions[i] = buffer.get() & 0xFF;
+            }
+            readWords(buffer, exceptionWords, exceptionWordCount(exceptionCount, exceptionBits));
+        }
+
+        unpackBlock(values, offset, numBits, exceptionCount, exceptionBits);
+    }
+
+    private void unpackBlock(int[] values, int offset, int numBits, int exceptionCount, int exceptionBits) {
+        for (int i = 0; i < PForEncoder.BLOCK_SIZE; i += BitPacking.GROUP_SIZE) {
+            BitPacking.unpack(words, i / BitPacking.GROUP_SIZE * numBits, values, offset + i, numBits);
+        }
+
+        if (exceptionCount > 0) {
+            final int groupCount = (exceptionCount + BitPacking.GROUP_SIZE - 1) / BitPacking.GROUP_SIZE;
+            for (int group = 0; group < groupCount; ++group) {
+                BitPacking.unpack(exceptionWords, group * exceptionBits, exceptionValues,
+                        group * BitPacking.GROUP_SIZE, exceptionBits);
+            }
+
+            // Patch the high bits of the exceptions
+            for (int i = 0; i < exceptionCount; ++i) {
+                values[offset + exceptionPositions[i]] |= exceptionValues[i] << numBits;
+            }
+        }
+    }
+
+    private static int wordCount(int numBits) {
+        return PForEncoder.BLOCK_SIZE / BitPacking.GROUP_SIZE * numBits;
+    }
+
+    private static int exceptionWordCount(int exceptionCount, int exceptionBits) {
+        return (exceptionCount + BitPacking.GROUP_SIZE - 1) / BitPacking.GROUP_SIZE * exceptionBits;
+    }
+
+    private static int readWords(byte[] bytes, int position, int[] words, int wordCount) {
+        for (int i = 0; i < wordCount; ++i) {
+            words[i] = (bytes[position] & 0xFF)
+                    | (bytes[position + 1] & 0xFF) << 8
+                    | (bytes[position + 2] & 0xFF) << 16
+                    | (bytes[position + 3] & 0xFF) << 24;
+            position += 4;
+        }
+
+        return position;
+    }
+
+    private static void readWords(ByteBuffer buffer, int[] words, int wordCount) {
+        final boolean bigEndian = buffer.order() == ByteOrder.BIG_ENDIAN;
+
+        for (int i = 0; i < wordCount; ++i) {
+            final int word = buffer.getInt();
+            words[i] = bigEndian ? Integer.reverseBytes(word) : word;
+        }
+    }
+}
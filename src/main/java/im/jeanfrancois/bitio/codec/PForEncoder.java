@@ -0,0 +1,173 @@
+/*
+ BitIO: A library for bit-oriented input/output.
+ Copyright (C) 2009-2011 Jean-Francois Im
+
+ This file is part of BitIO.
+
+ BitIO is free software: you can redistribute it and/or modify
+ it under the terms of the GNU Lesser General Public License as published by
+ the Free Software Foundation, either version 3 of the License, or
+ (at your option) any later version.
+
+ BitIO is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ GNU Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public License
+ along with BitIO.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package im.jeanfrancois.bitio.codec;
+
+import im.jeanfrancois.bitio.BitSink;
+
+import java.io.IOException;
+
+/**
+ * Encoder that writes blocks of {@link #BLOCK_SIZE} values packed at a fixed bit width, storing the high bits of the
+ * few values that do not fit in that width as patched exceptions. Values are treated as unsigned. Each block is laid
+ * out as follows, all sections being a whole number of bytes:
+ * <ul>
+ * <li>the bit width b, on 8 bits</li>
+ * <li>the number of exceptions e, on 8 bits</li>
+ * <li>if there are exceptions, the number of high bits of the exceptions, on 8 bits</li>
+ * <li>the low b bits of every value, packed LSB first in 16 &times; b bytes</li>
+ * <li>the position of each exception within the block, on 8 bits each</li>
+ * <li>the high bits of each exception, packed LSB first in groups of 32 values padded with zeroes</li>
+ * </ul>
+ * Blocks written at a byte boundary can therefore be decoded straight from a byte array or a byte buffer, in addition
+ * to a bit source. Blocks are read back using a {@link PForDecoder}.
+ * <p>
+ * Only whole blocks are written, and the number of values is not stored. Callers encoding a sequence whose length is
+ * not a multiple of {@link #BLOCK_SIZE} must record that length themselves and pad the last block, preferably with
+ * zeroes, which never widen a block, then drop the padding once the block is decoded.
+ *
+ * @author jfim
+ */
+public class PForEncoder {
+    /**
+     * Number of values in a block.
+     */
+    public static final int BLOCK_SIZE = 128;
+
+    private final BitSink bitSink;
+    private final int[] widthCounts = new int[33];
+    private final int[] words = new int[BLOCK_SIZE];
+    private final int[] exceptionPositions = new int[BLOCK_SIZE];
+    private final int[] exceptionValues = new int[BLOCK_SIZE];
+
+    /**
+     * Constructs an encoder that writes into a bit sink.
+     *
+     * @param bitSink The bit sink to write into
+     */
+    public PForEncoder(BitSink bitSink) {
+        this.bitSink = bitSink;
+    }
+
+    /**
+     * Writes a block of {@link #BLOCK_SIZE} values, choosing the bit width that yields the smallest block.
+     *
+     * @param values The array containing the values to write, which must hold {@link #BLOCK_SIZE} values from the
+     *               offset, a partial last block being padded by the caller
+     * @param offset The offset in the array of the first value
+     * @return The length of the encoded block, in bytes
+     * @throws IOException If an underlying IOException occurs while writing to the stream
+     */
+    public int writeBlock(int[] values, int offset) throws IOException {
+        if (offset < 0 || values.length - offset < BLOCK_SIZE)
+            throw new IllegalArgumentException("A block holds " + BLOCK_SIZE + " values, but only "
+                    + Math.max(values.length - offset, 0) + " are available from offset " + offset
+                    + ", the last block must be padded");
+
+        // Count the values for each bit width
+        for (int i = 0; i < widthCounts.length; ++i) {
+            widthCounts[i] = 0;
+        }
+
+        for (int i = offset; i < offset + BLOCK_SIZE; ++i) {
+            widthCounts[32 - Integer.numberOfLeadingZeros(values[i])]++;
+        }
+
+        int maxWidth = 32;
+        while (maxWidth > 0 && widthCounts[maxWidth] == 0) {
+            maxWidth--;
+        }
+
+        // Lower the bit width while the values left out as exceptions cost less than the bits saved
+        int numBits = maxWidth;
+        int bestLength = encodedLength(maxWidth, 0, 0);
+        int exceptionCount = 0;
+        for (int width = maxWidth - 1; width >= 0; --width) {
+            exceptionCount += widthCounts[width + 1];
+            final int length = encodedLength(width, exceptionCount, maxWidth - width);
+
+            if (length < bestLength) {
+                numBits = width;
+                bestLength = length;
+            }
+        }
+
+        // Collect the exceptions
+        exceptionCount = 0;
+        for (int i = 0; i < BLOCK_SIZE; ++i) {
+            final int value = values[offset + i];
+
+            if (numBits < 32 && (value >>> numBits) != 0) {
+                exceptionPositions[exceptionCount] = i;
+                exceptionValues[exceptionCount] = value >>> numBits;
+                exceptionCount++;
+            }
+        }
+
+        final int exceptionBits = maxWidth - numBits;
+        bitSink.writeBinary(numBits, 8);
+        bitSink.writeBinary(exceptionCount, 8);
+        if (exceptionCount > 0) {
+            bitSink.writeBinary(exceptionBits, 8);
+        }
+
+        // Write the low bits of all values
+        for (int i = 0; i < BLOCK_SIZE; i += BitPacking.GROUP_SIZE) {
+            BitPacking.pack(values, offset + i, words, i / BitPacking.GROUP_SIZE * numBits, numBits);
+        }
+        bitSink.writeBinary(words, 0, BLOCK_SIZE / BitPacking.GROUP_SIZE * numBits, 32);
+
+        // Write the exceptions, padding their high bits to whole groups
+        if (exceptionCount > 0) {
+            bitSink.writeBinary(exceptionPositions, 0, exceptionCount, 8);
+
+            final int groupCount = (exceptionCount + BitPacking.GROUP_SIZE - 1) / BitPacking.GROUP_SIZE;
+            for (int i = exceptionCount; i < groupCount * BitPacking.GROUP_SIZE; ++i) {
+                exceptionValues[i] = 0;
+            }
+            for (int group = 0; group < groupCount; ++group) {
+                BitPacking.pack(exceptionValues, group * BitPacking.GROUP_SIZE, words, group * exceptionBits,
+                        exceptionBits);
+            }
+            bitSink.writeBinary(words, 0, groupCount * exceptionBits, 32);
+        }
+
+        return bestLength;
+    }
+
+    /**
+     * Computes the length of an encoded block.
+     *
+     * @param numBits        The bit width of the block
+     * @param exceptionCount The number of exceptions
+     * @param exceptionBits  The number of high bits of the exceptions
+     * @return The length of the encoded block, in bytes
+     */
+    static int encodedLength(int numBits, int exceptionCount, int exceptionBits) {
+        final int packedLength = 2 + BLOCK_SIZE / 8 * numBits;
+
+        if (exceptionCount == 0) {
+            return packedLength;
+        }
+
+        final int groupCount = (exceptionCount + BitPacking.GROUP_SIZE - 1) / BitPacking.GROUP_SIZE;
+        return packedLength + 1 + exceptionCount + groupCount * BitPacking.GROUP_SIZE / 8 * exceptionBits;
+    }
+}
@@ -0,0 +1,245 @@
+/*
+ BitIO: A library for bit-oriented input/output.
+ Copyright (C) 2009-2011 Jean-Francois Im
+
+ This file is part of BitIO.
+
+ BitIO is free software: you can redistribute it and/or modify
+ it under the terms of the GNU Lesser General Public License as published by
+ the Free Software Foundation, either version 3 of the License, or
+ (at your option) any later version.
+
+ BitIO is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ GNU Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public License
+ along with BitIO.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package im.jeanfrancois.bitio.succinct;
+
+import im.jeanfrancois.bitio.BitSink;
+import im.jeanfrancois.bitio.BitSource;
+
+import java.io.IOException;
+
+/**
+ * Non-decreasing sequence of positive values stored using Elias-Fano coding,
+ * which supports random access and searching without decoding the sequence.
+ * Each value is split into its l low bits, stored in binary, and its high
+ * bits, stored as the unary-coded differences between consecutive high parts
+ * in a bit vector where the one of value i is at position i + high(i). With l
+ * chosen as floor(log2(u / n)) for n values smaller than u, the sequence takes
+ * at most 2 + log2(u / n) bits per value.
+ * <p>
+ * Sequences are written using {@link #write(BitSink, long[], int, int)} and
+ * read back into memory using {@link #read(BitSource)}. Reading a value uses a
+ * select on the high bits, and searching for the first value greater or equal
+ * to x uses a select of zero to jump to the values that share the high bits of
+ * x.
+ *
+ * @author jfim
+ */
+public class EliasFanoSequence {
+    private final long size;
+    private final int lowBits;
+    private final long[] lowWords;
+    private final RankSelectBitVector highBits;
+    private final long lastValue;
+
+    private EliasFanoSequence(long size, int lowBits, long[] lowWords, RankSelectBitVector highBits) {
+        this.size = size;
+        this.lowBits = lowBits;
+        this.lowWords = lowWords;
+        this.highBits = highBits;
+        this.lastValue = size == 0 ? -1 : get(size - 1);
+    }
+
+    /**
+     * Writes a sequence of values. The number of values, the number of low bits and the length of the high bits are
+     * written first, as 64-bit, 6-bit and 64-bit values, followed by the low bits of every value and then the high
+     * bits.
+     *
+     * @param bitSink The bit sink to write into
+     * @param values  The array containing the values to write, which must be positive and non-decreasing
+     * @param offset  The offset in the array of the first value
+     * @param length  The number of values to write
+     * @throws IOException If an underlying IOException occurs while writing to the stream
+     */
+    public static void write(BitSink bitSink, long[] values, int offset, int length) throws IOException {
+        for (int i = offset; i < offset + length; ++i) {
+            if (values[i] < (i == offset ? 0 : values[i - 1]))
+                throw new IllegalArgumentException("Values must be positive and non-decreasing, got " + values[i]);
+        }
+
+        final long lastValue = length == 0 ? 0 : values[offset + length - 1];
+        final int lowBits = lowBits(lastValue, length);
+        writeHeader(bitSink, length, lowBits, lastValue);
+
+        for (int i = offset; i < offset + length; ++i) {
+            bitSink.writeLong(values[i], lowBits);
+        }
+
+        long previousHigh = 0;
+        for (int i = offset; i < offset + length; ++i) {
+            final long high = values[i] >>> lowBits;
+
+            bitSink.writeUnary(high - previousHigh);
+            previousHigh = high;
+        }
+    }
+
+    /**
+     * Writes a sequence of values, in the same format as {@link #write(BitSink, long[], int, int)}.
+     *
+     * @param bitSink The bit sink to write into
+     * @param values  The array containing the values to write, which must be positive and non-decreasing
+     * @param offset  The offset in the array of the first value
+     * @param length  The number of values to write
+     * @throws IOException If an underlying IOException occurs while writing to the stream
+     */
+    public static void write(BitSink bitSink, int[] values, int offset, int length) throws IOException {
+        for (int i = offset; i < offset + length; ++i) {
+            if (values[i] < (i == offset ? 0 : values[i - 1]))
+                throw new IllegalArgumentException("Values must be positive and non-decreasing, got " + values[i]);
+        }
+
+        final int lastValue = length == 0 ? 0 : values[offset + length - 1];
+        final int lowBits = lowBits(lastValue, length);
+        writeHeader(bitSink, length, lowBits, lastValue);
+
+        bitSink.writeBinary(values, offset, length, lowBits);
+
+        int previousHigh = 0;
+        for (int i = offset; i < offset + length; ++i) {
+            final int high = values[i] >>> lowBits;
+
+            bitSink.writeUnary(high - previousHigh);
+            previousHigh = high;
+        }
+    }
+
+    private static int lowBits(long lastValue, int length) {
+        // floor(log2(u / n)), with u = lastValue + 1
+        if (length == 0 || lastValue < length)
+            return 0;
+
+        return 63 - Long.numberOfLeadingZeros((lastValue + 1) / length);
+    }
+
+    private static void writeHeader(BitSink bitSink, int length, int lowBits, long lastValue) throws IOException {
+        bitSink.writeLong(length, 64);
+        bitSink.writeBinary(lowBits, 6);
+        bitSink.writeLong(length == 0 ? 0 : (lastValue >>> lowBits) + length, 64);
+    }
+
+    /**
+     * Reads a sequence written by {@link #write(BitSink, long[], int, int)} into memory.
+     *
+     * @param bitSource The bit source to read from
+     * @return The sequence read
+     * @throws IOException If an underlying IOException occurs while reading from the stream, or if the header read is
+     *                     not the one of a valid sequence
+     */
+    public static EliasFanoSequence read(BitSource bitSource) throws IOException {
+        final long size = bitSource.readLong(64);
+        final int lowBits = bitSource.readBinary(6);
+        final long highBitsLength = bitSource.readLong(64);
+
+        // Each value has a one in the high bits, and the low bits of an empty sequence are not stored
+        if (size < 0 || highBitsLength < size || (size == 0 && lowBits != 0))
+            throw new IOException("Invalid Elias-Fano sequence header, with " + size + " values, " + lowBits
+                    + " low bits and " + highBitsLength + " high bits");
+        if ((long) Integer.MAX_VALUE * 64 / Math.max(lowBits, 1) < size)
+            throw new IOException("Elias-Fano sequence of " + size + " values with " + lowBits
+                    + " low bits is too large to be read into memory");
+
+        // The high bits hold the high part of the last value, which is a positive long, followed by one bit per value
+        final long lastHigh = highBitsLength - size;
+        if ((long) Integer.MAX_VALUE * 64 < highBitsLength || (lastHigh >>> (63 - lowBits)) != 0)
+            throw new IOException("Invalid Elias-Fano sequence header, with " + size + " values, " + lowBits
+                    + " low bits and " + highBitsLength + " high bits");
+
+        // The low bits are contiguous, so they are read 64 bits at a time
+        final long lowBitsLength = size * lowBits;
+        final long[] lowWords = new long[(int) ((lowBitsLength + 63) >>> 6)];
+        for (int i = 0; i < lowWords.length; ++i) {
+            lowWords[i] = bitSource.readLong((int) Math.min(64, lowBitsLength - i * 64L));
+        }
+
+        return new EliasFanoSequence(size, lowBits, lowWords, RankSelectBitVector.read(bitSource, highBitsLength));
+    }
+
+    /**
+     * Returns the number of values of the sequence.
+     *
+     * @return The number of values
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Returns a value of the sequence.
+     *
+     * @param index The index of the value
+     * @return The value at that index
+     */
+    public long get(long index) {
+        if (index < 0 || size <= index)
+            throw new IndexOutOfBoundsException("Index " + index + " is outside of the sequence");
+
+        return (highBits.select1(index) - index) << lowBits | low(index);
+    }
+
+    /**
+     * Returns the first value of the sequence greater or equal to a given value.
+     *
+     * @param value The value searched
+     * @return The first value greater or equal to the value searched, or -1 if there is none
+     */
+    public long nextGreaterOrEqual(long value) {
+        if (lastValue < value)
+            return -1;
+
+        // Jump past the zero ending the values whose high bits are smaller than those of the value searched
+        final long high = Math.max(value, 0) >>> lowBits;
+        final long position = high == 0 ? 0 : highBits.select0(high - 1) + 1;
+        long index = position - high;
+
+        // Scan the ones that follow, which are the values in increasing order
+        int wordIndex = (int) (position >>> 6);
+        long word = highBits.word(wordIndex) & (-1L << position);
+        while (true) {
+            while (word == 0) {
+                word = highBits.word(++wordIndex);
+            }
+
+            final long onePosition = wordIndex * 64L + Long.numberOfTrailingZeros(word);
+            final long candidate = (onePosition - index) << lowBits | low(index);
+            if (value <= candidate)
+                return candidate;
+
+            word &= word - 1;
+            index++;
+        }
+    }
+
+    private long low(long index) {
+        if (lowBits == 0)
+            return 0;
+
+        final long bitIndex = index * lowBits;
+        final int wordIndex = (int) (bitIndex >>> 6);
+        final int shift = (int) (bitIndex & 63);
+
+        long bits = lowWords[wordIndex] >>> shift;
+        if (shift + lowBits > 64) {
+            bits |= lowWords[wordIndex + 1] << (64 - shift);
+        }
+
+        return bits & ((1L << lowBits) - 1);
+    }
+}
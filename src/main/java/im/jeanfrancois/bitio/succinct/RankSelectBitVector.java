@@ -0,0 +1,399 @@
+/*
+ BitIO: A library for bit-oriented input/output.
+ Copyright (C) 2009-2011 Jean-Francois Im
+
+ This file is part of BitIO.
+
+ BitIO is free software: you can redistribute it and/or modify
+ it under the terms of the GNU Lesser General Public License as published by
+ the Free Software Foundation, either version 3 of the License, or
+ (at your option) any later version.
+
+ BitIO is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ GNU Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public License
+ along with BitIO.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package im.jeanfrancois.bitio.succinct;
+
+import im.jeanfrancois.bitio.BitSource;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Immutable bit vector supporting rank and select queries. Bits are laid out
+ * LSB first, bit i being bit i % 64 of the little endian 64-bit word i / 64,
+ * which is the layout written by {@link im.jeanfrancois.bitio.BitSink}. The
+ * bits are read in place, either from a long array or from a byte buffer,
+ * which may be a direct or a memory-mapped buffer.
+ * <p>
+ * Ranks are answered in constant time using two levels of counts: the number
+ * of ones preceding each superblock of 512 bits, and the number of ones
+ * preceding each word within its superblock, packed as 9-bit values. Selects
+ * use a sample of the superblock holding every 512th one to narrow down the
+ * superblocks to search, then the counts and word-level bit counts to find the
+ * bit, and zeroes are selected the same way. The counts take a quarter of the
+ * space of the bits.
+ *
+ * @author jfim
+ */
+public class RankSelectBitVector {
+    private static final int WORDS_PER_SUPERBLOCK = 8;
+    private static final int ONES_PER_SAMPLE = 512;
+
+    private final long[] words;
+    private final ByteBuffer buffer;
+    private final int bufferOffset;
+    private final long length;
+    private final int wordCount;
+
+    /**
+     * For each superblock, the number of ones preceding it, followed by the number of ones preceding each of its
+     * words but the first, relative to the superblock, packed as 9-bit values.
+     */
+    private final long[] counts;
+
+    /**
+     * Index of the superblock containing every {@link #ONES_PER_SAMPLE}th one.
+     */
+    private final int[] selectSamples;
+
+    /**
+     * Index of the superblock containing every {@link #ONES_PER_SAMPLE}th zero.
+     */
+    private final int[] selectZeroSamples;
+    private final long onesCount;
+
+    /**
+     * Constructs a bit vector over the bits of a long array.
+     *
+     * @param words  The words containing the bits, which are not copied
+     * @param length The number of bits of the bit vector
+     */
+    public RankSelectBitVector(long[] words, long length) {
+        this(words, null, 0, length);
+    }
+
+    /**
+     * Constructs a bit vector over the bits of a byte buffer, starting at its position. The bits are read in place
+     * regardless of the byte order of the buffer, and its position is not changed.
+     *
+     * @param buffer The buffer containing the bits, which are not copied
+     * @param length The number of bits of the bit vector
+     */
+    public RankSelectBitVector(ByteBuffer buffer, long length) {
+        this(null, buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN), buffer.position(), length);
+    }
+
+    private RankSelectBitVector(long[] words, ByteBuffer buffer, int bufferOffset, long length) {
+        if (length < 0)
+            throw new IllegalArgumentException("Invalid length " + length);
+
+        final long availableBits = words != null ? words.length * 64L : (buffer.limit() - bufferOffset) * 8L;
+        if (availableBits < length)
+            throw new IllegalArgumentException("Length " + length + " is larger than the " + availableBits + " bits available");
+
+        this.words = words;
+        this.buffer = buffer;
+        this.bufferOffset = bufferOffset;
+        this.length = length;
+        this.wordCount = (int) ((length + 63) >>> 6);
+
+        // Count the ones of each word, ignoring the bits past the end of the bit vector
+        final int superblockCount = (wordCount + WORDS_PER_SUPERBLOCK - 1) / WORDS_PER_SUPERBLOCK;
+        counts = new long[2 * superblockCount + 2];
+        long ones = 0;
+        for (int superblock = 0; superblock < superblockCount; ++superblock) {
+            counts[2 * superblock] = ones;
+
+            long relativeCounts = 0;
+            int relativeOnes = 0;
+            for (int i = 0; i < WORDS_PER_SUPERBLOCK; ++i) {
+                final int wordIndex = superblock * WORDS_PER_SUPERBLOCK + i;
+
+                if (0 < i) {
+                    relativeCounts |= (long) relativeOnes << (9 * (i - 1));
+                }
+                if (wordIndex < wordCount) {
+                    relativeOnes += Long.bitCount(maskedWord(wordIndex));
+                }
+            }
+
+            counts[2 * superblock + 1] = relativeCounts;
+            ones += relativeOnes;
+        }
+        counts[2 * superblockCount] = ones;
+        onesCount = ones;
+
+        // Sample the superblock of every 512th one
+        selectSamples = new int[(int) ((ones + ONES_PER_SAMPLE - 1) / ONES_PER_SAMPLE) + 1];
+        int sample = 0;
+        for (int superblock = 0; superblock < superblockCount; ++superblock) {
+            final long onesAfter = counts[2 * superblock + 2];
+            while ((long) sample * ONES_PER_SAMPLE < onesAfter) {
+                selectSamples[sample++] = superblock;
+            }
+        }
+        selectSamples[selectSamples.length - 1] = superblockCount;
+
+        // Sample the superblock of every 512th zero the same way
+        final long zeroes = length - ones;
+        selectZeroSamples = new int[(int) ((zeroes + ONES_PER_SAMPLE - 1) / ONES_PER_SAMPLE) + 1];
+        sample = 0;
+        for (int superblock = 0; superblock < superblockCount; ++superblock) {
+            final long zeroesAfter = Math.min(zeroesBefore(superblock + 1), zeroes);
+            while ((long) sample * ONES_PER_SAMPLE < zeroesAfter) {
+                selectZeroSamples[sample++] = superblock;
+            }
+        }
+        selectZeroSamples[selectZeroSamples.length - 1] = superblockCount;
+    }
+
+    /**
+     * Reads bits from a bit source into a new bit vector.
+     *
+     * @param bitSource The bit source to read from
+     * @param length    The number of bits to read
+     * @return A bit vector containing the bits read
+     * @throws IOException If an underlying IOException occurs while reading from the stream, or if the length is
+     *                     negative or too large for the bits to be read into memory
+     */
+    public static RankSelectBitVector read(BitSource bitSource, long length) throws IOException {
+        if (length < 0 || (long) Integer.MAX_VALUE * 64 < length)
+            throw new IOException("Bit vector of " + length + " bits cannot be read into memory");
+
+        final long[] words = new long[(int) ((length + 63) >>> 6)];
+        for (int i = 0; i < words.length; ++i) {
+            words[i] = bitSource.readLong((int) Math.min(64, length - i * 64L));
+        }
+
+        return new RankSelectBitVector(words, length);
+    }
+
+    /**
+     * Returns the number of bits of the bit vector.
+     *
+     * @return The number of bits
+     */
+    public long length() {
+        return length;
+    }
+
+    /**
+     * Returns the number of ones in the bit vector.
+     *
+     * @return The number of ones
+     */
+    public long count() {
+        return onesCount;
+    }
+
+    /**
+     * Returns the value of a bit.
+     *
+     * @param index The index of the bit
+     * @return true if the bit is a one
+     */
+    public boolean get(long index) {
+        if (index < 0 || length <= index)
+            throw new IndexOutOfBoundsException("Bit index " + index + " is outside of the bit vector");
+
+        return (word((int) (index >>> 6)) & (1L << index)) != 0;
+    }
+
+    /**
+     * Returns the number of ones preceding a position.
+     *
+     * @param index The position, between 0 and the length of the bit vector
+     * @return The number of ones in bits 0 to index - 1
+     */
+    public long rank1(long index) {
+        if (index < 0 || length < index)
+            throw new IndexOutOfBoundsException("Bit index " + index + " is outside of the bit vector");
+
+        final int wordIndex = (int) (index >>> 6);
+        final int superblock = wordIndex >>> 3;
+        final int wordInSuperblock = wordIndex & 7;
+
+        long rank = counts[2 * superblock];
+        if (wordInSuperblock != 0) {
+            rank += (counts[2 * superblock + 1] >>> (9 * (wordInSuperblock - 1))) & 0x1FF;
+        }
+
+        final int bitInWord = (int) (index & 63);
+        if (bitInWord != 0) {
+            rank += Long.bitCount(word(wordIndex) & ((1L << bitInWord) - 1));
+        }
+
+        return rank;
+    }
+
+    /**
+     * Returns the number of zeroes preceding a position.
+     *
+     * @param index The position, between 0 and the length of the bit vector
+     * @return The number of zeroes in bits 0 to index - 1
+     */
+    public long rank0(long index) {
+        return index - rank1(index);
+    }
+
+    /**
+     * Returns the position of a one.
+     *
+     * @param rank The number of ones preceding the one, ie. 0 for the first one
+     * @return The position of the one
+     */
+    public long select1(long rank) {
+        if (rank < 0 || onesCount <= rank)
+            throw new IndexOutOfBoundsException("Rank " + rank + " is outside of the bit vector");
+
+        // Find the last superblock preceded by at most rank ones, between the sampled superblocks
+        final int sample = (int) (rank / ONES_PER_SAMPLE);
+        int low = selectSamples[sample];
+        int high = selectSamples[sample + 1];
+        while (low < high) {
+            final int middle = (low + high + 1) >>> 1;
+
+            if (counts[2 * middle] <= rank) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+
+        // Find the word within the superblock
+        int remaining = (int) (rank - counts[2 * low]);
+        final long relativeCounts = counts[2 * low + 1];
+        int wordInSuperblock = 0;
+        while (wordInSuperblock < WORDS_PER_SUPERBLOCK - 1
+                && ((relativeCounts >>> (9 * wordInSuperblock)) & 0x1FF) <= remaining) {
+            wordInSuperblock++;
+        }
+        if (wordInSuperblock != 0) {
+            remaining -= (int) ((relativeCounts >>> (9 * (wordInSuperblock - 1))) & 0x1FF);
+        }
+
+        final int wordIndex = low * WORDS_PER_SUPERBLOCK + wordInSuperblock;
+        return wordIndex * 64L + selectInWord(word(wordIndex), remaining);
+    }
+
+    /**
+     * Returns the position of a zero.
+     *
+     * @param rank The number of zeroes preceding the zero, ie. 0 for the first zero
+     * @return The position of the zero
+     */
+    public long select0(long rank) {
+        if (rank < 0 || length - onesCount <= rank)
+            throw new IndexOutOfBoundsException("Rank " + rank + " is outside of the bit vector");
+
+        // Find the last superblock preceded by at most rank zeroes, between the sampled superblocks
+        final int sample = (int) (rank / ONES_PER_SAMPLE);
+        int low = selectZeroSamples[sample];
+        int high = selectZeroSamples[sample + 1];
+        while (low < high) {
+            final int middle = (low + high + 1) >>> 1;
+
+            if (zeroesBefore(middle) <= rank) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+
+        // Find the word within the superblock, the zeroes preceding a word being its bits minus its ones
+        int remaining = (int) (rank - zeroesBefore(low));
+        final long relativeCounts = counts[2 * low + 1];
+        int wordInSuperblock = 0;
+        while (wordInSuperblock < WORDS_PER_SUPERBLOCK - 1
+                && 64 * (wordInSuperblock + 1) - ((relativeCounts >>> (9 * wordInSuperblock)) & 0x1FF) <= remaining) {
+            wordInSuperblock++;
+        }
+        if (wordInSuperblock != 0) {
+            remaining -= (int) (64 * wordInSuperblock - ((relativeCounts >>> (9 * (wordInSuperblock - 1))) & 0x1FF));
+        }
+
+        final int wordIndex = low * WORDS_PER_SUPERBLOCK + wordInSuperblock;
+        return wordIndex * 64L + selectInWord(~word(wordIndex), remaining);
+    }
+
+    private long zeroesBefore(int superblock) {
+        return (long) superblock * WORDS_PER_SUPERBLOCK * 64 - counts[2 * superblock];
+    }
+
+    /**
+     * Returns the position of a one within a word.
+     *
+     * @param word The word
+     * @param rank The number of ones preceding the one within the word
+     * @return The position of the one within the word
+     */
+    static int selectInWord(long word, int rank) {
+        int position = 0;
+
+        // Narrow down to the byte containing the one, then clear the ones that precede it
+        int ones = Long.bitCount(word & 0xFFFFFFFFL);
+        if (ones <= rank) {
+            rank -= ones;
+            word >>>= 32;
+            position += 32;
+        }
+
+        ones = Long.bitCount(word & 0xFFFFL);
+        if (ones <= rank) {
+            rank -= ones;
+            word >>>= 16;
+            position += 16;
+        }
+
+        ones = Long.bitCount(word & 0xFFL);
+        if (ones <= rank) {
+            rank -= ones;
+            word >>>= 8;
+            position += 8;
+        }
+
+        for (; rank > 0; --rank) {
+            word &= word - 1;
+        }
+
+        return position + Long.numberOfTrailingZeros(word);
+    }
+
+    /**
+     * Returns a word of the bit vector, the bits past its end being cleared.
+     */
+    private long maskedWord(int wordIndex) {
+        final long word = word(wordIndex);
+        final int bitsInWord = (int) Math.min(64, length - wordIndex * 64L);
+        return bitsInWord == 64 ? word : word & ((1L << bitsInWord) - 1);
+    }
+
+    /**
+     * Returns a word of the bit vector. Bits past its end may be set.
+     */
+    long word(int wordIndex) {
+        if (words != null)
+            return words[wordIndex];
+
+        final int byteIndex = bufferOffset + wordIndex * 8;
+
+        // Is there a whole word in the buffer?
+        if (byteIndex + 8 <= buffer.limit())
+            return buffer.getLong(byteIndex);
+
+        // No, assemble the last bytes
+        long word = 0;
+        for (int i = 0; byteIndex + i < buffer.limit(); ++i) {
+            word |= (buffer.get(byteIndex + i) & 0xFFL) << (8 * i);
+        }
+        return word;
+    }
+}
@@ -47,4 +47,24 @@ public class BitIOUtils {
     public static int decodeZigZag(final int value) {
         return ((value << 31) >> 31) ^ (value >>> 1);
     }
+
+    /**
+     * Encodes a long value using ZigZag encoding (0 => 0, -1 => 1, 1 => 2, -2 => 3, 2 => 4), so that the resulting value is always positive.
+     *
+     * @param value The value to encode
+     * @return The ZigZag encoded value
+     */
+    public static long encodeAsZigZag(final long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    /**
+     * Decodes a previously ZigZag encoded long value.
+     *
+     * @param value The value to decode
+     * @return The decoded value
+     */
+    public static long decodeZigZag(final long value) {
+        return ((value << 63) >> 63) ^ (value >>> 1);
+    }
 }
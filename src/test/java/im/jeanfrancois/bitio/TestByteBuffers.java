@@ -0,0 +1,257 @@
+/*
+ BitIO: A library for bit-oriented input/output.
+ Copyright (C) 2009-2011 Jean-Francois Im
+
+ This file is part of BitIO.
+
+ BitIO is free software: you can redistribute it and/or modify
+ it under the terms of the GNU Lesser General Public License as published by
+ the Free Software Foundation, either version 3 of the License, or
+ (at your option) any later version.
+
+ BitIO is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ GNU Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public License
+ along with BitIO.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package im.jeanfrancois.bitio;
+
+import junit.framework.TestCase;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.util.Arrays;
+
+/**
+ * Tests reading and writing bits from and to byte buffers.
+ *
+ * @author jfim
+ */
+public class TestByteBuffers extends TestCase {
+    public void testHeapBuffer() throws Exception {
+        checkRoundTrip(ByteBuffer.allocate(16384));
+    }
+
+    public void testDirectBuffer() throws Exception {
+        checkRoundTrip(ByteBuffer.allocateDirect(16384));
+    }
+
+    public void testLittleEndianBuffer() throws Exception {
+        checkRoundTrip(ByteBuffer.allocateDirect(16384).order(ByteOrder.LITTLE_ENDIAN));
+    }
+
+    public void testByteBufferByteSource() throws Exception {
+        ByteBuffer buffer = ByteBuffer.allocate(16384);
+        writeValues(buffer);
+        buffer.flip();
+
+        BitSource bitSource = new BitSource(new ByteBufferByteSource(buffer));
+        for(int i = 0; i < 1000; ++i) {
+            assertEquals(i, bitSource.readRice(4));
+            assertEquals(i & 0x1FF, bitSource.readBinary(9));
+        }
+    }
+
+    public void testByteArray() throws Exception {
+        MemoryByteSink byteSink = new MemoryByteSink();
+        BitSink bitSink = new BitSink(byteSink);
+        bitSink.writeBinary(0x5A, 7);
+        writeValues(bitSink, 0);
+        bitSink.flush();
+        byte[] bytes = byteSink.toByteArray();
+
+        // Surround the encoded bytes with garbage, which must not be read
+        byte[] paddedBytes = new byte[bytes.length + 20];
+        Arrays.fill(paddedBytes, (byte) 0xFF);
+        System.arraycopy(bytes, 0, paddedBytes, 9, bytes.length);
+
+        checkValues(new BitSource(bytes));
+        checkValues(new BitSource(paddedBytes, 9, bytes.length));
+        checkValues(new BitSource(new ByteArrayByteSource(paddedBytes, 9, bytes.length)));
+    }
+
+    private void checkValues(BitSource bitSource) throws Exception {
+        assertEquals(0x5A, bitSource.readBinary(7));
+        for(int i = 0; i < 1000; ++i) {
+            assertEquals(i, bitSource.readRice(4));
+            assertEquals(i & 0x1FF, bitSource.readBinary(9));
+        }
+
+        // Only the padding bits of the last byte remain
+        int paddingBits = (int) (8 - bitSource.bitPosition() % 8) % 8;
+        assertEquals(0, bitSource.readBinary(paddingBits));
+        try {
+            bitSource.readBit();
+            fail("Reading past the end of the array should fail");
+        } catch (EOFException expected) {
+            // Expected
+        }
+    }
+
+    public void testSeek() throws Exception {
+        ByteBuffer buffer = ByteBuffer.allocate(16384);
+        buffer.position(5);
+        BitSink bitSink = new BitSink(buffer);
+        for(int i = 0; i < 1000; ++i) {
+            bitSink.writeBinary(i, 11);
+        }
+        bitSink.flushCurrentByteAndRealignToByteBoundary();
+        buffer.position(5);
+
+        BitSource bitSource = new BitSource(buffer);
+        for(int i = 999; 0 <= i; i -= 3) {
+            bitSource.seek(i * 11L);
+            assertEquals(i, bitSource.readBinary(11));
+            assertEquals((i + 1) * 11L, bitSource.bitPosition());
+        }
+    }
+
+    public void testReset() throws Exception {
+        byte[] bytes = new byte[64];
+        ByteBuffer buffer = ByteBuffer.allocateDirect(64);
+        BitSink bitSink = new BitSink(buffer);
+        BitSource bitSource = new BitSource(buffer);
+
+        for(int block = 0; block < 100; ++block) {
+            // Leave pending bits before resetting, which must be discarded
+            bitSink.writeBinary(block, 3);
+            bitSink.reset(bytes, 7, 40);
+            for(int i = 0; i < 20; ++i) {
+                bitSink.writeRice(block + i, 4);
+            }
+            long bitLength = bitSink.bitPosition();
+            bitSink.flushCurrentByteAndRealignToByteBoundary();
+            int length = (int) (bitSink.bitPosition() >>> 3);
+
+            buffer.clear();
+            buffer.position(block % 5);
+            bitSink.reset(buffer);
+            for(int i = 0; i < 20; ++i) {
+                bitSink.writeBinary(block * i, 17);
+            }
+            bitSink.flushCurrentByteAndRealignToByteBoundary();
+            buffer.flip();
+            buffer.position(block % 5);
+
+            bitSource.reset(bytes, 7, length);
+            for(int i = 0; i < 20; ++i) {
+                assertEquals(block + i, bitSource.readRice(4));
+            }
+            assertEquals(bitLength, bitSource.bitPosition());
+            bitSource.seek(0);
+            assertEquals(block, bitSource.readRice(4));
+
+            bitSource.reset(buffer);
+            for(int i = 0; i < 20; ++i) {
+                assertEquals(block * i & 0x1FFFF, bitSource.readBinary(17));
+            }
+
+            bitSource.reset(new ByteBufferByteSource(ByteBuffer.wrap(bytes, 7, length)));
+            for(int i = 0; i < 20; ++i) {
+                assertEquals(block + i, bitSource.readRice(4));
+            }
+        }
+
+        bitSink.reset(bytes, 60, 4);
+        bitSink.writeBinary(0, 40);
+        try {
+            bitSink.flushCurrentByteAndRealignToByteBoundary();
+            fail("Writing past the end of the array range should fail");
+        } catch (BufferOverflowException expected) {
+            // Expected
+        }
+    }
+
+    public void testStreamReset() throws Exception {
+        BitOutputStream outputStream = new BitOutputStream(new ByteArrayOutputStream(), 16);
+        BitInputStream inputStream = new BitInputStream(new ByteArrayInputStream(new byte[0]), 16);
+
+        for(int block = 0; block < 10; ++block) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            outputStream.reset(bytes);
+            for(int i = 0; i < 100; ++i) {
+                outputStream.writeRice(block + i, 2);
+            }
+            outputStream.close();
+
+            inputStream.reset(new ByteArrayInputStream(bytes.toByteArray()));
+            for(int i = 0; i < 100; ++i) {
+                assertEquals(block + i, inputStream.readRice(2));
+            }
+        }
+    }
+
+    public void testMemoryByteSink() throws Exception {
+        checkMemoryByteSink(new MemoryByteSink(1));
+        checkMemoryByteSink(new MemoryByteSink(1, true));
+    }
+
+    private void checkMemoryByteSink(MemoryByteSink byteSink) throws Exception {
+        BitSink bitSink = new BitSink(byteSink);
+
+        for(int block = 0; block < 3; ++block) {
+            byteSink.clear();
+            bitSink.reset(byteSink);
+            writeValues(bitSink, block);
+            bitSink.flush();
+            assertEquals(bitSink.bitPosition() >>> 3, byteSink.size());
+
+            BitSource bitSource = new BitSource(byteSink.asByteBuffer());
+            for(int i = 0; i < 1000; ++i) {
+                assertEquals(i + block, bitSource.readRice(4));
+                assertEquals(i & 0x1FF, bitSource.readBinary(9));
+            }
+
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            byteSink.writeTo(Channels.newChannel(outputStream));
+            assertTrue(Arrays.equals(byteSink.toByteArray(), outputStream.toByteArray()));
+        }
+
+        // Clearing keeps the memory allocated
+        int capacity = byteSink.capacity();
+        byteSink.clear();
+        byteSink.writeByte(42);
+        assertEquals(1, byteSink.size());
+        assertEquals(capacity, byteSink.capacity());
+        assertEquals(42, byteSink.asByteBuffer().get());
+    }
+
+    private void checkRoundTrip(ByteBuffer buffer) throws Exception {
+        // Leave some space at the beginning of the buffer to ensure that reads start at the position
+        buffer.position(3);
+        writeValues(buffer);
+        buffer.limit(buffer.position());
+        buffer.position(3);
+
+        BitSource bitSource = new BitSource(buffer);
+        for(int i = 0; i < 1000; ++i) {
+            assertEquals(i, bitSource.readRice(4));
+            assertEquals(i & 0x1FF, bitSource.readBinary(9));
+        }
+
+        // The buffer should be left untouched
+        assertEquals(3, buffer.position());
+    }
+
+    private void writeValues(ByteBuffer buffer) throws Exception {
+        BitSink bitSink = new BitSink(buffer);
+        writeValues(bitSink, 0);
+    }
+
+    private void writeValues(BitSink bitSink, int riceOffset) throws Exception {
+        for(int i = 0; i < 1000; ++i) {
+            bitSink.writeRice(i + riceOffset, 4);
+            bitSink.writeBinary(i, 9);
+        }
+        bitSink.flushCurrentByteAndRealignToByteBoundary();
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ BitIO: A library for bit-oriented input/output.
+ Copyright (C) 2009-2011 Jean-Francois Im
+
+ This file is part of BitIO.
+
+ BitIO is free software: you can redistribute it and/or modify
+ it under the terms of the GNU Lesser General Public License as published by
+ the Free Software Foundation, either version 3 of the License, or
+ (at your option) any later version.
+
+ BitIO is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ GNU Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public License
+ along with BitIO.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package im.jeanfrancois.bitio;
+
+import junit.framework.TestCase;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests reading and writing bits through NIO channels.
+ *
+ * @author jfim
+ */
+public class TestChannels extends TestCase {
+    private static final int VALUE_COUNT = 5000;
+
+    private File file;
+
+    @Override
+    protected void setUp() throws Exception {
+        file = File.createTempFile("bitio", ".bin");
+
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.WRITE)) {
+            ChannelByteSink byteSink = new ChannelByteSink(channel, 64);
+            BitSink bitSink = new BitSink(byteSink);
+            for(int i = 0; i < VALUE_COUNT; ++i) {
+                bitSink.writeBinary(i, 13);
+            }
+            bitSink.flushCurrentByteAndRealignToByteBoundary();
+            bitSink.flush();
+        }
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        file.delete();
+    }
+
+    public void testSequentialReads() throws Exception {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            for(int bufferSize = 8; bufferSize < 30; ++bufferSize) {
+                channel.position(0);
+                BitSource bitSource = new ChannelBitSource(channel, bufferSize);
+                for(int i = 0; i < VALUE_COUNT; ++i) {
+                    assertEquals(i * 13L, bitSource.bitPosition());
+                    assertEquals(i, bitSource.readBinary(13));
+                }
+            }
+        }
+    }
+
+    public void testSeek() throws Exception {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            // Start reading past the beginning of the channel
+            channel.position(1);
+            BitSource bitSource = new ChannelBitSource(channel, 100);
+            for(int i = VALUE_COUNT - 1; 0 < i; i -= 7) {
+                bitSource.seek(i * 13L - 8);
+                assertEquals(i, bitSource.readBinary(13));
+                assertEquals((i + 1) * 13L - 8, bitSource.bitPosition());
+            }
+
+            bitSource.seek(0);
+            bitSource.skipBits(4321 * 13L - 8);
+            assertEquals(4321, bitSource.readBinary(13));
+
+            try {
+                bitSource.seek(file.length() * 8);
+                fail("Seeking past the end of the channel should fail");
+            } catch (EOFException expected) {
+                // Expected
+            }
+        }
+    }
+
+    public void testUnseekableChannel() throws Exception {
+        byte[] bytes = Files.readAllBytes(file.toPath());
+        ChannelBitSource bitSource = new ChannelBitSource(Channels.newChannel(new ByteArrayInputStream(bytes)), 16);
+
+        for(int i = 0; i < VALUE_COUNT; i += 100) {
+            bitSource.seek(i * 13L);
+            assertEquals(i, bitSource.readBinary(13));
+        }
+
+        try {
+            bitSource.seek(0);
+            fail("Seeking backwards in a channel that is not seekable should fail");
+        } catch (UnsupportedOperationException expected) {
+            // Expected
+        }
+
+        // Resetting keeps the buffer
+        bitSource.reset(Channels.newChannel(new ByteArrayInputStream(bytes)));
+        for(int i = 0; i < VALUE_COUNT; ++i) {
+            assertEquals(i, bitSource.readBinary(13));
+        }
+    }
+
+    public void testResetToOtherSources() throws Exception {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            ChannelBitSource bitSource = new ChannelBitSource(channel, 16);
+            assertEquals(0, bitSource.readBinary(13));
+
+            bitSource.reset(ByteBuffer.wrap(new byte[] { 0, 42 }));
+            assertEquals(42 << 8, bitSource.readBinary(16));
+            bitSource.seek(8);
+            assertEquals(42, bitSource.readBinary(8));
+            try {
+                bitSource.readBit();
+                fail("Reading past the reset source should not read from the channel");
+            } catch (EOFException expected) {
+                // Expected
+            }
+
+            channel.position(0);
+            bitSource.reset(channel);
+            for(int i = 0; i < VALUE_COUNT; ++i) {
+                assertEquals(i, bitSource.readBinary(13));
+            }
+        }
+    }
+
+    public void testConstructorDoesNotCallReset() throws Exception {
+        final List<ReadableByteChannel> resetChannels = new ArrayList<ReadableByteChannel>();
+
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            BitSource bitSource = new ChannelBitSource(channel, 16) {
+                @Override
+                public void reset(ReadableByteChannel channel) throws IOException {
+                    resetChannels.add(channel);
+                    super.reset(channel);
+                }
+            };
+            assertTrue(resetChannels.isEmpty());
+            assertEquals(0, bitSource.readBinary(13));
+
+            channel.position(0);
+            ((ChannelBitSource) bitSource).reset(channel);
+            assertEquals(1, resetChannels.size());
+            assertEquals(0, bitSource.readBinary(13));
+        }
+    }
+
+    public void testTransferFrom() throws Exception {
+        File copy = File.createTempFile("bitio", ".bin");
+
+        try (FileChannel source = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+             FileChannel channel = FileChannel.open(copy.toPath(), StandardOpenOption.WRITE)) {
+            ChannelByteSink byteSink = new ChannelByteSink(channel, ByteBuffer.allocateDirect(16));
+            BitSink bitSink = new BitSink(byteSink);
+            bitSink.writeBinary(5, 8);
+            bitSink.writeBytes(source, 0, source.size());
+            bitSink.writeBinary(3, 5);
+            bitSink.flushCurrentByteAndRealignToByteBoundary();
+            bitSink.flush();
+            assertEquals(8 + source.size() * 8 + 8, bitSink.bitPosition());
+
+            try {
+                byteSink.transferFrom(source, source.size(), 1);
+                fail("Transferring bytes past the end of the file should fail");
+            } catch (EOFException expected) {
+                // Expected
+            }
+        }
+
+        try (FileChannel channel = FileChannel.open(copy.toPath(), StandardOpenOption.READ)) {
+            BitSource bitSource = new ChannelBitSource(channel);
+            assertEquals(5, bitSource.readBinary(8));
+            for(int i = 0; i < VALUE_COUNT; ++i) {
+                assertEquals(i, bitSource.readBinary(13));
+            }
+            assertEquals(3, bitSource.readBinary(5));
+        } finally {
+            copy.delete();
+        }
+    }
+
+    public void testUnalignedFileBytes() throws Exception {
+        try (FileChannel source = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate((int) source.size() + 2);
+            BitSink bitSink = new BitSink(buffer);
+            bitSink.writeBinary(5, 3);
+            bitSink.writeBytes(source, 0, source.size());
+            bitSink.flushCurrentByteAndRealignToByteBoundary();
+            assertEquals(0, source.position());
+
+            try {
+                bitSink.writeBytes(source, source.size(), 1);
+                fail("Copying bytes past the end of the file should fail");
+            } catch (EOFException expected) {
+                // Expected
+            }
+
+            buffer.flip();
+            BitSource bitSource = new BitSource(buffer);
+            assertEquals(5, bitSource.readBinary(3));
+            for(int i = 0; i < VALUE_COUNT; ++i) {
+                assertEquals(i, bitSource.readBinary(13));
+            }
+        }
+    }
+}
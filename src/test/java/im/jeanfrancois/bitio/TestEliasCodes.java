@@ -0,0 +1,183 @@
+/*
+ BitIO: A library for bit-oriented input/output.
+ Copyright (C) 2009-2011 Jean-Francois Im
+
+ This file is part of BitIO.
+
+ BitIO is free software: you can redistribute it and/or modify
+ it under the terms of the GNU Lesser General Public License as published by
+ the Free Software Foundation, either version 3 of the License, or
+ (at your option) any later version.
+
+ BitIO is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ GNU Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public License
+ along with BitIO.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package im.jeanfrancois.bitio;
+
+import junit.framework.TestCase;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Tests Elias gamma, Elias delta and Exp-Golomb coding.
+ *
+ * @author jfim
+ */
+public class TestEliasCodes extends TestCase {
+    private static int[] testValues() {
+        Random random = new Random(42);
+        int[] values = new int[3000];
+        for(int i = 0; i < 1000; ++i) {
+            values[i] = i + 1;
+        }
+        for(int i = 1000; i < values.length; ++i) {
+            values[i] = 1 + random.nextInt(Integer.MAX_VALUE >>> random.nextInt(31));
+        }
+        values[values.length - 1] = Integer.MAX_VALUE;
+        return values;
+    }
+
+    private static int log2(int value) {
+        return 31 - Integer.numberOfLeadingZeros(value);
+    }
+
+    public void testEliasGamma() throws Exception {
+        int[] values = testValues();
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        BitOutputStream bitOutputStream = new BitOutputStream(byteArrayOutputStream);
+        long expectedBitCount = 0;
+        for(int value : values) {
+            bitOutputStream.writeEliasGamma(value);
+            expectedBitCount += 2 * log2(value) + 1;
+        }
+        bitOutputStream.close();
+        assertEquals((expectedBitCount + 7) / 8, byteArrayOutputStream.size());
+
+        BitInputStream bitInputStream = new BitInputStream(new ByteArrayInputStream(byteArrayOutputStream.toByteArray()));
+        for(int value : values) {
+            assertEquals(value, bitInputStream.readEliasGamma());
+        }
+        bitInputStream.close();
+    }
+
+    public void testEliasDelta() throws Exception {
+        int[] values = testValues();
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        BitOutputStream bitOutputStream = new BitOutputStream(byteArrayOutputStream);
+        long expectedBitCount = 0;
+        for(int value : values) {
+            bitOutputStream.writeEliasDelta(value);
+            expectedBitCount += 2 * log2(log2(value) + 1) + 1 + log2(value);
+        }
+        bitOutputStream.close();
+        assertEquals((expectedBitCount + 7) / 8, byteArrayOutputStream.size());
+
+        BitInputStream bitInputStream = new BitInputStream(new ByteArrayInputStream(byteArrayOutputStream.toByteArray()));
+        for(int value : values) {
+            assertEquals(value, bitInputStream.readEliasDelta());
+        }
+        bitInputStream.close();
+    }
+
+    public void testExpGolomb() throws Exception {
+        int[] values = testValues();
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        BitOutputStream bitOutputStream = new BitOutputStream(byteArrayOutputStream);
+        for(int order = 0; order < 32; ++order) {
+            bitOutputStream.writeExpGolomb(0, order);
+            for(int value : values) {
+                bitOutputStream.writeExpGolomb(value, order);
+            }
+        }
+        bitOutputStream.close();
+
+        BitInputStream bitInputStream = new BitInputStream(new ByteArrayInputStream(byteArrayOutputStream.toByteArray()));
+        for(int order = 0; order < 32; ++order) {
+            assertEquals(0, bitInputStream.readExpGolomb(order));
+            for(int value : values) {
+                assertEquals(value, bitInputStream.readExpGolomb(order));
+            }
+        }
+        bitInputStream.close();
+    }
+
+    public void testLongExpGolomb() throws Exception {
+        long[] values = { 0, 1, Integer.MAX_VALUE, 1L << 32, (1L << 40) + 12345, Long.MAX_VALUE - 1 };
+        MemoryByteSink byteSink = new MemoryByteSink();
+        BitSink bitSink = new BitSink(byteSink);
+        for(long value : values) {
+            bitSink.writeBit(true);
+            bitSink.writeExpGolomb(value, 0);
+            if (value < Long.MAX_VALUE - (1L << 20)) {
+                bitSink.writeExpGolomb(value, 20);
+            }
+        }
+        bitSink.flushCurrentByteAndRealignToByteBoundary();
+        bitSink.flush();
+
+        BitSource bitSource = new BitSource(byteSink.toByteArray());
+        for(long value : values) {
+            assertTrue(bitSource.readBit());
+            assertEquals(value, bitSource.readExpGolombLong(0));
+            if (value < Long.MAX_VALUE - (1L << 20)) {
+                assertEquals(value, bitSource.readExpGolombLong(20));
+            }
+        }
+    }
+
+    public void testExpGolombOrderZeroMatchesEliasGamma() throws Exception {
+        ByteArrayOutputStream gammaBytes = new ByteArrayOutputStream();
+        ByteArrayOutputStream expGolombBytes = new ByteArrayOutputStream();
+        BitOutputStream gammaStream = new BitOutputStream(gammaBytes);
+        BitOutputStream expGolombStream = new BitOutputStream(expGolombBytes);
+        for(int i = 0; i < 1000; ++i) {
+            gammaStream.writeEliasGamma(i + 1);
+            expGolombStream.writeExpGolomb(i, 0);
+        }
+        gammaStream.close();
+        expGolombStream.close();
+
+        assertTrue(Arrays.equals(gammaBytes.toByteArray(), expGolombBytes.toByteArray()));
+    }
+
+    public void testBitLayout() throws Exception {
+        // Gamma-coding 5 yields two zeroes, a one and the two bits after the most significant bit, 01, LSB first
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        BitOutputStream bitOutputStream = new BitOutputStream(byteArrayOutputStream);
+        bitOutputStream.writeEliasGamma(5);
+        bitOutputStream.close();
+
+        assertEquals(1, byteArrayOutputStream.size());
+        assertEquals(0x0C, byteArrayOutputStream.toByteArray()[0]);
+    }
+
+    public void testNonPositiveValues() throws Exception {
+        BitSink bitSink = new BitSink(new OutputStreamByteSink(new ByteArrayOutputStream()));
+        for(int value : new int[] { 0, -1, Integer.MIN_VALUE }) {
+            try {
+                bitSink.writeEliasGamma(value);
+                fail("Elias gamma coding " + value + " should fail");
+            } catch (IllegalArgumentException e) {
+                // Expected
+            }
+            try {
+                bitSink.writeEliasDelta(value);
+                fail("Elias delta coding " + value + " should fail");
+            } catch (IllegalArgumentException e) {
+                // Expected
+            }
+        }
+
+        // Nothing was written by the failed calls
+        assertEquals(0, bitSink.bitPosition());
+    }
+}
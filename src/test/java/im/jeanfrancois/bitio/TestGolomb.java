@@ -0,0 +1,105 @@
+/*
+ BitIO: A library for bit-oriented input/output.
+ Copyright (C) 2009-2011 Jean-Francois Im
+
+ This file is part of BitIO.
+
+ BitIO is free software: you can redistribute it and/or modify
+ it under the terms of the GNU Lesser General Public License as published by
+ the Free Software Foundation, either version 3 of the License, or
+ (at your option) any later version.
+
+ BitIO is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ GNU Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public License
+ along with BitIO.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package im.jeanfrancois.bitio;
+
+import junit.framework.TestCase;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+
+/**
+ * Tests Golomb coding with arbitrary divisors.
+ *
+ * @author jfim
+ */
+public class TestGolomb extends TestCase {
+    public void testQuotient() {
+        final int[] values = { 0, 1, 2, 3, 99, 100, 101, 12345, 1 << 30, Integer.MAX_VALUE - 1, Integer.MAX_VALUE };
+        for(int divisor = 1; divisor < 1000; ++divisor) {
+            GolombCode code = new GolombCode(divisor);
+            for(int value : values) {
+                assertEquals(value / divisor, code.quotient(value));
+            }
+        }
+
+        for(int divisor : new int[] { 65537, 1 << 20, (1 << 30) + 1, Integer.MAX_VALUE }) {
+            GolombCode code = new GolombCode(divisor);
+            for(int value : values) {
+                assertEquals(value / divisor, code.quotient(value));
+            }
+        }
+    }
+
+    public void testGolombCodingReadsAndWrites() throws Exception {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        BitOutputStream bitOutputStream = new BitOutputStream(byteArrayOutputStream);
+        long expectedBitCount = 0;
+        for(int divisor = 1; divisor < 70; ++divisor) {
+            GolombCode code = new GolombCode(divisor);
+            for(int i = 0; i < 500; ++i) {
+                bitOutputStream.writeGolomb(i, code);
+                expectedBitCount += code.codeLength(i);
+            }
+        }
+        bitOutputStream.close();
+        assertEquals((expectedBitCount + 7) / 8, byteArrayOutputStream.size());
+
+        ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(byteArrayOutputStream.toByteArray());
+        BitInputStream bitInputStream = new BitInputStream(byteArrayInputStream);
+        for(int divisor = 1; divisor < 70; ++divisor) {
+            GolombCode code = new GolombCode(divisor);
+            for(int i = 0; i < 500; ++i) {
+                assertEquals(i, bitInputStream.readGolomb(code));
+            }
+        }
+        bitInputStream.close();
+    }
+
+    public void testTruncatedBinaryRemainders() {
+        // M=5 uses two bits for remainders 0 to 2 and three bits for 3 and 4
+        GolombCode code = new GolombCode(5);
+        assertEquals(3L, code.codeLength(0));
+        assertEquals(3L, code.codeLength(2));
+        assertEquals(4L, code.codeLength(3));
+        assertEquals(4L, code.codeLength(4));
+        assertEquals(4L, code.codeLength(7));
+        assertEquals(5L, code.codeLength(9));
+    }
+
+    public void testPowersOfTwoMatchRiceCoding() throws Exception {
+        for(int numFixedBits = 0; numFixedBits < 8; ++numFixedBits) {
+            GolombCode code = new GolombCode(1 << numFixedBits);
+            ByteArrayOutputStream golombBytes = new ByteArrayOutputStream();
+            ByteArrayOutputStream riceBytes = new ByteArrayOutputStream();
+            BitOutputStream golombStream = new BitOutputStream(golombBytes);
+            BitOutputStream riceStream = new BitOutputStream(riceBytes);
+            for(int i = 0; i < 300; ++i) {
+                golombStream.writeGolomb(i, code);
+                riceStream.writeRice(i, numFixedBits);
+            }
+            golombStream.close();
+            riceStream.close();
+
+            assertTrue(Arrays.equals(riceBytes.toByteArray(), golombBytes.toByteArray()));
+        }
+    }
+}
@@ -0,0 +1,236 @@
+/*
+ BitIO: A library for bit-oriented input/output.
+ Copyright (C) 2009-2011 Jean-Francois Im
+
+ This file is part of BitIO.
+
+ BitIO is free software: you can redistribute it and/or modify
+ it under the terms of the GNU Lesser General Public License as published by
+ the Free Software Foundation, either version 3 of the License, or
+ (at your option) any later version.
+
+ BitIO is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ GNU Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public License
+ along with BitIO.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package im.jeanfrancois.bitio;
+
+import im.jeanfrancois.bitio.util.BitIOUtils;
+import junit.framework.TestCase;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.Random;
+
+/**
+ * Tests canonical Huffman coding.
+ *
+ * @author jfim
+ */
+public class TestHuffman extends TestCase {
+    private static void assertRoundTrip(HuffmanCode code, int[] symbols) throws Exception {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        BitSink bitSink = new BitSink(new OutputStreamByteSink(byteArrayOutputStream));
+        code.writeCodeLengths(bitSink);
+        long expectedBitCount = 0;
+        for(int symbol : symbols) {
+            bitSink.writeHuffman(symbol, code);
+            expectedBitCount += code.codeLength(symbol);
+        }
+        bitSink.flushCurrentByteAndRealignToByteBoundary();
+        bitSink.flush();
+
+        ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(byteArrayOutputStream.toByteArray());
+        BitSource bitSource = new BitSource(new InputStreamByteSource(byteArrayInputStream));
+        HuffmanCode readCode = HuffmanCode.readCodeLengths(bitSource);
+        assertEquals(code.getSymbolCount(), readCode.getSymbolCount());
+        for(int symbol = 0; symbol < code.getSymbolCount(); ++symbol) {
+            assertEquals(code.codeLength(symbol), readCode.codeLength(symbol));
+        }
+
+        long startPosition = bitSource.bitPosition();
+        for(int symbol : symbols) {
+            assertEquals(symbol, bitSource.readHuffman(readCode));
+        }
+        assertEquals(expectedBitCount, bitSource.bitPosition() - startPosition);
+    }
+
+    public void testCanonicalCodes() throws Exception {
+        // Canonical codes for these lengths are 10, 0, 110 and 111, written most significant bit first
+        HuffmanCode code = new HuffmanCode(new int[] { 2, 1, 3, 3 });
+
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        BitOutputStream bitOutputStream = new BitOutputStream(byteArrayOutputStream);
+        bitOutputStream.writeHuffman(0, code);
+        bitOutputStream.writeHuffman(3, code);
+        bitOutputStream.writeHuffman(1, code);
+        bitOutputStream.close();
+
+        // Bits 1, 0, 1, 1, 1, 0 packed LSB first
+        assertEquals(1, byteArrayOutputStream.size());
+        assertEquals(0x1D, byteArrayOutputStream.toByteArray()[0]);
+    }
+
+    public void testFrequencies() throws Exception {
+        Random random = new Random(42);
+        long[] frequencies = new long[300];
+        int[] symbols = new int[20000];
+        for(int i = 0; i < symbols.length; ++i) {
+            // Roughly geometric symbol distribution, with some symbols never occurring
+            symbols[i] = Math.min(299, (int) (-Math.log(random.nextDouble()) * 20)) & ~1;
+            frequencies[symbols[i]]++;
+        }
+
+        HuffmanCode code = HuffmanCode.fromFrequencies(frequencies);
+        for(int symbol = 0; symbol < frequencies.length; ++symbol) {
+            assertEquals(frequencies[symbol] == 0, code.codeLength(symbol) == 0);
+        }
+        assertRoundTrip(code, symbols);
+    }
+
+    public void testOptimalLengths() {
+        HuffmanCode code = HuffmanCode.fromFrequencies(new long[] { 45, 13, 12, 16, 9, 5 });
+        int[] expectedLengths = { 1, 3, 3, 3, 4, 4 };
+        for(int symbol = 0; symbol < expectedLengths.length; ++symbol) {
+            assertEquals(expectedLengths[symbol], code.codeLength(symbol));
+        }
+    }
+
+    public void testLengthLimiting() throws Exception {
+        // Fibonacci frequencies give the deepest possible tree
+        long[] frequencies = new long[40];
+        frequencies[0] = 1;
+        frequencies[1] = 1;
+        for(int i = 2; i < frequencies.length; ++i) {
+            frequencies[i] = frequencies[i - 1] + frequencies[i - 2];
+        }
+
+        int[] symbols = new int[frequencies.length * 10];
+        for(int i = 0; i < symbols.length; ++i) {
+            symbols[i] = i % frequencies.length;
+        }
+
+        for(int maxCodeLength : new int[] { 6, 11, 15, 24 }) {
+            HuffmanCode code = HuffmanCode.fromFrequencies(frequencies, maxCodeLength);
+            long codeSpace = 0;
+            for(int symbol = 0; symbol < frequencies.length; ++symbol) {
+                assertTrue(code.codeLength(symbol) <= maxCodeLength);
+                codeSpace += 1L << (HuffmanCode.MAX_CODE_LENGTH - code.codeLength(symbol));
+            }
+            assertTrue(codeSpace <= 1L << HuffmanCode.MAX_CODE_LENGTH);
+
+            // Codes longer than the decoding table are decoded separately
+            assertRoundTrip(code, symbols);
+        }
+    }
+
+    public void testSingleSymbol() throws Exception {
+        HuffmanCode code = HuffmanCode.fromFrequencies(new long[] { 0, 0, 7 });
+        assertEquals(1, code.codeLength(2));
+        assertRoundTrip(code, new int[] { 2, 2, 2 });
+    }
+
+    public void testInvalidCodeLengths() throws Exception {
+        try {
+            new HuffmanCode(new int[] { 1, 1, 1 });
+            fail();
+        } catch (IllegalArgumentException e) {
+            // Expected
+        }
+
+        // Oversubscribed lengths, then lengths that give no symbol a code, read from a stream
+        for(int[] codeLengths : new int[][] { { 1, 1, 1 }, { 0, 0 } }) {
+            ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+            BitOutputStream bitOutputStream = new BitOutputStream(byteArrayOutputStream);
+            bitOutputStream.writeEliasDelta(codeLengths.length);
+            int previousLength = 0;
+            for(int length : codeLengths) {
+                bitOutputStream.writeExpGolomb(BitIOUtils.encodeAsZigZag(length - previousLength), 0);
+                previousLength = length;
+            }
+            bitOutputStream.close();
+
+            try {
+                HuffmanCode.readCodeLengths(new BitSource(byteArrayOutputStream.toByteArray()));
+                fail();
+            } catch (IOException e) {
+                assertTrue(e.getCause() instanceof IllegalArgumentException);
+            }
+        }
+    }
+
+    public void testOversizedSymbolCount() throws Exception {
+        // A corrupt symbol count must be rejected before the code lengths are allocated
+        for(int symbolCount : new int[] { HuffmanCode.MAX_SYMBOL_COUNT + 1, Integer.MAX_VALUE }) {
+            ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+            BitOutputStream bitOutputStream = new BitOutputStream(byteArrayOutputStream);
+            bitOutputStream.writeEliasDelta(symbolCount);
+            bitOutputStream.close();
+
+            try {
+                HuffmanCode.readCodeLengths(new BitSource(byteArrayOutputStream.toByteArray()));
+                fail();
+            } catch (EOFException e) {
+                fail("Invalid symbol counts should not be reported as the end of the stream");
+            } catch (IOException e) {
+                // Expected
+            }
+        }
+    }
+
+    public void testInvalidLongCode() throws Exception {
+        // Canonical codes are 0 and 1000000000000, so a run of ones is not a valid code
+        HuffmanCode code = new HuffmanCode(new int[] { 1, 13 });
+
+        BitSource bitSource = new BitSource(new byte[] { 0x02, 0x00, (byte) 0xFF, (byte) 0xFF });
+        assertEquals(0, bitSource.readHuffman(code));
+        assertEquals(1, bitSource.readHuffman(code));
+        assertEquals(14, bitSource.bitPosition());
+        bitSource.skipBits(2);
+        try {
+            bitSource.readHuffman(code);
+            fail();
+        } catch (EOFException e) {
+            fail("Invalid codes should not be reported as the end of the stream");
+        } catch (IOException e) {
+            // Expected
+        }
+
+        // A long code cut short by the end of the stream
+        bitSource = new BitSource(new byte[] { 0x01 });
+        try {
+            bitSource.readHuffman(code);
+            fail();
+        } catch (EOFException e) {
+            // Expected
+        }
+    }
+
+    public void testReadPastEndOfStream() throws Exception {
+        HuffmanCode code = new HuffmanCode(new int[] { 1, 2, 2 });
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        BitOutputStream bitOutputStream = new BitOutputStream(byteArrayOutputStream);
+        for(int i = 0; i < 4; ++i) {
+            bitOutputStream.writeHuffman(2, code);
+        }
+        bitOutputStream.close();
+
+        BitInputStream bitInputStream = new BitInputStream(new ByteArrayInputStream(byteArrayOutputStream.toByteArray()));
+        for(int i = 0; i < 4; ++i) {
+            assertEquals(2, bitInputStream.readHuffman(code));
+        }
+        try {
+            bitInputStream.readHuffman(code);
+            fail();
+        } catch (EOFException e) {
+            // Expected
+        }
+    }
+}
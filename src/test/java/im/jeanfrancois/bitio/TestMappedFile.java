@@ -0,0 +1,118 @@
+/*
+ BitIO: A library for bit-oriented input/output.
+ Copyright (C) 2009-2011 Jean-Francois Im
+
+ This file is part of BitIO.
+
+ BitIO is free software: you can redistribute it and/or modify
+ it under the terms of the GNU Lesser General Public License as published by
+ the Free Software Foundation, either version 3 of the License, or
+ (at your option) any later version.
+
+ BitIO is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ GNU Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public License
+ along with BitIO.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package im.jeanfrancois.bitio;
+
+import junit.framework.TestCase;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Tests reading bits from memory-mapped files.
+ *
+ * @author jfim
+ */
+public class TestMappedFile extends TestCase {
+    private static final int VALUE_COUNT = 5000;
+
+    private File file;
+
+    @Override
+    protected void setUp() throws Exception {
+        file = File.createTempFile("bitio", ".bin");
+
+        BitOutputStream bitOutputStream = new BitOutputStream(new FileOutputStream(file));
+        for(int i = 0; i < VALUE_COUNT; ++i) {
+            bitOutputStream.writeBinary(i, 13);
+        }
+        bitOutputStream.close();
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        file.delete();
+    }
+
+    public void testSequentialReads() throws Exception {
+        for(int segmentSize = 1; segmentSize < 20; ++segmentSize) {
+            BitSource bitSource = openWithSegmentSize(segmentSize);
+            for(int i = 0; i < VALUE_COUNT; ++i) {
+                assertEquals(i * 13L, bitSource.bitPosition());
+                assertEquals(i, bitSource.readBinary(13));
+            }
+        }
+    }
+
+    public void testSeek() throws Exception {
+        BitSource bitSource = openWithSegmentSize(1000);
+        for(int i = VALUE_COUNT - 1; 0 <= i; i -= 7) {
+            bitSource.seek(i * 13L);
+            assertEquals(i, bitSource.readBinary(13));
+            assertEquals((i + 1) * 13L, bitSource.bitPosition());
+        }
+
+        bitSource = new MappedFileBitSource(file.toPath());
+        bitSource.seek(4321 * 13L);
+        assertEquals(4321, bitSource.readBinary(13));
+    }
+
+    public void testSeekPastEnd() throws Exception {
+        BitSource bitSource = openWithSegmentSize(64);
+        try {
+            bitSource.seek(file.length() * 8 + 8);
+            fail("Seeking past the end of the file should throw an EOFException");
+        } catch (EOFException e) {
+            // Expected
+        }
+    }
+
+    public void testResetToOtherSources() throws Exception {
+        BitSource bitSource = openWithSegmentSize(3);
+        assertEquals(0, bitSource.readBinary(13));
+
+        bitSource.reset(new byte[] { 0, 0, 42 }, 1, 2);
+        assertEquals(42 << 8, bitSource.readBinary(16));
+        bitSource.seek(8);
+        assertEquals(42, bitSource.readBinary(8));
+
+        bitSource.reset(new ByteBufferByteSource(ByteBuffer.wrap(new byte[] { 7 })));
+        assertEquals(7, bitSource.readBinary(8));
+        try {
+            bitSource.readBit();
+            fail("Reading past the reset source should not read from the file");
+        } catch (EOFException expected) {
+            // Expected
+        }
+    }
+
+    private BitSource openWithSegmentSize(int segmentSize) throws Exception {
+        FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+        try {
+            return new MappedFileBitSource(channel, segmentSize);
+        } finally {
+            channel.close();
+        }
+    }
+}
@@ -25,6 +25,11 @@ import org.junit.Test;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 
 /**
  * TODO Document me! :3
@@ -197,6 +202,455 @@ public class TestReadWrite extends TestCase {
         bitInputStream.close();
     }
 
+    public void testLongReadsAndWrites() throws Exception {
+        final long[] values = { 0L, 1L, -1L, Long.MIN_VALUE, Long.MAX_VALUE, 0x123456789ABCDEFL, 1L << 40, -12345678901L };
+
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        BitOutputStream bitOutputStream = new BitOutputStream(byteArrayOutputStream);
+        for(int numBits = 0; numBits <= 64; ++numBits) {
+            for(long value : values) {
+                bitOutputStream.writeLong(value, numBits);
+            }
+            bitOutputStream.writeBit(true);
+        }
+        for(int numFixedBits = 30; numFixedBits < 63; numFixedBits += 4) {
+            bitOutputStream.writeRice((5L << numFixedBits) + 12345, numFixedBits);
+        }
+        bitOutputStream.writeUnary(100L);
+        bitOutputStream.close();
+
+        ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(byteArrayOutputStream.toByteArray());
+        BitInputStream bitInputStream = new BitInputStream(byteArrayInputStream);
+        for(int numBits = 0; numBits <= 64; ++numBits) {
+            final long mask = numBits == 64 ? -1L : (1L << numBits) - 1;
+            for(long value : values) {
+                assertEquals(value & mask, bitInputStream.readLong(numBits));
+            }
+            assertTrue(bitInputStream.readBit());
+        }
+        for(int numFixedBits = 30; numFixedBits < 63; numFixedBits += 4) {
+            assertEquals((5L << numFixedBits) + 12345, bitInputStream.readRiceLong(numFixedBits));
+        }
+        assertEquals(100L, bitInputStream.readUnaryLong());
+        bitInputStream.close();
+    }
+
+    public void testBatchReadsAndWrites() throws Exception {
+        int[] values = new int[1024];
+        for(int i = 0; i < values.length; ++i) {
+            values[i] = (i * 7919) % 300;
+        }
+
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        BitOutputStream bitOutputStream = new BitOutputStream(byteArrayOutputStream);
+        for(int numFixedBits = 0; numFixedBits < 10; ++numFixedBits) {
+            bitOutputStream.writeRice(values, 1, values.length - 1, numFixedBits);
+            bitOutputStream.writeBinary(values, 0, values.length, 9);
+            bitOutputStream.writeUnary(values, 0, 100);
+        }
+        bitOutputStream.close();
+
+        ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(byteArrayOutputStream.toByteArray());
+        BitInputStream bitInputStream = new BitInputStream(byteArrayInputStream);
+        int[] readValues = new int[values.length];
+        for(int numFixedBits = 0; numFixedBits < 10; ++numFixedBits) {
+            // Mix batch and single value reads
+            assertEquals(values[1], bitInputStream.readRice(numFixedBits));
+            bitInputStream.readRice(readValues, 2, values.length - 2, numFixedBits);
+            for(int i = 2; i < values.length; ++i) {
+                assertEquals(values[i], readValues[i]);
+            }
+
+            bitInputStream.readBinary(readValues, 0, values.length, 9);
+            for(int i = 0; i < values.length; ++i) {
+                assertEquals(values[i], readValues[i]);
+            }
+
+            bitInputStream.readUnary(readValues, 0, 100);
+            for(int i = 0; i < 100; ++i) {
+                assertEquals(values[i], readValues[i]);
+            }
+        }
+        bitInputStream.close();
+    }
+
+    public void testLookupTableRiceDecoding() throws Exception {
+        int[] values = new int[1000];
+        for(int i = 0; i < values.length; ++i) {
+            // Mostly short codes, with a few long ones
+            values[i] = i % 50 == 0 ? i * 3 : i % 7;
+        }
+
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        BitOutputStream bitOutputStream = new BitOutputStream(byteArrayOutputStream);
+        for(int numFixedBits = 0; numFixedBits < 14; ++numFixedBits) {
+            bitOutputStream.writeRice(values, 0, values.length, numFixedBits);
+        }
+        bitOutputStream.close();
+
+        ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(byteArrayOutputStream.toByteArray());
+        BitInputStream bitInputStream = new BitInputStream(byteArrayInputStream);
+        bitInputStream.setRiceDecodingMode(RiceDecodingMode.LOOKUP_TABLE);
+        int[] readValues = new int[values.length];
+        for(int numFixedBits = 0; numFixedBits < 14; ++numFixedBits) {
+            // Read in uneven blocks so that lookups yield more values than requested
+            for(int offset = 0; offset < values.length; offset += 13) {
+                bitInputStream.readRice(readValues, offset, Math.min(13, values.length - offset), numFixedBits);
+            }
+            for(int i = 0; i < values.length; ++i) {
+                assertEquals(values[i], readValues[i]);
+            }
+        }
+        bitInputStream.close();
+    }
+
+    public void testBulkReadsAndWrites() throws Exception {
+        byte[] data = new byte[1000];
+        for(int i = 0; i < data.length; ++i) {
+            data[i] = (byte) (i * 31);
+        }
+
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        BitOutputStream bitOutputStream = new BitOutputStream(byteArrayOutputStream);
+        for(int numBits = 0; numBits < 16; ++numBits) {
+            bitOutputStream.writeZeroes(numBits);
+            bitOutputStream.write(data, numBits, 10 * numBits);
+            bitOutputStream.flushCurrentByteAndRealignToByteBoundary();
+            bitOutputStream.write(data, 0, data.length);
+        }
+        bitOutputStream.close();
+
+        ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(byteArrayOutputStream.toByteArray());
+        BitInputStream bitInputStream = new BitInputStream(byteArrayInputStream);
+        for(int numBits = 0; numBits < 16; ++numBits) {
+            byte[] misaligned = new byte[10 * numBits];
+            assertEquals(0, bitInputStream.readBinary(numBits));
+            assertEquals(misaligned.length, bitInputStream.read(misaligned, 0, misaligned.length));
+            for(int i = 0; i < misaligned.length; ++i) {
+                assertEquals(data[numBits + i], misaligned[i]);
+            }
+
+            bitInputStream.realignToByteBoundary();
+            byte[] aligned = new byte[data.length];
+            assertEquals(aligned.length, bitInputStream.read(aligned, 0, aligned.length));
+            for(int i = 0; i < aligned.length; ++i) {
+                assertEquals(data[i], aligned[i]);
+            }
+        }
+
+        assertEquals(-1, bitInputStream.read(new byte[10], 0, 10));
+        bitInputStream.close();
+    }
+
+    public void testSmallBuffers() throws Exception {
+        for(int bufferSize = 1; bufferSize < 20; ++bufferSize) {
+            ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+            BitOutputStream bitOutputStream = new BitOutputStream(byteArrayOutputStream, new byte[bufferSize]);
+            for(int i = 0; i < 1000; ++i) {
+                bitOutputStream.writeRice(i, 3);
+            }
+            bitOutputStream.close();
+
+            ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(byteArrayOutputStream.toByteArray());
+            BitInputStream bitInputStream = new BitInputStream(byteArrayInputStream, new byte[bufferSize]);
+            for(int i = 0; i < 1000; ++i) {
+                assertEquals(i, bitInputStream.readRice(3));
+            }
+            bitInputStream.close();
+        }
+    }
+
+    public void testLongUnaryRuns() throws Exception {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        BitOutputStream bitOutputStream = new BitOutputStream(byteArrayOutputStream);
+        for(int i = 0; i < 300; i += 7) {
+            bitOutputStream.writeUnary(i);
+            bitOutputStream.writeBinary(i, 9);
+        }
+        bitOutputStream.close();
+
+        ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(byteArrayOutputStream.toByteArray());
+        BitInputStream bitInputStream = new BitInputStream(byteArrayInputStream);
+        for(int i = 0; i < 300; i += 7) {
+            assertEquals(i, bitInputStream.readUnary());
+            assertEquals(i, bitInputStream.readBinary(9));
+        }
+        bitInputStream.close();
+    }
+
+    public void testPeekAndSkipBits() throws Exception {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        BitOutputStream bitOutputStream = new BitOutputStream(byteArrayOutputStream);
+        for(int i = 0; i < 5000; ++i) {
+            bitOutputStream.writeBinary(i, 13);
+        }
+        bitOutputStream.close();
+        byte[] bytes = byteArrayOutputStream.toByteArray();
+
+        final ByteArrayInputStream unskippableInputStream = new ByteArrayInputStream(bytes);
+        BitSource[] bitSources = {
+                new BitSource(new InputStreamByteSource(new ByteArrayInputStream(bytes))),
+                new BitSource(new BufferedInputStreamByteSource(new ByteArrayInputStream(bytes), 100)),
+                new BitSource(new ByteBufferByteSource(ByteBuffer.wrap(bytes))),
+                new BitSource(ByteBuffer.wrap(bytes)),
+                // Byte source that only reads single bytes, skipping using the default implementation
+                new BitSource(new ByteSource() {
+                    @Override
+                    public int readByte() throws IOException {
+                        return unskippableInputStream.read();
+                    }
+                })
+        };
+        for(BitSource bitSource : bitSources) {
+            // Skip a varying number of values, from none to several windows worth, landing mid-value every other time
+            int i = 0;
+            for(int skippedValues = 0; i + skippedValues < 4990; skippedValues = skippedValues * 2 + 1) {
+                i += skippedValues;
+                int skippedBits = (skippedValues & 1) * 5;
+                bitSource.skipBits(skippedValues * 13L + skippedBits);
+                assertEquals(i >>> skippedBits, bitSource.peekBits(13 - skippedBits));
+                assertEquals(i >>> skippedBits, bitSource.readBinary(13 - skippedBits));
+                assertEquals(i + 1 | (i + 2) << 13, bitSource.peekBits(26));
+                i++;
+            }
+
+            assertEquals(i * 13L, bitSource.bitPosition());
+            bitSource.skipBits((5000 - i) * 13L);
+
+            try {
+                bitSource.skipBits(8);
+                fail("Skipping past the end of the stream should throw an EOFException");
+            } catch (EOFException e) {
+                // Expected
+            }
+        }
+    }
+
+    public void testPeekTooManyBits() throws Exception {
+        // Reading from a large stream, so that asking for bits that never fit would otherwise read all of it
+        BitSource bitSource = new BitSource(new InputStreamByteSource(new ByteArrayInputStream(new byte[1 << 20])));
+        for(int numBits : new int[] { -1, 57, 64 }) {
+            try {
+                bitSource.peekBits(numBits);
+                fail("Looking at " + numBits + " bits should fail");
+            } catch (IllegalArgumentException expected) {
+                // Expected
+            }
+        }
+
+        assertEquals(0, bitSource.peekBits(56));
+        assertEquals(0, bitSource.bitPosition());
+    }
+
+    public void testByteSourceSkip() throws Exception {
+        byte[] bytes = new byte[1000];
+        for(int i = 0; i < bytes.length; ++i) {
+            bytes[i] = (byte) i;
+        }
+
+        ByteSource[] byteSources = {
+                new InputStreamByteSource(new ByteArrayInputStream(bytes)),
+                new BufferedInputStreamByteSource(new ByteArrayInputStream(bytes), 64),
+                new ByteBufferByteSource(ByteBuffer.wrap(bytes)),
+                defaultSkipByteSource(new ByteArrayInputStream(bytes))
+        };
+        for(ByteSource byteSource : byteSources) {
+            assertEquals(0, byteSource.readByte());
+            assertEquals(10, byteSource.skip(10));
+            assertEquals(11, byteSource.readByte());
+            assertEquals(500, byteSource.skip(500));
+            assertEquals(512 & 0xFF, byteSource.readByte());
+            assertEquals(487, byteSource.skip(1000));
+            assertEquals(0, byteSource.skip(1));
+        }
+    }
+
+    public void testDefaultSkipOverLargeRuns() throws Exception {
+        byte[] bytes = new byte[20000];
+        for(int i = 0; i < bytes.length; ++i) {
+            bytes[i] = (byte) i;
+        }
+
+        // Skipping more than the scratch array holds must go through it several times
+        ByteSource byteSource = defaultSkipByteSource(new ByteArrayInputStream(bytes));
+        assertEquals(10000, byteSource.skip(10000));
+        assertEquals(10000 & 0xFF, byteSource.readByte());
+        assertEquals(9999, byteSource.skip(15000));
+    }
+
+    /**
+     * Returns a byte source that reads from an input stream and skips bytes with the default implementation.
+     */
+    private static ByteSource defaultSkipByteSource(final InputStream inputStream) {
+        return new ByteSource() {
+            @Override
+            public int readByte() throws IOException {
+                final int readValue = inputStream.read();
+
+                if (readValue == -1)
+                    throw new EOFException();
+
+                return readValue;
+            }
+
+            @Override
+            public int read(byte[] buffer, int offset, int length) throws IOException {
+                return inputStream.read(buffer, offset, length);
+            }
+        };
+    }
+
+    public void testReadPastEndOfStream() throws Exception {
+        BitInputStream bitInputStream = new BitInputStream(new ByteArrayInputStream(new byte[] { 42, 0 }));
+        assertEquals(42, bitInputStream.readBinary(12));
+        assertEquals(0, bitInputStream.readBinary(3));
+
+        try {
+            bitInputStream.readBinary(2);
+            fail("Reading past the end of the stream should throw an EOFException");
+        } catch (EOFException e) {
+            // Expected
+        }
+
+        bitInputStream.close();
+    }
+
+    public void testReadReturnsMinusOneAtEndOfStream() throws Exception {
+        BitInputStream bitInputStream = new BitInputStream(new ByteArrayInputStream(new byte[] { 42, (byte) 0xF0 }));
+        assertEquals(42, bitInputStream.read());
+        assertEquals(0xF0, bitInputStream.read());
+        assertEquals(-1, bitInputStream.read());
+        assertEquals(-1, bitInputStream.read(new byte[1], 0, 1));
+
+        // A trailing partial byte is not a byte either
+        bitInputStream = new BitInputStream(new ByteArrayInputStream(new byte[] { 42, (byte) 0xF0 }));
+        assertEquals(2, bitInputStream.readBinary(3));
+        assertEquals((0xF0 << 5 | 42 >>> 3) & 0xFF, bitInputStream.read());
+        assertEquals(-1, bitInputStream.read());
+        bitInputStream.close();
+    }
+
+    public void testResetStateContinuesAtNextByte() throws Exception {
+        byte[] bytes = new byte[1000];
+        for(int i = 0; i < bytes.length; ++i) {
+            bytes[i] = (byte) i;
+        }
+
+        BitSource[] bitSources = {
+                new BitSource(new InputStreamByteSource(new ByteArrayInputStream(bytes))),
+                new BitSource(ByteBuffer.wrap(bytes)),
+                new BitSource(bytes)
+        };
+
+        for(BitSource bitSource : bitSources) {
+            for(int i = 0; i < bytes.length; i += 2) {
+                assertEquals(i & 7, bitSource.readBinary(3));
+                bitSource.resetState();
+                assertEquals((i + 1) & 0xFF, bitSource.readByte());
+
+                // Resetting on a byte boundary keeps the next byte
+                bitSource.resetState();
+                assertEquals((i + 2) * 8L, bitSource.bitPosition());
+            }
+        }
+    }
+
+    public void testInputStreamReadIntoSuppliedBuffer() throws Exception {
+        final byte[] buffer = new byte[64];
+        final byte[] bytes = new byte[1000];
+        for(int i = 0; i < bytes.length; ++i) {
+            bytes[i] = (byte) i;
+        }
+
+        // Bytes must be read from the input stream straight into the buffer, without another copy in between
+        InputStream inputStream = new ByteArrayInputStream(bytes) {
+            @Override
+            public synchronized int read(byte[] b, int off, int len) {
+                assertSame(buffer, b);
+                return super.read(b, off, len);
+            }
+        };
+
+        BitInputStream bitInputStream = new BitInputStream(inputStream, buffer);
+        for(int i = 0; i < bytes.length; ++i) {
+            assertEquals(i & 0xFF, bitInputStream.readBinary(8));
+        }
+    }
+
+    public void testOutputStreamWriteFromSuppliedBuffer() throws Exception {
+        final byte[] buffer = new byte[64];
+
+        // Bytes must be written to the output stream straight from the buffer, without another copy in between
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream() {
+            @Override
+            public synchronized void write(byte[] b, int off, int len) {
+                assertSame(buffer, b);
+                super.write(b, off, len);
+            }
+        };
+
+        BitOutputStream bitOutputStream = new BitOutputStream(byteArrayOutputStream, buffer);
+        for(int i = 0; i < 1000; ++i) {
+            bitOutputStream.writeBinary(i & 0xFF, 8);
+        }
+        bitOutputStream.close();
+
+        byte[] bytes = byteArrayOutputStream.toByteArray();
+        assertEquals(1000, bytes.length);
+        for(int i = 0; i < bytes.length; ++i) {
+            assertEquals((byte) i, bytes[i]);
+        }
+    }
+
+    public void testBufferedOutputStreamByteSink() throws Exception {
+        byte[] bytes = new byte[1000];
+        for(int i = 0; i < bytes.length; ++i) {
+            bytes[i] = (byte) (i * 7);
+        }
+
+        for(int bufferSize = 1; bufferSize < 40; bufferSize += 3) {
+            ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+            BufferedOutputStreamByteSink byteSink = new BufferedOutputStreamByteSink(byteArrayOutputStream, bufferSize);
+
+            // Mix single bytes, runs that fit in the buffer and runs larger than it
+            int position = 0;
+            for(int length = 0; position + length <= bytes.length; length = (length + 1) % 50) {
+                if (length == 0) {
+                    byteSink.writeByte(bytes[position] & 0xFF);
+                    position++;
+                } else {
+                    byteSink.write(bytes, position, length);
+                    position += length;
+                }
+            }
+            byteSink.write(bytes, position, bytes.length - position);
+            byteSink.flush();
+            assertTrue(Arrays.equals(bytes, byteArrayOutputStream.toByteArray()));
+
+            // Reading the bytes back through the buffered source gives the same bytes
+            BufferedInputStreamByteSource byteSource = new BufferedInputStreamByteSource(
+                    new ByteArrayInputStream(byteArrayOutputStream.toByteArray()), bufferSize);
+            for(int i = 0; i < bytes.length; ++i) {
+                assertEquals(bytes[i] & 0xFF, byteSource.readByte());
+            }
+        }
+    }
+
+    public void testFlushWritesCompleteBytes() throws Exception {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        BitOutputStream bitOutputStream = new BitOutputStream(byteArrayOutputStream);
+        bitOutputStream.writeBinary(0xABC, 12);
+        bitOutputStream.flush();
+        assertEquals(1, byteArrayOutputStream.size());
+        assertEquals((byte) 0xBC, byteArrayOutputStream.toByteArray()[0]);
+
+        bitOutputStream.writeBinary(0xD, 4);
+        bitOutputStream.flush();
+        assertEquals(2, byteArrayOutputStream.size());
+        assertEquals((byte) 0xDA, byteArrayOutputStream.toByteArray()[1]);
+        bitOutputStream.close();
+    }
+
     public void testBinaryFormat() throws Exception {
         ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream(1);
         BitOutputStream bitOutputStream = new BitOutputStream(byteArrayOutputStream);
@@ -20,4 +20,17 @@ public class TestUtils extends TestCase {
             assertEquals(i, BitIOUtils.decodeZigZag(BitIOUtils.encodeAsZigZag(i)));
         }
     }
+
+    public void testZigZagLong() {
+        assertEquals(0L, BitIOUtils.encodeAsZigZag(0L));
+        assertEquals(1L, BitIOUtils.encodeAsZigZag(-1L));
+        assertEquals(2L, BitIOUtils.encodeAsZigZag(1L));
+        assertEquals(-1L, BitIOUtils.encodeAsZigZag(Long.MIN_VALUE));
+        assertEquals(-2L, BitIOUtils.encodeAsZigZag(Long.MAX_VALUE));
+
+        for(long i = -100; i < 100; ++i) {
+            assertEquals(i, BitIOUtils.decodeZigZag(BitIOUtils.encodeAsZigZag(i)));
+        }
+        assertEquals(Long.MIN_VALUE, BitIOUtils.decodeZigZag(BitIOUtils.encodeAsZigZag(Long.MIN_VALUE)));
+    }
 }
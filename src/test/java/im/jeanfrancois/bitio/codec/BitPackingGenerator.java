@@ -0,0 +1,256 @@
+/*
+ BitIO: A library for bit-oriented input/output.
+ Copyright (C) 2009-2011 Jean-Francois Im
+
+ This file is part of BitIO.
+
+ BitIO is free software: you can redistribute it and/or modify
+ it under the terms of the GNU Lesser General Public License as published by
+ the Free Software Foundation, either version 3 of the License, or
+ (at your option) any later version.
+
+ BitIO is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ GNU Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public License
+ along with BitIO.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package im.jeanfrancois.bitio.codec;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Generates the source of {@link BitPacking}, whose unrolled routines are too long to be maintained by hand. Run with
+ * the project directory as the working directory to regenerate the file, and {@link TestBitPacking} checks that the
+ * committed file matches the output of this generator.
+ *
+ * @author jfim
+ */
+public final class BitPackingGenerator {
+    /**
+     * Location of the generated file, relative to the project directory.
+     */
+    static final Path SOURCE_PATH = Paths.get("src/main/java/im/jeanfrancois/bitio/codec/BitPacking.java");
+
+    private static final String LICENSE = "/*\n"
+            + " BitIO: A library for bit-oriented input/output.\n"
+            + " Copyright (C) 2009-2011 Jean-Francois Im\n"
+            + "\n"
+            + " This file is part of BitIO.\n"
+            + "\n"
+            + " BitIO is free software: you can redistribute it and/or modify\n"
+            + " it under the terms of the GNU Lesser General Public License as published by\n"
+            + " the Free Software Foundation, either version 3 of the License, or\n"
+            + " (at your option) any later version.\n"
+            + "\n"
+            + " BitIO is distributed in the hope that it will be useful,\n"
+            + " but WITHOUT ANY WARRANTY; without even the implied warranty of\n"
+            + " MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the\n"
+            + " GNU Lesser General Public License for more details.\n"
+            + "\n"
+            + " You should have received a copy of the GNU Lesser General Public License\n"
+            + " along with BitIO.  If not, see <http://www.gnu.org/licenses/>.\n"
+            + " */\n";
+
+    private BitPackingGenerator() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Files.write(SOURCE_PATH, generate().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Generates the source of {@link BitPacking}.
+     *
+     * @return The contents of the source file
+     */
+    static String generate() {
+        final StringBuilder out = new StringBuilder(LICENSE);
+        out.append("\n");
+        out.append("package im.jeanfrancois.bitio.codec;\n");
+        out.append("\n");
+        out.append("/**\n");
+        out.append(" * Width-specialized routines that pack groups of 32 integers into as many 32-bit words as their bit width, and unpack\n");
+        out.append(" * them. Bits are packed LSB first, so that the words written in little endian order have the same layout as values\n");
+        out.append(" * written one at a time with {@link im.jeanfrancois.bitio.BitSink#writeBinary(int, int) writeBinary}. Each width has\n");
+        out.append(" * its own fully unrolled routine, in which all shifts and masks are constants.\n");
+        out.append(" * <p>\n");
+        out.append(" * This file is generated by {@code BitPackingGenerator} in the test sources and must not be edited by hand.\n");
+        out.append(" *\n");
+        out.append(" * @author jfim\n");
+        out.append(" */\n");
+        out.append("final class BitPacking {\n");
+        out.append("    /**\n");
+        out.append("     * The number of values packed or unpacked by a single call.\n");
+        out.append("     */\n");
+        out.append("    static final int GROUP_SIZE = 32;\n");
+        out.append("\n");
+        out.append("    private BitPacking() {\n");
+        out.append("    }\n");
+        out.append("\n");
+
+        out.append("    /**\n");
+        out.append("     * Packs the low bits of 32 values into numBits words.\n");
+        out.append("     *\n");
+        out.append("     * @param values     The array containing the values to pack\n");
+        out.append("     * @param offset     The offset in the array of the first value\n");
+        out.append("     * @param words      The array into which the packed words are written\n");
+        out.append("     * @param wordOffset The offset in the array of the first word\n");
+        out.append("     * @param numBits    The number of bits kept for each value, between 0 and 32\n");
+        out.append("     */\n");
+        out.append("    static void pack(int[] values, int offset, int[] words, int wordOffset, int numBits) {\n");
+        out.append("        switch (numBits) {\n");
+        out.append("            case 0:\n");
+        out.append("                break;\n");
+        for (int numBits = 1; numBits <= 32; ++numBits) {
+            out.append("            case ").append(numBits).append(":\n");
+            out.append("                pack").append(numBits).append("(values, offset, words, wordOffset);\n");
+            out.append("                break;\n");
+        }
+        appendDefaultCase(out);
+        out.append("\n");
+
+        out.append("    /**\n");
+        out.append("     * Unpacks 32 values from numBits words.\n");
+        out.append("     *\n");
+        out.append("     * @param words      The array containing the packed words\n");
+        out.append("     * @param wordOffset The offset in the array of the first word\n");
+        out.append("     * @param values     The array into which the values are unpacked\n");
+        out.append("     * @param offset     The offset in the array of the first value\n");
+        out.append("     * @param numBits    The number of bits of each value, between 0 and 32\n");
+        out.append("     */\n");
+        out.append("    static void unpack(int[] words, int wordOffset, int[] values, int offset, int numBits) {\n");
+        out.append("        switch (numBits) {\n");
+        out.append("            case 0:\n");
+        out.append("                for (int i = offset; i < offset + GROUP_SIZE; ++i) {\n");
+        out.append("                    values[i] = 0;\n");
+        out.append("                }\n");
+        out.append("                break;\n");
+        for (int numBits = 1; numBits <= 32; ++numBits) {
+            out.append("            case ").append(numBits).append(":\n");
+            out.append("                unpack").append(numBits).append("(words, wordOffset, values, offset);\n");
+            out.append("                break;\n");
+        }
+        appendDefaultCase(out);
+
+        for (int numBits = 1; numBits <= 32; ++numBits) {
+            out.append("\n");
+            appendPack(out, numBits);
+        }
+        for (int numBits = 1; numBits <= 32; ++numBits) {
+            out.append("\n");
+            appendUnpack(out, numBits);
+        }
+
+        out.append("}\n");
+        return out.toString();
+    }
+
+    private static void appendDefaultCase(StringBuilder out) {
+        out.append("            default:\n");
+        out.append("                throw new IllegalArgumentException(\"Invalid bit width \" + numBits);\n");
+        out.append("        }\n");
+        out.append("    }\n");
+    }
+
+    private static void appendPack(StringBuilder out, int numBits) {
+        out.append("    private static void pack").append(numBits)
+                .append("(int[] values, int offset, int[] words, int wordOffset) {\n");
+
+        if (numBits == 32) {
+            for (int i = 0; i < 32; ++i) {
+                out.append("        ").append(word(i)).append(" = ").append(value(i)).append(";\n");
+            }
+        } else {
+            final String mask = mask(numBits);
+
+            for (int word = 0; word < numBits; ++word) {
+                final int wordStart = word * 32;
+                boolean first = true;
+
+                // Every value that has bits in this word, the first one possibly starting in the previous word
+                for (int i = 0; i < 32; ++i) {
+                    final int start = i * numBits;
+                    final int end = start + numBits;
+
+                    if (end <= wordStart || wordStart + 32 <= start)
+                        continue;
+
+                    final String maskedValue = "(" + value(i) + " & " + mask + ")";
+                    final String term;
+                    if (start < wordStart) {
+                        term = maskedValue + " >>> " + (wordStart - start);
+                    } else if (start == wordStart) {
+                        term = maskedValue;
+                    } else {
+                        term = maskedValue + " << " + (start - wordStart);
+                    }
+
+                    if (first) {
+                        out.append("        ").append(word(word)).append(" = ").append(term);
+                        first = false;
+                    } else {
+                        out.append("\n                | ").append(term);
+                    }
+                }
+
+                out.append(";\n");
+            }
+        }
+
+        out.append("    }\n");
+    }
+
+    private static void appendUnpack(StringBuilder out, int numBits) {
+        out.append("    private static void unpack").append(numBits)
+                .append("(int[] words, int wordOffset, int[] values, int offset) {\n");
+
+        for (int i = 0; i < 32; ++i) {
+            out.append("        ").append(value(i)).append(" = ");
+
+            if (numBits == 32) {
+                out.append(word(i));
+            } else {
+                final int start = i * numBits;
+                final int word = start / 32;
+                final int shift = start % 32;
+                final String mask = mask(numBits);
+
+                if (32 < shift + numBits) {
+                    // The value spans two words
+                    out.append("(").append(word(word)).append(" >>> ").append(shift).append(" | ")
+                            .append(word(word + 1)).append(" << ").append(32 - shift).append(") & ").append(mask);
+                } else if (shift + numBits == 32) {
+                    out.append(word(word)).append(" >>> ").append(shift);
+                } else if (shift == 0) {
+                    out.append(word(word)).append(" & ").append(mask);
+                } else {
+                    out.append("(").append(word(word)).append(" >>> ").append(shift).append(") & ").append(mask);
+                }
+            }
+
+            out.append(";\n");
+        }
+
+        out.append("    }\n");
+    }
+
+    private static String value(int index) {
+        return index == 0 ? "values[offset]" : "values[offset + " + index + "]";
+    }
+
+    private static String word(int index) {
+        return index == 0 ? "words[wordOffset]" : "words[wordOffset + " + index + "]";
+    }
+
+    private static String mask(int numBits) {
+        return "0x" + Integer.toHexString((1 << numBits) - 1).toUpperCase();
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ BitIO: A library for bit-oriented input/output.
+ Copyright (C) 2009-2011 Jean-Francois Im
+
+ This file is part of BitIO.
+
+ BitIO is free software: you can redistribute it and/or modify
+ it under the terms of the GNU Lesser General Public License as published by
+ the Free Software Foundation, either version 3 of the License, or
+ (at your option) any later version.
+
+ BitIO is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ GNU Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public License
+ along with BitIO.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package im.jeanfrancois.bitio.codec;
+
+import im.jeanfrancois.bitio.BitSink;
+import im.jeanfrancois.bitio.BitSource;
+import junit.framework.TestCase;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Tests the adaptive Rice codec.
+ *
+ * @author jfim
+ */
+public class TestAdaptiveRice extends TestCase {
+    public void testExactParameterIsOptimal() {
+        Random random = new Random(42);
+        for(int scale = 0; scale < 25; ++scale) {
+            int[] values = new int[200];
+            for(int i = 0; i < values.length; ++i) {
+                values[i] = random.nextInt(1 << scale);
+            }
+
+            int exactParameter = AdaptiveRiceEncoder.exactParameter(values, 0, values.length);
+            long exactLength = AdaptiveRiceEncoder.encodedLength(values, 0, values.length, exactParameter);
+            for(int numFixedBits = 0; numFixedBits <= AdaptiveRiceEncoder.MAX_PARAMETER; ++numFixedBits) {
+                assertTrue(exactLength <= AdaptiveRiceEncoder.encodedLength(values, 0, values.length, numFixedBits));
+            }
+        }
+    }
+
+    public void testMeanParameter() {
+        assertEquals(0, AdaptiveRiceEncoder.meanParameter(new int[] { 0, 0, 1, 0 }, 0, 4));
+        assertEquals(6, AdaptiveRiceEncoder.meanParameter(new int[] { 100, 100, 100 }, 0, 3));
+        assertEquals(30,
+                AdaptiveRiceEncoder.meanParameter(new int[] { Integer.MAX_VALUE, Integer.MAX_VALUE }, 0, 2));
+
+        // A sum past 2^63 / 709 must not overflow when scaled
+        int[] largeValues = new int[7000000];
+        Arrays.fill(largeValues, Integer.MAX_VALUE);
+        assertEquals(30, AdaptiveRiceEncoder.meanParameter(largeValues, 0, largeValues.length));
+    }
+
+    public void testNegativeValues() {
+        try {
+            AdaptiveRiceEncoder.meanParameter(new int[] { 5, -1, 5 }, 0, 3);
+            fail();
+        } catch (IllegalArgumentException e) {
+            // Expected
+        }
+    }
+
+    public void testDriftingBlocks() throws Exception {
+        Random random = new Random(42);
+        int[][] blocks = new int[20][128];
+        for(int block = 0; block < blocks.length; ++block) {
+            for(int i = 0; i < blocks[block].length; ++i) {
+                blocks[block][i] = random.nextInt(1 + (1 << block));
+            }
+        }
+
+        for(AdaptiveRiceEncoder.ParameterSelection selection : AdaptiveRiceEncoder.ParameterSelection.values()) {
+            ByteBuffer buffer = ByteBuffer.allocate(1 << 20);
+            BitSink bitSink = new BitSink(buffer);
+            AdaptiveRiceEncoder encoder = new AdaptiveRiceEncoder(bitSink, selection);
+            int[] parameters = new int[blocks.length];
+            for(int block = 0; block < blocks.length; ++block) {
+                parameters[block] = encoder.writeBlock(blocks[block], 0, blocks[block].length);
+            }
+            bitSink.flushCurrentByteAndRealignToByteBoundary();
+            buffer.flip();
+
+            AdaptiveRiceDecoder decoder = new AdaptiveRiceDecoder(new BitSource(buffer));
+            int[] values = new int[128];
+            for(int block = 0; block < blocks.length; ++block) {
+                assertEquals(parameters[block], decoder.readBlock(values, 0, values.length));
+                for(int i = 0; i < values.length; ++i) {
+                    assertEquals(blocks[block][i], values[i]);
+                }
+            }
+        }
+    }
+}
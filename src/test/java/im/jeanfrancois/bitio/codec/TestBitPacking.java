@@ -0,0 +1,113 @@
+/*
+ BitIO: A library for bit-oriented input/output.
+ Copyright (C) 2009-2011 Jean-Francois Im
+
+ This file is part of BitIO.
+
+ BitIO is free software: you can redistribute it and/or modify
+ it under the terms of the GNU Lesser General Public License as published by
+ the Free Software Foundation, either version 3 of the License, or
+ (at your option) any later version.
+
+ BitIO is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ GNU Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public License
+ along with BitIO.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package im.jeanfrancois.bitio.codec;
+
+import im.jeanfrancois.bitio.BitSink;
+import junit.framework.TestCase;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Tests the generated bit packing routines.
+ *
+ * @author jfim
+ */
+public class TestBitPacking extends TestCase {
+    private static final int SENTINEL = 0xDEADBEEF;
+
+    public void testSourceMatchesGenerator() throws Exception {
+        String source = new String(Files.readAllBytes(BitPackingGenerator.SOURCE_PATH), StandardCharsets.UTF_8);
+        assertEquals("BitPacking.java is out of date, regenerate it by running BitPackingGenerator",
+                BitPackingGenerator.generate(), source);
+    }
+
+    public void testRoundTripEveryWidth() throws Exception {
+        Random random = new Random(42);
+
+        for(int numBits = 0; numBits <= 32; ++numBits) {
+            int mask = numBits == 32 ? -1 : (1 << numBits) - 1;
+
+            // All zeroes, all ones, every value alone at its maximum, alternating bits, then random values
+            checkRoundTrip(new int[BitPacking.GROUP_SIZE], numBits);
+            int[] values = new int[BitPacking.GROUP_SIZE];
+            Arrays.fill(values, mask);
+            checkRoundTrip(values, numBits);
+            for(int i = 0; i < BitPacking.GROUP_SIZE; ++i) {
+                values = new int[BitPacking.GROUP_SIZE];
+                values[i] = mask;
+                checkRoundTrip(values, numBits);
+            }
+            for(int pattern : new int[] { 0x55555555, 0xAAAAAAAA }) {
+                Arrays.fill(values, pattern);
+                checkRoundTrip(values, numBits);
+            }
+            for(int group = 0; group < 100; ++group) {
+                for(int i = 0; i < BitPacking.GROUP_SIZE; ++i) {
+                    // Bits above the width must be ignored
+                    values[i] = random.nextInt();
+                }
+                checkRoundTrip(values, numBits);
+            }
+        }
+    }
+
+    private static void checkRoundTrip(int[] values, int numBits) throws Exception {
+        int mask = numBits == 32 ? -1 : (1 << numBits) - 1;
+        int[] paddedValues = new int[BitPacking.GROUP_SIZE + 5];
+        System.arraycopy(values, 0, paddedValues, 5, BitPacking.GROUP_SIZE);
+
+        // Pack after a few words, and check that the words around the packed ones are left untouched
+        int[] words = new int[numBits + 6];
+        Arrays.fill(words, SENTINEL);
+        BitPacking.pack(paddedValues, 5, words, 3, numBits);
+        for(int i = 0; i < 3; ++i) {
+            assertEquals(SENTINEL, words[i]);
+            assertEquals(SENTINEL, words[numBits + 3 + i]);
+        }
+
+        // The packed words have the same layout as values written one at a time
+        ByteBuffer buffer = ByteBuffer.allocate(numBits * 4).order(ByteOrder.LITTLE_ENDIAN);
+        BitSink bitSink = new BitSink(buffer);
+        for(int value : values) {
+            bitSink.writeLong(value & (mask & 0xFFFFFFFFL), numBits);
+        }
+        bitSink.flushCurrentByteAndRealignToByteBoundary();
+        buffer.flip();
+        for(int i = 0; i < numBits; ++i) {
+            assertEquals("Word " + i + " of width " + numBits, buffer.getInt(), words[3 + i]);
+        }
+
+        int[] unpacked = new int[BitPacking.GROUP_SIZE + 7];
+        Arrays.fill(unpacked, SENTINEL);
+        BitPacking.unpack(words, 3, unpacked, 7, numBits);
+        for(int i = 0; i < 7; ++i) {
+            assertEquals(SENTINEL, unpacked[i]);
+        }
+        for(int i = 0; i < BitPacking.GROUP_SIZE; ++i) {
+            assertEquals("Value " + i + " of width " + numBits, values[i] & mask, unpacked[7 + i]);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ BitIO: A library for bit-oriented input/output.
+ Copyright (C) 2009-2011 Jean-Francois Im
+
+ This file is part of BitIO.
+
+ BitIO is free software: you can redistribute it and/or modify
+ it under the terms of the GNU Lesser General Public License as published by
+ the Free Software Foundation, either version 3 of the License, or
+ (at your option) any later version.
+
+ BitIO is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ GNU Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public License
+ along with BitIO.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package im.jeanfrancois.bitio.codec;
+
+import im.jeanfrancois.bitio.BitSink;
+import im.jeanfrancois.bitio.BitSource;
+import junit.framework.TestCase;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Tests the delta and ZigZag codec.
+ *
+ * @author jfim
+ */
+public class TestDelta extends TestCase {
+    public void testSortedValues() throws Exception {
+        Random random = new Random(42);
+        int[] values = new int[1000];
+        for(int i = 1; i < values.length; ++i) {
+            values[i] = values[i - 1] + random.nextInt(40);
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(16384);
+        BitSink bitSink = new BitSink(buffer);
+        DeltaEncoder encoder = new DeltaEncoder(bitSink, DeltaEncoder.Coding.RICE, 4);
+        // Write in uneven calls, as the sequence continues across them
+        encoder.write(values, 0, 300);
+        encoder.write(values, 300, 700);
+        bitSink.flushCurrentByteAndRealignToByteBoundary();
+        buffer.flip();
+
+        DeltaDecoder decoder = new DeltaDecoder(new BitSource(buffer), DeltaEncoder.Coding.RICE, 4);
+        int[] readValues = new int[values.length];
+        readValues[0] = decoder.read();
+        decoder.read(readValues, 1, 499);
+        decoder.read(readValues, 500, 500);
+        assertTrue(Arrays.equals(values, readValues));
+    }
+
+    public void testSignedValues() throws Exception {
+        int[] values = { 0, -1, 1, Integer.MIN_VALUE, Integer.MAX_VALUE, -5, 12, 7, 7, 7, Integer.MIN_VALUE };
+
+        ByteBuffer buffer = ByteBuffer.allocate(1024);
+        BitSink bitSink = new BitSink(buffer);
+        DeltaEncoder encoder = new DeltaEncoder(bitSink, DeltaEncoder.Coding.BINARY, 32);
+        encoder.write(values, 0, values.length);
+        bitSink.flushCurrentByteAndRealignToByteBoundary();
+        buffer.flip();
+
+        DeltaDecoder decoder = new DeltaDecoder(new BitSource(buffer), DeltaEncoder.Coding.BINARY, 32);
+        int[] readValues = new int[values.length];
+        decoder.read(readValues, 0, readValues.length);
+        assertTrue(Arrays.equals(values, readValues));
+    }
+
+    public void testLongValues() throws Exception {
+        for(DeltaEncoder.Coding coding : DeltaEncoder.Coding.values()) {
+            // The first value is its own difference, so only start the sequence far from zero with binary coding
+            Random random = new Random(42);
+            long[] values = new long[500];
+            values[0] = coding == DeltaEncoder.Coding.RICE ? 1000 : 1L << 50;
+            for(int i = 1; i < values.length; ++i) {
+                values[i] = values[i - 1] + random.nextInt(2000) - 1000;
+            }
+
+            int parameter = coding == DeltaEncoder.Coding.RICE ? 9 : 52;
+            ByteBuffer buffer = ByteBuffer.allocate(16384);
+            BitSink bitSink = new BitSink(buffer);
+            DeltaEncoder encoder = new DeltaEncoder(bitSink, coding, parameter);
+            encoder.write(values, 0, values.length);
+            bitSink.flushCurrentByteAndRealignToByteBoundary();
+            buffer.flip();
+
+            DeltaDecoder decoder = new DeltaDecoder(new BitSource(buffer), coding, parameter);
+            long[] readValues = new long[values.length];
+            decoder.read(readValues, 0, readValues.length);
+            assertTrue(Arrays.equals(values, readValues));
+        }
+    }
+
+    public void testIteratorsMatchArrays() throws Exception {
+        int[] values = new int[777];
+        long[] longValues = new long[values.length];
+        for(int i = 0; i < values.length; ++i) {
+            values[i] = (i * 37) % 101 - 50;
+            longValues[i] = values[i];
+        }
+
+        ByteBuffer arrayBuffer = ByteBuffer.allocate(16384);
+        BitSink arraySink = new BitSink(arrayBuffer);
+        DeltaEncoder arrayEncoder = new DeltaEncoder(arraySink, DeltaEncoder.Coding.RICE, 5);
+        arrayEncoder.write(values, 0, values.length);
+        arrayEncoder.reset();
+        arrayEncoder.write(longValues, 0, longValues.length);
+        arraySink.flushCurrentByteAndRealignToByteBoundary();
+
+        ByteBuffer iteratorBuffer = ByteBuffer.allocate(16384);
+        BitSink iteratorSink = new BitSink(iteratorBuffer);
+        DeltaEncoder iteratorEncoder = new DeltaEncoder(iteratorSink, DeltaEncoder.Coding.RICE, 5);
+        assertEquals(values.length, iteratorEncoder.write(Arrays.stream(values).iterator()));
+        iteratorEncoder.reset();
+        assertEquals(values.length, iteratorEncoder.write(Arrays.stream(longValues).iterator()));
+        iteratorSink.flushCurrentByteAndRealignToByteBoundary();
+
+        arrayBuffer.flip();
+        iteratorBuffer.flip();
+        assertEquals(arrayBuffer, iteratorBuffer);
+
+        // Both halves hold the same sequence, which is read back after a reset
+        DeltaDecoder decoder = new DeltaDecoder(new BitSource(arrayBuffer), DeltaEncoder.Coding.RICE, 5);
+        int[] readValues = new int[values.length];
+        decoder.read(readValues, 0, readValues.length);
+        assertTrue(Arrays.equals(values, readValues));
+        decoder.reset();
+        decoder.read(readValues, 0, readValues.length);
+        assertTrue(Arrays.equals(values, readValues));
+    }
+}
@@ -0,0 +1,232 @@
+/*
+ BitIO: A library for bit-oriented input/output.
+ Copyright (C) 2009-2011 Jean-Francois Im
+
+ This file is part of BitIO.
+
+ BitIO is free software: you can redistribute it and/or modify
+ it under the terms of the GNU Lesser General Public License as published by
+ the Free Software Foundation, either version 3 of the License, or
+ (at your option) any later version.
+
+ BitIO is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ GNU Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public License
+ along with BitIO.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package im.jeanfrancois.bitio.codec;
+
+import im.jeanfrancois.bitio.BitSink;
+import im.jeanfrancois.bitio.BitSource;
+import im.jeanfrancois.bitio.InputStreamByteSource;
+import im.jeanfrancois.bitio.MemoryByteSink;
+import im.jeanfrancois.bitio.util.BitIOUtils;
+import junit.framework.TestCase;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Tests indexed random access into Rice-coded sequences.
+ *
+ * @author jfim
+ */
+public class TestIndexedRice extends TestCase {
+    private static final int VALUE_COUNT = 100000;
+
+    private int[] values;
+    private ByteBuffer data;
+    private BlockIndex index;
+
+    private void write(boolean sorted) throws Exception {
+        Random random = new Random(42);
+        values = new int[VALUE_COUNT];
+        for(int i = 0; i < values.length; ++i) {
+            values[i] = sorted ? (i == 0 ? 0 : values[i - 1]) + random.nextInt(20) : random.nextInt(1000);
+        }
+
+        data = ByteBuffer.allocate(1 << 20);
+        BitSink bitSink = new BitSink(data);
+        // Start the sequence mid-byte, as the offsets are relative to its start
+        bitSink.writeBinary(5, 3);
+        IndexedRiceWriter writer = new IndexedRiceWriter(bitSink, sorted ? 4 : 9, 64, sorted);
+        writer.write(values, 0, values.length);
+        bitSink.flushCurrentByteAndRealignToByteBoundary();
+        data.flip();
+
+        // Round trip the index through its serialized form
+        ByteBuffer indexBuffer = ByteBuffer.allocate(1 << 16);
+        BitSink indexSink = new BitSink(indexBuffer);
+        writer.getIndex().write(indexSink);
+        indexSink.flushCurrentByteAndRealignToByteBoundary();
+        indexBuffer.flip();
+        index = BlockIndex.read(new BitSource(indexBuffer));
+
+        assertEquals(VALUE_COUNT, index.getValueCount());
+        assertEquals((VALUE_COUNT + 63) / 64, index.getBlockCount());
+        for(int block = 0; block < index.getBlockCount(); ++block) {
+            assertEquals(writer.getIndex().getBitOffset(block), index.getBitOffset(block));
+            assertEquals(writer.getIndex().getBaseValue(block), index.getBaseValue(block));
+        }
+    }
+
+    private IndexedRiceReader reader(BitSource bitSource, boolean sorted) throws Exception {
+        assertEquals(5, bitSource.readBinary(3));
+        return new IndexedRiceReader(bitSource, index, sorted ? 4 : 9, sorted);
+    }
+
+    public void testSequentialReads() throws Exception {
+        write(true);
+        IndexedRiceReader reader = reader(new BitSource(data), true);
+        for(int value : values) {
+            assertEquals(value, reader.next());
+        }
+        assertFalse(reader.hasNext());
+    }
+
+    public void testRandomSeeks() throws Exception {
+        for(boolean sorted : new boolean[] { true, false }) {
+            write(sorted);
+            IndexedRiceReader reader = reader(new BitSource(data.duplicate()), sorted);
+            Random random = new Random(42);
+            for(int i = 0; i < 1000; ++i) {
+                int position = random.nextInt(VALUE_COUNT);
+                reader.seek(position);
+                assertEquals(position, reader.position());
+                assertEquals(values[position], reader.next());
+            }
+
+            reader.seek(VALUE_COUNT);
+            assertFalse(reader.hasNext());
+        }
+    }
+
+    public void testForwardSeeksOnStream() throws Exception {
+        write(false);
+        byte[] bytes = new byte[data.remaining()];
+        data.get(bytes);
+        IndexedRiceReader reader = reader(new BitSource(new InputStreamByteSource(new ByteArrayInputStream(bytes))), false);
+        for(int position = 3; position < VALUE_COUNT; position += position / 2) {
+            reader.seek(position);
+            assertEquals(values[position], reader.next());
+        }
+    }
+
+    public void testNextGreaterOrEqual() throws Exception {
+        write(true);
+        IndexedRiceReader reader = reader(new BitSource(data), true);
+        int maxValue = values[VALUE_COUNT - 1];
+        for(int target = 0; target <= maxValue; target += 997) {
+            int expectedPosition = Arrays.binarySearch(values, target);
+            if (expectedPosition < 0) {
+                expectedPosition = -expectedPosition - 1;
+            }
+            // Equal values may follow each other, so find the first one
+            while (0 < expectedPosition && values[expectedPosition - 1] >= target) {
+                expectedPosition--;
+            }
+
+            assertEquals(values[expectedPosition], reader.nextGreaterOrEqual(target));
+            assertEquals(expectedPosition + 1, reader.position());
+        }
+
+        assertEquals(-1, reader.nextGreaterOrEqual(maxValue + 1));
+        assertFalse(reader.hasNext());
+    }
+
+    public void testLargeIndexDeltas() throws Exception {
+        // Blocks spanning more than 2^31 bits, and base values at the extremes of the int range
+        long[] bitOffsets = { 0, 3L << 31, (3L << 31) + 1, 1L << 40 };
+        int[] baseValues = { 0, Integer.MIN_VALUE, Integer.MAX_VALUE, Integer.MIN_VALUE };
+
+        MemoryByteSink byteSink = new MemoryByteSink();
+        BitSink bitSink = new BitSink(byteSink);
+        bitSink.writeBinary(128, 32);
+        bitSink.writeLong(128L * bitOffsets.length, 64);
+        bitSink.writeBinary(bitOffsets.length, 32);
+        for(int block = 0; block < bitOffsets.length; ++block) {
+            bitSink.writeExpGolomb(bitOffsets[block] - (block == 0 ? 0 : bitOffsets[block - 1]), 0);
+            long baseDelta = (long) baseValues[block] - (block == 0 ? 0 : baseValues[block - 1]);
+            bitSink.writeExpGolomb(BitIOUtils.encodeAsZigZag(baseDelta), 0);
+        }
+        bitSink.flushCurrentByteAndRealignToByteBoundary();
+        bitSink.flush();
+
+        BlockIndex index = BlockIndex.read(new BitSource(byteSink.toByteArray()));
+        for(int round = 0; round < 2; ++round) {
+            assertEquals(bitOffsets.length, index.getBlockCount());
+            for(int block = 0; block < bitOffsets.length; ++block) {
+                assertEquals(bitOffsets[block], index.getBitOffset(block));
+                assertEquals(baseValues[block], index.getBaseValue(block));
+            }
+
+            // Writing the index back must give the same index
+            byteSink.clear();
+            bitSink.reset(byteSink);
+            index.write(bitSink);
+            bitSink.flushCurrentByteAndRealignToByteBoundary();
+            bitSink.flush();
+            index = BlockIndex.read(new BitSource(byteSink.toByteArray()));
+        }
+    }
+
+    public void testInvalidIndex() throws Exception {
+        // Interval, value count and block count of corrupt headers
+        long[][] headers = {
+                { 0, 0, 0 },
+                { -5, 10, 1 },
+                { 4, -1, 0 },
+                { 4, 10, -1 },
+                { 4, 10, 2 },
+                { 4, 10, 4 },
+                { 4, 0, 1 }
+        };
+        for(long[] header : headers) {
+            MemoryByteSink byteSink = new MemoryByteSink();
+            BitSink bitSink = new BitSink(byteSink);
+            bitSink.writeBinary((int) header[0], 32);
+            bitSink.writeLong(header[1], 64);
+            bitSink.writeBinary((int) header[2], 32);
+            for(int block = 0; block < Math.max(header[2], 0); ++block) {
+                bitSink.writeExpGolomb(0L, 0);
+                bitSink.writeExpGolomb(0L, 0);
+            }
+            bitSink.flushCurrentByteAndRealignToByteBoundary();
+            bitSink.flush();
+
+            try {
+                BlockIndex.read(new BitSource(byteSink.toByteArray()));
+                fail("Header " + Arrays.toString(header) + " should be rejected");
+            } catch (IOException e) {
+                // Expected
+            }
+        }
+
+        // An offset delta that wraps the offsets around
+        MemoryByteSink byteSink = new MemoryByteSink();
+        BitSink bitSink = new BitSink(byteSink);
+        bitSink.writeBinary(4, 32);
+        bitSink.writeLong(8, 64);
+        bitSink.writeBinary(2, 32);
+        bitSink.writeExpGolomb(1L << 61, 0);
+        bitSink.writeExpGolomb(0L, 0);
+        bitSink.writeExpGolomb(Long.MAX_VALUE - 1, 0);
+        bitSink.writeExpGolomb(0L, 0);
+        bitSink.flushCurrentByteAndRealignToByteBoundary();
+        bitSink.flush();
+
+        try {
+            BlockIndex.read(new BitSource(byteSink.toByteArray()));
+            fail("Decreasing offsets should be rejected");
+        } catch (IOException e) {
+            // Expected
+        }
+    }
+}
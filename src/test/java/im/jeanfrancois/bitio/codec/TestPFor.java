@@ -0,0 +1,182 @@
+/*
+ BitIO: A library for bit-oriented input/output.
+ Copyright (C) 2009-2011 Jean-Francois Im
+
+ This file is part of BitIO.
+
+ BitIO is free software: you can redistribute it and/or modify
+ it under the terms of the GNU Lesser General Public License as published by
+ the Free Software Foundation, either version 3 of the License, or
+ (at your option) any later version.
+
+ BitIO is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ GNU Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public License
+ along with BitIO.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package im.jeanfrancois.bitio.codec;
+
+import im.jeanfrancois.bitio.BitOutputStream;
+import im.jeanfrancois.bitio.BitSink;
+import im.jeanfrancois.bitio.BitSource;
+import im.jeanfrancois.bitio.OutputStreamByteSink;
+import junit.framework.TestCase;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Tests the PFOR block codec.
+ *
+ * @author jfim
+ */
+public class TestPFor extends TestCase {
+    private static int[] testBlocks() {
+        Random random = new Random(42);
+        int blockSize = PForEncoder.BLOCK_SIZE;
+        int[] values = new int[blockSize * 66];
+
+        // One block of each bit width, including the largest value of that width
+        for(int width = 0; width <= 32; ++width) {
+            for(int i = 0; i < blockSize; ++i) {
+                values[width * blockSize + i] = width == 0 ? 0 : random.nextInt() >>> (32 - width);
+            }
+            values[width * blockSize + width] = (int) ((1L << width) - 1);
+        }
+
+        // Blocks of small values with a varying number of outliers
+        for(int block = 33; block < 66; ++block) {
+            for(int i = 0; i < blockSize; ++i) {
+                values[block * blockSize + i] = random.nextInt(16);
+            }
+            for(int i = 0; i < (block - 33) * 4; ++i) {
+                values[block * blockSize + random.nextInt(blockSize)] = random.nextInt() >>> random.nextInt(20);
+            }
+        }
+
+        return values;
+    }
+
+    private static byte[] encode(int[] values) throws Exception {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        BitSink bitSink = new BitSink(new OutputStreamByteSink(byteArrayOutputStream));
+        PForEncoder encoder = new PForEncoder(bitSink);
+        int expectedLength = 0;
+        for(int offset = 0; offset < values.length; offset += PForEncoder.BLOCK_SIZE) {
+            expectedLength += encoder.writeBlock(values, offset);
+        }
+        bitSink.flushCurrentByteAndRealignToByteBoundary();
+        bitSink.flush();
+
+        assertEquals(expectedLength, byteArrayOutputStream.size());
+        return byteArrayOutputStream.toByteArray();
+    }
+
+    public void testBitSource() throws Exception {
+        int[] values = testBlocks();
+        byte[] bytes = encode(values);
+
+        PForDecoder decoder = new PForDecoder(new BitSource(ByteBuffer.wrap(bytes)));
+        int[] readValues = new int[values.length];
+        for(int offset = 0; offset < values.length; offset += PForEncoder.BLOCK_SIZE) {
+            decoder.readBlock(readValues, offset);
+        }
+
+        assertTrue(Arrays.equals(values, readValues));
+    }
+
+    public void testByteArray() throws Exception {
+        int[] values = testBlocks();
+        byte[] bytes = encode(values);
+
+        PForDecoder decoder = new PForDecoder();
+        int[] readValues = new int[values.length];
+        int position = 0;
+        for(int offset = 0; offset < values.length; offset += PForEncoder.BLOCK_SIZE) {
+            position = decoder.decodeBlock(bytes, position, readValues, offset);
+        }
+
+        assertEquals(bytes.length, position);
+        assertTrue(Arrays.equals(values, readValues));
+    }
+
+    public void testByteBuffers() throws Exception {
+        int[] values = testBlocks();
+        byte[] bytes = encode(values);
+
+        ByteBuffer[] buffers = {
+                ByteBuffer.wrap(bytes),
+                ByteBuffer.allocateDirect(bytes.length).order(ByteOrder.LITTLE_ENDIAN).put(bytes)
+        };
+        buffers[1].flip();
+
+        PForDecoder decoder = new PForDecoder();
+        for(ByteBuffer buffer : buffers) {
+            int[] readValues = new int[values.length];
+            for(int offset = 0; offset < values.length; offset += PForEncoder.BLOCK_SIZE) {
+                decoder.decodeBlock(buffer, readValues, offset);
+            }
+
+            assertFalse(buffer.hasRemaining());
+            assertTrue(Arrays.equals(values, readValues));
+        }
+    }
+
+    public void testPackedLayoutMatchesBinaryWrites() throws Exception {
+        Random random = new Random(42);
+        int[] values = new int[PForEncoder.BLOCK_SIZE];
+        for(int i = 0; i < values.length; ++i) {
+            values[i] = random.nextInt(1 << 11);
+        }
+        values[0] = (1 << 11) - 1;
+
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        BitOutputStream bitOutputStream = new BitOutputStream(expected);
+        bitOutputStream.writeBinary(11, 8);
+        bitOutputStream.writeBinary(0, 8);
+        for(int value : values) {
+            bitOutputStream.writeBinary(value, 11);
+        }
+        bitOutputStream.close();
+
+        assertTrue(Arrays.equals(expected.toByteArray(), encode(values)));
+    }
+
+    public void testOutliersAreStoredAsExceptions() throws Exception {
+        int[] values = new int[PForEncoder.BLOCK_SIZE];
+        Arrays.fill(values, 3);
+        values[17] = Integer.MAX_VALUE;
+
+        // Two bits per value, plus the header, one exception position and a group of 29 high bits
+        byte[] bytes = encode(values);
+        assertEquals(2, bytes[0]);
+        assertEquals(1, bytes[1]);
+        assertEquals(3 + 32 + 1 + 4 * 29, bytes.length);
+    }
+
+    public void testPartialBlock() throws Exception {
+        PForEncoder encoder = new PForEncoder(new BitSink(new OutputStreamByteSink(new ByteArrayOutputStream())));
+        try {
+            encoder.writeBlock(new int[PForEncoder.BLOCK_SIZE + 100], 101);
+            fail("A partial block should be rejected");
+        } catch (IllegalArgumentException e) {
+            // Expected
+        }
+
+        // A partial last block padded with zeroes decodes to its values followed by the padding
+        int[] values = new int[PForEncoder.BLOCK_SIZE];
+        for(int i = 0; i < 100; ++i) {
+            values[i] = i * 3;
+        }
+        int[] readValues = new int[PForEncoder.BLOCK_SIZE];
+        new PForDecoder(new BitSource(encode(values))).readBlock(readValues, 0);
+        assertTrue(Arrays.equals(values, readValues));
+    }
+}
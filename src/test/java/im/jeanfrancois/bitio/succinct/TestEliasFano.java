@@ -0,0 +1,191 @@
+/*
+ BitIO: A library for bit-oriented input/output.
+ Copyright (C) 2009-2011 Jean-Francois Im
+
+ This file is part of BitIO.
+
+ BitIO is free software: you can redistribute it and/or modify
+ it under the terms of the GNU Lesser General Public License as published by
+ the Free Software Foundation, either version 3 of the License, or
+ (at your option) any later version.
+
+ BitIO is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ GNU Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public License
+ along with BitIO.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package im.jeanfrancois.bitio.succinct;
+
+import im.jeanfrancois.bitio.BitSink;
+import im.jeanfrancois.bitio.BitSource;
+import junit.framework.TestCase;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+/**
+ * Tests Elias-Fano coded sequences.
+ *
+ * @author jfim
+ */
+public class TestEliasFano extends TestCase {
+    private static EliasFanoSequence roundTrip(long[] values) throws Exception {
+        ByteBuffer buffer = ByteBuffer.allocate(values.length * 16 + 64);
+        BitSink bitSink = new BitSink(buffer);
+        // Start mid-byte, as sequences can be written anywhere in a stream
+        bitSink.writeBinary(3, 2);
+        EliasFanoSequence.write(bitSink, values, 0, values.length);
+        bitSink.writeBinary(5, 3);
+        bitSink.flushCurrentByteAndRealignToByteBoundary();
+        buffer.flip();
+
+        BitSource bitSource = new BitSource(buffer);
+        assertEquals(3, bitSource.readBinary(2));
+        EliasFanoSequence sequence = EliasFanoSequence.read(bitSource);
+        assertEquals(5, bitSource.readBinary(3));
+        return sequence;
+    }
+
+    private static void assertSequence(long[] values, EliasFanoSequence sequence) {
+        assertEquals(values.length, sequence.size());
+        for(int i = 0; i < values.length; ++i) {
+            assertEquals(values[i], sequence.get(i));
+        }
+    }
+
+    public void testGetAndNextGreaterOrEqual() throws Exception {
+        Random random = new Random(42);
+        for(int maxGap : new int[] { 1, 3, 100, 100000, 1 << 30 }) {
+            long[] values = new long[5000];
+            for(int i = 1; i < values.length; ++i) {
+                values[i] = values[i - 1] + random.nextInt(maxGap);
+            }
+
+            EliasFanoSequence sequence = roundTrip(values);
+            assertSequence(values, sequence);
+
+            int index = 0;
+            long last = values[values.length - 1];
+            for(long target = -1; target <= last; target += 1 + random.nextInt(maxGap) / 3) {
+                while (values[index] < target) {
+                    index++;
+                }
+                assertEquals(values[index], sequence.nextGreaterOrEqual(target));
+            }
+            assertEquals(last, sequence.nextGreaterOrEqual(last));
+            assertEquals(-1, sequence.nextGreaterOrEqual(last + 1));
+        }
+    }
+
+    public void testIntValues() throws Exception {
+        int[] values = new int[1000];
+        long[] longValues = new long[values.length];
+        for(int i = 0; i < values.length; ++i) {
+            values[i] = i * i * 7;
+            longValues[i] = values[i];
+        }
+
+        ByteBuffer intBuffer = ByteBuffer.allocate(1 << 14);
+        BitSink intSink = new BitSink(intBuffer);
+        EliasFanoSequence.write(intSink, values, 0, values.length);
+        intSink.flushCurrentByteAndRealignToByteBoundary();
+        intBuffer.flip();
+
+        ByteBuffer longBuffer = ByteBuffer.allocate(1 << 14);
+        BitSink longSink = new BitSink(longBuffer);
+        EliasFanoSequence.write(longSink, longValues, 0, longValues.length);
+        longSink.flushCurrentByteAndRealignToByteBoundary();
+        longBuffer.flip();
+
+        assertEquals(longBuffer, intBuffer);
+        assertSequence(longValues, EliasFanoSequence.read(new BitSource(intBuffer)));
+    }
+
+    public void testSmallSequences() throws Exception {
+        assertEquals(-1, roundTrip(new long[0]).nextGreaterOrEqual(0));
+        assertSequence(new long[] { 0 }, roundTrip(new long[] { 0 }));
+        assertSequence(new long[] { 7, 7, 7 }, roundTrip(new long[] { 7, 7, 7 }));
+        assertSequence(new long[] { 1L << 60 }, roundTrip(new long[] { 1L << 60 }));
+        assertEquals(7, roundTrip(new long[] { 7, 7, 7 }).nextGreaterOrEqual(3));
+    }
+
+    public void testHeaderSize() throws Exception {
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        BitSink bitSink = new BitSink(buffer);
+        EliasFanoSequence.write(bitSink, new long[0], 0, 0);
+        bitSink.flushCurrentByteAndRealignToByteBoundary();
+
+        // The number of values and the length of the high bits take 64 bits each, the number of low bits 6
+        assertEquals(17, buffer.position());
+    }
+
+    public void testInvalidHeader() throws Exception {
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        BitSink bitSink = new BitSink(buffer);
+        // Ten values cannot have only five ones in their high bits
+        bitSink.writeLong(10, 64);
+        bitSink.writeBinary(3, 6);
+        bitSink.writeLong(5, 64);
+        bitSink.flushCurrentByteAndRealignToByteBoundary();
+        buffer.flip();
+
+        try {
+            EliasFanoSequence.read(new BitSource(buffer));
+            fail();
+        } catch (IOException e) {
+            // Expected
+        }
+    }
+
+    public void testOversizedHighBits() throws Exception {
+        // A high bits length of 2^40 bits would wrap to an empty array if it were not rejected
+        for(long highBitsLength : new long[] { 1L << 40, Long.MAX_VALUE, (long) Integer.MAX_VALUE * 64 + 1 }) {
+            ByteBuffer buffer = ByteBuffer.allocate(64);
+            BitSink bitSink = new BitSink(buffer);
+            bitSink.writeLong(10, 64);
+            bitSink.writeBinary(3, 6);
+            bitSink.writeLong(highBitsLength, 64);
+            bitSink.flushCurrentByteAndRealignToByteBoundary();
+            buffer.flip();
+
+            try {
+                EliasFanoSequence.read(new BitSource(buffer));
+                fail();
+            } catch (IOException e) {
+                // Expected
+            }
+        }
+    }
+
+    public void testHighBitsOverflowingValues() throws Exception {
+        // With 40 low bits, a high part of 2^24 would shift the last value past 63 bits
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        BitSink bitSink = new BitSink(buffer);
+        bitSink.writeLong(1, 64);
+        bitSink.writeBinary(40, 6);
+        bitSink.writeLong((1L << 24) + 1, 64);
+        bitSink.flushCurrentByteAndRealignToByteBoundary();
+        buffer.flip();
+
+        try {
+            EliasFanoSequence.read(new BitSource(buffer));
+            fail();
+        } catch (IOException e) {
+            // Expected
+        }
+    }
+
+    public void testUnsortedValues() throws Exception {
+        try {
+            roundTrip(new long[] { 5, 4 });
+            fail();
+        } catch (IllegalArgumentException e) {
+            // Expected
+        }
+    }
+}
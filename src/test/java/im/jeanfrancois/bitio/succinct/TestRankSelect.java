@@ -0,0 +1,148 @@
+/*
+ BitIO: A library for bit-oriented input/output.
+ Copyright (C) 2009-2011 Jean-Francois Im
+
+ This file is part of BitIO.
+
+ BitIO is free software: you can redistribute it and/or modify
+ it under the terms of the GNU Lesser General Public License as published by
+ the Free Software Foundation, either version 3 of the License, or
+ (at your option) any later version.
+
+ BitIO is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ GNU Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public License
+ along with BitIO.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package im.jeanfrancois.bitio.succinct;
+
+import im.jeanfrancois.bitio.BitSink;
+import im.jeanfrancois.bitio.BitSource;
+import junit.framework.TestCase;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+/**
+ * Tests the rank/select bit vector.
+ *
+ * @author jfim
+ */
+public class TestRankSelect extends TestCase {
+    private static void assertRankSelect(boolean[] bits, RankSelectBitVector bitVector) {
+        assertEquals(bits.length, bitVector.length());
+
+        long rank = 0;
+        for(int i = 0; i < bits.length; ++i) {
+            assertEquals(rank, bitVector.rank1(i));
+            assertEquals(i - rank, bitVector.rank0(i));
+            assertEquals(bits[i], bitVector.get(i));
+
+            if (bits[i]) {
+                assertEquals(i, bitVector.select1(rank));
+                rank++;
+            } else {
+                assertEquals(i, bitVector.select0(i - rank));
+            }
+        }
+
+        assertEquals(rank, bitVector.rank1(bits.length));
+        assertEquals(rank, bitVector.count());
+    }
+
+    private static boolean[] randomBits(Random random, int length, double density) {
+        boolean[] bits = new boolean[length];
+        for(int i = 0; i < length; ++i) {
+            bits[i] = random.nextDouble() < density;
+        }
+        return bits;
+    }
+
+    public void testBitSinkOutput() throws Exception {
+        Random random = new Random(42);
+        for(int length : new int[] { 0, 1, 63, 64, 65, 511, 512, 513, 4096, 30001 }) {
+            for(double density : new double[] { 0.0, 0.001, 0.1, 0.5, 0.97, 1.0 }) {
+                boolean[] bits = randomBits(random, length, density);
+
+                ByteBuffer heapBuffer = ByteBuffer.allocate(length / 8 + 8);
+                // Start the bits past the beginning of the buffer, as the bit vector starts at the buffer position
+                heapBuffer.put((byte) 0xFF);
+                BitSink bitSink = new BitSink(heapBuffer);
+                for(boolean bit : bits) {
+                    bitSink.writeBit(bit);
+                }
+                bitSink.flushCurrentByteAndRealignToByteBoundary();
+                heapBuffer.flip();
+                heapBuffer.position(1);
+
+                ByteBuffer directBuffer = ByteBuffer.allocateDirect(heapBuffer.remaining());
+                directBuffer.put(heapBuffer.duplicate());
+                directBuffer.flip();
+
+                assertRankSelect(bits, new RankSelectBitVector(heapBuffer, length));
+                assertRankSelect(bits, new RankSelectBitVector(directBuffer, length));
+                assertEquals(1, heapBuffer.position());
+
+                assertRankSelect(bits, RankSelectBitVector.read(new BitSource(heapBuffer.duplicate()), length));
+            }
+        }
+    }
+
+    public void testLongArray() {
+        Random random = new Random(42);
+        boolean[] bits = randomBits(random, 10000, 0.3);
+        long[] words = new long[bits.length / 64 + 1];
+        for(int i = 0; i < bits.length; ++i) {
+            if (bits[i]) {
+                words[i / 64] |= 1L << i;
+            }
+        }
+
+        // Bits past the end of the bit vector are ignored
+        words[words.length - 1] |= -1L << (bits.length % 64);
+        assertRankSelect(bits, new RankSelectBitVector(words, bits.length));
+    }
+
+    public void testSparseBits() {
+        // Ones far apart, so that select searches many superblocks between samples
+        long[] words = new long[1 << 14];
+        boolean[] bits = new boolean[words.length * 64];
+        for(int i = 0; i < bits.length; i += 3001) {
+            bits[i] = true;
+            words[i / 64] |= 1L << i;
+        }
+        assertRankSelect(bits, new RankSelectBitVector(words, bits.length));
+    }
+
+    public void testOutOfBounds() {
+        RankSelectBitVector bitVector = new RankSelectBitVector(new long[] { 5L }, 3);
+        try {
+            bitVector.select1(2);
+            fail();
+        } catch (IndexOutOfBoundsException e) {
+            // Expected
+        }
+        try {
+            bitVector.rank1(4);
+            fail();
+        } catch (IndexOutOfBoundsException e) {
+            // Expected
+        }
+    }
+
+    public void testReadInvalidLength() throws Exception {
+        for(long length : new long[] { -1, (long) Integer.MAX_VALUE * 64 + 1, 1L << 40 }) {
+            try {
+                RankSelectBitVector.read(new BitSource(ByteBuffer.allocate(8)), length);
+                fail();
+            } catch (IOException e) {
+                // Expected
+            }
+        }
+    }
+}